@@ -0,0 +1,116 @@
+/**
+ * Copyright (c) 2014,2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.smarthome.automation.core.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.smarthome.automation.Rule;
+import org.eclipse.smarthome.automation.Trigger;
+import org.eclipse.smarthome.automation.core.internal.RuleEngineCallbackImpl.TriggerData;
+import org.eclipse.smarthome.config.core.Configuration;
+import org.eclipse.smarthome.core.common.Statistics;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test the queuing of triggers by the {@link RuleEngineCallbackImpl}.
+ */
+public class RuleEngineCallbackImplTest {
+
+    private final Trigger trigger = new Trigger("trigger", "typeUID", new Configuration());
+
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testRuleDoesNotRunConcurrentlyWithItself() throws InterruptedException {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch executed = new CountDownLatch(50);
+        RuleEngine ruleEngine = new RuleEngine() {
+            @Override
+            protected void runRule(RuntimeRule rule, TriggerData td) {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+                executed.countDown();
+            }
+        };
+        RuleEngineCallbackImpl callback = new RuleEngineCallbackImpl(ruleEngine, new RuntimeRule(new Rule("rule")),
+                executor, 100);
+
+        for (int i = 0; i < 50; i++) {
+            executor.execute(() -> callback.triggered(trigger, Collections.emptyMap()));
+        }
+
+        assertTrue(executed.await(10, TimeUnit.SECONDS));
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(1, maxRunning.get());
+        Statistics statistics = callback.getStatistics();
+        assertEquals(50, statistics.get("executed"));
+        assertEquals(0, statistics.get("dropped"));
+    }
+
+    @Test
+    public void testOldestTriggersAreDroppedIfQueueIsFull() throws InterruptedException {
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RuleEngine ruleEngine = new RuleEngine() {
+            @Override
+            protected void runRule(RuntimeRule rule, TriggerData td) {
+                blocked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        RuleEngineCallbackImpl callback = new RuleEngineCallbackImpl(ruleEngine, new RuntimeRule(new Rule("rule")),
+                executor, 2);
+
+        callback.triggered(trigger, Collections.emptyMap());
+        assertTrue(blocked.await(10, TimeUnit.SECONDS));
+        for (int i = 0; i < 5; i++) {
+            callback.triggered(trigger, Collections.emptyMap());
+        }
+
+        Statistics statistics = callback.getStatistics();
+        assertEquals(2, statistics.get("queued"));
+        assertEquals(3, statistics.get("dropped"));
+        release.countDown();
+    }
+
+}
@@ -24,7 +24,6 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -63,6 +62,8 @@ import org.eclipse.smarthome.config.core.ConfigDescriptionParameter;
 import org.eclipse.smarthome.config.core.ConfigDescriptionParameter.Type;
 import org.eclipse.smarthome.config.core.ConfigUtil;
 import org.eclipse.smarthome.config.core.Configuration;
+import org.eclipse.smarthome.core.common.Statistics;
+import org.eclipse.smarthome.core.common.ThreadPoolManager;
 import org.eclipse.smarthome.core.common.registry.RegistryChangeListener;
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.InvalidSyntaxException;
@@ -108,11 +109,37 @@ public class RuleEngine implements RegistryChangeListener<ModuleType> {
      */
     public static final String CONFIG_PROPERTY_REINITIALIZATION_DELAY = "rule.reinitialization.delay";
 
+    /**
+     * Default value of the maximum number of queued triggers per rule.
+     */
+    public static final int DEFAULT_TRIGGER_QUEUE_SIZE = 1000;
+
+    /**
+     * Maximum number of queued triggers per rule. If more triggers are queued, the oldest ones are dropped.
+     */
+    public static final String CONFIG_PROPERTY_TRIGGER_QUEUE_SIZE = "rule.trigger.queue.size";
+
+    /**
+     * Name of the thread pool which executes the triggered rules. Its size limits the number of rules which are
+     * executed at the same time, so it has to be raised if many rules block for a long time.
+     */
+    public static final String THREAD_POOL_NAME = "ruleExecution";
+
+    /**
+     * Name of the thread pool which runs the re-initialization of rules.
+     */
+    public static final String SCHEDULER_THREAD_POOL_NAME = "ruleInitialization";
+
     /**
      * Delay between rule's re-initialization tries.
      */
     private long scheduleReinitializationDelay;
 
+    /**
+     * Maximum number of queued triggers per rule.
+     */
+    private int triggerQueueSize = DEFAULT_TRIGGER_QUEUE_SIZE;
+
     /**
      * {@link Map} of rule's id to corresponding {@link RuleEngineCallback}s. For each {@link Rule} there is one and
      * only one rule callback.
@@ -158,8 +185,6 @@ public class RuleEngine implements RegistryChangeListener<ModuleType> {
 
     private Map<String, Future> scheduleTasks = new HashMap<String, Future>(31);
 
-    private ScheduledExecutorService executor;
-
     private Gson gson;
 
     /**
@@ -397,13 +422,6 @@ public class RuleEngine implements RegistryChangeListener<ModuleType> {
                 }
             }
 
-            if (scheduleTasks.isEmpty()) {
-                if (executor != null) {
-                    executor.shutdown();
-                    executor = null;
-                }
-            }
-
         } else {
             // change state to NOTINITIALIZED
             setRuleStatusInfo(rUID,
@@ -492,7 +510,8 @@ public class RuleEngine implements RegistryChangeListener<ModuleType> {
     private synchronized RuleEngineCallbackImpl getRuleEngineCallback(RuntimeRule rule) {
         RuleEngineCallbackImpl result = reCallbacks.get(rule.getUID());
         if (result == null) {
-            result = new RuleEngineCallbackImpl(this, rule);
+            result = new RuleEngineCallbackImpl(this, rule, ThreadPoolManager.getPool(THREAD_POOL_NAME),
+                    triggerQueueSize);
             reCallbacks.put(rule.getUID(), result);
         }
         return result;
@@ -1042,12 +1061,6 @@ public class RuleEngine implements RegistryChangeListener<ModuleType> {
         for (Future f : scheduleTasks.values()) {
             f.cancel(true);
         }
-        if (scheduleTasks.isEmpty()) {
-            if (executor != null) {
-                executor.shutdown();
-                executor = null;
-            }
-        }
         scheduleTasks = null;
 
         if (contextMap != null) {
@@ -1087,10 +1100,20 @@ public class RuleEngine implements RegistryChangeListener<ModuleType> {
     }
 
     private ScheduledExecutorService getScheduledExecutor() {
-        if (executor == null || executor.isShutdown()) {
-            executor = Executors.newSingleThreadScheduledExecutor();
+        return ThreadPoolManager.getScheduledPool(SCHEDULER_THREAD_POOL_NAME);
+    }
+
+    /**
+     * Gets a snapshot of the execution statistics of all registered rules.
+     *
+     * @return the statistics of all registered rules
+     */
+    protected synchronized List<Statistics> getRuleExecutionStatistics() {
+        List<Statistics> statistics = new ArrayList<Statistics>(reCallbacks.size());
+        for (RuleEngineCallbackImpl reCallback : reCallbacks.values()) {
+            statistics.add(reCallback.getStatistics());
         }
-        return executor;
+        return statistics;
     }
 
     protected void scheduleRulesConfigurationUpdated(Map<String, Object> config) {
@@ -1105,8 +1128,19 @@ public class RuleEngine implements RegistryChangeListener<ModuleType> {
             } else {
                 scheduleReinitializationDelay = DEFAULT_REINITIALIZATION_DELAY;
             }
+            value = config.get(CONFIG_PROPERTY_TRIGGER_QUEUE_SIZE);
+            if (value != null) {
+                if (value instanceof Number && ((Number) value).intValue() > 0) {
+                    triggerQueueSize = ((Number) value).intValue();
+                } else {
+                    logger.error("Invalid configuration value: {}. It MUST be a positive Number.", value);
+                }
+            } else {
+                triggerQueueSize = DEFAULT_TRIGGER_QUEUE_SIZE;
+            }
         } else {
             scheduleReinitializationDelay = DEFAULT_REINITIALIZATION_DELAY;
+            triggerQueueSize = DEFAULT_TRIGGER_QUEUE_SIZE;
         }
     }
 
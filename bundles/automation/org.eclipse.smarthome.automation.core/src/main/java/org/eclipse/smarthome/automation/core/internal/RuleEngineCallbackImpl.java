@@ -12,49 +12,91 @@
  */
 package org.eclipse.smarthome.automation.core.internal;
 
-import java.security.AccessController;
-import java.security.PrivilegedAction;
 import java.util.Map;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 import org.eclipse.smarthome.automation.Rule;
 import org.eclipse.smarthome.automation.Trigger;
 import org.eclipse.smarthome.automation.handler.RuleEngineCallback;
+import org.eclipse.smarthome.core.common.Statistics;
 
 /**
  * This class is implementation of {@link RuleEngineCallback} used by the {@link Trigger}s to notify rule engine about
  * appearing of new triggered data. There is one and only one {@link RuleEngineCallback} per Rule and it is used by all
  * rule's {@link Trigger}s.
  *
+ * The triggered data is queued per rule and processed one after another using an executor shared by all rules, so a
+ * rule never runs concurrently with itself. If the queue is full the oldest triggered data is dropped.
+ *
+ * The shared executor has a limited number of threads, so rules which block for a long time delay the execution of
+ * all other rules once they occupy every thread. Such executions are logged. The number of threads can be raised
+ * through the configuration of the {@link RuleEngine#THREAD_POOL_NAME} thread pool.
+ *
  * @author Yordan Mihaylov - Initial Contribution
  * @author Kai Kreuzer - improved stability
  */
 public class RuleEngineCallbackImpl implements RuleEngineCallback {
 
+    /** Maximum number of triggers that are processed before the worker thread is handed to the next rule. */
+    private static final int MAX_TRIGGERS_PER_RUN = 10;
+
+    /**
+     * The upper bounds in milliseconds of the buckets of the execution time histogram. The last bucket holds all
+     * executions which took longer than the last bound.
+     */
+    static final long[] EXECUTION_TIME_BUCKETS = { 10, 100, 1000, 10000 };
+
+    /** Executions which take at least this many milliseconds are logged, as they occupy a shared thread. */
+    private static final long LONG_EXECUTION_TIME = EXECUTION_TIME_BUCKETS[EXECUTION_TIME_BUCKETS.length - 1];
+
     private RuntimeRule r;
 
-    private ExecutorService executor;
+    private final Executor executor;
+
+    private final BlockingQueue<TriggerData> queue;
+
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
 
-    private Future<?> future;
+    private final AtomicLong executions = new AtomicLong();
+
+    private final AtomicLong droppedTriggers = new AtomicLong();
+
+    private final AtomicLongArray executionTimes = new AtomicLongArray(EXECUTION_TIME_BUCKETS.length + 1);
+
+    private volatile boolean disposed = false;
 
     private RuleEngine re;
 
-    protected RuleEngineCallbackImpl(RuleEngine re, RuntimeRule r) {
+    protected RuleEngineCallbackImpl(RuleEngine re, RuntimeRule r, Executor executor, int queueSize) {
         this.re = re;
         this.r = r;
-        executor = Executors.newSingleThreadExecutor();
+        this.executor = executor;
+        this.queue = new LinkedBlockingQueue<>(queueSize);
     }
 
     @Override
     public void triggered(Trigger trigger, Map<String, ?> outputs) {
-        synchronized (this) {
-            if (executor == null) {
-                return;
+        if (disposed) {
+            return;
+        }
+        TriggerData td = new TriggerData(trigger, outputs);
+        while (!queue.offer(td)) {
+            if (queue.poll() != null) {
+                long dropped = droppedTriggers.incrementAndGet();
+                if (dropped == 1 || dropped % 1000 == 0) {
+                    re.logger.warn("The rule '{}' does not keep up with its triggers, dropped {} triggers so far.",
+                            r.getUID(), dropped);
+                }
             }
-            future = executor.submit(new TriggerData(trigger, outputs));
         }
+        schedule();
         re.logger.debug("The trigger '{}' of rule '{}' is triggered.", trigger.getId(), r.getUID());
     }
 
@@ -63,8 +105,67 @@ public class RuleEngineCallbackImpl implements RuleEngineCallback {
     }
 
     public boolean isRunning() {
-        Future<?> future = this.future;
-        return future == null || !future.isDone();
+        return scheduled.get();
+    }
+
+    /**
+     * Gets a snapshot of the execution statistics of the rule. Besides the queued, executed and dropped triggers it
+     * counts the executions per bucket of {@link #EXECUTION_TIME_BUCKETS}, like {@code <100ms} for the executions
+     * which took at least 10 and less than 100 milliseconds.
+     *
+     * @return the statistics
+     */
+    public Statistics getStatistics() {
+        Statistics.Builder builder = Statistics.builder(r.getUID()).count("queued", queue.size())
+                .count("executed", executions.get()).count("dropped", droppedTriggers.get());
+        for (int i = 0; i < EXECUTION_TIME_BUCKETS.length; i++) {
+            builder.count("<" + EXECUTION_TIME_BUCKETS[i] + "ms", executionTimes.get(i));
+        }
+        return builder.count(">=" + LONG_EXECUTION_TIME + "ms", executionTimes.get(EXECUTION_TIME_BUCKETS.length))
+                .build();
+    }
+
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::process);
+            } catch (RejectedExecutionException e) {
+                scheduled.set(false);
+                re.logger.warn("Cannot execute rule '{}': {}", r.getUID(), e.getMessage());
+            }
+        }
+    }
+
+    private void process() {
+        try {
+            for (int i = 0; i < MAX_TRIGGERS_PER_RUN && !disposed; i++) {
+                TriggerData td = queue.poll();
+                if (td == null) {
+                    break;
+                }
+                long start = System.nanoTime();
+                td.run();
+                record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }
+        } finally {
+            scheduled.set(false);
+            if (!queue.isEmpty() && !disposed) {
+                schedule();
+            }
+        }
+    }
+
+    private void record(long executionTime) {
+        int bucket = 0;
+        while (bucket < EXECUTION_TIME_BUCKETS.length && executionTime >= EXECUTION_TIME_BUCKETS[bucket]) {
+            bucket++;
+        }
+        if (executionTime >= LONG_EXECUTION_TIME) {
+            re.logger.warn("The rule '{}' occupied a thread of the '{}' thread pool for {} ms, other rules may have "
+                    + "been delayed.", r.getUID(), RuleEngine.THREAD_POOL_NAME, executionTime);
+        }
+        executionTimes.incrementAndGet(bucket);
+        executions.incrementAndGet();
     }
 
     class TriggerData implements Runnable {
@@ -93,13 +194,8 @@ public class RuleEngineCallbackImpl implements RuleEngineCallback {
     }
 
     public void dispose() {
-        synchronized (this) {
-            AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
-                executor.shutdownNow();
-                return null;
-            });
-            executor = null;
-        }
+        disposed = true;
+        queue.clear();
     }
 
 }
@@ -17,6 +17,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -35,6 +36,8 @@ import org.eclipse.smarthome.automation.handler.ModuleHandlerFactory;
 import org.eclipse.smarthome.automation.template.RuleTemplate;
 import org.eclipse.smarthome.automation.template.TemplateRegistry;
 import org.eclipse.smarthome.automation.type.ModuleTypeRegistry;
+import org.eclipse.smarthome.core.common.Statistics;
+import org.eclipse.smarthome.core.common.StatisticsProvider;
 import org.eclipse.smarthome.core.common.registry.AbstractRegistry;
 import org.eclipse.smarthome.core.common.registry.Provider;
 import org.eclipse.smarthome.core.common.registry.RegistryChangeListener;
@@ -89,7 +92,7 @@ import org.slf4j.LoggerFactory;
  * @author Victor Toni - return only copies of {@link Rule}s
  */
 public class RuleRegistryImpl extends AbstractRegistry<Rule, String, RuleProvider>
-        implements RuleRegistry, StatusInfoCallback, RegistryChangeListener<RuleTemplate> {
+        implements RuleRegistry, StatusInfoCallback, RegistryChangeListener<RuleTemplate>, StatisticsProvider {
 
     private static final String DISABLED_RULE_STORAGE = "automation_rules_disabled";
     private static final String SOURCE = RuleRegistryImpl.class.getSimpleName();
@@ -136,6 +139,16 @@ public class RuleRegistryImpl extends AbstractRegistry<Rule, String, RuleProvide
         ruleEngine.dispose();
     }
 
+    @Override
+    public String getStatisticsCategory() {
+        return "automation";
+    }
+
+    @Override
+    public List<Statistics> getStatistics() {
+        return ruleEngine.getRuleExecutionStatistics();
+    }
+
     /**
      * Bind the {@link ModuleTypeRegistry} service - called from DS.
      *
@@ -353,14 +366,8 @@ public class RuleRegistryImpl extends AbstractRegistry<Rule, String, RuleProvide
 
     @Override
     public Rule get(String key) {
-        for (Collection<Rule> rules : elementMap.values()) {
-            for (Rule rule : rules) {
-                if (rule.getUID().equals(key)) {
-                    return RuleUtils.getRuleCopy(rule);
-                }
-            }
-        }
-        return null;
+        Rule rule = super.get(key);
+        return rule != null ? RuleUtils.getRuleCopy(rule) : null;
     }
 
     @Override
@@ -0,0 +1,123 @@
+/**
+ * Copyright (c) 2014,2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.smarthome.automation.module.core.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.smarthome.automation.Trigger;
+import org.eclipse.smarthome.automation.module.core.handler.ChannelEventTriggerHandler;
+import org.eclipse.smarthome.automation.module.core.handler.ItemStateTriggerHandler;
+import org.eclipse.smarthome.automation.module.core.handler.TriggerEventDispatcher;
+import org.eclipse.smarthome.config.core.Configuration;
+import org.eclipse.smarthome.core.events.Event;
+import org.eclipse.smarthome.core.events.EventFilter;
+import org.eclipse.smarthome.core.events.EventSubscriber;
+import org.eclipse.smarthome.core.items.events.ItemCommandEvent;
+import org.eclipse.smarthome.core.items.events.ItemEventFactory;
+import org.eclipse.smarthome.core.library.types.OnOffType;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that the {@link TriggerEventDispatcher} only notifies the triggers matching an event.
+ */
+public class TriggerEventDispatcherTest {
+
+    private TriggerEventDispatcher dispatcher;
+
+    @Before
+    public void setUp() {
+        dispatcher = new TriggerEventDispatcher();
+    }
+
+    @Test
+    public void itemTriggersReceiveEventsOfTheirItemOnly() {
+        RecordingTrigger switch1 = new RecordingTrigger(ItemCommandEvent.TYPE);
+        RecordingTrigger switch2 = new RecordingTrigger(ItemCommandEvent.TYPE);
+        dispatcher.addItemTrigger("switch1", switch1);
+        dispatcher.addItemTrigger("switch2", switch2);
+
+        dispatcher.receive(ItemEventFactory.createCommandEvent("switch1", OnOffType.ON));
+        dispatcher.receive(ItemEventFactory.createStateEvent("switch1", OnOffType.ON));
+
+        assertEquals(1, switch1.events.size());
+        assertEquals(0, switch2.events.size());
+
+        dispatcher.removeItemTrigger("switch1", switch1);
+        dispatcher.receive(ItemEventFactory.createCommandEvent("switch1", OnOffType.OFF));
+        assertEquals(1, switch1.events.size());
+    }
+
+    @Test
+    public void eventTypeTriggersReceiveAllEventsOfTheirType() {
+        RecordingTrigger trigger = new RecordingTrigger(ItemCommandEvent.TYPE);
+        dispatcher.addEventTypeTrigger(trigger);
+
+        dispatcher.receive(ItemEventFactory.createCommandEvent("switch1", OnOffType.ON));
+        dispatcher.receive(ItemEventFactory.createCommandEvent("switch2", OnOffType.ON));
+        dispatcher.receive(ItemEventFactory.createStateEvent("switch1", OnOffType.ON));
+        assertEquals(2, trigger.events.size());
+
+        dispatcher.removeEventTypeTrigger(trigger);
+        dispatcher.receive(ItemEventFactory.createCommandEvent("switch1", OnOffType.OFF));
+        assertEquals(2, trigger.events.size());
+    }
+
+    @Test
+    public void itemTriggerWithoutItemNameIsNotAdded() {
+        ItemStateTriggerHandler handler = new ItemStateTriggerHandler(
+                new Trigger("trigger", ItemStateTriggerHandler.UPDATE_MODULE_TYPE_ID, new Configuration()), dispatcher);
+
+        dispatcher.receive(ItemEventFactory.createStateEvent("switch1", OnOffType.ON));
+        handler.dispose();
+    }
+
+    @Test
+    public void channelTriggerWithoutChannelUIDIsNotAdded() {
+        ChannelEventTriggerHandler handler = new ChannelEventTriggerHandler(
+                new Trigger("trigger", ChannelEventTriggerHandler.MODULE_TYPE_ID, new Configuration()), dispatcher);
+
+        handler.dispose();
+    }
+
+    private static class RecordingTrigger implements EventSubscriber {
+
+        private final Set<String> types;
+        private final List<Event> events = new ArrayList<>();
+
+        RecordingTrigger(String type) {
+            this.types = Collections.singleton(type);
+        }
+
+        @Override
+        public Set<String> getSubscribedEventTypes() {
+            return types;
+        }
+
+        @Override
+        public EventFilter getEventFilter() {
+            return null;
+        }
+
+        @Override
+        public void receive(Event event) {
+            events.add(event);
+        }
+    }
+
+}
@@ -32,8 +32,11 @@ import org.eclipse.smarthome.automation.module.core.handler.ItemStateConditionHa
 import org.eclipse.smarthome.automation.module.core.handler.ItemStateTriggerHandler;
 import org.eclipse.smarthome.automation.module.core.handler.RuleEnablementActionHandler;
 import org.eclipse.smarthome.automation.module.core.handler.RunRuleActionHandler;
+import org.eclipse.smarthome.automation.module.core.handler.TriggerEventDispatcher;
 import org.eclipse.smarthome.core.events.EventPublisher;
+import org.eclipse.smarthome.core.events.EventSubscriber;
 import org.eclipse.smarthome.core.items.ItemRegistry;
+import org.osgi.framework.ServiceRegistration;
 import org.osgi.service.component.ComponentContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -61,12 +64,22 @@ public class CoreModuleHandlerFactory extends BaseModuleHandlerFactory {
     private EventPublisher eventPublisher;
     private RuleRegistry ruleRegistry;
 
+    private final TriggerEventDispatcher triggerEventDispatcher = new TriggerEventDispatcher();
+    @SuppressWarnings("rawtypes")
+    private ServiceRegistration triggerEventDispatcherRegistration;
+
     protected void activate(ComponentContext componentContext) {
         super.activate(componentContext.getBundleContext());
+        triggerEventDispatcherRegistration = bundleContext.registerService(EventSubscriber.class.getName(),
+                triggerEventDispatcher, null);
     }
 
     protected void deactivate(ComponentContext componentContext) {
         super.deactivate();
+        if (triggerEventDispatcherRegistration != null) {
+            triggerEventDispatcherRegistration.unregister();
+            triggerEventDispatcherRegistration = null;
+        }
     }
 
     protected void setRuleRegistry(RuleRegistry ruleRegistry) {
@@ -155,14 +168,14 @@ public class CoreModuleHandlerFactory extends BaseModuleHandlerFactory {
             // Handle triggers
 
             if (GenericEventTriggerHandler.MODULE_TYPE_ID.equals(moduleTypeUID)) {
-                return new GenericEventTriggerHandler((Trigger) module, this.bundleContext);
+                return new GenericEventTriggerHandler((Trigger) module, triggerEventDispatcher);
             } else if (ChannelEventTriggerHandler.MODULE_TYPE_ID.equals(moduleTypeUID)) {
-                return new ChannelEventTriggerHandler((Trigger) module, this.bundleContext);
+                return new ChannelEventTriggerHandler((Trigger) module, triggerEventDispatcher);
             } else if (ItemCommandTriggerHandler.MODULE_TYPE_ID.equals(moduleTypeUID)) {
-                return new ItemCommandTriggerHandler((Trigger) module, this.bundleContext);
+                return new ItemCommandTriggerHandler((Trigger) module, triggerEventDispatcher);
             } else if (ItemStateTriggerHandler.CHANGE_MODULE_TYPE_ID.equals(moduleTypeUID)
                     || ItemStateTriggerHandler.UPDATE_MODULE_TYPE_ID.equals(moduleTypeUID)) {
-                return new ItemStateTriggerHandler((Trigger) module, this.bundleContext);
+                return new ItemStateTriggerHandler((Trigger) module, triggerEventDispatcher);
             }
         } else if (module instanceof Condition) {
             // Handle conditions
@@ -46,7 +46,7 @@ public class ChannelEventTriggerHandler extends BaseTriggerModuleHandler impleme
     private final String channelUID;
     private final String TOPIC = "smarthome/channels/*/triggered";
     private Set<String> types = new HashSet<String>();
-    private BundleContext bundleContext;
+    private TriggerEventDispatcher dispatcher;
 
     private final String CFG_CHANNEL_EVENT = "event";
     private final String CFG_CHANNEL = "channelUID";
@@ -54,18 +54,38 @@ public class ChannelEventTriggerHandler extends BaseTriggerModuleHandler impleme
     @SuppressWarnings("rawtypes")
     private ServiceRegistration eventSubscriberRegistration;
 
+    public ChannelEventTriggerHandler(Trigger module, TriggerEventDispatcher dispatcher) {
+        this(module, dispatcher, null);
+    }
+
+    /**
+     * @deprecated the handler registers itself as an {@link EventSubscriber} service, use
+     *             {@link #ChannelEventTriggerHandler(Trigger, TriggerEventDispatcher)} instead
+     */
+    @Deprecated
     public ChannelEventTriggerHandler(Trigger module, BundleContext bundleContext) {
+        this(module, null, bundleContext);
+    }
+
+    private ChannelEventTriggerHandler(Trigger module, TriggerEventDispatcher dispatcher,
+            BundleContext bundleContext) {
         super(module);
 
         this.eventOnChannel = (String) module.getConfiguration().get(CFG_CHANNEL_EVENT);
         this.channelUID = (String) module.getConfiguration().get(CFG_CHANNEL);
-        this.bundleContext = bundleContext;
         this.types.add("ChannelTriggeredEvent");
 
-        Dictionary<String, Object> properties = new Hashtable<String, Object>();
-        properties.put("event.topics", TOPIC);
-        eventSubscriberRegistration = this.bundleContext.registerService(EventSubscriber.class.getName(), this,
-                properties);
+        this.dispatcher = dispatcher;
+        if (dispatcher == null) {
+            Dictionary<String, Object> properties = new Hashtable<String, Object>();
+            properties.put("event.topics", TOPIC);
+            eventSubscriberRegistration = bundleContext.registerService(EventSubscriber.class.getName(), this,
+                    properties);
+        } else if (channelUID == null) {
+            logger.error("Module is not well configured: channelUID={}  event={}", channelUID, eventOnChannel);
+        } else {
+            dispatcher.addChannelTrigger(channelUID, this);
+        }
     }
 
     @Override
@@ -110,11 +130,14 @@ public class ChannelEventTriggerHandler extends BaseTriggerModuleHandler impleme
     }
 
     /**
-     * do the cleanup: unregistering eventSubscriber...
+     * do the cleanup: removing the trigger from the dispatcher or unregistering eventSubscriber...
      */
     @Override
     public void dispose() {
         super.dispose();
+        if (dispatcher != null && channelUID != null) {
+            dispatcher.removeChannelTrigger(channelUID, this);
+        }
         if (eventSubscriberRegistration != null) {
             eventSubscriberRegistration.unregister();
             eventSubscriberRegistration = null;
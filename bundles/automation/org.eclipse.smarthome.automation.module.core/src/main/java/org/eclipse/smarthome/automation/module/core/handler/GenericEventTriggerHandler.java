@@ -36,9 +36,9 @@ import org.slf4j.LoggerFactory;
  * if an event occurs. The eventType, eventSource and topic can be set with the
  * configuration. It is an generic approach which makes it easier to specify
  * more concrete event based triggers with the composite module approach of the
- * automation component. Each GenericTriggerHandler instance registers as
- * EventSubscriber, so the dispose method must be called for unregistering the
- * service.
+ * automation component. Each GenericTriggerHandler instance is added to the
+ * {@link TriggerEventDispatcher}, so the dispose method must be called for
+ * removing it again.
  *
  * @author Benedikt Niehues - Initial contribution and API
  * @author Kai Kreuzer - refactored and simplified customized module handling
@@ -51,7 +51,7 @@ public class GenericEventTriggerHandler extends BaseTriggerModuleHandler impleme
     private String source;
     private String topic;
     private Set<String> types;
-    private BundleContext bundleContext;
+    private TriggerEventDispatcher dispatcher;
 
     public static final String MODULE_TYPE_ID = "core.GenericEventTrigger";
 
@@ -62,17 +62,34 @@ public class GenericEventTriggerHandler extends BaseTriggerModuleHandler impleme
     @SuppressWarnings("rawtypes")
     private ServiceRegistration eventSubscriberRegistration;
 
+    public GenericEventTriggerHandler(Trigger module, TriggerEventDispatcher dispatcher) {
+        this(module, dispatcher, null);
+    }
+
+    /**
+     * @deprecated the handler registers itself as an {@link EventSubscriber} service, use
+     *             {@link #GenericEventTriggerHandler(Trigger, TriggerEventDispatcher)} instead
+     */
+    @Deprecated
     public GenericEventTriggerHandler(Trigger module, BundleContext bundleContext) {
+        this(module, null, bundleContext);
+    }
+
+    private GenericEventTriggerHandler(Trigger module, TriggerEventDispatcher dispatcher, BundleContext bundleContext) {
         super(module);
         this.source = (String) module.getConfiguration().get(CFG_EVENT_SOURCE);
         this.topic = (String) module.getConfiguration().get(CFG_EVENT_TOPIC);
         this.types = Collections.unmodifiableSet(
                 new HashSet<>(Arrays.asList(((String) module.getConfiguration().get(CFG_EVENT_TYPES)).split(","))));
-        this.bundleContext = bundleContext;
-        Dictionary<String, Object> properties = new Hashtable<String, Object>();
-        properties.put("event.topics", topic);
-        eventSubscriberRegistration = this.bundleContext.registerService(EventSubscriber.class.getName(), this,
-                properties);
+        this.dispatcher = dispatcher;
+        if (dispatcher == null) {
+            Dictionary<String, Object> properties = new Hashtable<String, Object>();
+            properties.put("event.topics", topic);
+            eventSubscriberRegistration = bundleContext.registerService(EventSubscriber.class.getName(), this,
+                    properties);
+        } else {
+            dispatcher.addEventTypeTrigger(this);
+        }
         logger.trace("Registered EventSubscriber: Topic: {} Type: {} Source: {}", topic, types, source);
     }
 
@@ -117,11 +134,14 @@ public class GenericEventTriggerHandler extends BaseTriggerModuleHandler impleme
     }
 
     /**
-     * do the cleanup: unregistering eventSubscriber...
+     * do the cleanup: removing the trigger from the dispatcher or unregistering eventSubscriber...
      */
     @Override
     public void dispose() {
         super.dispose();
+        if (dispatcher != null) {
+            dispatcher.removeEventTypeTrigger(this);
+        }
         if (eventSubscriberRegistration != null) {
             eventSubscriberRegistration.unregister();
             eventSubscriberRegistration = null;
@@ -48,7 +48,7 @@ public class ItemCommandTriggerHandler extends BaseTriggerModuleHandler implemen
     private String topic;
 
     private Set<String> types;
-    private BundleContext bundleContext;
+    private TriggerEventDispatcher dispatcher;
 
     public static final String MODULE_TYPE_ID = "core.ItemCommandTrigger";
 
@@ -58,17 +58,36 @@ public class ItemCommandTriggerHandler extends BaseTriggerModuleHandler implemen
     @SuppressWarnings("rawtypes")
     private ServiceRegistration eventSubscriberRegistration;
 
+    public ItemCommandTriggerHandler(Trigger module, TriggerEventDispatcher dispatcher) {
+        this(module, dispatcher, null);
+    }
+
+    /**
+     * @deprecated the handler registers itself as an {@link EventSubscriber} service, use
+     *             {@link #ItemCommandTriggerHandler(Trigger, TriggerEventDispatcher)} instead
+     */
+    @Deprecated
     public ItemCommandTriggerHandler(Trigger module, BundleContext bundleContext) {
+        this(module, null, bundleContext);
+    }
+
+    private ItemCommandTriggerHandler(Trigger module, TriggerEventDispatcher dispatcher, BundleContext bundleContext) {
         super(module);
         this.itemName = (String) module.getConfiguration().get(CFG_ITEMNAME);
         this.command = (String) module.getConfiguration().get(CFG_COMMAND);
         this.types = Collections.singleton(ItemCommandEvent.TYPE);
-        this.bundleContext = bundleContext;
-        Dictionary<String, Object> properties = new Hashtable<String, Object>();
         this.topic = "smarthome/items/" + itemName + "/command";
-        properties.put("event.topics", topic);
-        eventSubscriberRegistration = this.bundleContext.registerService(EventSubscriber.class.getName(), this,
-                properties);
+        this.dispatcher = dispatcher;
+        if (dispatcher == null) {
+            Dictionary<String, Object> properties = new Hashtable<String, Object>();
+            properties.put("event.topics", topic);
+            eventSubscriberRegistration = bundleContext.registerService(EventSubscriber.class.getName(), this,
+                    properties);
+        } else if (itemName == null) {
+            logger.error("Module is not well configured: itemName={}  command={}", itemName, command);
+        } else {
+            dispatcher.addItemTrigger(itemName, this);
+        }
     }
 
     @Override
@@ -99,11 +118,14 @@ public class ItemCommandTriggerHandler extends BaseTriggerModuleHandler implemen
     }
 
     /**
-     * do the cleanup: unregistering eventSubscriber...
+     * do the cleanup: removing the trigger from the dispatcher or unregistering eventSubscriber...
      */
     @Override
     public void dispose() {
         super.dispose();
+        if (dispatcher != null && itemName != null) {
+            dispatcher.removeItemTrigger(itemName, this);
+        }
         if (eventSubscriberRegistration != null) {
             eventSubscriberRegistration.unregister();
             eventSubscriberRegistration = null;
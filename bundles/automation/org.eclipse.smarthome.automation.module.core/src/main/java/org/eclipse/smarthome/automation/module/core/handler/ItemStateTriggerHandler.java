@@ -50,7 +50,7 @@ public class ItemStateTriggerHandler extends BaseTriggerModuleHandler implements
     private String state;
     private String previousState;
     private Set<String> types;
-    private BundleContext bundleContext;
+    private TriggerEventDispatcher dispatcher;
 
     public static final String UPDATE_MODULE_TYPE_ID = "core.ItemStateUpdateTrigger";
     public static final String CHANGE_MODULE_TYPE_ID = "core.ItemStateChangeTrigger";
@@ -62,7 +62,20 @@ public class ItemStateTriggerHandler extends BaseTriggerModuleHandler implements
     @SuppressWarnings("rawtypes")
     private ServiceRegistration eventSubscriberRegistration;
 
+    public ItemStateTriggerHandler(Trigger module, TriggerEventDispatcher dispatcher) {
+        this(module, dispatcher, null);
+    }
+
+    /**
+     * @deprecated the handler registers itself as an {@link EventSubscriber} service, use
+     *             {@link #ItemStateTriggerHandler(Trigger, TriggerEventDispatcher)} instead
+     */
+    @Deprecated
     public ItemStateTriggerHandler(Trigger module, BundleContext bundleContext) {
+        this(module, null, bundleContext);
+    }
+
+    private ItemStateTriggerHandler(Trigger module, TriggerEventDispatcher dispatcher, BundleContext bundleContext) {
         super(module);
         this.itemName = (String) module.getConfiguration().get(CFG_ITEMNAME);
         this.state = (String) module.getConfiguration().get(CFG_STATE);
@@ -75,11 +88,18 @@ public class ItemStateTriggerHandler extends BaseTriggerModuleHandler implements
             set.add(GroupItemStateChangedEvent.TYPE);
             this.types = Collections.unmodifiableSet(set);
         }
-        this.bundleContext = bundleContext;
-        Dictionary<String, Object> properties = new Hashtable<String, Object>();
-        properties.put("event.topics", "smarthome/items/" + itemName + "/*");
-        eventSubscriberRegistration = this.bundleContext.registerService(EventSubscriber.class.getName(), this,
-                properties);
+        this.dispatcher = dispatcher;
+        if (dispatcher == null) {
+            Dictionary<String, Object> properties = new Hashtable<String, Object>();
+            properties.put("event.topics", "smarthome/items/" + itemName + "/*");
+            eventSubscriberRegistration = bundleContext.registerService(EventSubscriber.class.getName(), this,
+                    properties);
+        } else if (itemName == null) {
+            logger.error("Module is not well configured: itemName={}  state={}  previousState={}", itemName, state,
+                    previousState);
+        } else {
+            dispatcher.addItemTrigger(itemName, this);
+        }
     }
 
     @Override
@@ -129,11 +149,14 @@ public class ItemStateTriggerHandler extends BaseTriggerModuleHandler implements
     }
 
     /**
-     * do the cleanup: unregistering eventSubscriber...
+     * do the cleanup: removing the trigger from the dispatcher or unregistering eventSubscriber...
      */
     @Override
     public void dispose() {
         super.dispose();
+        if (dispatcher != null && itemName != null) {
+            dispatcher.removeItemTrigger(itemName, this);
+        }
         if (eventSubscriberRegistration != null) {
             eventSubscriberRegistration.unregister();
             eventSubscriberRegistration = null;
@@ -0,0 +1,158 @@
+/**
+ * Copyright (c) 2014,2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.smarthome.automation.module.core.handler;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.smarthome.core.events.Event;
+import org.eclipse.smarthome.core.events.EventFilter;
+import org.eclipse.smarthome.core.events.EventSubscriber;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link TriggerEventDispatcher} is the only {@link EventSubscriber} which is registered for the event based
+ * triggers of this bundle. The triggers are added to the dispatcher instead of being registered as services of their
+ * own, so adding and removing rules does not change the service registry.
+ *
+ * The triggers are indexed by the item name, the channel UID or the event type they are interested in. On an event
+ * only the triggers found by the topic and the type of the event are checked by their {@link EventFilter} and notified.
+ */
+public class TriggerEventDispatcher implements EventSubscriber {
+
+    private static final String ITEMS_TOPIC_SEGMENT = "items";
+    private static final String CHANNELS_TOPIC_SEGMENT = "channels";
+
+    private final Logger logger = LoggerFactory.getLogger(TriggerEventDispatcher.class);
+
+    private final Set<String> subscribedEventTypes = Collections.singleton(EventSubscriber.ALL_EVENT_TYPES);
+
+    private final Map<String, Set<EventSubscriber>> itemTriggers = new ConcurrentHashMap<>();
+    private final Map<String, Set<EventSubscriber>> channelTriggers = new ConcurrentHashMap<>();
+    private final Map<String, Set<EventSubscriber>> eventTypeTriggers = new ConcurrentHashMap<>();
+
+    /**
+     * Adds a trigger which receives the events of the item with the given name, i.e. events with a topic of the form
+     * <code>smarthome/items/{itemName}/...</code>.
+     *
+     * @param itemName the name of the item
+     * @param trigger the trigger
+     */
+    public void addItemTrigger(String itemName, EventSubscriber trigger) {
+        add(itemTriggers, itemName, trigger);
+    }
+
+    public void removeItemTrigger(String itemName, EventSubscriber trigger) {
+        remove(itemTriggers, itemName, trigger);
+    }
+
+    /**
+     * Adds a trigger which receives the events of the channel with the given UID, i.e. events with a topic of the form
+     * <code>smarthome/channels/{channelUID}/...</code>.
+     *
+     * @param channelUID the UID of the channel
+     * @param trigger the trigger
+     */
+    public void addChannelTrigger(String channelUID, EventSubscriber trigger) {
+        add(channelTriggers, channelUID, trigger);
+    }
+
+    public void removeChannelTrigger(String channelUID, EventSubscriber trigger) {
+        remove(channelTriggers, channelUID, trigger);
+    }
+
+    /**
+     * Adds a trigger which receives all events of the types returned by its
+     * {@link EventSubscriber#getSubscribedEventTypes()} method.
+     *
+     * @param trigger the trigger
+     */
+    public void addEventTypeTrigger(EventSubscriber trigger) {
+        for (String type : trigger.getSubscribedEventTypes()) {
+            add(eventTypeTriggers, type, trigger);
+        }
+    }
+
+    public void removeEventTypeTrigger(EventSubscriber trigger) {
+        for (String type : trigger.getSubscribedEventTypes()) {
+            remove(eventTypeTriggers, type, trigger);
+        }
+    }
+
+    @Override
+    public Set<String> getSubscribedEventTypes() {
+        return subscribedEventTypes;
+    }
+
+    @Override
+    public EventFilter getEventFilter() {
+        return null;
+    }
+
+    @Override
+    public void receive(Event event) {
+        String[] segments = event.getTopic().split("/");
+        if (segments.length > 2) {
+            if (ITEMS_TOPIC_SEGMENT.equals(segments[1])) {
+                // the topic of group events contains the name of the group and of the member
+                for (int i = 2; i < segments.length - 1; i++) {
+                    dispatch(itemTriggers.get(segments[i]), event);
+                }
+            } else if (CHANNELS_TOPIC_SEGMENT.equals(segments[1])) {
+                dispatch(channelTriggers.get(segments[2]), event);
+            }
+        }
+        dispatch(eventTypeTriggers.get(event.getType()), event);
+        dispatch(eventTypeTriggers.get(EventSubscriber.ALL_EVENT_TYPES), event);
+    }
+
+    private void dispatch(Set<EventSubscriber> triggers, Event event) {
+        if (triggers == null) {
+            return;
+        }
+        for (EventSubscriber trigger : triggers) {
+            Set<String> types = trigger.getSubscribedEventTypes();
+            if (!types.contains(event.getType()) && !types.contains(EventSubscriber.ALL_EVENT_TYPES)) {
+                continue;
+            }
+            try {
+                EventFilter filter = trigger.getEventFilter();
+                if (filter == null || filter.apply(event)) {
+                    trigger.receive(event);
+                }
+            } catch (Exception e) {
+                logger.error("Error while dispatching event '{}' to trigger '{}': {}", event.getTopic(), trigger,
+                        e.getMessage(), e);
+            }
+        }
+    }
+
+    private void add(Map<String, Set<EventSubscriber>> index, String key, EventSubscriber trigger) {
+        index.compute(key, (k, triggers) -> {
+            Set<EventSubscriber> result = triggers != null ? triggers : ConcurrentHashMap.newKeySet();
+            result.add(trigger);
+            return result;
+        });
+    }
+
+    private void remove(Map<String, Set<EventSubscriber>> index, String key, EventSubscriber trigger) {
+        index.computeIfPresent(key, (k, triggers) -> {
+            triggers.remove(trigger);
+            return triggers.isEmpty() ? null : triggers;
+        });
+    }
+
+}
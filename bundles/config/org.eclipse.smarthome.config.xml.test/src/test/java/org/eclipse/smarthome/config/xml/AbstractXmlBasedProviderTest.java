@@ -0,0 +1,113 @@
+/**
+ * Copyright (c) 2014,2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.smarthome.config.xml;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+import org.eclipse.smarthome.core.common.registry.Identifiable;
+import org.junit.Before;
+import org.junit.Test;
+import org.osgi.framework.Bundle;
+
+public class AbstractXmlBasedProviderTest {
+
+    private TestProvider provider;
+    private Bundle bundle1;
+    private Bundle bundle2;
+
+    @Before
+    public void setup() {
+        provider = new TestProvider();
+        bundle1 = mock(Bundle.class);
+        bundle2 = mock(Bundle.class);
+    }
+
+    @Test
+    public void shouldGetObjectsByUID() {
+        provider.addAll(bundle1, Arrays.asList(new TestObject("a", null), new TestObject("b", null)));
+        provider.add(bundle2, new TestObject("c", null));
+
+        assertThat(provider.get("a", null).getUID(), is("a"));
+        assertThat(provider.get("c", null).getUID(), is("c"));
+        assertThat(provider.get("d", null), is(nullValue()));
+    }
+
+    @Test
+    public void shouldCacheLocalizedObjectsPerLocale() {
+        provider.add(bundle1, new TestObject("a", null));
+
+        TestObject german = provider.get("a", Locale.GERMAN);
+        assertThat(german.locale, is(Locale.GERMAN));
+        assertThat(provider.get("a", Locale.GERMAN), is(sameInstance(german)));
+        assertThat(provider.get("a", Locale.ENGLISH).locale, is(Locale.ENGLISH));
+        assertThat(provider.get("a", null).locale, is(nullValue()));
+    }
+
+    @Test
+    public void shouldRemoveObjectsAndCachedEntriesOfBundle() {
+        provider.add(bundle1, new TestObject("a", null));
+        TestObject german = provider.get("a", Locale.GERMAN);
+
+        provider.removeAll(bundle1);
+        assertThat(provider.get("a", Locale.GERMAN), is(nullValue()));
+
+        provider.add(bundle1, new TestObject("a", null));
+        assertThat(provider.get("a", Locale.GERMAN), is(not(sameInstance(german))));
+    }
+
+    @Test
+    public void shouldFallBackToObjectOfOtherBundleWithSameUID() {
+        provider.add(bundle1, new TestObject("a", null));
+        provider.add(bundle2, new TestObject("a", null));
+        assertThat(provider.get("a", null).bundle, is(bundle1));
+
+        provider.removeAll(bundle1);
+        assertThat(provider.get("a", null).bundle, is(bundle2));
+
+        provider.removeAll(bundle2);
+        assertThat(provider.get("a", null), is(nullValue()));
+    }
+
+    private static class TestObject implements Identifiable<String> {
+
+        private final String uid;
+        private final Locale locale;
+        private Bundle bundle;
+
+        public TestObject(String uid, Locale locale) {
+            this.uid = uid;
+            this.locale = locale;
+        }
+
+        @Override
+        public String getUID() {
+            return uid;
+        }
+    }
+
+    private static class TestProvider extends AbstractXmlBasedProvider<String, TestObject> {
+
+        @Override
+        protected TestObject localize(Bundle bundle, TestObject object, Locale locale) {
+            TestObject localizedObject = new TestObject(object.uid, locale);
+            localizedObject.bundle = bundle;
+            return localizedObject;
+        }
+    }
+
+}
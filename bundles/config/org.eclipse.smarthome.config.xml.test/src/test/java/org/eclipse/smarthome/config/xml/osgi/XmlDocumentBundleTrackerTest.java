@@ -0,0 +1,184 @@
+/**
+ * Copyright (c) 2014,2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.smarthome.config.xml.osgi;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.*;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Hashtable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.smarthome.config.xml.util.XmlDocumentReader;
+import org.eclipse.smarthome.core.service.ReadyMarker;
+import org.eclipse.smarthome.core.service.ReadyService;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.BundleContext;
+
+/**
+ * Tests the parallel parsing of the XML documents of a bundle by the {@link XmlDocumentBundleTracker}.
+ */
+public class XmlDocumentBundleTrackerTest {
+
+    private static final String XML_DIRECTORY = "/ESH-INF/test/";
+    private static final String READY_MARKER_TYPE = "esh.xmlProcessing";
+    private static final String BUNDLE_NAME = "org.eclipse.smarthome.test.bundle";
+    private static final long TIMEOUT = 5000;
+
+    private XmlDocumentReader<String> reader;
+    private XmlDocumentProvider<String> provider;
+    private ReadyService readyService;
+    private Bundle bundle;
+    private XmlDocumentBundleTracker<String> tracker;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        reader = mock(XmlDocumentReader.class);
+        provider = mock(XmlDocumentProvider.class);
+        readyService = mock(ReadyService.class);
+
+        bundle = mock(Bundle.class);
+        when(bundle.getSymbolicName()).thenReturn(BUNDLE_NAME);
+        when(bundle.getHeaders()).thenReturn(new Hashtable<>());
+
+        XmlDocumentProviderFactory<String> providerFactory = mock(XmlDocumentProviderFactory.class);
+        when(providerFactory.createDocumentProvider(bundle)).thenReturn(provider);
+
+        tracker = new XmlDocumentBundleTracker<>(mock(BundleContext.class), XML_DIRECTORY, reader, providerFactory,
+                READY_MARKER_TYPE, readyService);
+        tracker.open();
+    }
+
+    @After
+    public void tearDown() {
+        tracker.close();
+    }
+
+    @Test
+    public void shouldAddParsedObjectsInDocumentOrder() throws Exception {
+        URL[] documents = givenDocuments("first.xml", "second.xml", "third.xml");
+        // the first document is parsed last
+        CountDownLatch otherDocumentsParsed = new CountDownLatch(2);
+        when(reader.readFromXML(documents[0])).thenAnswer(invocation -> {
+            otherDocumentsParsed.await(TIMEOUT, TimeUnit.MILLISECONDS);
+            return "first";
+        });
+        when(reader.readFromXML(documents[1])).thenAnswer(invocation -> {
+            otherDocumentsParsed.countDown();
+            return "second";
+        });
+        when(reader.readFromXML(documents[2])).thenAnswer(invocation -> {
+            otherDocumentsParsed.countDown();
+            return "third";
+        });
+
+        tracker.addingBundle(bundle, null);
+
+        verify(readyService, timeout(TIMEOUT)).markReady(new ReadyMarker(READY_MARKER_TYPE, BUNDLE_NAME));
+        InOrder inOrder = inOrder(provider);
+        inOrder.verify(provider).addingObject("first");
+        inOrder.verify(provider).addingObject("second");
+        inOrder.verify(provider).addingObject("third");
+        inOrder.verify(provider).addingFinished();
+    }
+
+    @Test
+    public void shouldSkipDocumentsWhichCannotBeParsed() throws Exception {
+        URL[] documents = givenDocuments("first.xml", "second.xml");
+        when(reader.readFromXML(documents[0])).thenThrow(new IllegalStateException("invalid document"));
+        when(reader.readFromXML(documents[1])).thenReturn("second");
+
+        tracker.addingBundle(bundle, null);
+
+        verify(readyService, timeout(TIMEOUT)).markReady(new ReadyMarker(READY_MARKER_TYPE, BUNDLE_NAME));
+        verify(provider).addingObject("second");
+        verify(provider).addingFinished();
+        verifyNoMoreInteractions(provider);
+    }
+
+    @Test
+    public void shouldNotAddObjectsIfTheBundleIsRemovedWhileParsing() throws Exception {
+        URL[] documents = givenDocuments("first.xml", "second.xml");
+        CountDownLatch parsingStarted = new CountDownLatch(1);
+        CountDownLatch parsingFinished = new CountDownLatch(1);
+        when(reader.readFromXML(documents[0])).thenAnswer(invocation -> {
+            parsingStarted.countDown();
+            try {
+                // blocks until the parsing is cancelled
+                Thread.sleep(TIMEOUT);
+                return "first";
+            } finally {
+                parsingFinished.countDown();
+            }
+        });
+        when(reader.readFromXML(documents[1])).thenReturn("second");
+
+        tracker.addingBundle(bundle, null);
+        assertTrue(parsingStarted.await(TIMEOUT, TimeUnit.MILLISECONDS));
+        tracker.removedBundle(bundle, null, bundle);
+
+        // the running parsing task is interrupted instead of running to its end
+        assertTrue(parsingFinished.await(TIMEOUT / 2, TimeUnit.MILLISECONDS));
+        Thread.sleep(100);
+        verifyZeroInteractions(provider);
+        verify(readyService, never()).markReady(any(ReadyMarker.class));
+    }
+
+    @Test
+    public void shouldParseTheBundleAgainIfItIsAddedAfterItsRemoval() throws Exception {
+        URL[] documents = givenDocuments("first.xml", "second.xml");
+        CountDownLatch parsingStarted = new CountDownLatch(1);
+        CountDownLatch removed = new CountDownLatch(1);
+        when(reader.readFromXML(documents[0])).thenAnswer(invocation -> {
+            parsingStarted.countDown();
+            removed.await(TIMEOUT, TimeUnit.MILLISECONDS);
+            return "first";
+        }).thenReturn("first");
+        when(reader.readFromXML(documents[1])).thenReturn("second");
+
+        tracker.addingBundle(bundle, null);
+        assertTrue(parsingStarted.await(TIMEOUT, TimeUnit.MILLISECONDS));
+        tracker.removedBundle(bundle, null, bundle);
+        tracker.addingBundle(bundle, null);
+        removed.countDown();
+
+        verify(readyService, timeout(TIMEOUT)).markReady(new ReadyMarker(READY_MARKER_TYPE, BUNDLE_NAME));
+        Thread.sleep(100);
+        verify(provider, times(1)).addingObject("first");
+        verify(provider, times(1)).addingObject("second");
+        verify(provider, times(1)).addingFinished();
+    }
+
+    private URL[] givenDocuments(String... names) throws MalformedURLException {
+        URL[] documents = new URL[names.length];
+        for (int i = 0; i < names.length; i++) {
+            documents[i] = new URL("file:" + XML_DIRECTORY + names[i]);
+            when(bundle.getEntry(documents[i].getPath())).thenReturn(documents[i]);
+        }
+        when(bundle.findEntries(XML_DIRECTORY, "*.xml", true))
+                .thenAnswer(invocation -> Collections.enumeration(Arrays.asList(documents)));
+        return documents;
+    }
+
+}
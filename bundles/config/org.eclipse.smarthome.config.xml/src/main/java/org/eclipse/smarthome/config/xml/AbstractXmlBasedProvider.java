@@ -14,15 +14,14 @@ package org.eclipse.smarthome.config.xml;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.smarthome.core.common.registry.Identifiable;
 import org.osgi.framework.Bundle;
@@ -37,49 +36,28 @@ import org.osgi.framework.Bundle;
  */
 public abstract class AbstractXmlBasedProvider<T_ID, T_OBJECT extends Identifiable<T_ID>> {
 
-    private static class LocalizedKey {
-        public final Object id;
-        public final String locale;
+    /** The key of objects localized for the default locale in the localized object cache. */
+    private static final String DEFAULT_LOCALE = "";
 
-        public LocalizedKey(Object id, String locale) {
-            this.id = id;
-            this.locale = locale;
-        }
-
-        @Override
-        public int hashCode() {
-            final int prime = 31;
-            int result = 1;
-            result = prime * result + ((id == null) ? 0 : id.hashCode());
-            result = prime * result + ((locale == null) ? 0 : locale.hashCode());
-            return result;
-        }
+    private class BundleObject {
+        public final Bundle bundle;
+        public final T_OBJECT object;
 
-        @Override
-        public boolean equals(Object obj) {
-            if (this == obj) {
-                return true;
-            }
-            if (obj == null) {
-                return false;
-            }
-            if (getClass() != obj.getClass()) {
-                return false;
-            }
-            LocalizedKey other = (LocalizedKey) obj;
-            if (!Objects.equals(id, other.id)) {
-                return false;
-            }
-            if (!Objects.equals(locale, other.locale)) {
-                return false;
-            }
-            return true;
+        public BundleObject(Bundle bundle, T_OBJECT object) {
+            this.bundle = bundle;
+            this.object = object;
         }
-
     }
 
     private final Map<Bundle, List<T_OBJECT>> bundleObjectMap = new ConcurrentHashMap<>();
-    private final Map<LocalizedKey, T_OBJECT> localizedObjectCache = new ConcurrentHashMap<>();
+
+    /** The objects of all bundles indexed by their UID, the first object added for a UID wins. */
+    private final Map<T_ID, BundleObject> uidObjectMap = new ConcurrentHashMap<>();
+
+    /** The localized objects indexed by their UID and the language tag of their locale. */
+    private final Map<T_ID, Map<String, T_OBJECT>> localizedObjectCache = new ConcurrentHashMap<>();
+
+    private final AtomicLong version = new AtomicLong();
 
     /**
      * Create a translated/localized copy of the given object.
@@ -120,9 +98,14 @@ public abstract class AbstractXmlBasedProvider<T_ID, T_OBJECT extends Identifiab
             return;
         }
         objects.addAll(objectList);
+        version.incrementAndGet();
         for (T_OBJECT object : objectList) {
-            // just make sure no old entry remains in the cache
-            removeCachedEntries(object);
+            T_ID uid = object.getUID();
+            if (uid != null) {
+                uidObjectMap.putIfAbsent(uid, new BundleObject(bundle, object));
+                // just make sure no old entry remains in the cache
+                localizedObjectCache.remove(uid);
+            }
         }
     }
 
@@ -146,14 +129,11 @@ public abstract class AbstractXmlBasedProvider<T_ID, T_OBJECT extends Identifiab
      * @return the object if found, <code>null</code> otherwise
      */
     protected final T_OBJECT get(T_ID key, Locale locale) {
-        for (Entry<Bundle, List<T_OBJECT>> objects : bundleObjectMap.entrySet()) {
-            for (T_OBJECT object : objects.getValue()) {
-                if (key.equals(object.getUID())) {
-                    return acquireLocalizedObject(objects.getKey(), object, locale);
-                }
-            }
+        BundleObject bundleObject = uidObjectMap.get(key);
+        if (bundleObject == null) {
+            return null;
         }
-        return null;
+        return acquireLocalizedObject(bundleObject.bundle, bundleObject.object, locale);
     }
 
     /**
@@ -173,6 +153,15 @@ public abstract class AbstractXmlBasedProvider<T_ID, T_OBJECT extends Identifiab
         return ret;
     }
 
+    /**
+     * Returns the version of the provided objects, which increases whenever objects are added or removed.
+     *
+     * @return the version of the provided objects
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
     /**
      * Removes all objects from the internal list associated with the specified module.
      * <p>
@@ -186,44 +175,58 @@ public abstract class AbstractXmlBasedProvider<T_ID, T_OBJECT extends Identifiab
         }
         List<T_OBJECT> objects = bundleObjectMap.remove(bundle);
         if (objects != null) {
-            removeCachedEntries(objects);
-        }
-    }
-
-    private void removeCachedEntries(List<T_OBJECT> objects) {
-        for (T_OBJECT object : objects) {
-            removeCachedEntries(object);
+            version.incrementAndGet();
+            for (T_OBJECT object : objects) {
+                T_ID uid = object.getUID();
+                if (uid != null) {
+                    localizedObjectCache.remove(uid);
+                    BundleObject bundleObject = uidObjectMap.get(uid);
+                    if (bundleObject != null && bundleObject.bundle.equals(bundle)) {
+                        reindex(uid);
+                    }
+                }
+            }
         }
     }
 
-    private void removeCachedEntries(T_OBJECT object) {
-        for (Iterator<Entry<LocalizedKey, T_OBJECT>> it = localizedObjectCache.entrySet().iterator(); it.hasNext();) {
-            Entry<LocalizedKey, T_OBJECT> entry = it.next();
-            if (entry.getKey().id.equals(object.getUID())) {
-                it.remove();
+    /**
+     * Indexes the object of another bundle with the given UID, if there is one.
+     */
+    private void reindex(T_ID uid) {
+        for (Entry<Bundle, List<T_OBJECT>> objects : bundleObjectMap.entrySet()) {
+            for (T_OBJECT object : objects.getValue()) {
+                if (uid.equals(object.getUID())) {
+                    uidObjectMap.put(uid, new BundleObject(objects.getKey(), object));
+                    return;
+                }
             }
         }
+        uidObjectMap.remove(uid);
     }
 
     private T_OBJECT acquireLocalizedObject(Bundle bundle, T_OBJECT object, Locale locale) {
-        final LocalizedKey localizedKey = getLocalizedKey(object, locale);
+        final T_ID uid = object.getUID();
+        if (uid == null) {
+            final T_OBJECT localizedObject = localize(bundle, object, locale);
+            return localizedObject != null ? localizedObject : object;
+        }
+
+        final Map<String, T_OBJECT> localizedObjects = localizedObjectCache.computeIfAbsent(uid,
+                key -> new ConcurrentHashMap<>());
+        final String languageTag = locale != null ? locale.toLanguageTag() : DEFAULT_LOCALE;
 
-        final T_OBJECT cacheEntry = localizedObjectCache.get(localizedKey);
+        final T_OBJECT cacheEntry = localizedObjects.get(languageTag);
         if (cacheEntry != null) {
             return cacheEntry;
         }
 
         final T_OBJECT localizedObject = localize(bundle, object, locale);
         if (localizedObject != null) {
-            localizedObjectCache.put(localizedKey, localizedObject);
+            localizedObjects.put(languageTag, localizedObject);
             return localizedObject;
         } else {
             return object;
         }
     }
 
-    private LocalizedKey getLocalizedKey(T_OBJECT object, Locale locale) {
-        return new LocalizedKey(object.getUID(), locale != null ? locale.toLanguageTag() : null);
-    }
-
 }
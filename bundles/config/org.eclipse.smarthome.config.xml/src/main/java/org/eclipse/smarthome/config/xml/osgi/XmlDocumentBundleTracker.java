@@ -26,6 +26,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import org.eclipse.smarthome.config.xml.util.XmlDocumentReader;
@@ -67,6 +68,7 @@ public class XmlDocumentBundleTracker<T> extends BundleTracker<Bundle> {
     private final XmlDocumentProviderFactory<T> xmlDocumentProviderFactory;
     private final Map<Bundle, XmlDocumentProvider<T>> bundleDocumentProviderMap = new ConcurrentHashMap<>();
     private final Map<Bundle, Future<?>> queue = new ConcurrentHashMap<>();
+    private final Map<Bundle, ParallelParsing> parallelParsings = new ConcurrentHashMap<>();
     private final Set<Bundle> finishedBundles = new CopyOnWriteArraySet<>();
     private final Map<String, ReadyMarker> bundleReadyMarkerRegistrations = new ConcurrentHashMap<>();
     private final String readyMarkerKey;
@@ -169,6 +171,10 @@ public class XmlDocumentBundleTracker<T> extends BundleTracker<Bundle> {
             future.cancel(true);
         }
         queue.clear();
+        for (ParallelParsing parallelParsing : parallelParsings.values()) {
+            parallelParsing.cancel();
+        }
+        parallelParsings.clear();
     }
 
     private XmlDocumentProvider<T> acquireXmlDocumentProvider(Bundle bundle) {
@@ -235,6 +241,10 @@ public class XmlDocumentBundleTracker<T> extends BundleTracker<Bundle> {
         if (future != null) {
             future.cancel(true);
         }
+        ParallelParsing parallelParsing = parallelParsings.remove(bundle);
+        if (parallelParsing != null) {
+            parallelParsing.cancel();
+        }
         releaseXmlDocumentProvider(bundle);
         unregisterReadyMarker(bundle);
     }
@@ -333,6 +343,13 @@ public class XmlDocumentBundleTracker<T> extends BundleTracker<Bundle> {
             Enumeration<URL> xmlDocumentPaths = bundle.findEntries(xmlDirectory, "*.xml", true);
             if (xmlDocumentPaths != null) {
                 Collection<URL> filteredPaths = filterPatches(xmlDocumentPaths, bundle);
+                if (filteredPaths.size() > 1) {
+                    // the bundle is finished by the parsing task which completes last
+                    ParallelParsing parallelParsing = new ParallelParsing(bundle, new ArrayList<>(filteredPaths));
+                    parallelParsings.put(bundle, parallelParsing);
+                    parallelParsing.start();
+                    return;
+                }
                 parseDocuments(bundle, filteredPaths);
             }
         }
@@ -359,6 +376,88 @@ public class XmlDocumentBundleTracker<T> extends BundleTracker<Bundle> {
         }
     }
 
+    /**
+     * Parses the XML documents of a bundle in parallel, one task per document. The task which completes last adds the
+     * parsed objects in the order of the documents and finishes the bundle, so no task waits for another one and the
+     * bounded thread pool cannot be blocked by a bundle with many documents.
+     */
+    private class ParallelParsing {
+
+        private final Bundle bundle;
+        private final List<URL> xmlDocumentURLs;
+        private final List<T> objects;
+        private final boolean[] parsed;
+        private final AtomicInteger remainingDocuments;
+        private final List<Future<?>> futures = new ArrayList<>();
+        private volatile boolean cancelled = false;
+
+        public ParallelParsing(Bundle bundle, List<URL> xmlDocumentURLs) {
+            this.bundle = bundle;
+            this.xmlDocumentURLs = xmlDocumentURLs;
+            this.objects = new ArrayList<>(Collections.nCopies(xmlDocumentURLs.size(), null));
+            this.parsed = new boolean[xmlDocumentURLs.size()];
+            this.remainingDocuments = new AtomicInteger(xmlDocumentURLs.size());
+        }
+
+        public synchronized void start() {
+            for (int i = 0; i < xmlDocumentURLs.size() && !cancelled; i++) {
+                final int index = i;
+                futures.add(scheduler.submit(new Runnable() {
+                    // this should remain an anonymous class and not be converted to a lambda because of
+                    // http://bugs.java.com/view_bug.do?bug_id=8073755
+                    @Override
+                    public void run() {
+                        parse(index);
+                    }
+                }));
+            }
+        }
+
+        public synchronized void cancel() {
+            cancelled = true;
+            for (Future<?> future : futures) {
+                future.cancel(true);
+            }
+        }
+
+        private void parse(int index) {
+            if (cancelled) {
+                return;
+            }
+            String moduleName = bundle.getSymbolicName();
+            String xmlDocumentFile = xmlDocumentURLs.get(index).getFile();
+            logger.debug("Reading the XML document '{}' in module '{}'...", xmlDocumentFile, moduleName);
+            try {
+                objects.set(index, xmlDocumentTypeReader.readFromXML(xmlDocumentURLs.get(index)));
+                parsed[index] = true;
+            } catch (Exception ex) {
+                logger.warn("The XML document '{}' in module '{}' could not be parsed: {}", xmlDocumentFile, moduleName,
+                        ex.getLocalizedMessage(), ex);
+            }
+            // the decrement publishes the result to the task completing last
+            if (remainingDocuments.decrementAndGet() == 0) {
+                complete();
+            }
+        }
+
+        private void complete() {
+            if (cancelled || !parallelParsings.remove(bundle, this)) {
+                return;
+            }
+            int numberOfParsedXmlDocuments = 0;
+            for (int i = 0; i < objects.size(); i++) {
+                if (parsed[i]) {
+                    addingObject(bundle, objects.get(i));
+                    numberOfParsedXmlDocuments++;
+                }
+            }
+            if (numberOfParsedXmlDocuments > 0) {
+                addingFinished(bundle);
+            }
+            finishBundle(bundle);
+        }
+    }
+
     private void registerReadyMarker(Bundle bundle) {
         String bsn = bundle.getSymbolicName();
         if (!bundleReadyMarkerRegistrations.containsKey(bsn)) {
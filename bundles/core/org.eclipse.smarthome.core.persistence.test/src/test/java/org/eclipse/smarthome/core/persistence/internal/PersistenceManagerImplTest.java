@@ -0,0 +1,198 @@
+/**
+ * Copyright (c) 2014,2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.smarthome.core.persistence.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.smarthome.core.items.GroupItem;
+import org.eclipse.smarthome.core.items.Item;
+import org.eclipse.smarthome.core.items.ItemNotFoundException;
+import org.eclipse.smarthome.core.items.ItemRegistry;
+import org.eclipse.smarthome.core.library.items.SwitchItem;
+import org.eclipse.smarthome.core.library.types.OnOffType;
+import org.eclipse.smarthome.core.persistence.PersistenceEntry;
+import org.eclipse.smarthome.core.persistence.PersistenceService;
+import org.eclipse.smarthome.core.persistence.PersistenceServiceConfiguration;
+import org.eclipse.smarthome.core.persistence.SimpleItemConfiguration;
+import org.eclipse.smarthome.core.persistence.config.SimpleConfig;
+import org.eclipse.smarthome.core.persistence.config.SimpleGroupConfig;
+import org.eclipse.smarthome.core.persistence.config.SimpleItemConfig;
+import org.eclipse.smarthome.core.persistence.strategy.SimpleStrategy;
+import org.eclipse.smarthome.core.types.UnDefType;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that the persistence configurations which are cached per item are resolved again when the items, their
+ * groups or the configurations change.
+ *
+ * The entries of a service are stored in the order they were queued, so an item which is not stored is detected by
+ * storing the marker item after it.
+ */
+public class PersistenceManagerImplTest {
+
+    private static final String SERVICE_ID = "test";
+
+    private final RecordingService service = new RecordingService();
+
+    private ItemRegistry itemRegistry;
+    private PersistenceManagerImpl manager;
+    private GroupItem group;
+    private SwitchItem member;
+    private SwitchItem marker;
+
+    @Before
+    public void setup() throws ItemNotFoundException {
+        group = new GroupItem("group");
+        member = new SwitchItem("member");
+        marker = new SwitchItem("marker");
+        group.addMember(member);
+        itemRegistry = mock(ItemRegistry.class);
+        when(itemRegistry.getItem("group")).thenReturn(group);
+
+        manager = new PersistenceManagerImpl();
+        manager.setItemRegistry(itemRegistry);
+        manager.addPersistenceService(service);
+        manager.addConfig(SERVICE_ID, config(new SimpleGroupConfig("group"), new SimpleItemConfig("marker")));
+        manager.added(member);
+        manager.added(marker);
+    }
+
+    @After
+    public void tearDown() {
+        manager.removePersistenceService(service);
+    }
+
+    @Test
+    public void configurationsAreResolvedOnceForAnItem() throws Exception {
+        change(member);
+        change(member);
+
+        assertStored(member);
+        assertStored(member);
+        verify(itemRegistry, times(1)).getItem("group");
+    }
+
+    @Test
+    public void updatedItemIsResolvedAgain() throws Exception {
+        change(member);
+        assertStored(member);
+
+        group.removeMember(member);
+        manager.updated(member, member);
+        change(member);
+        change(marker);
+
+        assertStored(marker);
+    }
+
+    @Test
+    public void updatedGroupInvalidatesAllItems() throws Exception {
+        change(member);
+        assertStored(member);
+
+        group.removeMember(member);
+        manager.updated(group, group);
+        change(member);
+        change(marker);
+
+        assertStored(marker);
+    }
+
+    @Test
+    public void addedItemIsResolvedAgain() throws Exception {
+        SwitchItem added = new SwitchItem("added");
+        change(added);
+        change(marker);
+        assertStored(marker);
+
+        group.addMember(added);
+        manager.added(added);
+        change(added);
+
+        assertStored(added);
+    }
+
+    @Test
+    public void changedConfigurationInvalidatesAllItems() throws Exception {
+        change(member);
+        assertStored(member);
+
+        manager.addConfig(SERVICE_ID, config(new SimpleItemConfig("marker")));
+        change(member);
+        change(marker);
+
+        assertStored(marker);
+    }
+
+    private PersistenceServiceConfiguration config(SimpleConfig... items) {
+        List<SimpleStrategy> strategies = Collections.singletonList(SimpleStrategy.Globals.CHANGE);
+        SimpleItemConfiguration itemConfig = new SimpleItemConfiguration(Arrays.asList(items), null, strategies,
+                Collections.emptyList());
+        return new PersistenceServiceConfiguration(Collections.singletonList(itemConfig), Collections.emptyList(),
+                Collections.emptyList());
+    }
+
+    private void change(Item item) {
+        manager.stateChanged(item, UnDefType.NULL, OnOffType.ON);
+    }
+
+    private void assertStored(Item item) throws InterruptedException {
+        PersistenceEntry entry = service.storedEntries.poll(5, TimeUnit.SECONDS);
+        assertThat(entry, is(notNullValue()));
+        assertThat(entry.getItem(), is(item));
+    }
+
+    private static class RecordingService implements PersistenceService {
+
+        private final BlockingQueue<PersistenceEntry> storedEntries = new LinkedBlockingQueue<>();
+
+        @Override
+        public String getId() {
+            return SERVICE_ID;
+        }
+
+        @Override
+        public String getLabel(Locale locale) {
+            return SERVICE_ID;
+        }
+
+        @Override
+        public void store(Item item) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void store(Item item, String alias) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void store(Collection<PersistenceEntry> entries) {
+            storedEntries.addAll(entries);
+        }
+    }
+
+}
@@ -0,0 +1,326 @@
+/**
+ * Copyright (c) 2014,2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.smarthome.core.persistence.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.smarthome.core.common.Statistics;
+import org.eclipse.smarthome.core.items.Item;
+import org.eclipse.smarthome.core.library.items.SwitchItem;
+import org.eclipse.smarthome.core.library.types.OnOffType;
+import org.eclipse.smarthome.core.persistence.FilterCriteria;
+import org.eclipse.smarthome.core.persistence.HistoricItem;
+import org.eclipse.smarthome.core.persistence.ModifiablePersistenceService;
+import org.eclipse.smarthome.core.persistence.PersistenceEntry;
+import org.eclipse.smarthome.core.persistence.PersistenceItemInfo;
+import org.eclipse.smarthome.core.persistence.PersistenceService;
+import org.eclipse.smarthome.core.types.State;
+import org.junit.Test;
+
+/**
+ * Tests the batching, coalescing and bounding of the {@link PersistenceQueue}.
+ */
+public class PersistenceQueueTest {
+
+    private final List<Runnable> tasks = new ArrayList<>();
+    private final Executor executor = tasks::add;
+    private final BatchRecordingService service = new BatchRecordingService();
+
+    @Test
+    public void entriesAreStoredInBatchesInTheirOrder() {
+        PersistenceQueue queue = new PersistenceQueue(service, executor);
+        List<PersistenceEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            entries.add(entry("item" + i, OnOffType.ON));
+        }
+
+        queue.addAll(entries);
+        assertThat(tasks.size(), is(1));
+        assertThat(service.batches.isEmpty(), is(true));
+        runTasks();
+
+        assertThat(service.batches.size(), is(3));
+        assertThat(service.batches.get(0).size(), is(100));
+        assertThat(service.batches.get(2).size(), is(50));
+        List<PersistenceEntry> stored = new ArrayList<>();
+        service.batches.forEach(stored::addAll);
+        assertThat(stored, is(entries));
+        assertThat(queue.getStatistics().get("stored"), is(250L));
+        assertThat(queue.getStatistics().get("pending"), is(0L));
+    }
+
+    @Test
+    public void entryIsSkippedWhileAnEntryOfTheSameItemAndAliasIsPending() {
+        CurrentStateRecordingService currentStateService = new CurrentStateRecordingService();
+        PersistenceQueue queue = new PersistenceQueue(currentStateService, executor);
+        SwitchItem first = new SwitchItem("first");
+        first.setState(OnOffType.ON);
+
+        queue.addAll(Collections.singletonList(new PersistenceEntry(first, null, OnOffType.ON, new Date())));
+        queue.addAll(Collections.singletonList(entry("second", OnOffType.ON)));
+        queue.addAll(Collections.singletonList(new PersistenceEntry(first, "alias", OnOffType.ON, new Date())));
+        first.setState(OnOffType.OFF);
+        queue.addAll(Collections.singletonList(new PersistenceEntry(first, null, OnOffType.OFF, new Date())));
+        assertThat(tasks.size(), is(1));
+        runTasks();
+
+        assertThat(currentStateService.stored, is(Arrays.asList("first=OFF", "second=NULL", "alias=OFF")));
+        assertThat(queue.getStatistics().get("coalesced"), is(1L));
+
+        queue.addAll(Collections.singletonList(new PersistenceEntry(first, null, OnOffType.OFF, new Date())));
+        runTasks();
+        assertThat(currentStateService.stored.size(), is(4));
+    }
+
+    @Test
+    public void everyEntryOfAnItemIsPassedToAServiceStoringTheEntries() {
+        PersistenceQueue queue = new PersistenceQueue(service, executor);
+        PersistenceEntry first = entry("item", OnOffType.ON);
+        PersistenceEntry second = new PersistenceEntry(first.getItem(), null, OnOffType.OFF, new Date());
+        PersistenceEntry third = new PersistenceEntry(first.getItem(), null, OnOffType.OFF, new Date());
+
+        queue.addAll(Arrays.asList(first, second));
+        queue.addAll(Collections.singletonList(third));
+        runTasks();
+
+        assertThat(service.batches, is(Collections.singletonList(Arrays.asList(first, second, third))));
+        assertThat(queue.getStatistics().get("coalesced"), is(0L));
+    }
+
+    @Test
+    public void oldestEntryIsDroppedWhenTheQueueIsFull() {
+        PersistenceQueue queue = new PersistenceQueue(service, executor);
+        List<PersistenceEntry> entries = new ArrayList<>();
+        for (int i = 0; i <= 10000; i++) {
+            entries.add(entry("item" + i, OnOffType.ON));
+        }
+
+        queue.addAll(entries);
+        Statistics statistics = queue.getStatistics();
+        assertThat(statistics.get("pending"), is(10000L));
+        assertThat(statistics.get("dropped"), is(1L));
+
+        runTasks();
+        assertThat(service.batches.get(0).get(0), is(entries.get(1)));
+    }
+
+    @Test
+    public void failingServiceDoesNotStopTheQueue() {
+        service.failures = 1;
+        PersistenceQueue queue = new PersistenceQueue(service, executor);
+        List<PersistenceEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            entries.add(entry("item" + i, OnOffType.ON));
+        }
+
+        queue.addAll(entries);
+        runTasks();
+
+        assertThat(service.batches.size(), is(1));
+        assertThat(service.batches.get(0).size(), is(50));
+    }
+
+    @Test
+    public void rejectedTaskIsScheduledAgainByTheNextEntries() {
+        List<Runnable> accepted = new ArrayList<>();
+        AtomicBoolean reject = new AtomicBoolean(true);
+        PersistenceQueue queue = new PersistenceQueue(service, task -> {
+            if (reject.get()) {
+                throw new RejectedExecutionException("shut down");
+            }
+            accepted.add(task);
+        });
+
+        queue.addAll(Collections.singletonList(entry("first", OnOffType.ON)));
+        reject.set(false);
+        queue.addAll(Collections.singletonList(entry("second", OnOffType.ON)));
+        assertThat(accepted.size(), is(1));
+
+        tasks.addAll(accepted);
+        runTasks();
+        assertThat(service.batches.get(0).size(), is(2));
+    }
+
+    @Test
+    public void disposedQueueDiscardsItsEntries() {
+        PersistenceQueue queue = new PersistenceQueue(service, executor);
+        queue.addAll(Collections.singletonList(entry("first", OnOffType.ON)));
+
+        queue.dispose();
+        queue.addAll(Collections.singletonList(entry("second", OnOffType.ON)));
+        runTasks();
+
+        assertThat(service.batches.isEmpty(), is(true));
+        assertThat(queue.getStatistics().get("pending"), is(0L));
+    }
+
+    @Test
+    public void modifiableServiceStoresTheStateAndTimestampOfTheEntries() {
+        ModifiableRecordingService modifiableService = new ModifiableRecordingService();
+        PersistenceQueue queue = new PersistenceQueue(modifiableService, executor);
+        SwitchItem item = new SwitchItem("item");
+        item.setState(OnOffType.OFF);
+        Date timestamp = new Date(0);
+
+        queue.addAll(Collections.singletonList(new PersistenceEntry(item, null, OnOffType.ON, timestamp)));
+        queue.addAll(Collections.singletonList(new PersistenceEntry(item, "alias", OnOffType.ON, timestamp)));
+        runTasks();
+
+        assertThat(modifiableService.stored, is(Collections.singletonList("item@0=ON")));
+        assertThat(modifiableService.storedCurrentStates, is(Collections.singletonList("alias=OFF")));
+    }
+
+    @Test
+    public void modifiableServiceStoresEveryStateOfAnItem() {
+        ModifiableRecordingService modifiableService = new ModifiableRecordingService();
+        PersistenceQueue queue = new PersistenceQueue(modifiableService, executor);
+        SwitchItem item = new SwitchItem("item");
+
+        queue.addAll(Collections.singletonList(new PersistenceEntry(item, null, OnOffType.ON, new Date(0))));
+        queue.addAll(Collections.singletonList(new PersistenceEntry(item, null, OnOffType.OFF, new Date(1))));
+        queue.addAll(Collections.singletonList(new PersistenceEntry(item, null, OnOffType.OFF, new Date(2))));
+        runTasks();
+
+        assertThat(modifiableService.stored, is(Arrays.asList("item@0=ON", "item@1=OFF", "item@2=OFF")));
+    }
+
+    private PersistenceEntry entry(String itemName, State state) {
+        return new PersistenceEntry(new SwitchItem(itemName), null, state, new Date());
+    }
+
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+
+    private static class BatchRecordingService implements PersistenceService {
+
+        private final List<List<PersistenceEntry>> batches = new ArrayList<>();
+        private int failures;
+
+        @Override
+        public String getId() {
+            return "batch";
+        }
+
+        @Override
+        public String getLabel(Locale locale) {
+            return "Batch";
+        }
+
+        @Override
+        public void store(Item item) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void store(Item item, String alias) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void store(Collection<PersistenceEntry> entries) {
+            if (failures > 0) {
+                failures--;
+                throw new IllegalStateException("failed");
+            }
+            batches.add(new ArrayList<>(entries));
+        }
+    }
+
+    private static class CurrentStateRecordingService implements PersistenceService {
+
+        private final List<String> stored = new ArrayList<>();
+
+        @Override
+        public String getId() {
+            return "currentState";
+        }
+
+        @Override
+        public String getLabel(Locale locale) {
+            return "Current state";
+        }
+
+        @Override
+        public void store(Item item) {
+            stored.add(item.getName() + "=" + item.getState());
+        }
+
+        @Override
+        public void store(Item item, String alias) {
+            stored.add(alias + "=" + item.getState());
+        }
+    }
+
+    private static class ModifiableRecordingService implements ModifiablePersistenceService {
+
+        private final List<String> stored = new ArrayList<>();
+        private final List<String> storedCurrentStates = new ArrayList<>();
+
+        @Override
+        public String getId() {
+            return "modifiable";
+        }
+
+        @Override
+        public String getLabel(Locale locale) {
+            return "Modifiable";
+        }
+
+        @Override
+        public void store(Item item) {
+            storedCurrentStates.add(item.getName() + "=" + item.getState());
+        }
+
+        @Override
+        public void store(Item item, String alias) {
+            storedCurrentStates.add(alias + "=" + item.getState());
+        }
+
+        @Override
+        public void store(Item item, Date date, State state) {
+            stored.add(item.getName() + "@" + date.getTime() + "=" + state);
+        }
+
+        @Override
+        public Iterable<HistoricItem> query(FilterCriteria filter) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public Set<PersistenceItemInfo> getItemInfo() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public boolean remove(FilterCriteria filter) {
+            return false;
+        }
+    }
+
+}
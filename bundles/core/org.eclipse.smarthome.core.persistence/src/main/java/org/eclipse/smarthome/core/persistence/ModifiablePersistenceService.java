@@ -12,6 +12,7 @@
  */
 package org.eclipse.smarthome.core.persistence;
 
+import java.util.Collection;
 import java.util.Date;
 
 import org.eclipse.jdt.annotation.NonNull;
@@ -46,6 +47,29 @@ public interface ModifiablePersistenceService extends QueryablePersistenceServic
      */
     void store(@NonNull Item item, @NonNull Date date, @NonNull State state);
 
+    /**
+     * Stores a batch of entries.
+     * <p>
+     * The default implementation stores the state and timestamp of each entry by calling
+     * {@link #store(Item, Date, State)}, so the values are recorded as they were when the entries were created and
+     * not as they are when the batch is stored. Entries with an alias or without a state or timestamp are stored by
+     * the methods of {@link PersistenceService}.
+     *
+     * @param entries the entries which should be persisted.
+     */
+    @Override
+    default void store(@NonNull Collection<PersistenceEntry> entries) {
+        for (PersistenceEntry entry : entries) {
+            if (entry.getAlias() == null && entry.getState() != null && entry.getTimestamp() != null) {
+                store(entry.getItem(), entry.getTimestamp(), entry.getState());
+            } else if (entry.getAlias() != null) {
+                store(entry.getItem(), entry.getAlias());
+            } else {
+                store(entry.getItem());
+            }
+        }
+    }
+
     /**
      * Removes data associated with an item from a persistence service.
      * If all data is removed for the specified item, the persistence service should free any resources associated with
@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2014,2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.smarthome.core.persistence;
+
+import java.util.Date;
+
+import org.eclipse.smarthome.core.items.Item;
+import org.eclipse.smarthome.core.types.State;
+
+/**
+ * A {@link PersistenceEntry} holds the state of an item at a certain time which should be stored by a
+ * {@link PersistenceService}.
+ */
+public class PersistenceEntry {
+
+    private final Item item;
+
+    private final String alias;
+
+    private final State state;
+
+    private final Date timestamp;
+
+    /**
+     * Creates a new entry.
+     *
+     * @param item the item which state should be persisted
+     * @param alias the alias under which the item should be persisted, may be null
+     * @param state the state of the item
+     * @param timestamp the time the item had this state
+     */
+    public PersistenceEntry(Item item, String alias, State state, Date timestamp) {
+        this.item = item;
+        this.alias = alias;
+        this.state = state;
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * Gets the item which state should be persisted.
+     *
+     * @return the item
+     */
+    public Item getItem() {
+        return item;
+    }
+
+    /**
+     * Gets the alias under which the item should be persisted.
+     *
+     * @return the alias, may be null
+     */
+    public String getAlias() {
+        return alias;
+    }
+
+    /**
+     * Gets the state of the item.
+     *
+     * @return the state
+     */
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * Gets the time the item had the state.
+     *
+     * @return the timestamp
+     */
+    public Date getTimestamp() {
+        return timestamp;
+    }
+
+}
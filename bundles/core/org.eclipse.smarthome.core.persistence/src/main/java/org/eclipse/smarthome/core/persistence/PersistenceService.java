@@ -12,6 +12,7 @@
  */
 package org.eclipse.smarthome.core.persistence;
 
+import java.util.Collection;
 import java.util.Locale;
 
 import org.eclipse.jdt.annotation.NonNull;
@@ -71,4 +72,24 @@ public interface PersistenceService {
      * @param alias the alias under which the item should be persisted.
      */
     void store(@NonNull Item item, @NonNull String alias);
+
+    /**
+     * Stores a batch of entries.
+     * <p>
+     * The persistence manager calls this method from its own threads, one batch after another per service. The default
+     * implementation stores the current value of the item of each entry by calling {@link #store(Item)} or
+     * {@link #store(Item, String)}. Services which can write several values at once or which want to use the state and
+     * timestamp of the entries should override it.
+     *
+     * @param entries the entries which should be persisted.
+     */
+    default void store(@NonNull Collection<PersistenceEntry> entries) {
+        for (PersistenceEntry entry : entries) {
+            if (entry.getAlias() != null) {
+                store(entry.getItem(), entry.getAlias());
+            } else {
+                store(entry.getItem());
+            }
+        }
+    }
 }
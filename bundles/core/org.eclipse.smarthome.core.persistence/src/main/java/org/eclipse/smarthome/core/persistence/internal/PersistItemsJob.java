@@ -12,10 +12,12 @@
  */
 package org.eclipse.smarthome.core.persistence.internal;
 
+import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 
 import org.eclipse.smarthome.core.items.Item;
+import org.eclipse.smarthome.core.persistence.PersistenceEntry;
 import org.eclipse.smarthome.core.persistence.PersistenceService;
 import org.eclipse.smarthome.core.persistence.PersistenceServiceConfiguration;
 import org.eclipse.smarthome.core.persistence.SimpleItemConfiguration;
@@ -50,17 +52,18 @@ public class PersistItemsJob implements Runnable {
             final PersistenceServiceConfiguration config = manager.persistenceServiceConfigs.get(dbId);
 
             if (persistenceService != null) {
+                final Date timestamp = new Date();
+                final List<PersistenceEntry> entries = new ArrayList<>();
                 for (SimpleItemConfiguration itemConfig : config.getConfigs()) {
                     if (hasStrategy(config.getDefaults(), itemConfig, strategyName)) {
                         for (Item item : manager.getAllItems(itemConfig)) {
-                            long startTime = System.nanoTime();
-                            persistenceService.store(item, itemConfig.getAlias());
-                            logger.trace("Storing item '{}' with persistence service '{}' took {}ms", item.getName(),
-                                    dbId, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+                            entries.add(new PersistenceEntry(item, itemConfig.getAlias(), item.getState(), timestamp));
                         }
                     }
 
                 }
+                logger.trace("Queueing {} items for persistence service '{}'", entries.size(), dbId);
+                manager.store(dbId, entries);
             }
         }
     }
@@ -14,7 +14,9 @@ package org.eclipse.smarthome.core.persistence.internal;
 
 import java.text.DateFormat;
 import java.text.ParseException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -22,7 +24,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.eclipse.smarthome.core.common.Statistics;
+import org.eclipse.smarthome.core.common.StatisticsProvider;
+import org.eclipse.smarthome.core.common.ThreadPoolManager;
 import org.eclipse.smarthome.core.items.GenericItem;
 import org.eclipse.smarthome.core.items.GroupItem;
 import org.eclipse.smarthome.core.items.Item;
@@ -32,6 +38,7 @@ import org.eclipse.smarthome.core.items.ItemRegistryChangeListener;
 import org.eclipse.smarthome.core.items.StateChangeListener;
 import org.eclipse.smarthome.core.persistence.FilterCriteria;
 import org.eclipse.smarthome.core.persistence.HistoricItem;
+import org.eclipse.smarthome.core.persistence.PersistenceEntry;
 import org.eclipse.smarthome.core.persistence.PersistenceManager;
 import org.eclipse.smarthome.core.persistence.PersistenceService;
 import org.eclipse.smarthome.core.persistence.PersistenceServiceConfiguration;
@@ -58,11 +65,18 @@ import org.slf4j.LoggerFactory;
 /**
  * This class implements a persistence manager to manage all persistence services etc.
  *
+ * The item states are not stored on the thread that changed them, they are queued per persistence service and stored
+ * in batches by a thread pool. The configurations which apply to an item are resolved on its first state event and
+ * cached until the item, its groups or the configurations change.
+ *
  * @author Kai Kreuzer - Initial contribution and API
  * @author Markus Rathgeb - Separation of persistence core and model, drop Quartz usage.
  */
-@Component(service = PersistenceManager.class, immediate = true)
-public class PersistenceManagerImpl implements PersistenceManager, ItemRegistryChangeListener, StateChangeListener {
+@Component(service = { PersistenceManager.class, StatisticsProvider.class }, immediate = true)
+public class PersistenceManagerImpl implements PersistenceManager, ItemRegistryChangeListener, StateChangeListener,
+        StatisticsProvider {
+
+    private static final String THREAD_POOL_NAME = "persistence";
 
     private final Logger logger = LoggerFactory.getLogger(PersistenceManagerImpl.class);
 
@@ -74,6 +88,9 @@ public class PersistenceManagerImpl implements PersistenceManager, ItemRegistryC
     final Map<String, PersistenceService> persistenceServices = new HashMap<>();
     final Map<String, PersistenceServiceConfiguration> persistenceServiceConfigs = new HashMap<>();
     private final Map<String, Set<Runnable>> persistenceJobs = new HashMap<>();
+    private final Map<String, PersistenceQueue> persistenceQueues = new ConcurrentHashMap<>();
+    // modified while holding the lock of persistenceServiceConfigs
+    private final Map<String, List<PersistenceTarget>> persistenceTargets = new ConcurrentHashMap<>();
 
     public PersistenceManagerImpl() {
     }
@@ -103,6 +120,11 @@ public class PersistenceManagerImpl implements PersistenceManager, ItemRegistryC
     protected void addPersistenceService(PersistenceService persistenceService) {
         logger.debug("Initializing {} persistence service.", persistenceService.getId());
         persistenceServices.put(persistenceService.getId(), persistenceService);
+        PersistenceQueue oldQueue = persistenceQueues.put(persistenceService.getId(),
+                new PersistenceQueue(persistenceService, ThreadPoolManager.getPool(THREAD_POOL_NAME)));
+        if (oldQueue != null) {
+            oldQueue.dispose();
+        }
         stopEventHandling(persistenceService.getId());
         startEventHandling(persistenceService.getId());
     }
@@ -110,31 +132,100 @@ public class PersistenceManagerImpl implements PersistenceManager, ItemRegistryC
     protected void removePersistenceService(PersistenceService persistenceService) {
         stopEventHandling(persistenceService.getId());
         persistenceServices.remove(persistenceService.getId());
+        PersistenceQueue queue = persistenceQueues.remove(persistenceService.getId());
+        if (queue != null) {
+            queue.dispose();
+        }
     }
 
     /**
      * Calls all persistence services which use change or update policy for the given item
      *
      * @param item the item to persist
+     * @param state the new state of the item
      * @param onlyChanges true, if it has the change strategy, false otherwise
      */
-    private void handleStateEvent(Item item, boolean onlyChanges) {
-        synchronized (persistenceServiceConfigs) {
-            for (Entry<String, PersistenceServiceConfiguration> entry : persistenceServiceConfigs.entrySet()) {
-                final String serviceName = entry.getKey();
-                final PersistenceServiceConfiguration config = entry.getValue();
-                if (persistenceServices.containsKey(serviceName)) {
-                    for (SimpleItemConfiguration itemConfig : config.getConfigs()) {
-                        if (hasStrategy(serviceName, itemConfig,
-                                onlyChanges ? SimpleStrategy.Globals.CHANGE : SimpleStrategy.Globals.UPDATE)) {
-                            if (appliesToItem(itemConfig, item)) {
-                                persistenceServices.get(serviceName).store(item, itemConfig.getAlias());
-                            }
+    private void handleStateEvent(Item item, State state, boolean onlyChanges) {
+        List<PersistenceTarget> targets = getPersistenceTargets(item);
+        if (targets.isEmpty()) {
+            return;
+        }
+        final Date timestamp = new Date();
+        String serviceName = null;
+        List<PersistenceEntry> entries = new ArrayList<>(1);
+        // the targets are ordered by service, so the entries of a service are queued at once
+        for (PersistenceTarget target : targets) {
+            if (onlyChanges ? !target.onChange : !target.onUpdate) {
+                continue;
+            }
+            if (serviceName != null && !serviceName.equals(target.serviceName)) {
+                store(serviceName, entries);
+                entries = new ArrayList<>(1);
+            }
+            serviceName = target.serviceName;
+            entries.add(new PersistenceEntry(item, target.alias, state, timestamp));
+        }
+        if (serviceName != null) {
+            store(serviceName, entries);
+        }
+    }
+
+    /**
+     * Gets the configuration entries which store the given item on changes or updates.
+     *
+     * @param item the item
+     * @return the resolved configuration entries, ordered by service
+     */
+    private List<PersistenceTarget> getPersistenceTargets(Item item) {
+        List<PersistenceTarget> targets = persistenceTargets.get(item.getName());
+        if (targets == null) {
+            synchronized (persistenceServiceConfigs) {
+                targets = new ArrayList<>();
+                for (Entry<String, PersistenceServiceConfiguration> entry : persistenceServiceConfigs.entrySet()) {
+                    final String serviceName = entry.getKey();
+                    for (SimpleItemConfiguration itemConfig : entry.getValue().getConfigs()) {
+                        boolean onChange = hasStrategy(serviceName, itemConfig, SimpleStrategy.Globals.CHANGE);
+                        boolean onUpdate = hasStrategy(serviceName, itemConfig, SimpleStrategy.Globals.UPDATE);
+                        if ((onChange || onUpdate) && appliesToItem(itemConfig, item)) {
+                            targets.add(new PersistenceTarget(serviceName, itemConfig.getAlias(), onChange, onUpdate));
                         }
                     }
                 }
+                persistenceTargets.put(item.getName(), targets);
             }
         }
+        return targets;
+    }
+
+    /**
+     * Removes the resolved configuration entries of the given item or of all items, if the item is a group.
+     *
+     * @param item the item which has been added, changed or removed
+     */
+    private void invalidatePersistenceTargets(Item item) {
+        synchronized (persistenceServiceConfigs) {
+            if (item instanceof GroupItem) {
+                persistenceTargets.clear();
+            } else {
+                persistenceTargets.remove(item.getName());
+            }
+        }
+    }
+
+    /**
+     * Queues entries to be stored asynchronously by the given persistence service.
+     *
+     * @param serviceName the id of the persistence service
+     * @param entries the entries to store
+     */
+    void store(String serviceName, Collection<PersistenceEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        PersistenceQueue queue = persistenceQueues.get(serviceName);
+        if (queue != null) {
+            queue.addAll(entries);
+        }
     }
 
     /**
@@ -340,6 +431,20 @@ public class PersistenceManagerImpl implements PersistenceManager, ItemRegistryC
         persistenceJobs.remove(persistModelName);
     }
 
+    @Override
+    public String getStatisticsCategory() {
+        return "persistence";
+    }
+
+    @Override
+    public List<Statistics> getStatistics() {
+        List<Statistics> statistics = new ArrayList<>();
+        for (PersistenceQueue queue : persistenceQueues.values()) {
+            statistics.add(queue.getStatistics());
+        }
+        return statistics;
+    }
+
     /*
      * PersistenceManager
      */
@@ -348,6 +453,7 @@ public class PersistenceManagerImpl implements PersistenceManager, ItemRegistryC
     public void addConfig(final String dbId, final PersistenceServiceConfiguration config) {
         synchronized (persistenceServiceConfigs) {
             this.persistenceServiceConfigs.put(dbId, config);
+            persistenceTargets.clear();
             if (itemRegistry != null && persistenceServices.containsKey(dbId)) {
                 startEventHandling(dbId);
             }
@@ -359,6 +465,7 @@ public class PersistenceManagerImpl implements PersistenceManager, ItemRegistryC
         synchronized (persistenceServiceConfigs) {
             stopEventHandling(dbId);
             this.persistenceServiceConfigs.remove(dbId);
+            persistenceTargets.clear();
         }
     }
 
@@ -396,6 +503,9 @@ public class PersistenceManagerImpl implements PersistenceManager, ItemRegistryC
 
     @Override
     public void allItemsChanged(Collection<String> oldItemNames) {
+        synchronized (persistenceServiceConfigs) {
+            persistenceTargets.clear();
+        }
         for (Item item : itemRegistry.getItems()) {
             added(item);
         }
@@ -403,6 +513,7 @@ public class PersistenceManagerImpl implements PersistenceManager, ItemRegistryC
 
     @Override
     public void added(Item item) {
+        invalidatePersistenceTargets(item);
         initialize(item);
         if (item instanceof GenericItem) {
             GenericItem genericItem = (GenericItem) item;
@@ -412,6 +523,7 @@ public class PersistenceManagerImpl implements PersistenceManager, ItemRegistryC
 
     @Override
     public void removed(Item item) {
+        invalidatePersistenceTargets(item);
         if (item instanceof GenericItem) {
             GenericItem genericItem = (GenericItem) item;
             genericItem.removeStateChangeListener(this);
@@ -420,7 +532,9 @@ public class PersistenceManagerImpl implements PersistenceManager, ItemRegistryC
 
     @Override
     public void updated(Item oldItem, Item item) {
-        // not needed here
+        // the groups of the item may have changed
+        invalidatePersistenceTargets(oldItem);
+        invalidatePersistenceTargets(item);
     }
 
     /*
@@ -429,12 +543,29 @@ public class PersistenceManagerImpl implements PersistenceManager, ItemRegistryC
 
     @Override
     public void stateChanged(Item item, State oldState, State newState) {
-        handleStateEvent(item, true);
+        handleStateEvent(item, newState, true);
     }
 
     @Override
     public void stateUpdated(Item item, State state) {
-        handleStateEvent(item, false);
+        handleStateEvent(item, state, false);
+    }
+
+    /**
+     * A configuration entry of a persistence service which applies to an item.
+     */
+    private static class PersistenceTarget {
+        private final String serviceName;
+        private final String alias;
+        private final boolean onChange;
+        private final boolean onUpdate;
+
+        PersistenceTarget(String serviceName, String alias, boolean onChange, boolean onUpdate) {
+            this.serviceName = serviceName;
+            this.alias = alias;
+            this.onChange = onChange;
+            this.onUpdate = onUpdate;
+        }
     }
 
 }
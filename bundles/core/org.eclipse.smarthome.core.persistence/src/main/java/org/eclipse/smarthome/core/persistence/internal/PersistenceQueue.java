@@ -0,0 +1,210 @@
+/**
+ * Copyright (c) 2014,2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.smarthome.core.persistence.internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.smarthome.core.common.Statistics;
+import org.eclipse.smarthome.core.persistence.ModifiablePersistenceService;
+import org.eclipse.smarthome.core.persistence.PersistenceEntry;
+import org.eclipse.smarthome.core.persistence.PersistenceService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Queues the entries to be stored by a single {@link PersistenceService} and stores them in batches by a task of the
+ * given executor, so a slow service does not delay the propagation of item states.
+ *
+ * If the service stores the current state of the items, i.e. it does not override
+ * {@link PersistenceService#store(Collection)}, an entry is skipped while an entry of the same item and alias is
+ * pending, as both would store the same state. All other services, such as a {@link ModifiablePersistenceService}
+ * which stores the state and timestamp of the entries, receive every entry. The queue is bounded: if it is full, the
+ * oldest entry is dropped.
+ */
+class PersistenceQueue {
+
+    /** Maximum number of entries which are queued for a service. */
+    private static final int MAX_PENDING_ENTRIES = 10000;
+
+    /** Maximum number of entries which are passed to the service at once. */
+    private static final int MAX_BATCH_SIZE = 100;
+
+    private final Logger logger = LoggerFactory.getLogger(PersistenceQueue.class);
+
+    private final PersistenceService service;
+
+    private final Executor executor;
+
+    // guarded by itself
+    private final Deque<PersistenceEntry> pendingEntries = new ArrayDeque<>();
+
+    // the item names and aliases of the pending entries if entries are coalesced, guarded by pendingEntries
+    private final Set<String> pendingKeys;
+
+    // guarded by pendingEntries
+    private boolean scheduled = false;
+
+    private boolean disposed = false;
+
+    private long storedEntries;
+
+    private long coalescedEntries;
+
+    private long droppedEntries;
+
+    PersistenceQueue(PersistenceService service, Executor executor) {
+        this.service = service;
+        this.executor = executor;
+        this.pendingKeys = storesCurrentStates(service) ? new HashSet<>() : null;
+    }
+
+    /**
+     * Adds entries to the queue, they will be stored asynchronously.
+     *
+     * @param entries the entries to store
+     */
+    void addAll(Collection<PersistenceEntry> entries) {
+        synchronized (pendingEntries) {
+            if (disposed) {
+                return;
+            }
+            for (PersistenceEntry entry : entries) {
+                if (pendingKeys != null && !pendingKeys.add(getKey(entry))) {
+                    // the pending entry will store the then current state of the item
+                    coalescedEntries++;
+                    continue;
+                }
+                if (pendingEntries.size() >= MAX_PENDING_ENTRIES) {
+                    removePendingKey(pendingEntries.removeFirst());
+                    droppedEntries++;
+                    if (droppedEntries == 1 || droppedEntries % 1000 == 0) {
+                        logger.warn("Persistence service '{}' does not keep up, dropped {} entries so far.",
+                                service.getId(), droppedEntries);
+                    }
+                }
+                pendingEntries.addLast(entry);
+            }
+            if (scheduled || pendingEntries.isEmpty()) {
+                return;
+            }
+            scheduled = true;
+        }
+        schedule();
+    }
+
+    /**
+     * Gets a snapshot of the statistics of this queue.
+     *
+     * @return the statistics
+     */
+    Statistics getStatistics() {
+        synchronized (pendingEntries) {
+            PersistenceEntry oldestEntry = pendingEntries.peekFirst();
+            long lag = oldestEntry != null ? System.currentTimeMillis() - oldestEntry.getTimestamp().getTime() : 0;
+            return Statistics.builder(service.getId()).count("pending", pendingEntries.size())
+                    .count("stored", storedEntries).count("coalesced", coalescedEntries)
+                    .count("dropped", droppedEntries).time("lag", Math.max(lag, 0)).build();
+        }
+    }
+
+    /**
+     * Discards the pending entries and stops accepting new ones.
+     */
+    void dispose() {
+        synchronized (pendingEntries) {
+            disposed = true;
+            if (!pendingEntries.isEmpty()) {
+                logger.debug("Discarding {} entries of removed persistence service '{}'.", pendingEntries.size(),
+                        service.getId());
+                pendingEntries.clear();
+                if (pendingKeys != null) {
+                    pendingKeys.clear();
+                }
+            }
+        }
+    }
+
+    private void schedule() {
+        try {
+            executor.execute(this::storePendingEntries);
+        } catch (RejectedExecutionException e) {
+            synchronized (pendingEntries) {
+                scheduled = false;
+            }
+            logger.debug("Cannot store entries with persistence service '{}': {}", service.getId(), e.getMessage());
+        }
+    }
+
+    private void storePendingEntries() {
+        List<PersistenceEntry> batch;
+        synchronized (pendingEntries) {
+            if (pendingEntries.isEmpty()) {
+                scheduled = false;
+                return;
+            }
+            batch = new ArrayList<>(Math.min(pendingEntries.size(), MAX_BATCH_SIZE));
+            while (!pendingEntries.isEmpty() && batch.size() < MAX_BATCH_SIZE) {
+                PersistenceEntry entry = pendingEntries.removeFirst();
+                removePendingKey(entry);
+                batch.add(entry);
+            }
+        }
+        long startTime = System.nanoTime();
+        try {
+            service.store(batch);
+        } catch (RuntimeException e) {
+            logger.warn("Persistence service '{}' failed to store {} entries: {}", service.getId(), batch.size(),
+                    e.getMessage(), e);
+        }
+        logger.trace("Storing {} entries with persistence service '{}' took {}ms", batch.size(), service.getId(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+        synchronized (pendingEntries) {
+            storedEntries += batch.size();
+        }
+        // hand the thread to the queues of other services before storing the next batch
+        schedule();
+    }
+
+    private void removePendingKey(PersistenceEntry entry) {
+        if (pendingKeys != null) {
+            pendingKeys.remove(getKey(entry));
+        }
+    }
+
+    private static String getKey(PersistenceEntry entry) {
+        return entry.getItem().getName() + "|" + entry.getAlias();
+    }
+
+    /**
+     * Checks whether the given service uses the default implementation of {@link PersistenceService#store(Collection)},
+     * which stores the current state of the items instead of the states of the entries.
+     */
+    private static boolean storesCurrentStates(PersistenceService service) {
+        try {
+            return service.getClass().getMethod("store", Collection.class)
+                    .getDeclaringClass() == PersistenceService.class;
+        } catch (NoSuchMethodException | SecurityException e) {
+            return false;
+        }
+    }
+
+}
@@ -180,6 +180,20 @@ class ItemRegistryOSGiTest extends OSGiTest {
         assertThat itemRegistry.getItems().size(), is(0)
     }
 
+    @Test
+    void 'assert getItemsByTag returns no item for a null tag'() {
+
+        registerService itemProvider
+
+        assertThat itemRegistry.getItemsByTag((String) null).size(), is(0)
+        assertThat itemRegistry.getItemsByTag(null, CAMERA_TAG).size(), is(0)
+        assertThat itemRegistry.getItemsByTag(CAMERA_TAG, null).size(), is(0)
+
+        unregisterService itemProvider
+
+        assertThat itemRegistry.getItems().size(), is(0)
+    }
+
     @Test
     void 'assert getItemsByTag can filter by class and tag'() {
 
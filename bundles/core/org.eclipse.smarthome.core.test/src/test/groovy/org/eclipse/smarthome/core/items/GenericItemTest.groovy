@@ -15,11 +15,15 @@ package org.eclipse.smarthome.core.items
 import static org.hamcrest.CoreMatchers.*
 import static org.junit.Assert.*
 
+import java.util.concurrent.atomic.AtomicLong
+
 import org.eclipse.smarthome.core.events.Event
 import org.eclipse.smarthome.core.events.EventPublisher
 import org.eclipse.smarthome.core.items.events.ItemEventFactory
 import org.eclipse.smarthome.core.items.events.ItemStateChangedEvent
 import org.eclipse.smarthome.core.items.events.ItemStateEvent
+import org.eclipse.smarthome.core.library.items.SwitchItem
+import org.eclipse.smarthome.core.library.types.ArithmeticGroupFunction
 import org.eclipse.smarthome.core.library.types.OnOffType
 import org.eclipse.smarthome.core.library.types.PercentType
 import org.eclipse.smarthome.core.library.types.RawType
@@ -124,5 +128,57 @@ class GenericItemTest {
         assertThat item.getStateAs(null), is(nullValue())
     }
 
+    @Test
+    void 'assert that the state change counter is only incremented on changes'() {
+        def item = new TestItem("member1")
+        def counter = new AtomicLong()
+        item.setStateChangeCounter(counter)
+
+        item.setState(OnOffType.ON)
+        assertThat counter.get(), is(1L)
+
+        item.setState(OnOffType.ON)
+        assertThat counter.get(), is(1L)
+
+        item.setState(OnOffType.OFF)
+        assertThat counter.get(), is(2L)
+
+        item.setStateChangeCounter(null)
+        item.setState(OnOffType.ON)
+        assertThat counter.get(), is(2L)
+    }
+
+    @Test
+    void 'assert that the state change counter is incremented on group state changes'() {
+        def group = new GroupItem("group")
+        def counter = new AtomicLong()
+        group.setStateChangeCounter(counter)
+
+        group.setState(OnOffType.ON)
+        assertThat counter.get(), is(1L)
+
+        group.setState(OnOffType.ON)
+        assertThat counter.get(), is(1L)
+    }
+
+    @Test
+    void 'assert that the state change counter is incremented when a group state is calculated'() {
+        def group = new GroupItem("group", new SwitchItem("base"), new ArithmeticGroupFunction.Or(OnOffType.ON, OnOffType.OFF))
+        def member = new SwitchItem("member")
+        group.addMember(member)
+        def counter = new AtomicLong()
+        group.setStateChangeCounter(counter)
+        member.setStateChangeCounter(counter)
+
+        // the member and then the group, which is notified asynchronously, change their state
+        member.setState(OnOffType.ON)
+        def timeout = System.currentTimeMillis() + 5000
+        while (counter.get() < 2 && System.currentTimeMillis() < timeout) {
+            Thread.sleep(10)
+        }
+        assertThat group.getState(), is(OnOffType.ON)
+        assertThat counter.get(), is(2L)
+    }
+
 
 }
@@ -0,0 +1,72 @@
+/**
+ * Copyright (c) 2014,2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.smarthome.core.cache;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test class for the {@link LRUCache} class.
+ */
+public class LRUCacheTest {
+
+    private static final String FIRST_TEST_KEY = "FIRST_TEST_KEY";
+    private static final String SECOND_TEST_KEY = "SECOND_TEST_KEY";
+    private static final String THIRD_TEST_KEY = "THIRD_TEST_KEY";
+
+    private LRUCache<String, String> subject;
+
+    @Before
+    public void setUp() {
+        subject = new LRUCache<>(2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorIllegalArgumentException() throws IllegalArgumentException {
+        new LRUCache<String, String>(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPutIllegalArgumentException() throws IllegalArgumentException {
+        subject.put(FIRST_TEST_KEY, null);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedValueIsEvicted() {
+        subject.put(FIRST_TEST_KEY, FIRST_TEST_KEY);
+        subject.put(SECOND_TEST_KEY, SECOND_TEST_KEY);
+        subject.get(FIRST_TEST_KEY);
+        subject.put(THIRD_TEST_KEY, THIRD_TEST_KEY);
+
+        assertEquals(2, subject.size());
+        assertEquals(FIRST_TEST_KEY, subject.get(FIRST_TEST_KEY));
+        assertNull(subject.get(SECOND_TEST_KEY));
+        assertEquals(THIRD_TEST_KEY, subject.get(THIRD_TEST_KEY));
+    }
+
+    @Test
+    public void testRemoveAndClear() {
+        subject.put(FIRST_TEST_KEY, FIRST_TEST_KEY);
+        subject.put(SECOND_TEST_KEY, SECOND_TEST_KEY);
+
+        subject.remove(FIRST_TEST_KEY);
+        assertNull(subject.get(FIRST_TEST_KEY));
+        assertEquals(SECOND_TEST_KEY, subject.get(SECOND_TEST_KEY));
+
+        subject.clear();
+        assertEquals(0, subject.size());
+    }
+
+}
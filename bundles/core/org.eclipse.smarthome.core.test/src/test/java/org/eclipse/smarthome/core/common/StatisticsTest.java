@@ -0,0 +1,60 @@
+/**
+ * Copyright (c) 2014,2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.smarthome.core.common;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link Statistics}.
+ */
+public class StatisticsTest {
+
+    @Test
+    public void testValuesAreListedInOrderOfAddition() {
+        Statistics statistics = Statistics.builder("subscriber").count("queued", 3).count("dropped", 1)
+                .average("avgLatency", 10, 4).time("maxLatency", 7).build();
+
+        assertThat(statistics.getName(), is("subscriber"));
+        assertThat(new ArrayList<>(statistics.getValues().keySet()),
+                is(Arrays.asList("queued", "dropped", "avgLatency", "maxLatency")));
+        assertThat(statistics.get("avgLatency"), is(2L));
+        assertThat(statistics.toString(), is("subscriber: queued=3, dropped=1, avgLatency=2ms, maxLatency=7ms"));
+    }
+
+    @Test
+    public void testAverageOfNoValuesIsZero() {
+        assertThat(Statistics.builder("rule").average("avgTime", 0, 0).build().get("avgTime"), is(0L));
+    }
+
+    @Test
+    public void testSnapshotIsNotChangedByTheBuilder() {
+        Statistics.Builder builder = Statistics.builder("queue").count("pending", 1);
+        Statistics statistics = builder.build();
+        builder.count("pending", 2).count("stored", 5);
+
+        assertThat(statistics.get("pending"), is(1L));
+        assertThat(statistics.getValues().size(), is(1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownValueIsRejected() {
+        Statistics.builder("queue").count("pending", 1).build().get("stored");
+    }
+
+}
@@ -0,0 +1,156 @@
+/**
+ * Copyright (c) 2014,2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.smarthome.core.common.registry;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link SecondaryIndex} class and its maintenance by the {@link AbstractRegistry}.
+ */
+public class SecondaryIndexTest {
+
+    private static class Element implements Identifiable<String> {
+        private final String uid;
+        private final List<String> tags;
+
+        Element(String uid, String... tags) {
+            this.uid = uid;
+            this.tags = Collections.unmodifiableList(Arrays.asList(tags));
+        }
+
+        @Override
+        public String getUID() {
+            return uid;
+        }
+
+        List<String> getTags() {
+            return tags;
+        }
+    }
+
+    private static class ElementProvider implements Provider<Element> {
+        @Override
+        public void addProviderChangeListener(ProviderChangeListener<Element> listener) {
+        }
+
+        @Override
+        public Collection<Element> getAll() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public void removeProviderChangeListener(ProviderChangeListener<Element> listener) {
+        }
+    }
+
+    private static class ElementRegistry extends AbstractRegistry<Element, String, ElementProvider> {
+        final SecondaryIndex<String, Element, String> tagIndex = createSecondaryIndex(Element::getTags);
+
+        ElementRegistry() {
+            super(null);
+        }
+    }
+
+    private final ElementProvider provider = new ElementProvider();
+    private ElementRegistry registry;
+
+    @Before
+    public void setup() {
+        registry = new ElementRegistry();
+        registry.addProvider(provider);
+    }
+
+    @Test
+    public void testIndexFollowsAddUpdateAndRemove() {
+        Element element = new Element("e1", "a", "b");
+        registry.added(provider, element);
+        assertThat(registry.tagIndex.get("a"), hasItem(element));
+        assertThat(registry.tagIndex.get("b"), hasItem(element));
+
+        Element updated = new Element("e1", "b", "c");
+        registry.updated(provider, element, updated);
+        assertThat(registry.tagIndex.get("a").isEmpty(), is(true));
+        assertThat(registry.tagIndex.get("b"), hasItem(updated));
+        assertThat(registry.tagIndex.get("b").size(), is(1));
+        assertThat(registry.tagIndex.get("c"), hasItem(updated));
+        assertThat(registry.get("e1"), is(sameInstance(updated)));
+
+        registry.removed(provider, updated);
+        assertThat(registry.tagIndex.get("b").isEmpty(), is(true));
+        assertThat(registry.tagIndex.get("c").isEmpty(), is(true));
+        assertThat(registry.get("e1"), is(nullValue()));
+    }
+
+    @Test
+    public void testIndexCreatedLaterContainsExistingElements() {
+        Element element = new Element("e1", "a");
+        registry.added(provider, element);
+
+        SecondaryIndex<String, Element, String> index = registry.createSecondaryIndex(Element::getTags);
+        assertThat(index.get("a"), hasItem(element));
+    }
+
+    @Test
+    public void testElementWithoutKeysIsNotIndexed() {
+        Element element = new Element("e1", "a");
+        registry.added(provider, element);
+        registry.updated(provider, element, new Element("e1"));
+
+        assertThat(registry.tagIndex.get("a").isEmpty(), is(true));
+        assertThat(registry.get("e1"), is(notNullValue()));
+    }
+
+    @Test
+    public void testUpdatedElementIsAlwaysVisibleToConcurrentReaders() throws Exception {
+        Element element = new Element("e1", "a", "x");
+        registry.added(provider, element);
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicReference<String> failure = new AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            while (running.get() && failure.get() == null) {
+                if (registry.get("e1") == null) {
+                    failure.set("element missing from the registry");
+                } else if (registry.tagIndex.get("a").isEmpty()) {
+                    failure.set("element missing from the index");
+                }
+            }
+        });
+        reader.start();
+        try {
+            Element current = element;
+            for (int i = 0; i < 20000 && failure.get() == null; i++) {
+                Element next = new Element("e1", "a", i % 2 == 0 ? "y" : "x");
+                registry.updated(provider, current, next);
+                current = next;
+            }
+        } finally {
+            running.set(false);
+            reader.join();
+        }
+
+        assertThat(failure.get(), is(nullValue()));
+    }
+
+}
@@ -0,0 +1,198 @@
+/**
+ * Copyright (c) 2014,2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.smarthome.core.internal.events;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.smarthome.core.events.Event;
+import org.eclipse.smarthome.core.events.EventFilter;
+import org.eclipse.smarthome.core.events.EventSubscriber;
+import org.eclipse.smarthome.core.events.TopicEventFilter;
+import org.eclipse.smarthome.core.items.events.ItemCommandEvent;
+import org.eclipse.smarthome.core.items.events.ItemEventFactory;
+import org.eclipse.smarthome.core.items.events.ItemStateEvent;
+import org.eclipse.smarthome.core.library.types.OnOffType;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link EventDispatcher} class.
+ */
+public class EventDispatcherTest {
+
+    /** An executor which runs the submitted tasks only when requested by the test. */
+    private static class ManualExecutorService extends AbstractExecutorService {
+        private final Queue<Runnable> tasks = new LinkedList<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        void runAll() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+    }
+
+    private static class RecordingSubscriber implements EventSubscriber {
+        final List<Event> events = new ArrayList<>();
+        private final String eventType;
+        private final EventFilter eventFilter;
+
+        RecordingSubscriber(String eventType, EventFilter eventFilter) {
+            this.eventType = eventType;
+            this.eventFilter = eventFilter;
+        }
+
+        @Override
+        public Set<String> getSubscribedEventTypes() {
+            return Collections.singleton(eventType);
+        }
+
+        @Override
+        public EventFilter getEventFilter() {
+            return eventFilter;
+        }
+
+        @Override
+        public void receive(Event event) {
+            events.add(event);
+        }
+    }
+
+    private final ManualExecutorService executor = new ManualExecutorService();
+    private final EventDispatcher dispatcher = new EventDispatcher(executor, 100);
+
+    @Test
+    public void testEventsAreDeliveredByTypeAndFilter() {
+        RecordingSubscriber all = new RecordingSubscriber(EventSubscriber.ALL_EVENT_TYPES, null);
+        RecordingSubscriber states = new RecordingSubscriber(ItemStateEvent.TYPE, null);
+        RecordingSubscriber itemA = new RecordingSubscriber(ItemStateEvent.TYPE,
+                new TopicEventFilter("smarthome/items/ItemA/.*"));
+        dispatcher.addEventSubscriber(all);
+        dispatcher.addEventSubscriber(states);
+        dispatcher.addEventSubscriber(itemA);
+
+        dispatcher.dispatch(ItemEventFactory.createStateEvent("ItemA", OnOffType.ON));
+        dispatcher.dispatch(ItemEventFactory.createStateEvent("ItemB", OnOffType.ON));
+        dispatcher.dispatch(ItemEventFactory.createCommandEvent("ItemA", OnOffType.ON));
+        executor.runAll();
+
+        assertThat(all.events.size(), is(3));
+        assertThat(all.events.get(2), is(instanceOf(ItemCommandEvent.class)));
+        assertThat(states.events.size(), is(2));
+        assertThat(itemA.events.size(), is(1));
+        assertThat(((ItemStateEvent) itemA.events.get(0)).getItemName(), is("ItemA"));
+    }
+
+    @Test
+    public void testRemovedSubscriberDoesNotReceiveQueuedOrNewEvents() {
+        RecordingSubscriber subscriber = new RecordingSubscriber(ItemStateEvent.TYPE, null);
+        dispatcher.addEventSubscriber(subscriber);
+
+        dispatcher.dispatch(ItemEventFactory.createStateEvent("ItemA", OnOffType.ON));
+        dispatcher.removeEventSubscriber(subscriber);
+        dispatcher.dispatch(ItemEventFactory.createStateEvent("ItemA", OnOffType.OFF));
+        executor.runAll();
+
+        assertThat(subscriber.events.isEmpty(), is(true));
+        assertThat(dispatcher.hasSubscribers(ItemStateEvent.TYPE), is(false));
+        assertThat(dispatcher.getStatistics().isEmpty(), is(true));
+    }
+
+    @Test
+    public void testClosedDispatcherDoesNotDeliverEvents() {
+        RecordingSubscriber subscriber = new RecordingSubscriber(ItemStateEvent.TYPE, null);
+        dispatcher.addEventSubscriber(subscriber);
+
+        dispatcher.dispatch(ItemEventFactory.createStateEvent("ItemA", OnOffType.ON));
+        dispatcher.close();
+        executor.runAll();
+
+        assertThat(subscriber.events.isEmpty(), is(true));
+        assertThat(dispatcher.hasSubscribers(ItemStateEvent.TYPE), is(false));
+    }
+
+    @Test
+    public void testBlockingSubscribersDoNotStallOtherSubscribers() throws InterruptedException {
+        EventDispatcher dispatcher = new EventDispatcher();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch received = new CountDownLatch(1);
+        try {
+            // more blocking subscribers than the former fixed size pool had threads
+            for (int i = 0; i < 10; i++) {
+                dispatcher.addEventSubscriber(new RecordingSubscriber(ItemStateEvent.TYPE, null) {
+                    @Override
+                    public void receive(Event event) {
+                        try {
+                            release.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                });
+            }
+            dispatcher.addEventSubscriber(new RecordingSubscriber(ItemStateEvent.TYPE, null) {
+                @Override
+                public void receive(Event event) {
+                    received.countDown();
+                }
+            });
+
+            dispatcher.dispatch(ItemEventFactory.createStateEvent("ItemA", OnOffType.ON));
+
+            assertThat(received.await(10, TimeUnit.SECONDS), is(true));
+        } finally {
+            release.countDown();
+            dispatcher.close();
+        }
+    }
+
+}
@@ -0,0 +1,170 @@
+/**
+ * Copyright (c) 2014,2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.smarthome.core.internal.events;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.smarthome.core.common.Statistics;
+import org.eclipse.smarthome.core.events.Event;
+import org.eclipse.smarthome.core.events.EventFilter;
+import org.eclipse.smarthome.core.events.EventSubscriber;
+import org.eclipse.smarthome.core.items.events.ItemEventFactory;
+import org.eclipse.smarthome.core.items.events.ItemStateEvent;
+import org.eclipse.smarthome.core.library.types.DecimalType;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link SubscriberMailbox} class.
+ */
+public class SubscriberMailboxTest {
+
+    /** An executor which runs the submitted tasks only when requested by the test. */
+    private static class ManualExecutor implements Executor {
+        private final Queue<Runnable> tasks = new LinkedList<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        void runAll() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+        }
+    }
+
+    private static class RecordingSubscriber implements EventSubscriber {
+        final List<Event> events = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public Set<String> getSubscribedEventTypes() {
+            return Collections.singleton(EventSubscriber.ALL_EVENT_TYPES);
+        }
+
+        @Override
+        public EventFilter getEventFilter() {
+            return null;
+        }
+
+        @Override
+        public void receive(Event event) {
+            events.add(event);
+        }
+    }
+
+    private static Event event(int value) {
+        return ItemEventFactory.createStateEvent("someItem", new DecimalType(value));
+    }
+
+    private static int valueOf(Event event) {
+        return ((DecimalType) ((ItemStateEvent) event).getItemState()).intValue();
+    }
+
+    @Test
+    public void testEventsAreDeliveredInOrder() throws Exception {
+        int count = 1000;
+        CountDownLatch latch = new CountDownLatch(count);
+        RecordingSubscriber subscriber = new RecordingSubscriber() {
+            @Override
+            public void receive(Event event) {
+                super.receive(event);
+                latch.countDown();
+            }
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            SubscriberMailbox mailbox = new SubscriberMailbox(subscriber, executor, count);
+            for (int i = 0; i < count; i++) {
+                mailbox.offer(event(i));
+            }
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (int i = 0; i < count; i++) {
+            assertThat(valueOf(subscriber.events.get(i)), is(i));
+        }
+    }
+
+    @Test
+    public void testOldestEventsAreDroppedOnOverflow() {
+        ManualExecutor executor = new ManualExecutor();
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        SubscriberMailbox mailbox = new SubscriberMailbox(subscriber, executor, 3);
+
+        for (int i = 0; i < 5; i++) {
+            mailbox.offer(event(i));
+        }
+
+        Statistics statistics = mailbox.getStatistics();
+        assertThat(statistics.get("queued"), is(3L));
+        assertThat(statistics.get("dropped"), is(2L));
+
+        executor.runAll();
+        assertThat(subscriber.events.size(), is(3));
+        assertThat(valueOf(subscriber.events.get(0)), is(2));
+        assertThat(valueOf(subscriber.events.get(2)), is(4));
+        assertThat(mailbox.getStatistics().get("dispatched"), is(3L));
+    }
+
+    @Test
+    public void testClosedMailboxDoesNotDeliverEvents() {
+        ManualExecutor executor = new ManualExecutor();
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        SubscriberMailbox mailbox = new SubscriberMailbox(subscriber, executor, 10);
+
+        mailbox.offer(event(1));
+        mailbox.close();
+        mailbox.offer(event(2));
+        executor.runAll();
+
+        assertThat(subscriber.events.isEmpty(), is(true));
+        assertThat(mailbox.getStatistics().get("queued"), is(0L));
+    }
+
+    @Test
+    public void testFailingSubscriberDoesNotStopDelivery() {
+        ManualExecutor executor = new ManualExecutor();
+        RecordingSubscriber subscriber = new RecordingSubscriber() {
+            @Override
+            public void receive(Event event) {
+                super.receive(event);
+                throw new IllegalStateException("test");
+            }
+        };
+        SubscriberMailbox mailbox = new SubscriberMailbox(subscriber, executor, 10);
+
+        mailbox.offer(event(1));
+        mailbox.offer(event(2));
+        executor.runAll();
+
+        assertThat(subscriber.events.size(), is(2));
+    }
+
+}
@@ -0,0 +1,141 @@
+/**
+ * Copyright (c) 2014,2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.smarthome.core.internal.events;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.smarthome.core.events.Event;
+import org.eclipse.smarthome.core.events.EventFactory;
+import org.eclipse.smarthome.core.events.EventFilter;
+import org.eclipse.smarthome.core.events.EventSubscriber;
+import org.eclipse.smarthome.core.items.events.ItemEventFactory;
+import org.eclipse.smarthome.core.items.events.ItemStateEvent;
+import org.eclipse.smarthome.core.library.types.DecimalType;
+import org.eclipse.smarthome.core.library.types.OnOffType;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link ThreadedEventHandler} class.
+ */
+public class ThreadedEventHandlerTest {
+
+    private static class RecordingSubscriber implements EventSubscriber {
+        private final List<Event> events = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch latch;
+
+        RecordingSubscriber(int expectedEvents) {
+            latch = new CountDownLatch(expectedEvents);
+        }
+
+        @Override
+        public Set<String> getSubscribedEventTypes() {
+            return Collections.singleton(ItemStateEvent.TYPE);
+        }
+
+        @Override
+        public EventFilter getEventFilter() {
+            return null;
+        }
+
+        @Override
+        public void receive(Event event) {
+            events.add(event);
+            latch.countDown();
+        }
+
+        List<Event> await() throws InterruptedException {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            return events;
+        }
+    }
+
+    private final Map<String, EventFactory> typedEventFactories = new ConcurrentHashMap<>();
+
+    private ThreadedEventHandler handler;
+
+    @Before
+    public void setup() {
+        ItemEventFactory factory = new ItemEventFactory();
+        for (String type : factory.getSupportedEventTypes()) {
+            typedEventFactories.put(type, factory);
+        }
+        handler = new ThreadedEventHandler(typedEventFactories);
+    }
+
+    @After
+    public void tearDown() {
+        handler.close();
+    }
+
+    @Test
+    public void testInProcessEventIsDeliveredAsIs() throws Exception {
+        RecordingSubscriber subscriber = new RecordingSubscriber(1);
+        handler.addEventSubscriber(subscriber);
+
+        ItemStateEvent event = ItemEventFactory.createStateEvent("someItem", OnOffType.ON);
+        handler.handleEvent(event);
+
+        assertThat(subscriber.await().get(0), is(sameInstance((Event) event)));
+    }
+
+    @Test
+    public void testInProcessEventsKeepTheirOrder() throws Exception {
+        int count = 500;
+        RecordingSubscriber subscriber = new RecordingSubscriber(count);
+        handler.addEventSubscriber(subscriber);
+
+        for (int i = 0; i < count; i++) {
+            handler.handleEvent(ItemEventFactory.createStateEvent("someItem", new DecimalType(i)));
+        }
+
+        List<Event> events = subscriber.await();
+        for (int i = 0; i < count; i++) {
+            assertThat(((ItemStateEvent) events.get(i)).getItemState(), is(new DecimalType(i)));
+        }
+    }
+
+    @Test
+    public void testOSGiEventIsDeserialized() throws Exception {
+        RecordingSubscriber subscriber = new RecordingSubscriber(1);
+        handler.addEventSubscriber(subscriber);
+
+        ItemStateEvent event = ItemEventFactory.createStateEvent("someItem", OnOffType.ON, "source");
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("type", event.getType());
+        properties.put("payload", event.getPayload());
+        properties.put("topic", event.getTopic());
+        properties.put("source", event.getSource());
+        handler.handleEvent(new org.osgi.service.event.Event("smarthome", properties));
+
+        Event received = subscriber.await().get(0);
+        assertThat(received, is(not(sameInstance((Event) event))));
+        assertThat(received, is(instanceOf(ItemStateEvent.class)));
+        assertThat(((ItemStateEvent) received).getItemState(), is(OnOffType.ON));
+        assertThat(received.getTopic(), is(event.getTopic()));
+        assertThat(received.getSource(), is("source"));
+    }
+
+}
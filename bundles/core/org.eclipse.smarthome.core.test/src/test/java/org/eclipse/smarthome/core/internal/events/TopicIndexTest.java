@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2014,2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.smarthome.core.internal.events;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+/**
+ * Test class for the {@link TopicIndex} class.
+ */
+public class TopicIndexTest {
+
+    private static final List<String> REGEXES = Arrays.asList("smarthome/items/.*/state",
+            "smarthome/items/ItemA/state", "smarthome/items/.*", ".*", "smarthome/things/.*/.*",
+            "smarthome/channels/binding:thing:id:channel/triggered", "smarthome/.*/ItemA/.*");
+
+    private static final List<String> TOPICS = Arrays.asList("smarthome/items/ItemA/state",
+            "smarthome/items/ItemB/state", "smarthome/items/ItemA/command", "smarthome/items/GroupA/ItemA/statechanged",
+            "smarthome/items/", "smarthome/items", "smarthome/things/thing:type:id/status",
+            "smarthome/things/thing:type:id/a/b", "smarthome/channels/binding:thing:id:channel/triggered",
+            "smarthome//ItemA/", "other");
+
+    @Test
+    public void testIndexMatchesLikeRegularExpressions() {
+        TopicIndex<String> index = new TopicIndex<>();
+        for (String regex : REGEXES) {
+            assertThat(index.add(regex, regex), is(true));
+        }
+
+        for (String topic : TOPICS) {
+            Set<String> expected = new HashSet<>();
+            for (String regex : REGEXES) {
+                if (topic.matches(regex)) {
+                    expected.add(regex);
+                }
+            }
+            Set<String> actual = new HashSet<>();
+            index.collect(topic, actual);
+            assertThat(topic, actual, is(expected));
+        }
+    }
+
+    @Test
+    public void testUnsupportedExpressionsAreRejected() {
+        TopicIndex<String> index = new TopicIndex<>();
+        assertThat(index.add("smarthome/items/Item.*/state", "a"), is(false));
+        assertThat(index.add("smarthome/items/[^/]+/state", "b"), is(false));
+        assertThat(index.add("smarthome/(items|things)/.*", "c"), is(false));
+        assertThat(index.isEmpty(), is(true));
+    }
+
+}
@@ -159,6 +159,40 @@ public class GroupItemTest extends JavaOSGiTest {
         }
     }
 
+    @Test
+    public void testGetAllMembersFollowsMembershipChangesOfNestedGroups() {
+        GroupItem rootGroupItem = new GroupItem("root");
+        GroupItem subGroup = new GroupItem("subGroup1");
+        GroupItem otherGroupItem = new GroupItem("other");
+        rootGroupItem.addMember(subGroup);
+        otherGroupItem.addMember(new TestItem("other member"));
+        Set<Item> otherMembers = otherGroupItem.getAllMembers();
+        assertThat(rootGroupItem.getAllMembers().size(), is(0));
+
+        TestItem member = new TestItem("subGroup member 1");
+        subGroup.addMember(member);
+        assertThat(rootGroupItem.getAllMembers(), hasItem(member));
+
+        subGroup.removeMember(member);
+        assertThat(rootGroupItem.getAllMembers().size(), is(0));
+
+        // the cached members of unrelated groups are kept
+        assertThat(otherGroupItem.getAllMembers(), is(sameInstance(otherMembers)));
+    }
+
+    @Test
+    public void testGetAllMembersWithCircleDependencyFollowsMembershipChanges() {
+        GroupItem rootGroupItem = new GroupItem("root");
+        GroupItem subGroup = new GroupItem("subGroup1");
+        subGroup.addMember(rootGroupItem);
+        rootGroupItem.addMember(subGroup);
+        assertThat(rootGroupItem.getAllMembers().size(), is(0));
+
+        subGroup.addMember(new TestItem("subGroup member 1"));
+        assertThat(rootGroupItem.getAllMembers().size(), is(1));
+        assertThat(subGroup.getAllMembers().size(), is(1));
+    }
+
     @Test
     public void testGetAllMembersWithFilter() {
         GroupItem rootGroupItem = new GroupItem("root");
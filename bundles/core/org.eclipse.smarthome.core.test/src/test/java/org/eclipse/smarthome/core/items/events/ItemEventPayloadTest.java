@@ -0,0 +1,105 @@
+/**
+ * Copyright (c) 2014,2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.smarthome.core.items.events;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.smarthome.core.events.Event;
+import org.eclipse.smarthome.core.library.types.DecimalType;
+import org.eclipse.smarthome.core.library.types.OnOffType;
+import org.junit.Test;
+
+/**
+ * Tests for the payloads of the item events, which are serialized on first access.
+ */
+public class ItemEventPayloadTest {
+
+    private static final String ITEM_NAME = "someItem";
+    private static final String SOURCE = "binding:type:id:channel";
+
+    private final ItemEventFactory factory = new ItemEventFactory();
+
+    @Test
+    public void testStateEventPayloadIsSerializedOnFirstAccess() throws Exception {
+        ItemStateEvent event = ItemEventFactory.createStateEvent(ITEM_NAME, OnOffType.ON, SOURCE);
+
+        String payload = event.getPayload();
+        assertThat(payload, is("{\"type\":\"OnOff\",\"value\":\"ON\"}"));
+        assertThat(event.getPayload(), is(sameInstance(payload)));
+
+        Event parsed = factory.createEvent(ItemStateEvent.TYPE, event.getTopic(), payload, event.getSource());
+        assertThat(parsed, is(instanceOf(ItemStateEvent.class)));
+        assertThat(((ItemStateEvent) parsed).getItemState(), is(OnOffType.ON));
+        assertThat(parsed.getSource(), is(SOURCE));
+    }
+
+    @Test
+    public void testCommandEventPayloadRoundTrip() throws Exception {
+        ItemCommandEvent event = ItemEventFactory.createCommandEvent(ITEM_NAME, OnOffType.OFF);
+
+        Event parsed = factory.createEvent(ItemCommandEvent.TYPE, event.getTopic(), event.getPayload(), null);
+        assertThat(parsed, is(instanceOf(ItemCommandEvent.class)));
+        assertThat(((ItemCommandEvent) parsed).getItemCommand(), is(OnOffType.OFF));
+    }
+
+    @Test
+    public void testStateChangedEventPayloadRoundTrip() throws Exception {
+        ItemStateChangedEvent event = ItemEventFactory.createStateChangedEvent(ITEM_NAME, new DecimalType(2),
+                new DecimalType(1));
+
+        Event parsed = factory.createEvent(ItemStateChangedEvent.TYPE, event.getTopic(), event.getPayload(), null);
+        assertThat(parsed, is(instanceOf(ItemStateChangedEvent.class)));
+        assertThat(((ItemStateChangedEvent) parsed).getItemState(), is(new DecimalType(2)));
+        assertThat(((ItemStateChangedEvent) parsed).getOldItemState(), is(new DecimalType(1)));
+    }
+
+    @Test
+    public void testGroupStateChangedEventPayloadRoundTrip() throws Exception {
+        GroupItemStateChangedEvent event = ItemEventFactory.createGroupStateChangedEvent("someGroup", ITEM_NAME,
+                OnOffType.ON, OnOffType.OFF);
+
+        Event parsed = factory.createEvent(GroupItemStateChangedEvent.TYPE, event.getTopic(), event.getPayload(),
+                null);
+        assertThat(parsed, is(instanceOf(GroupItemStateChangedEvent.class)));
+        assertThat(((GroupItemStateChangedEvent) parsed).getMemberName(), is(ITEM_NAME));
+        assertThat(((GroupItemStateChangedEvent) parsed).getItemState(), is(OnOffType.ON));
+        assertThat(((GroupItemStateChangedEvent) parsed).getOldItemState(), is(OnOffType.OFF));
+    }
+
+    @Test
+    public void testConcurrentAccessSerializesThePayloadOnce() throws Exception {
+        final ItemStateEvent event = ItemEventFactory.createStateEvent(ITEM_NAME, new DecimalType(42));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<String>> tasks = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                tasks.add(event::getPayload);
+            }
+            String expected = event.getPayload();
+            for (Future<String> future : executor.invokeAll(tasks)) {
+                assertThat(future.get(), is(sameInstance(expected)));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+}
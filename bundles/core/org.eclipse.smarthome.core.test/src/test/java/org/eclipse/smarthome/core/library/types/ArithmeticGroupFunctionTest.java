@@ -14,6 +14,7 @@ package org.eclipse.smarthome.core.library.types;
 
 import static org.junit.Assert.assertEquals;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -22,6 +23,7 @@ import java.util.Set;
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.smarthome.core.items.GenericItem;
 import org.eclipse.smarthome.core.items.GroupFunction;
+import org.eclipse.smarthome.core.items.IncrementalGroupFunction;
 import org.eclipse.smarthome.core.items.Item;
 import org.eclipse.smarthome.core.library.items.DimmerItem;
 import org.eclipse.smarthome.core.library.items.SwitchItem;
@@ -220,6 +222,71 @@ public class ArithmeticGroupFunctionTest {
         assertEquals(new DecimalType("2"), state);
     }
 
+    @Test
+    public void testIncrementalCalculationEqualsFullCalculation() {
+        TestItem item1 = new TestItem("TestItem1", new DecimalType("23.54"));
+        TestItem item2 = new TestItem("TestItem2", UnDefType.NULL);
+        TestItem item3 = new TestItem("TestItem3", new DecimalType("89"));
+        TestItem item4 = new TestItem("TestItem4", OnOffType.ON);
+        items.addAll(Arrays.asList(item1, item2, item3, item4));
+
+        for (IncrementalGroupFunction function : Arrays.asList(new ArithmeticGroupFunction.Sum(),
+                new ArithmeticGroupFunction.Avg(), new ArithmeticGroupFunction.Min(),
+                new ArithmeticGroupFunction.Max(), new ArithmeticGroupFunction.Count(new StringType("8.*")),
+                new ArithmeticGroupFunction.And(OnOffType.ON, OnOffType.OFF),
+                new ArithmeticGroupFunction.NAnd(OnOffType.ON, OnOffType.OFF),
+                new ArithmeticGroupFunction.Or(OnOffType.ON, OnOffType.OFF),
+                new ArithmeticGroupFunction.NOr(OnOffType.ON, OnOffType.OFF))) {
+            item1.setState(new DecimalType("23.54"));
+            item3.setState(new DecimalType("89"));
+            item4.setState(OnOffType.ON);
+
+            IncrementalGroupFunction.Accumulator accumulator = function.createAccumulator();
+            items.forEach(accumulator::add);
+            assertEquals(function.calculate(items).toString(), accumulator.getState().toString());
+
+            item1.setState(new DecimalType("100"));
+            accumulator.add(item1);
+            assertEquals(function.calculate(items).toString(), accumulator.getState().toString());
+
+            item3.setState(new DecimalType("-1.5"));
+            accumulator.add(item3);
+            assertEquals(function.calculate(items).toString(), accumulator.getState().toString());
+
+            item4.setState(OnOffType.OFF);
+            accumulator.add(item4);
+            assertEquals(function.calculate(items).toString(), accumulator.getState().toString());
+
+            items.remove(item3);
+            accumulator.remove(item3);
+            assertEquals(function.calculate(items).toString(), accumulator.getState().toString());
+
+            items.add(item3);
+        }
+    }
+
+    @Test
+    public void testMinAndMaxOfEqualValuesWithDifferentScales() {
+        TestItem item1 = new TestItem("TestItem1", new DecimalType("1.0"));
+        TestItem item2 = new TestItem("TestItem2", new DecimalType("1.00"));
+        TestItem item3 = new TestItem("TestItem3", new DecimalType("1"));
+        items.addAll(Arrays.asList(item1, item2, item3));
+
+        for (IncrementalGroupFunction function : Arrays.asList(new ArithmeticGroupFunction.Min(),
+                new ArithmeticGroupFunction.Max())) {
+            item2.setState(new DecimalType("1.00"));
+
+            IncrementalGroupFunction.Accumulator accumulator = function.createAccumulator();
+            items.forEach(accumulator::add);
+            assertEquals("1.00", function.calculate(items).toString());
+            assertEquals("1.00", accumulator.getState().toString());
+
+            item2.setState(new DecimalType("5"));
+            accumulator.add(item2);
+            assertEquals(function.calculate(items).toString(), accumulator.getState().toString());
+        }
+    }
+
     class TestItem extends GenericItem {
 
         public TestItem(String name, State state) {
@@ -15,6 +15,8 @@ package org.eclipse.smarthome.core.scheduler;
 import static org.junit.Assert.*;
 
 import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.eclipse.smarthome.core.scheduler.ExpressionThreadPoolManager.ExpressionThreadPoolExecutor;
 import org.junit.Test;
@@ -78,4 +80,41 @@ public class ExpressionThreadPoolExecutorTest {
         assertEquals(0, scheduler.getQueue().size());
     }
 
+    @Test
+    public void testScheduleWithManyExpressions() throws ParseException, InterruptedException {
+
+        Runnable idle = new Runnable() {
+            @Override
+            public void run() {
+            }
+        };
+
+        List<CronExpression> expressions = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            CronExpression expression = new CronExpression("0 0 0 * * ?");
+            scheduler.schedule(idle, expression);
+            expressions.add(expression);
+        }
+
+        Runnable runnable = new Runnable() {
+            @Override
+            public void run() {
+                success = true;
+            }
+        };
+
+        success = false;
+        CronExpression expression = new CronExpression("0/1 * * * * ?");
+        scheduler.schedule(runnable, expression);
+        Thread.sleep(1500);
+        assertTrue(success);
+
+        assertTrue(scheduler.remove(expression));
+        for (CronExpression anExpression : expressions) {
+            scheduler.remove(anExpression);
+        }
+
+        assertEquals(0, scheduler.getQueue().size());
+    }
+
 }
@@ -0,0 +1,150 @@
+/**
+ * Copyright (c) 2014,2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.smarthome.core.types;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.smarthome.core.library.types.DecimalType;
+import org.eclipse.smarthome.core.library.types.HSBType;
+import org.eclipse.smarthome.core.library.types.OnOffType;
+import org.eclipse.smarthome.core.library.types.PercentType;
+import org.eclipse.smarthome.core.library.types.PointType;
+import org.eclipse.smarthome.core.library.types.StringType;
+import org.junit.Test;
+
+public class TypeParserTest {
+
+    @Test
+    public void parseTypeByName() {
+        assertEquals(new DecimalType("1.5"), TypeParser.parseType("DecimalType", "1.5"));
+        assertEquals(OnOffType.ON, TypeParser.parseType("OnOffType", "ON"));
+        assertEquals(new StringType("foo"), TypeParser.parseType("StringType", "foo"));
+        assertNull(TypeParser.parseType("DecimalType", "foo"));
+        assertNull(TypeParser.parseType("OnOffType", "on"));
+        assertNull(TypeParser.parseType("UnknownType", "foo"));
+    }
+
+    @Test
+    public void parseStateTakesFirstMatchingType() {
+        List<Class<? extends State>> types = Arrays.asList(UnDefType.class, OnOffType.class, PercentType.class,
+                HSBType.class, DecimalType.class, StringType.class);
+
+        assertEquals(UnDefType.NULL, TypeParser.parseState(types, "NULL"));
+        assertEquals(OnOffType.OFF, TypeParser.parseState(types, "OFF"));
+        assertEquals(new PercentType(50), TypeParser.parseState(types, "50"));
+        assertEquals(new DecimalType(150), TypeParser.parseState(types, "150"));
+        assertEquals(new HSBType("1,2,3"), TypeParser.parseState(types, "1,2,3"));
+        assertEquals(new StringType("1,2"), TypeParser.parseState(types, "1,2"));
+        assertEquals(new StringType("-"), TypeParser.parseState(types, "-"));
+    }
+
+    @Test
+    public void parseStateAcceptsTrailingSeparators() {
+        assertEquals(new HSBType("1,2,3"), TypeParser.parseState(Collections.singletonList(HSBType.class), "1,2,3,"));
+        assertEquals(new PointType("1,2"), TypeParser.parseState(Collections.singletonList(PointType.class), "1,2,"));
+        assertNull(TypeParser.parseState(Collections.singletonList(HSBType.class), "1,2,3,4"));
+    }
+
+    @Test
+    public void parseStateRejectsInvalidInput() {
+        assertNull(TypeParser.parseState(Collections.singletonList(PointType.class), "foo"));
+        assertNull(TypeParser.parseState(Collections.singletonList(DecimalType.class), "1e"));
+        assertNull(TypeParser.parseState(Collections.singletonList(DecimalType.class), null));
+        assertNull(TypeParser.parseState(Collections.emptyList(), "foo"));
+    }
+
+    @Test
+    public void parsersDoNotKeepForeignClassLoadersAlive() throws Exception {
+        WeakReference<ClassLoader> classLoader = parseWithIsolatedType();
+        for (int i = 0; i < 50 && classLoader.get() != null; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        assertNull(classLoader.get());
+    }
+
+    @SuppressWarnings("unchecked")
+    private WeakReference<ClassLoader> parseWithIsolatedType() throws IOException {
+        IsolatingClassLoader classLoader = new IsolatingClassLoader();
+        Class<? extends State> type = (Class<? extends State>) classLoader.define(ForeignType.class.getName());
+        assertNotSame(ForeignType.class, type);
+
+        State state = TypeParser.parseState(Arrays.asList(OnOffType.class, type), "foreign");
+        assertSame(type, state.getClass());
+        assertSame(type, TypeParser.parseState(Arrays.asList(OnOffType.class, type), "foreign").getClass());
+        return new WeakReference<>(classLoader);
+    }
+
+    /**
+     * A state type which is loaded by an {@link IsolatingClassLoader}, like a type defined by another bundle.
+     */
+    public static class ForeignType implements PrimitiveType, State {
+        private final String value;
+
+        public ForeignType(String value) {
+            this.value = value;
+        }
+
+        public static ForeignType valueOf(String value) {
+            return new ForeignType(value);
+        }
+
+        @Override
+        public String format(String pattern) {
+            return value;
+        }
+
+        @Override
+        public String toFullString() {
+            return value;
+        }
+    }
+
+    private static class IsolatingClassLoader extends ClassLoader {
+        IsolatingClassLoader() {
+            super(TypeParserTest.class.getClassLoader());
+        }
+
+        Class<?> define(String name) throws IOException {
+            try (InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                byte[] buffer = new byte[4096];
+                int read;
+                while ((read = in.read(buffer)) > 0) {
+                    out.write(buffer, 0, read);
+                }
+                byte[] bytes = out.toByteArray();
+                return defineClass(name, bytes, 0, bytes.length);
+            }
+        }
+    }
+
+    @Test
+    public void parseCommand() {
+        List<Class<? extends Command>> types = Arrays.asList(OnOffType.class, RefreshType.class, DecimalType.class);
+
+        assertEquals(OnOffType.ON, TypeParser.parseCommand(types, "ON"));
+        assertEquals(RefreshType.REFRESH, TypeParser.parseCommand(types, "REFRESH"));
+        assertEquals(new DecimalType(-3), TypeParser.parseCommand(types, "-3"));
+        assertNull(TypeParser.parseCommand(types, "OPEN"));
+    }
+
+}
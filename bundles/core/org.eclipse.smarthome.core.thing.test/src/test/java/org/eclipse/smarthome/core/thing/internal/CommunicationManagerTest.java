@@ -18,6 +18,7 @@ import static org.mockito.Mockito.*;
 import static org.mockito.MockitoAnnotations.initMocks;
 
 import java.util.Arrays;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -33,6 +34,7 @@ import org.eclipse.smarthome.core.thing.Thing;
 import org.eclipse.smarthome.core.thing.ThingRegistry;
 import org.eclipse.smarthome.core.thing.ThingTypeUID;
 import org.eclipse.smarthome.core.thing.ThingUID;
+import org.eclipse.smarthome.core.thing.UID;
 import org.eclipse.smarthome.core.thing.binding.ThingHandler;
 import org.eclipse.smarthome.core.thing.binding.builder.ChannelBuilder;
 import org.eclipse.smarthome.core.thing.binding.builder.ThingBuilder;
@@ -155,6 +157,16 @@ public class CommunicationManagerTest extends JavaOSGiTest {
             public Stream<ItemChannelLink> stream() {
                 return Arrays.asList(LINK_1_S1, LINK_1_S2, LINK_2_S2, LINK_1_T1, LINK_1_T2, LINK_2_T2).stream();
             }
+
+            @Override
+            public Set<ItemChannelLink> getLinks(UID uid) {
+                return stream().filter(link -> link.getLinkedUID().equals(uid)).collect(Collectors.toSet());
+            }
+
+            @Override
+            public Set<ItemChannelLink> getLinks(String itemName) {
+                return stream().filter(link -> link.getItemName().equals(itemName)).collect(Collectors.toSet());
+            }
         };
         manager.setItemChannelLinkRegistry(iclRegistry);
 
@@ -183,6 +183,12 @@ public class DefaultSystemChannelTypeProvider implements ChannelTypeProvider {
 
     }
 
+    @Override
+    public long getVersion() {
+        // the system channel types never change
+        return 0;
+    }
+
     @Override
     public Collection<ChannelType> getChannelTypes(Locale locale) {
         final List<ChannelType> allChannelTypes = new ArrayList<>(10);
@@ -25,6 +25,7 @@ import org.eclipse.smarthome.core.thing.ChannelUID;
 import org.eclipse.smarthome.core.thing.ThingRegistry;
 import org.eclipse.smarthome.core.thing.link.ItemChannelLinkRegistry;
 import org.eclipse.smarthome.core.thing.type.ChannelType;
+import org.eclipse.smarthome.core.thing.type.ChannelTypeRegistry;
 import org.eclipse.smarthome.core.thing.type.DynamicStateDescriptionProvider;
 import org.eclipse.smarthome.core.thing.type.ThingTypeRegistry;
 import org.eclipse.smarthome.core.types.StateDescription;
@@ -53,6 +54,7 @@ public class ChannelStateDescriptionProvider implements StateDescriptionProvider
     private ItemChannelLinkRegistry itemChannelLinkRegistry;
     private ThingTypeRegistry thingTypeRegistry;
     private ThingRegistry thingRegistry;
+    private ChannelTypeRegistry channelTypeRegistry;
     private Integer rank;
 
     @Activate
@@ -70,6 +72,21 @@ public class ChannelStateDescriptionProvider implements StateDescriptionProvider
         return rank;
     }
 
+    @Override
+    public long getVersion() {
+        // the state descriptions of dynamic providers may change at any time
+        if (!dynamicStateDescriptionProviders.isEmpty()) {
+            return -1;
+        }
+        long linkVersion = itemChannelLinkRegistry.getVersion();
+        long thingVersion = thingRegistry.getVersion();
+        long channelTypeVersion = channelTypeRegistry.getVersion();
+        if (linkVersion < 0 || thingVersion < 0 || channelTypeVersion < 0) {
+            return -1;
+        }
+        return linkVersion + thingVersion + channelTypeVersion;
+    }
+
     @Override
     public StateDescription getStateDescription(String itemName, Locale locale) {
         Set<ChannelUID> boundChannels = itemChannelLinkRegistry.getBoundChannels(itemName);
@@ -150,6 +167,15 @@ public class ChannelStateDescriptionProvider implements StateDescriptionProvider
         this.thingRegistry = null;
     }
 
+    @Reference
+    protected void setChannelTypeRegistry(ChannelTypeRegistry channelTypeRegistry) {
+        this.channelTypeRegistry = channelTypeRegistry;
+    }
+
+    protected void unsetChannelTypeRegistry(ChannelTypeRegistry channelTypeRegistry) {
+        this.channelTypeRegistry = null;
+    }
+
     @Reference(cardinality = ReferenceCardinality.MULTIPLE, policy = ReferencePolicy.DYNAMIC)
     protected void addDynamicStateDescriptionProvider(DynamicStateDescriptionProvider dynamicStateDescriptionProvider) {
         this.dynamicStateDescriptionProviders.add(dynamicStateDescriptionProvider);
@@ -123,8 +123,12 @@ public class CommunicationManager implements EventSubscriber, RegistryChangeList
     }
 
     private Profile getProfile(ItemChannelLink link, Item item, Thing thing) {
+        Profile profile = profiles.get(link.getUID());
+        if (profile != null) {
+            return profile;
+        }
         synchronized (profiles) {
-            Profile profile = profiles.get(link.getUID());
+            profile = profiles.get(link.getUID());
             if (profile != null) {
                 return profile;
             }
@@ -236,10 +240,7 @@ public class CommunicationManager implements EventSubscriber, RegistryChangeList
             return;
         }
 
-        itemChannelLinkRegistry.stream().filter(link -> {
-            // all links for the item
-            return link.getItemName().equals(itemName);
-        }).filter(link -> {
+        itemChannelLinkRegistry.getLinks(itemName).stream().filter(link -> {
             // make sure the command event is not sent back to its source
             return !link.getLinkedUID().toString().equals(commandEvent.getSource());
         }).forEach(link -> {
@@ -267,10 +268,7 @@ public class CommunicationManager implements EventSubscriber, RegistryChangeList
             return;
         }
 
-        itemChannelLinkRegistry.stream().filter(link -> {
-            // all links for the item
-            return link.getItemName().equals(itemName);
-        }).filter(link -> {
+        itemChannelLinkRegistry.getLinks(itemName).stream().filter(link -> {
             // make sure the update event is not sent back to its source
             return !link.getLinkedUID().toString().equals(updateEvent.getSource());
         }).forEach(link -> {
@@ -296,10 +294,7 @@ public class CommunicationManager implements EventSubscriber, RegistryChangeList
         final String event = channelTriggeredEvent.getEvent();
         final Thing thing = getThing(channelUID.getThingUID());
 
-        itemChannelLinkRegistry.stream().filter(link -> {
-            // all links for the channel
-            return link.getLinkedUID().equals(channelUID);
-        }).forEach(link -> {
+        itemChannelLinkRegistry.getLinks(channelUID).forEach(link -> {
             Item item = getItem(link.getItemName());
             if (item != null) {
                 Profile profile = getProfile(link, item, thing);
@@ -313,10 +308,7 @@ public class CommunicationManager implements EventSubscriber, RegistryChangeList
     public void stateUpdated(ChannelUID channelUID, State state) {
         final Thing thing = getThing(channelUID.getThingUID());
 
-        itemChannelLinkRegistry.stream().filter(link -> {
-            // all links for the channel
-            return link.getLinkedUID().equals(channelUID);
-        }).forEach(link -> {
+        itemChannelLinkRegistry.getLinks(channelUID).forEach(link -> {
             Item item = getItem(link.getItemName());
             if (item != null) {
                 Profile profile = getProfile(link, item, thing);
@@ -330,10 +322,7 @@ public class CommunicationManager implements EventSubscriber, RegistryChangeList
     public void postCommand(ChannelUID channelUID, Command command) {
         final Thing thing = getThing(channelUID.getThingUID());
 
-        itemChannelLinkRegistry.stream().filter(link -> {
-            // all links for the channel
-            return link.getLinkedUID().equals(channelUID);
-        }).forEach(link -> {
+        itemChannelLinkRegistry.getLinks(channelUID).forEach(link -> {
             Item item = getItem(link.getItemName());
             if (item != null) {
                 Profile profile = getProfile(link, item, thing);
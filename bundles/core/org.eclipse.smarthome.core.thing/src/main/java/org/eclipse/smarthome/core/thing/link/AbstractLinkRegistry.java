@@ -12,17 +12,22 @@
  */
 package org.eclipse.smarthome.core.thing.link;
 
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
 import org.eclipse.smarthome.core.common.registry.AbstractRegistry;
 import org.eclipse.smarthome.core.common.registry.Provider;
+import org.eclipse.smarthome.core.common.registry.SecondaryIndex;
 import org.eclipse.smarthome.core.thing.UID;
 
 /**
  * {@link AbstractLinkRegistry} is an abstract class for link based registries,
  * which handle {@link AbstractLink}s.
  *
+ * The links are indexed by their linked UID and by their item name, so the links of a channel or an item are found
+ * without iterating over all links.
+ *
  * @author Dennis Nobel - Initial contribution
  *
  * @param <L>
@@ -31,6 +36,11 @@ import org.eclipse.smarthome.core.thing.UID;
 public abstract class AbstractLinkRegistry<L extends AbstractLink, P extends Provider<L>>
         extends AbstractRegistry<L, String, P> {
 
+    private final SecondaryIndex<String, L, UID> linkedUIDIndex = createSecondaryIndex(
+            link -> Collections.singleton(link.getLinkedUID()));
+    private final SecondaryIndex<String, L, String> itemNameIndex = createSecondaryIndex(
+            link -> Collections.singleton(link.getItemName()));
+
     protected AbstractLinkRegistry(final Class<P> providerClazz) {
         super(providerClazz);
     }
@@ -47,8 +57,8 @@ public abstract class AbstractLinkRegistry<L extends AbstractLink, P extends Pro
      */
     public boolean isLinked(String itemName, UID uid) {
 
-        for (AbstractLink link : getAll()) {
-            if (link.getLinkedUID().equals(uid) && link.getItemName().equals(itemName)) {
+        for (AbstractLink link : itemNameIndex.get(itemName)) {
+            if (link.getLinkedUID().equals(uid)) {
                 return true;
             }
         }
@@ -64,10 +74,8 @@ public abstract class AbstractLinkRegistry<L extends AbstractLink, P extends Pro
      */
     public Set<String> getLinkedItemNames(UID uid) {
         Set<String> linkedItems = new LinkedHashSet<>();
-        for (AbstractLink link : getAll()) {
-            if (link.getLinkedUID().equals(uid)) {
-                linkedItems.add(link.getItemName());
-            }
+        for (AbstractLink link : linkedUIDIndex.get(uid)) {
+            linkedItems.add(link.getItemName());
         }
         return linkedItems;
     }
@@ -79,13 +87,17 @@ public abstract class AbstractLinkRegistry<L extends AbstractLink, P extends Pro
      * @return a set of links for the given UID
      */
     public Set<L> getLinks(UID uid) {
-        Set<L> links = new LinkedHashSet<>();
-        for (L link : getAll()) {
-            if (link.getLinkedUID().equals(uid)) {
-                links.add(link);
-            }
-        }
-        return links;
+        return new LinkedHashSet<>(linkedUIDIndex.get(uid));
+    }
+
+    /**
+     * Returns all links for a given item name.
+     *
+     * @param itemName the name of the item
+     * @return a set of links for the given item name
+     */
+    public Set<L> getLinks(String itemName) {
+        return new LinkedHashSet<>(itemNameIndex.get(itemName));
     }
 
 }
@@ -59,10 +59,8 @@ public class ItemChannelLinkRegistry extends AbstractLinkRegistry<ItemChannelLin
 
         Set<ChannelUID> channelUIDs = new HashSet<>();
 
-        for (ItemChannelLink itemChannelLink : getAll()) {
-            if (itemChannelLink.getItemName().equals(itemName)) {
-                channelUIDs.add(itemChannelLink.getLinkedUID());
-            }
+        for (ItemChannelLink itemChannelLink : getLinks(itemName)) {
+            channelUIDs.add(itemChannelLink.getLinkedUID());
         }
 
         return channelUIDs;
@@ -71,9 +69,9 @@ public class ItemChannelLinkRegistry extends AbstractLinkRegistry<ItemChannelLin
     @Override
     public Set<String> getLinkedItemNames(UID uid) {
         final Set<String> linkedItems = new LinkedHashSet<>();
-        for (final AbstractLink link : getAll()) {
+        for (final AbstractLink link : getLinks(uid)) {
             final String itemName = link.getItemName();
-            if (link.getLinkedUID().equals(uid) && itemRegistry.get(itemName) != null) {
+            if (itemRegistry.get(itemName) != null) {
                 linkedItems.add(itemName);
             }
         }
@@ -82,10 +80,10 @@ public class ItemChannelLinkRegistry extends AbstractLinkRegistry<ItemChannelLin
 
     public Set<Item> getLinkedItems(UID uid) {
         final Set<Item> linkedItems = new LinkedHashSet<>();
-        for (final AbstractLink link : getAll()) {
+        for (final AbstractLink link : getLinks(uid)) {
             final String itemName = link.getItemName();
             Item item = itemRegistry.get(itemName);
-            if (link.getLinkedUID().equals(uid) && item != null) {
+            if (item != null) {
                 linkedItems.add(item);
             }
         }
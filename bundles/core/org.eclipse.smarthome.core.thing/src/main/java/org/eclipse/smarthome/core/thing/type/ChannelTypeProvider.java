@@ -51,4 +51,11 @@ public interface ChannelTypeProvider {
      */
     @Nullable
     Collection<ChannelGroupType> getChannelGroupTypes(@Nullable Locale locale);
+
+    /**
+     * @see ChannelTypeRegistry#getVersion()
+     */
+    default long getVersion() {
+        return -1;
+    }
 }
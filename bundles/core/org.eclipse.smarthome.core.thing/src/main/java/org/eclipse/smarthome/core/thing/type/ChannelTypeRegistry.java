@@ -17,6 +17,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -38,6 +39,8 @@ public class ChannelTypeRegistry {
 
     private final List<ChannelTypeProvider> channelTypeProviders = new CopyOnWriteArrayList<>();
 
+    private final AtomicLong version = new AtomicLong();
+
     /**
      * Returns all channel types with the default {@link Locale}.
      *
@@ -145,13 +148,35 @@ public class ChannelTypeRegistry {
         return null;
     }
 
+    /**
+     * Returns the version of the channel types and channel group types. The version increases whenever a channel type
+     * provider is added or removed or the types of a provider change.
+     *
+     * @return the version or -1 if one of the channel type providers does not keep track of its changes
+     */
+    public long getVersion() {
+        long providerVersions = 0;
+        for (ChannelTypeProvider channelTypeProvider : channelTypeProviders) {
+            long providerVersion = channelTypeProvider.getVersion();
+            if (providerVersion < 0) {
+                return -1;
+            }
+            providerVersions += providerVersion;
+        }
+        return version.get() + providerVersions;
+    }
+
     @Reference(cardinality = ReferenceCardinality.MULTIPLE, policy = ReferencePolicy.DYNAMIC)
     protected void addChannelTypeProvider(ChannelTypeProvider channelTypeProviders) {
         this.channelTypeProviders.add(channelTypeProviders);
+        version.incrementAndGet();
     }
 
     protected void removeChannelTypeProvider(ChannelTypeProvider channelTypeProviders) {
-        this.channelTypeProviders.remove(channelTypeProviders);
+        if (this.channelTypeProviders.remove(channelTypeProviders)) {
+            // keeps the version increasing although the version of the provider is no longer added
+            version.addAndGet(Math.max(channelTypeProviders.getVersion(), 0) + 1);
+        }
     }
 
 }
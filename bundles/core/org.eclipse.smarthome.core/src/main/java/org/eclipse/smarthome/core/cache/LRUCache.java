@@ -0,0 +1,109 @@
+/**
+ * Copyright (c) 2014,2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.smarthome.core.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * This is a simple thread-safe key-value-pair cache which holds at most the given number of entries. If the cache is
+ * full, the least recently used entry is evicted.
+ *
+ * @param <K> the type of the key
+ * @param <V> the type of the value
+ */
+public class LRUCache<K, V> {
+
+    private final Map<K, V> items;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param maxSize the maximum number of entries
+     */
+    public LRUCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Cache size must be greater than 0");
+        }
+        this.items = new LinkedHashMap<K, V>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the value associated with the given key.
+     *
+     * @param key the key whose associated value is to be returned
+     * @return the value associated with the given key, or null if there is no cached value for the given key
+     */
+    public V get(K key) {
+        synchronized (items) {
+            return items.get(key);
+        }
+    }
+
+    /**
+     * Puts a value into the cache and evicts the least recently used entry if the cache is full.
+     *
+     * @param key the key with which the specified value is to be associated
+     * @param value the value to be associated with the specified key
+     */
+    public void put(K key, V value) {
+        if (key == null) {
+            throw new IllegalArgumentException("Item key cannot be null");
+        }
+        if (value == null) {
+            throw new IllegalArgumentException("Item value cannot be null");
+        }
+        synchronized (items) {
+            items.put(key, value);
+        }
+    }
+
+    /**
+     * Removes the value associated with the given key from the cache.
+     *
+     * @param key the key whose associated value is to be removed
+     */
+    public void remove(K key) {
+        synchronized (items) {
+            items.remove(key);
+        }
+    }
+
+    /**
+     * Discards all values of the cache.
+     */
+    public void clear() {
+        synchronized (items) {
+            items.clear();
+        }
+    }
+
+    /**
+     * Returns the number of cached values.
+     *
+     * @return the number of cached values
+     */
+    public int size() {
+        synchronized (items) {
+            return items.size();
+        }
+    }
+
+}
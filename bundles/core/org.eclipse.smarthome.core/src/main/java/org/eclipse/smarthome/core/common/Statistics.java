@@ -0,0 +1,163 @@
+/**
+ * Copyright (c) 2014,2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.smarthome.core.common;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link Statistics} is a snapshot of the named counters and times of a single queue, event subscriber, rule or
+ * client. Its string representation lists all values in the order in which they have been added to the
+ * {@link Builder}.
+ */
+@NonNullByDefault
+public final class Statistics {
+
+    private final String name;
+
+    private final Map<String, Long> values;
+
+    private final Set<String> times;
+
+    private Statistics(String name, Map<String, Long> values, Set<String> times) {
+        this.name = name;
+        this.values = Collections.unmodifiableMap(values);
+        this.times = times;
+    }
+
+    /**
+     * Creates a builder for a statistics snapshot.
+     *
+     * @param name the name of the queue, subscriber, rule or client the statistics belong to
+     * @return the builder
+     */
+    public static Builder builder(String name) {
+        return new Builder(name);
+    }
+
+    /**
+     * Gets the name of the queue, subscriber, rule or client the statistics belong to.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets all values of the snapshot in the order in which they have been added.
+     *
+     * @return the values by their names (not null)
+     */
+    public Map<String, Long> getValues() {
+        return values;
+    }
+
+    /**
+     * Gets a single value of the snapshot. Times are given in milliseconds.
+     *
+     * @param valueName the name of the value
+     * @return the value
+     * @throws IllegalArgumentException if the snapshot has no value with the given name
+     */
+    public long get(String valueName) {
+        Long value = values.get(valueName);
+        if (value == null) {
+            throw new IllegalArgumentException("No value '" + valueName + "' in the statistics of '" + name + "'.");
+        }
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(name).append(':');
+        String separator = " ";
+        for (Map.Entry<String, Long> entry : values.entrySet()) {
+            sb.append(separator).append(entry.getKey()).append('=').append(entry.getValue());
+            if (times.contains(entry.getKey())) {
+                sb.append("ms");
+            }
+            separator = ", ";
+        }
+        return sb.toString();
+    }
+
+    /**
+     * The {@link Builder} collects the values of a {@link Statistics} snapshot.
+     */
+    public static class Builder {
+
+        private final String name;
+
+        private final Map<String, Long> values = new LinkedHashMap<>();
+
+        private final Set<String> times = new HashSet<>();
+
+        private Builder(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Adds a counter or size.
+         *
+         * @param valueName the name of the value
+         * @param count the value
+         * @return this builder
+         */
+        public Builder count(String valueName, long count) {
+            values.put(valueName, count);
+            return this;
+        }
+
+        /**
+         * Adds a time, which is shown in milliseconds.
+         *
+         * @param valueName the name of the value
+         * @param millis the time in milliseconds
+         * @return this builder
+         */
+        public Builder time(String valueName, long millis) {
+            values.put(valueName, millis);
+            times.add(valueName);
+            return this;
+        }
+
+        /**
+         * Adds the average of a total time.
+         *
+         * @param valueName the name of the value
+         * @param totalMillis the sum of all times in milliseconds
+         * @param count the number of times, the average is 0 if there are none
+         * @return this builder
+         */
+        public Builder average(String valueName, long totalMillis, long count) {
+            return time(valueName, count == 0 ? 0 : totalMillis / count);
+        }
+
+        /**
+         * Creates the snapshot of the values added so far.
+         *
+         * @return the statistics snapshot
+         */
+        public Statistics build() {
+            return new Statistics(name, new LinkedHashMap<>(values), new HashSet<>(times));
+        }
+
+    }
+
+}
@@ -0,0 +1,41 @@
+/**
+ * Copyright (c) 2014,2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.smarthome.core.common;
+
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * A {@link StatisticsProvider} exposes {@link Statistics} snapshots of the queues, subscribers, rules or clients of a
+ * component, for example to show how they keep up with their load. Providers are registered as OSGi services and are
+ * listed by the {@code stats} console command.
+ */
+@NonNullByDefault
+public interface StatisticsProvider {
+
+    /**
+     * Gets the name under which the statistics of this provider are listed, like {@code events} or {@code rules}.
+     *
+     * @return the category of the statistics
+     */
+    String getStatisticsCategory();
+
+    /**
+     * Gets a snapshot of the statistics of all current queues, subscribers, rules or clients of this provider.
+     *
+     * @return the statistics snapshots, which may be modified by the caller (not null)
+     */
+    List<Statistics> getStatistics();
+
+}
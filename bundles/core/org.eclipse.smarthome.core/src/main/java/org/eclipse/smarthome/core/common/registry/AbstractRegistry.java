@@ -13,9 +13,13 @@
 package org.eclipse.smarthome.core.common.registry;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -56,6 +60,13 @@ public abstract class AbstractRegistry<E extends Identifiable<K>, K, P extends P
 
     protected Map<Provider<E>, Collection<E>> elementMap = new ConcurrentHashMap<Provider<E>, Collection<E>>();
 
+    /** The elements of all providers indexed by their UID. */
+    private final Map<K, E> identifierToElement = new ConcurrentHashMap<>();
+
+    private final List<SecondaryIndex<K, E, ?>> secondaryIndexes = new CopyOnWriteArrayList<>();
+
+    private final AtomicLong version = new AtomicLong();
+
     protected Collection<RegistryChangeListener<E>> listeners = new CopyOnWriteArraySet<RegistryChangeListener<E>>();
 
     protected ManagedProvider<E, K> managedProvider;
@@ -133,6 +144,7 @@ public abstract class AbstractRegistry<E extends Identifiable<K>, K, P extends P
                 }
                 onAddElement(element);
                 elements.add(element);
+                addToIndexes(element);
                 notifyListenersAboutAddedElement(element);
             } catch (Exception ex) {
                 logger.warn("Could not add element: {}", ex.getMessage(), ex);
@@ -164,7 +176,9 @@ public abstract class AbstractRegistry<E extends Identifiable<K>, K, P extends P
         if (elements != null) {
             try {
                 onRemoveElement(element);
-                elements.remove(element);
+                if (elements.remove(element)) {
+                    removeFromIndexes(element);
+                }
                 notifyListenersAboutRemovedElement(element);
             } catch (Exception ex) {
                 logger.warn("Could not remove element: {}", ex.getMessage(), ex);
@@ -185,6 +199,8 @@ public abstract class AbstractRegistry<E extends Identifiable<K>, K, P extends P
                 onUpdateElement(oldElement, element);
                 elements.remove(oldElement);
                 elements.add(element);
+                // the UID is unchanged, so the old element is replaced in place and never missing from the indexes
+                addToIndexes(element);
                 notifyListenersAboutUpdatedElement(oldElement, element);
             } catch (Exception ex) {
                 logger.warn("Could not update element: {}", ex.getMessage(), ex);
@@ -192,16 +208,14 @@ public abstract class AbstractRegistry<E extends Identifiable<K>, K, P extends P
         }
     }
 
+    @Override
+    public long getVersion() {
+        return version.get();
+    }
+
     @Override
     public E get(K key) {
-        for (final Map.Entry<Provider<E>, Collection<E>> entry : elementMap.entrySet()) {
-            for (final E element : entry.getValue()) {
-                if (key.equals(element.getUID())) {
-                    return element;
-                }
-            }
-        }
-        return null;
+        return key == null ? null : identifierToElement.get(key);
     }
 
     @Override
@@ -233,6 +247,7 @@ public abstract class AbstractRegistry<E extends Identifiable<K>, K, P extends P
     }
 
     protected void notifyListeners(E oldElement, E element, EventType eventType) {
+        version.incrementAndGet();
         for (RegistryChangeListener<E> listener : this.listeners) {
             try {
                 switch (eventType) {
@@ -288,6 +303,7 @@ public abstract class AbstractRegistry<E extends Identifiable<K>, K, P extends P
                     }
                     onAddElement(element);
                     elements.add(element);
+                    addToIndexes(element);
                     notifyListenersAboutAddedElement(element);
                 } catch (Exception ex) {
                     logger.warn("Could not add element: {}", ex.getMessage(), ex);
@@ -297,6 +313,42 @@ public abstract class AbstractRegistry<E extends Identifiable<K>, K, P extends P
         }
     }
 
+    /**
+     * Creates a secondary index, which maps a property of the elements to the elements having this property. The index
+     * is kept up to date by the registry, so subclasses can use it to look up elements without iterating over all of
+     * them.
+     *
+     * @param keysFunction the function returning the keys an element should be indexed for, the returned collection
+     *            must not be changed afterwards
+     * @return the created index
+     */
+    protected <V> SecondaryIndex<K, E, V> createSecondaryIndex(Function<E, Collection<V>> keysFunction) {
+        SecondaryIndex<K, E, V> index = new SecondaryIndex<>(keysFunction);
+        stream().forEach(index::add);
+        secondaryIndexes.add(index);
+        return index;
+    }
+
+    private void addToIndexes(E element) {
+        K uid = element.getUID();
+        if (uid != null) {
+            identifierToElement.put(uid, element);
+        }
+        for (SecondaryIndex<K, E, ?> index : secondaryIndexes) {
+            index.add(element);
+        }
+    }
+
+    private void removeFromIndexes(E element) {
+        K uid = element.getUID();
+        if (uid != null) {
+            identifierToElement.remove(uid);
+        }
+        for (SecondaryIndex<K, E, ?> index : secondaryIndexes) {
+            index.remove(element);
+        }
+    }
+
     protected void setManagedProvider(ManagedProvider<E, K> provider) {
         managedProvider = provider;
     }
@@ -361,6 +413,7 @@ public abstract class AbstractRegistry<E extends Identifiable<K>, K, P extends P
             for (E element : elementMap.get(provider)) {
                 try {
                     onRemoveElement(element);
+                    removeFromIndexes(element);
                     notifyListenersAboutRemovedElement(element);
                 } catch (Exception ex) {
                     logger.warn("Could not remove element: {}", ex.getMessage(), ex);
@@ -103,4 +103,14 @@ public interface Registry<E extends Identifiable<K>, K> {
      *             if no ManagedProvider is available
      */
     public @Nullable E remove(@NonNull K key);
+
+    /**
+     * Returns the version of the elements of this registry. The version changes whenever an element is added, updated
+     * or removed, so clients can cheaply find out if the elements have changed since they last read them.
+     *
+     * @return the version or -1 if the registry does not keep track of its changes
+     */
+    default long getVersion() {
+        return -1;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,119 @@
+/**
+ * Copyright (c) 2014,2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.smarthome.core.common.registry;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A {@link SecondaryIndex} maps an arbitrary property of the elements of an {@link AbstractRegistry} (e.g. the type or
+ * the tags of an item) to the elements having this property. It is created by
+ * {@link AbstractRegistry#createSecondaryIndex(Function)} and kept up to date by the registry whenever elements are
+ * added, updated or removed.
+ *
+ * The keys of an element are remembered when it is indexed, so an element is removed correctly even if its properties
+ * have been changed in place before the registry has been notified.
+ *
+ * @param <K> type of the element UID
+ * @param <E> type of the element
+ * @param <V> type of the indexed property
+ */
+public final class SecondaryIndex<K, E extends Identifiable<K>, V> {
+
+    private final Function<E, Collection<V>> keysFunction;
+
+    private final Map<V, Map<K, E>> index = new ConcurrentHashMap<>();
+
+    private final Map<K, Collection<V>> indexedKeys = new HashMap<>();
+
+    SecondaryIndex(Function<E, Collection<V>> keysFunction) {
+        this.keysFunction = keysFunction;
+    }
+
+    /**
+     * Returns all elements indexed for the given key.
+     *
+     * @param key the key
+     * @return an unmodifiable view of the elements (not null)
+     */
+    public Collection<E> get(V key) {
+        Map<K, E> elements = index.get(key);
+        return elements == null ? Collections.emptySet() : Collections.unmodifiableCollection(elements.values());
+    }
+
+    synchronized void add(E element) {
+        K uid = element.getUID();
+        if (uid == null) {
+            return;
+        }
+        Collection<V> keys = keysFunction.apply(element);
+        if (keys == null || keys.isEmpty()) {
+            removeByUID(uid);
+            return;
+        }
+        // replace the element before removing the keys it does not have anymore, so concurrent readers always find it
+        for (V key : keys) {
+            if (key != null) {
+                index.computeIfAbsent(key, k -> new ConcurrentHashMap<>()).put(uid, element);
+            }
+        }
+        Collection<V> oldKeys = indexedKeys.put(uid, keys);
+        if (oldKeys != null) {
+            for (V oldKey : oldKeys) {
+                if (!keys.contains(oldKey)) {
+                    removeFromKey(oldKey, uid);
+                }
+            }
+        }
+    }
+
+    synchronized void remove(E element) {
+        K uid = element.getUID();
+        if (uid != null) {
+            removeByUID(uid);
+        }
+    }
+
+    synchronized void clear() {
+        index.clear();
+        indexedKeys.clear();
+    }
+
+    private void removeByUID(K uid) {
+        Collection<V> keys = indexedKeys.remove(uid);
+        if (keys == null) {
+            return;
+        }
+        for (V key : keys) {
+            removeFromKey(key, uid);
+        }
+    }
+
+    private void removeFromKey(V key, K uid) {
+        if (key == null) {
+            return;
+        }
+        Map<K, E> elements = index.get(key);
+        if (elements != null) {
+            elements.remove(uid);
+            if (elements.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+}
@@ -12,6 +12,8 @@
  */
 package org.eclipse.smarthome.core.events;
 
+import java.util.function.Supplier;
+
 /**
  * Abstract implementation of the {@link Event} interface.
  * 
@@ -21,7 +23,9 @@ public abstract class AbstractEvent implements Event {
 
     private final String topic;
 
-    private final String payload;
+    private volatile String payload;
+
+    private volatile Supplier<String> payloadSupplier;
 
     private final String source;
 
@@ -38,6 +42,19 @@ public abstract class AbstractEvent implements Event {
         this.source = source;
     }
 
+    /**
+     * Must be called in subclass constructor to create a new event whose payload is serialized on first access.
+     * 
+     * @param topic the topic
+     * @param payloadSupplier the supplier creating the serialized payload
+     * @param source the source
+     */
+    protected AbstractEvent(String topic, Supplier<String> payloadSupplier, String source) {
+        this.topic = topic;
+        this.payloadSupplier = payloadSupplier;
+        this.source = source;
+    }
+
     @Override
     public String getTopic() {
         return topic;
@@ -45,6 +62,17 @@ public abstract class AbstractEvent implements Event {
 
     @Override
     public String getPayload() {
+        String payload = this.payload;
+        if (payload == null) {
+            synchronized (this) {
+                payload = this.payload;
+                if (payload == null && payloadSupplier != null) {
+                    payload = payloadSupplier.get();
+                    this.payload = payload;
+                    payloadSupplier = null;
+                }
+            }
+        }
         return payload;
     }
 
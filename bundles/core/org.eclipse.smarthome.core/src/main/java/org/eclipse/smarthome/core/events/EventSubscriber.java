@@ -39,6 +39,9 @@ public interface EventSubscriber {
      * Gets an {@link EventFilter} in order to receive specific events if the filter applies. If there is no
      * filter all subscribed event types are received.
      * 
+     * The filter is requested once when the event subscriber is registered. Subscribers using a
+     * {@link TopicEventFilter} are looked up by the topic of an event and do not need to be checked one by one.
+     * 
      * @return the event filter, or null
      */
     EventFilter getEventFilter();
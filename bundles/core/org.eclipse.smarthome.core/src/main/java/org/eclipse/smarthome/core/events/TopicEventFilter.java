@@ -12,6 +12,8 @@
  */
 package org.eclipse.smarthome.core.events;
 
+import java.util.regex.Pattern;
+
 /**
  * The {@link TopicEventFilter} is a default Eclipse SmartHome {@link EventFilter} implementation that ensures filtering
  * of events based on an event topic.
@@ -21,7 +23,9 @@ package org.eclipse.smarthome.core.events;
 public class TopicEventFilter implements EventFilter {
 
     private final String topicRegex;
-    
+
+    private final Pattern topicPattern;
+
     /**
      * Constructs a new topic event filter.
      * 
@@ -30,11 +34,21 @@ public class TopicEventFilter implements EventFilter {
      */
     public TopicEventFilter(String topicRegex) {
         this.topicRegex = topicRegex;
+        this.topicPattern = Pattern.compile(topicRegex);
     }
- 
+
+    /**
+     * Gets the regular expression of the topic.
+     * 
+     * @return the regular expression of the topic
+     */
+    public String getTopicRegex() {
+        return topicRegex;
+    }
+
     @Override
     public boolean apply(Event event) {
-        return event.getTopic().matches(topicRegex);
+        return topicPattern.matcher(event.getTopic()).matches();
     }
 
 }
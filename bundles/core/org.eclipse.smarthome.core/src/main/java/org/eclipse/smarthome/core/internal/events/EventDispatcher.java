@@ -0,0 +1,239 @@
+/**
+ * Copyright (c) 2014,2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.smarthome.core.internal.events;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.smarthome.core.common.Statistics;
+import org.eclipse.smarthome.core.events.Event;
+import org.eclipse.smarthome.core.events.EventFilter;
+import org.eclipse.smarthome.core.events.EventSubscriber;
+import org.eclipse.smarthome.core.events.TopicEventFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Dispatches Eclipse SmartHome events to the {@link EventSubscriber}s.
+ *
+ * Every subscriber gets its own bounded {@link SubscriberMailbox}, which is drained by a shared thread pool. The pool
+ * starts a new thread whenever all of its threads are busy, so a subscriber which blocks in
+ * {@link EventSubscriber#receive(Event)} only holds up its own mailbox. The number of threads grows with the number of
+ * subscribers which are busy at the same time, and idle threads are terminated.
+ *
+ * The subscribers interested in an event type are computed once and cached until a subscriber is added or removed.
+ * Subscribers using a {@link TopicEventFilter} are put into a {@link TopicIndex}, so they are selected by the topic of
+ * an event instead of applying every filter.
+ */
+@NonNullByDefault
+public class EventDispatcher {
+
+    /** The subscribers of a single event type. */
+    private static final class TypedSubscribers {
+        final List<SubscriberMailbox> filteredMailboxes = new ArrayList<>();
+        final TopicIndex<SubscriberMailbox> topicIndex = new TopicIndex<>();
+
+        boolean isEmpty() {
+            return filteredMailboxes.isEmpty() && topicIndex.isEmpty();
+        }
+    }
+
+    static final String THREAD_POOL_NAME = "events";
+
+    /** Time in seconds after which an idle thread of the pool is terminated. */
+    private static final long THREAD_TIMEOUT = 65L;
+
+    static final int DEFAULT_MAILBOX_CAPACITY = 10000;
+
+    private final Logger logger = LoggerFactory.getLogger(EventDispatcher.class);
+
+    /** The event subscribers indexed by the event type. */
+    private final Map<String, Set<EventSubscriber>> typedEventSubscribers = new ConcurrentHashMap<>();
+
+    private final Map<EventSubscriber, SubscriberMailbox> mailboxes = new ConcurrentHashMap<>();
+
+    /** The mailboxes of all subscribers interested in an event type, computed on demand. */
+    private final Map<String, TypedSubscribers> typedMailboxes = new ConcurrentHashMap<>();
+
+    private final ExecutorService executor;
+
+    private final int mailboxCapacity;
+
+    private final boolean ownedExecutor;
+
+    public EventDispatcher() {
+        this(createExecutor(), DEFAULT_MAILBOX_CAPACITY, true);
+    }
+
+    /**
+     * Create a new event dispatcher.
+     *
+     * @param executor the executor used to deliver the events to the subscribers
+     * @param mailboxCapacity the maximum number of events queued for a single subscriber
+     */
+    public EventDispatcher(ExecutorService executor, int mailboxCapacity) {
+        this(executor, mailboxCapacity, false);
+    }
+
+    private EventDispatcher(ExecutorService executor, int mailboxCapacity, boolean ownedExecutor) {
+        this.executor = executor;
+        this.mailboxCapacity = mailboxCapacity;
+        this.ownedExecutor = ownedExecutor;
+    }
+
+    public synchronized void addEventSubscriber(final EventSubscriber eventSubscriber) {
+        mailboxes.computeIfAbsent(eventSubscriber,
+                subscriber -> new SubscriberMailbox(subscriber, executor, mailboxCapacity));
+        final Set<String> subscribedEventTypes = eventSubscriber.getSubscribedEventTypes();
+        for (final String subscribedEventType : subscribedEventTypes) {
+            // Use a copy on write array set because the set is written and read by different threads!
+            typedEventSubscribers.computeIfAbsent(subscribedEventType, type -> new CopyOnWriteArraySet<>())
+                    .add(eventSubscriber);
+        }
+        typedMailboxes.clear();
+    }
+
+    public synchronized void removeEventSubscriber(final EventSubscriber eventSubscriber) {
+        final Set<String> subscribedEventTypes = eventSubscriber.getSubscribedEventTypes();
+        for (final String subscribedEventType : subscribedEventTypes) {
+            final Set<EventSubscriber> entries = typedEventSubscribers.get(subscribedEventType);
+            if (entries != null) {
+                entries.remove(eventSubscriber);
+                if (entries.isEmpty()) {
+                    typedEventSubscribers.remove(subscribedEventType);
+                }
+            }
+        }
+        typedMailboxes.clear();
+        final SubscriberMailbox mailbox = mailboxes.remove(eventSubscriber);
+        if (mailbox != null) {
+            mailbox.close();
+        }
+    }
+
+    /**
+     * Check if there is at least one subscriber for the given event type.
+     *
+     * @param eventType the event type
+     * @return true if there is a subscriber, otherwise false
+     */
+    public boolean hasSubscribers(final String eventType) {
+        return !getMailboxes(eventType).isEmpty();
+    }
+
+    /**
+     * Queue the event for all subscribers of its event type whose filter applies.
+     *
+     * @param event the event
+     */
+    public void dispatch(final Event event) {
+        final TypedSubscribers typedSubscribers = getMailboxes(event.getType());
+        for (final SubscriberMailbox mailbox : typedSubscribers.filteredMailboxes) {
+            try {
+                final EventFilter filter = mailbox.getEventFilter();
+                if (filter == null || filter.apply(event)) {
+                    mailbox.offer(event);
+                }
+            } catch (Exception e) {
+                logger.error("Dispatching/filtering event for subscriber '{}' failed: {}", mailbox.getSubscriber(),
+                        e.getMessage(), e);
+            }
+        }
+        if (!typedSubscribers.topicIndex.isEmpty()) {
+            final Set<SubscriberMailbox> matches = new LinkedHashSet<>();
+            typedSubscribers.topicIndex.collect(event.getTopic(), matches);
+            for (final SubscriberMailbox mailbox : matches) {
+                mailbox.offer(event);
+            }
+        }
+    }
+
+    public List<Statistics> getStatistics() {
+        final List<Statistics> statistics = new ArrayList<>(mailboxes.size());
+        for (final SubscriberMailbox mailbox : mailboxes.values()) {
+            statistics.add(mailbox.getStatistics());
+        }
+        return statistics;
+    }
+
+    public synchronized void close() {
+        for (final SubscriberMailbox mailbox : mailboxes.values()) {
+            mailbox.close();
+        }
+        mailboxes.clear();
+        typedEventSubscribers.clear();
+        typedMailboxes.clear();
+        if (ownedExecutor) {
+            executor.shutdown();
+        }
+    }
+
+    private static ExecutorService createExecutor() {
+        final AtomicInteger threadNumber = new AtomicInteger(1);
+        return new ThreadPoolExecutor(0, Integer.MAX_VALUE, THREAD_TIMEOUT, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                runnable -> {
+                    final Thread thread = new Thread(runnable,
+                            "ESH-" + THREAD_POOL_NAME + "-" + threadNumber.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    private TypedSubscribers getMailboxes(final String eventType) {
+        final TypedSubscribers cached = typedMailboxes.get(eventType);
+        if (cached != null) {
+            return cached;
+        }
+        synchronized (this) {
+            return typedMailboxes.computeIfAbsent(eventType, this::computeMailboxes);
+        }
+    }
+
+    private TypedSubscribers computeMailboxes(final String eventType) {
+        final Set<EventSubscriber> subscribers = new LinkedHashSet<>();
+        final Set<EventSubscriber> eventTypeSubscribers = typedEventSubscribers.get(eventType);
+        if (eventTypeSubscribers != null) {
+            subscribers.addAll(eventTypeSubscribers);
+        }
+        final Set<EventSubscriber> allEventTypeSubscribers = typedEventSubscribers
+                .get(EventSubscriber.ALL_EVENT_TYPES);
+        if (allEventTypeSubscribers != null) {
+            subscribers.addAll(allEventTypeSubscribers);
+        }
+
+        final TypedSubscribers result = new TypedSubscribers();
+        for (final EventSubscriber subscriber : subscribers) {
+            final SubscriberMailbox mailbox = mailboxes.get(subscriber);
+            if (mailbox != null) {
+                final EventFilter filter = mailbox.getEventFilter();
+                if (!(filter instanceof TopicEventFilter)
+                        || !result.topicIndex.add(((TopicEventFilter) filter).getTopicRegex(), mailbox)) {
+                    result.filteredMailboxes.add(mailbox);
+                }
+            }
+        }
+        return result;
+    }
+
+}
@@ -13,17 +13,12 @@
 package org.eclipse.smarthome.core.internal.events;
 
 import java.util.Arrays;
-import java.util.HashSet;
 import java.util.Map;
-import java.util.Set;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
-import org.eclipse.smarthome.core.common.SafeCaller;
 import org.eclipse.smarthome.core.events.Event;
 import org.eclipse.smarthome.core.events.EventFactory;
-import org.eclipse.smarthome.core.events.EventFilter;
-import org.eclipse.smarthome.core.events.EventSubscriber;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -37,22 +32,18 @@ public class EventHandler {
 
     private final Logger logger = LoggerFactory.getLogger(EventHandler.class);
 
-    private final Map<String, Set<EventSubscriber>> typedEventSubscribers;
     private final Map<String, EventFactory> typedEventFactories;
-    private final SafeCaller safeCaller;
+    private final EventDispatcher eventDispatcher;
 
     /**
      * Create a new event handler.
      *
-     * @param typedEventSubscribers the event subscribers indexed by the event type
      * @param typedEventFactories the event factories indexed by the event type
-     * @param safeCaller the safe caller to use
+     * @param eventDispatcher the dispatcher used to deliver the events to the subscribers
      */
-    public EventHandler(final Map<String, Set<EventSubscriber>> typedEventSubscribers,
-            final Map<String, EventFactory> typedEventFactories, final SafeCaller safeCaller) {
-        this.typedEventSubscribers = typedEventSubscribers;
+    public EventHandler(final Map<String, EventFactory> typedEventFactories, final EventDispatcher eventDispatcher) {
         this.typedEventFactories = typedEventFactories;
-        this.safeCaller = safeCaller;
+        this.eventDispatcher = eventDispatcher;
     }
 
     public void handleEvent(org.osgi.service.event.Event osgiEvent) {
@@ -79,6 +70,16 @@ public class EventHandler {
         }
     }
 
+    /**
+     * Handle an Eclipse SmartHome event that has been posted inside this JVM and has not been serialized.
+     *
+     * @param eshEvent the event
+     */
+    public void handleEvent(final Event eshEvent) {
+        logger.trace("Handle in-process event (event: {})", eshEvent);
+        eventDispatcher.dispatch(eshEvent);
+    }
+
     private void handleEvent(final String type, final String payload, final String topic,
             final @Nullable String source) {
         final EventFactory eventFactory = typedEventFactories.get(type);
@@ -87,8 +88,7 @@ public class EventHandler {
             return;
         }
 
-        final Set<EventSubscriber> eventSubscribers = getEventSubscribers(type);
-        if (eventSubscribers.isEmpty()) {
+        if (!eventDispatcher.hasSubscribers(type)) {
             return;
         }
 
@@ -97,21 +97,7 @@ public class EventHandler {
             return;
         }
 
-        dispatchESHEvent(eventSubscribers, eshEvent);
-    }
-
-    private Set<EventSubscriber> getEventSubscribers(String eventType) {
-        Set<EventSubscriber> eventTypeSubscribers = typedEventSubscribers.get(eventType);
-        Set<EventSubscriber> allEventTypeSubscribers = typedEventSubscribers.get(EventSubscriber.ALL_EVENT_TYPES);
-
-        Set<EventSubscriber> subscribers = new HashSet<>();
-        if (eventTypeSubscribers != null) {
-            subscribers.addAll(eventTypeSubscribers);
-        }
-        if (allEventTypeSubscribers != null) {
-            subscribers.addAll(allEventTypeSubscribers);
-        }
-        return subscribers;
+        eventDispatcher.dispatch(eshEvent);
     }
 
     private @Nullable Event createESHEvent(final EventFactory eventFactory, final String type, final String payload,
@@ -128,19 +114,4 @@ public class EventHandler {
         return eshEvent;
     }
 
-    private synchronized void dispatchESHEvent(final Set<EventSubscriber> eventSubscribers, final Event event) {
-        for (final EventSubscriber eventSubscriber : eventSubscribers) {
-            EventFilter filter = eventSubscriber.getEventFilter();
-            if (filter == null || filter.apply(event)) {
-                safeCaller.create(eventSubscriber).withAsync().onTimeout(() -> {
-                    logger.warn("Dispatching event to subscriber '{}' takes more than {}ms.",
-                            eventSubscriber.toString(), SafeCaller.DEFAULT_TIMEOUT);
-                }).onException(e -> {
-                    logger.error("Dispatching/filtering event for subscriber '{}' failed: {}",
-                            EventSubscriber.class.getName(), e.getMessage(), e);
-                }).build().receive(event);
-            }
-        }
-    }
-
 }
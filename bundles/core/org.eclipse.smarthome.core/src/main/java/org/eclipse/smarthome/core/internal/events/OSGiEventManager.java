@@ -15,13 +15,16 @@ package org.eclipse.smarthome.core.internal.events;
 import java.security.AccessController;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
+import java.util.Collections;
 import java.util.Dictionary;
 import java.util.Hashtable;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
-import org.eclipse.smarthome.core.common.SafeCaller;
+import org.eclipse.smarthome.core.common.Statistics;
+import org.eclipse.smarthome.core.common.StatisticsProvider;
 import org.eclipse.smarthome.core.events.Event;
 import org.eclipse.smarthome.core.events.EventFactory;
 import org.eclipse.smarthome.core.events.EventPublisher;
@@ -31,7 +34,9 @@ import org.osgi.framework.ServiceReference;
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.ConfigurationPolicy;
 import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
@@ -44,16 +49,24 @@ import org.osgi.util.tracker.ServiceTracker;
  *
  * The OSGiEventHandler tracks {@link EventSubscriber}s and {@link EventFactory}s, receives OSGi events (by
  * implementing the OSGi {@link EventHandler} interface) and dispatches the received OSGi events as ESH {@link Event}s
- * to the {@link EventSubscriber}s if the provided filter applies.
+ * to the {@link EventSubscriber}s if the provided filter applies. Each subscriber receives its events in order from a
+ * bounded queue, which is drained by the shared "events" thread pool, so a slow subscriber does not delay the others.
+ * The queue statistics are available through the {@link StatisticsProvider} interface.
  *
  * The {@link OSGiEventManager} also serves as {@link EventPublisher} by implementing the EventPublisher interface.
  * Events are send in an asynchronous way via OSGi Event Admin mechanism.
  *
+ * If the configuration property {@code inProcessDispatch} is set to {@code true}, events posted through this event
+ * publisher are not serialized and sent through the OSGi Event Admin. The already built {@link Event} object is handed
+ * to the subscribers directly instead, so the payload of events that support it is only created if a subscriber
+ * actually requests it. Events posted to the OSGi Event Admin by other parties are still handled in this mode.
+ *
  * @author Stefan Bußweiler - Initial contribution
  * @author Markus Rathgeb - Return on received events as fast as possible (handle event in another thread)
  */
-@Component(immediate = true, property = { "event.topics:String=smarthome" })
-public class OSGiEventManager implements EventHandler, EventPublisher {
+@Component(configurationPid = "org.eclipse.smarthome.eventmanager", immediate = true, configurationPolicy = ConfigurationPolicy.OPTIONAL, property = {
+        "event.topics:String=smarthome" })
+public class OSGiEventManager implements EventHandler, EventPublisher, StatisticsProvider {
 
     @SuppressWarnings("rawtypes")
     private class EventSubscriberServiceTracker extends ServiceTracker {
@@ -90,14 +103,24 @@ public class OSGiEventManager implements EventHandler, EventPublisher {
 
     private EventAdmin osgiEventAdmin;
 
-    private SafeCaller safeCaller;
+    private volatile boolean inProcessDispatch = false;
 
     @Activate
-    protected void activate(ComponentContext componentContext) {
-        eventHandler = new ThreadedEventHandler(typedEventFactories, safeCaller);
+    protected void activate(ComponentContext componentContext, Map<String, Object> properties) {
+        eventHandler = new ThreadedEventHandler(typedEventFactories);
 
         eventSubscriberServiceTracker = new EventSubscriberServiceTracker(componentContext.getBundleContext());
         eventSubscriberServiceTracker.open();
+
+        modified(properties);
+    }
+
+    @Modified
+    protected void modified(Map<String, Object> properties) {
+        if (properties != null) {
+            Object value = properties.get("inProcessDispatch");
+            inProcessDispatch = value != null && Boolean.parseBoolean(value.toString());
+        }
     }
 
     @Deactivate
@@ -143,26 +166,38 @@ public class OSGiEventManager implements EventHandler, EventPublisher {
         }
     }
 
-    @Reference
-    protected void setSafeCaller(SafeCaller safeCaller) {
-        this.safeCaller = safeCaller;
+    @Override
+    public void handleEvent(org.osgi.service.event.Event osgiEvent) {
+        eventHandler.handleEvent(osgiEvent);
     }
 
-    protected void unsetSafeCaller(SafeCaller safeCaller) {
-        this.safeCaller = null;
+    @Override
+    public String getStatisticsCategory() {
+        return "events";
     }
 
     @Override
-    public void handleEvent(org.osgi.service.event.Event osgiEvent) {
-        eventHandler.handleEvent(osgiEvent);
+    public List<Statistics> getStatistics() {
+        ThreadedEventHandler eventHandler = this.eventHandler;
+        return eventHandler != null ? eventHandler.getSubscriberStatistics() : Collections.emptyList();
     }
 
     @Override
     public void post(final Event event) throws IllegalArgumentException, IllegalStateException {
-        EventAdmin eventAdmin = this.osgiEventAdmin;
-        assertValidArgument(event);
-        assertValidState(eventAdmin);
-        postAsOSGiEvent(eventAdmin, event);
+        if (inProcessDispatch) {
+            ThreadedEventHandler eventHandler = this.eventHandler;
+            // do not validate the payload, it would enforce the serialization we want to avoid
+            assertValidArgument(event, false);
+            if (eventHandler == null) {
+                throw new IllegalStateException("The event bus module is not available!");
+            }
+            eventHandler.handleEvent(event);
+        } else {
+            EventAdmin eventAdmin = this.osgiEventAdmin;
+            assertValidArgument(event, true);
+            assertValidState(eventAdmin);
+            postAsOSGiEvent(eventAdmin, event);
+        }
     }
 
     private void postAsOSGiEvent(final EventAdmin eventAdmin, final Event event) throws IllegalStateException {
@@ -188,7 +223,7 @@ public class OSGiEventManager implements EventHandler, EventPublisher {
         }
     }
 
-    private void assertValidArgument(Event event) throws IllegalArgumentException {
+    private void assertValidArgument(Event event, boolean validatePayload) throws IllegalArgumentException {
         String errorMsg = "The %s of the 'event' argument must not be null or empty.";
         String value;
 
@@ -198,7 +233,7 @@ public class OSGiEventManager implements EventHandler, EventPublisher {
         if ((value = event.getType()) == null || value.isEmpty()) {
             throw new IllegalArgumentException(String.format(errorMsg, "type"));
         }
-        if ((value = event.getPayload()) == null || value.isEmpty()) {
+        if (validatePayload && ((value = event.getPayload()) == null || value.isEmpty())) {
             throw new IllegalArgumentException(String.format(errorMsg, "payload"));
         }
         if ((value = event.getTopic()) == null || value.isEmpty()) {
@@ -0,0 +1,200 @@
+/**
+ * Copyright (c) 2014,2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.smarthome.core.internal.events;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.smarthome.core.common.SafeCaller;
+import org.eclipse.smarthome.core.common.Statistics;
+import org.eclipse.smarthome.core.events.Event;
+import org.eclipse.smarthome.core.events.EventFilter;
+import org.eclipse.smarthome.core.events.EventSubscriber;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A bounded queue of events for a single {@link EventSubscriber}.
+ *
+ * The queued events are handed to the subscriber one after another using a shared executor, so the order of the
+ * events is preserved for each subscriber while a slow subscriber does not delay the other ones. If the queue is full
+ * the oldest event is dropped. Dropped events are counted in the statistics and reported by a warning at most once
+ * a minute.
+ */
+@NonNullByDefault
+public class SubscriberMailbox {
+
+    /** Maximum number of events that are delivered before the worker thread is handed to the next mailbox. */
+    private static final int MAX_EVENTS_PER_RUN = 100;
+
+    /** Minimum time between two warnings about dropped events. */
+    private static final long DROP_WARNING_INTERVAL = TimeUnit.MINUTES.toNanos(1);
+
+    private static final class QueuedEvent {
+        final Event event;
+        final long enqueued;
+
+        QueuedEvent(Event event, long enqueued) {
+            this.event = event;
+            this.enqueued = enqueued;
+        }
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(SubscriberMailbox.class);
+
+    private final EventSubscriber subscriber;
+    private final @Nullable EventFilter eventFilter;
+    private final Executor executor;
+    private final BlockingQueue<QueuedEvent> queue;
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+    private final AtomicLong dispatchedEvents = new AtomicLong();
+    private final AtomicLong droppedEvents = new AtomicLong();
+    private final AtomicLong totalLatency = new AtomicLong();
+    private final AtomicLong maxLatency = new AtomicLong();
+    private final AtomicLong lastDropWarning = new AtomicLong(System.nanoTime() - DROP_WARNING_INTERVAL);
+
+    private volatile boolean closed = false;
+
+    /**
+     * Create a new mailbox.
+     *
+     * @param subscriber the subscriber the events are delivered to
+     * @param executor the executor used to deliver the events
+     * @param capacity the maximum number of queued events
+     */
+    public SubscriberMailbox(EventSubscriber subscriber, Executor executor, int capacity) {
+        this.subscriber = subscriber;
+        this.eventFilter = subscriber.getEventFilter();
+        this.executor = executor;
+        this.queue = new LinkedBlockingQueue<>(capacity);
+    }
+
+    public EventSubscriber getSubscriber() {
+        return subscriber;
+    }
+
+    /**
+     * Get the event filter of the subscriber, which has been requested when the mailbox has been created.
+     *
+     * @return the event filter, or null
+     */
+    public @Nullable EventFilter getEventFilter() {
+        return eventFilter;
+    }
+
+    /**
+     * Queue an event for delivery to the subscriber.
+     *
+     * @param event the event
+     */
+    public void offer(Event event) {
+        if (closed) {
+            return;
+        }
+        final QueuedEvent queuedEvent = new QueuedEvent(event, System.nanoTime());
+        while (!queue.offer(queuedEvent)) {
+            if (queue.poll() != null) {
+                eventDropped();
+            }
+        }
+        schedule();
+    }
+
+    /**
+     * Discard all queued events and do not accept new ones.
+     */
+    public void close() {
+        closed = true;
+        queue.clear();
+    }
+
+    /**
+     * Get a snapshot of the statistics of this mailbox.
+     *
+     * @return the statistics
+     */
+    public Statistics getStatistics() {
+        long dispatched = dispatchedEvents.get();
+        return Statistics.builder(subscriber.toString()).count("queued", queue.size()).count("dispatched", dispatched)
+                .count("dropped", droppedEvents.get())
+                .average("avgLatency", TimeUnit.NANOSECONDS.toMillis(totalLatency.get()), dispatched)
+                .time("maxLatency", TimeUnit.NANOSECONDS.toMillis(maxLatency.get())).build();
+    }
+
+    private void eventDropped() {
+        final long dropped = droppedEvents.incrementAndGet();
+        final long now = System.nanoTime();
+        final long lastWarning = lastDropWarning.get();
+        if (now - lastWarning >= DROP_WARNING_INTERVAL && lastDropWarning.compareAndSet(lastWarning, now)) {
+            logger.warn("Event subscriber '{}' does not keep up with the events, dropped {} events so far.", subscriber,
+                    dropped);
+        }
+    }
+
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::deliver);
+            } catch (RejectedExecutionException e) {
+                scheduled.set(false);
+                logger.warn("Cannot deliver events to subscriber '{}': {}", subscriber, e.getMessage());
+            }
+        }
+    }
+
+    private void deliver() {
+        try {
+            for (int i = 0; i < MAX_EVENTS_PER_RUN && !closed; i++) {
+                final @Nullable QueuedEvent queuedEvent = queue.poll();
+                if (queuedEvent == null) {
+                    break;
+                }
+                receive(queuedEvent);
+            }
+        } finally {
+            scheduled.set(false);
+            if (!queue.isEmpty() && !closed) {
+                schedule();
+            }
+        }
+    }
+
+    private void receive(QueuedEvent queuedEvent) {
+        final long start = System.nanoTime();
+        try {
+            subscriber.receive(queuedEvent.event);
+        } catch (Exception e) {
+            logger.error("Dispatching/filtering event for subscriber '{}' failed: {}", subscriber, e.getMessage(), e);
+        }
+        final long end = System.nanoTime();
+
+        if (TimeUnit.NANOSECONDS.toMillis(end - start) > SafeCaller.DEFAULT_TIMEOUT) {
+            logger.warn("Dispatching event to subscriber '{}' takes more than {}ms.", subscriber,
+                    SafeCaller.DEFAULT_TIMEOUT);
+        }
+
+        final long latency = end - queuedEvent.enqueued;
+        dispatchedEvents.incrementAndGet();
+        totalLatency.addAndGet(latency);
+        maxLatency.accumulateAndGet(latency, Math::max);
+    }
+
+}
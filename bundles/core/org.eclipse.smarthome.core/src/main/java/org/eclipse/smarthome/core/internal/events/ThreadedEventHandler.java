@@ -14,17 +14,15 @@ package org.eclipse.smarthome.core.internal.events;
 
 import java.io.Closeable;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
-import org.eclipse.smarthome.core.common.SafeCaller;
+import org.eclipse.smarthome.core.common.Statistics;
 import org.eclipse.smarthome.core.events.EventFactory;
 import org.eclipse.smarthome.core.events.EventSubscriber;
 import org.osgi.service.event.Event;
@@ -34,17 +32,20 @@ import org.slf4j.LoggerFactory;
 /**
  * Handle Eclipse SmartHome events encapsulated by OSGi events in a separate thread.
  *
+ * The events are deserialized in that thread and handed to the {@link EventDispatcher}, which delivers them to the
+ * subscribers. Events that have been posted in-process are handed to the dispatcher directly.
+ *
  * @author Markus Rathgeb - Initial contribution
  */
 @NonNullByDefault
 public class ThreadedEventHandler implements Closeable {
 
-    /** The event subscribers indexed by the event type. */
-    // Use a concurrent hash map because the map is written and read by different threads!
-    private final Map<String, Set<EventSubscriber>> typedEventSubscribers = new ConcurrentHashMap<>();
-
     private final Logger logger = LoggerFactory.getLogger(ThreadedEventHandler.class);
 
+    private final EventDispatcher eventDispatcher = new EventDispatcher();
+
+    private final EventHandler worker;
+
     private final Thread thread;
 
     private final Event notifyEvent = new Event("notify", Collections.emptyMap());
@@ -55,11 +56,10 @@ public class ThreadedEventHandler implements Closeable {
      * Create a new threaded event handler.
      *
      * @param typedEventFactories the event factories indexed by the event type
-     * @param safeCaller the safe caller to use
      */
-    public ThreadedEventHandler(final Map<String, EventFactory> typedEventFactories, final SafeCaller safeCaller) {
+    public ThreadedEventHandler(final Map<String, EventFactory> typedEventFactories) {
+        worker = new EventHandler(typedEventFactories, eventDispatcher);
         thread = new Thread(() -> {
-            final EventHandler worker = new EventHandler(typedEventSubscribers, typedEventFactories, safeCaller);
             while (running.get()) {
                 try {
                     final Event event = queue.poll(1, TimeUnit.HOURS);
@@ -81,30 +81,15 @@ public class ThreadedEventHandler implements Closeable {
     }
 
     public void addEventSubscriber(final EventSubscriber eventSubscriber) {
-        final Set<String> subscribedEventTypes = eventSubscriber.getSubscribedEventTypes();
-        for (final String subscribedEventType : subscribedEventTypes) {
-            final Set<EventSubscriber> entries = typedEventSubscribers.get(subscribedEventType);
-            if (entries == null) {
-                // Use a copy on write array set because the set is written and read by different threads!
-                typedEventSubscribers.put(subscribedEventType,
-                        new CopyOnWriteArraySet<>(Collections.singleton(eventSubscriber)));
-            } else {
-                entries.add(eventSubscriber);
-            }
-        }
+        eventDispatcher.addEventSubscriber(eventSubscriber);
     }
 
     public void removeEventSubscriber(EventSubscriber eventSubscriber) {
-        final Set<String> subscribedEventTypes = eventSubscriber.getSubscribedEventTypes();
-        for (final String subscribedEventType : subscribedEventTypes) {
-            final Set<EventSubscriber> entries = typedEventSubscribers.get(subscribedEventType);
-            if (entries != null) {
-                entries.remove(eventSubscriber);
-                if (entries.isEmpty()) {
-                    typedEventSubscribers.remove(subscribedEventType);
-                }
-            }
-        }
+        eventDispatcher.removeEventSubscriber(eventSubscriber);
+    }
+
+    public List<Statistics> getSubscriberStatistics() {
+        return eventDispatcher.getStatistics();
     }
 
     @Override
@@ -117,9 +102,22 @@ public class ThreadedEventHandler implements Closeable {
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         }
+        eventDispatcher.close();
     }
 
     public void handleEvent(Event event) {
         queue.add(event);
     }
+
+    /**
+     * Dispatch an Eclipse SmartHome event to the subscribers without any serialization.
+     *
+     * The event is queued for each subscriber in the calling thread, so the order of the events posted by one thread is
+     * preserved.
+     *
+     * @param event the event
+     */
+    public void handleEvent(org.eclipse.smarthome.core.events.Event event) {
+        worker.handleEvent(event);
+    }
 }
@@ -0,0 +1,135 @@
+/**
+ * Copyright (c) 2014,2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.smarthome.core.internal.events;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * An index of values registered for topic regular expressions, e.g. {@code smarthome/items/.*}{@code /state}.
+ *
+ * The index is a tree over the topic segments (separated by '/'), so the values whose expression matches a topic are
+ * found by walking the segments of the topic instead of evaluating every expression. Only expressions consisting of
+ * literal segments and {@code .*} segments can be indexed, other expressions are rejected by {@link #add}.
+ *
+ * The index is not thread-safe. It is meant to be built once and read concurrently afterwards.
+ *
+ * @param <T> the type of the values
+ */
+@NonNullByDefault
+public class TopicIndex<T> {
+
+    private static final String SEPARATOR = "/";
+
+    private static final String MULTI_SEGMENT_WILDCARD = ".*";
+
+    private static final String REGEX_META_CHARACTERS = "\\.[]{}()<>*+-=!?^$|";
+
+    private static final class Node<T> {
+        final Map<String, Node<T>> children = new HashMap<>();
+        @Nullable
+        Node<T> wildcard;
+        final List<T> values = new ArrayList<>(1);
+    }
+
+    private final Node<T> root = new Node<>();
+
+    private int size = 0;
+
+    /**
+     * Add a value for a topic expression.
+     *
+     * @param topicRegex the regular expression of the topic
+     * @param value the value
+     * @return true if the expression could be indexed, false if it is not supported by the index
+     */
+    public boolean add(String topicRegex, T value) {
+        final String[] segments = topicRegex.split(SEPARATOR, -1);
+        for (final String segment : segments) {
+            if (!isLiteral(segment) && !MULTI_SEGMENT_WILDCARD.equals(segment)) {
+                return false;
+            }
+        }
+
+        Node<T> node = root;
+        for (final String segment : segments) {
+            if (MULTI_SEGMENT_WILDCARD.equals(segment)) {
+                Node<T> wildcard = node.wildcard;
+                if (wildcard == null) {
+                    wildcard = new Node<>();
+                    node.wildcard = wildcard;
+                }
+                node = wildcard;
+            } else {
+                node = node.children.computeIfAbsent(segment, key -> new Node<>());
+            }
+        }
+        node.values.add(value);
+        size++;
+        return true;
+    }
+
+    /**
+     * Collect all values whose topic expression matches the given topic.
+     *
+     * If an expression is able to match the topic in several ways (e.g. {@code a/.*}{@code /.*} for {@code a/b/c/d})
+     * its values are added several times, so a collection that removes duplicates should be used in that case.
+     *
+     * @param topic the topic
+     * @param result the collection the matching values are added to
+     */
+    public void collect(String topic, Collection<T> result) {
+        if (size == 0) {
+            return;
+        }
+        collect(root, topic.split(SEPARATOR, -1), 0, result);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private void collect(Node<T> node, String[] segments, int index, Collection<T> result) {
+        if (index == segments.length) {
+            result.addAll(node.values);
+            return;
+        }
+        final Node<T> child = node.children.get(segments[index]);
+        if (child != null) {
+            collect(child, segments, index + 1, result);
+        }
+        final Node<T> wildcard = node.wildcard;
+        if (wildcard != null) {
+            // ".*" matches the remaining characters of the segment and may span further segments
+            for (int next = index + 1; next <= segments.length; next++) {
+                collect(wildcard, segments, next, result);
+            }
+        }
+    }
+
+    private static boolean isLiteral(String segment) {
+        for (int i = 0; i < segment.length(); i++) {
+            if (REGEX_META_CHARACTERS.indexOf(segment.charAt(i)) >= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
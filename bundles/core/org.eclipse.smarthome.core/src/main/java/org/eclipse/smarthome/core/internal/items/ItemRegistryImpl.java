@@ -20,9 +20,12 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
 
 import org.eclipse.smarthome.core.common.registry.AbstractRegistry;
 import org.eclipse.smarthome.core.common.registry.Provider;
+import org.eclipse.smarthome.core.common.registry.SecondaryIndex;
 import org.eclipse.smarthome.core.events.EventPublisher;
 import org.eclipse.smarthome.core.items.GenericItem;
 import org.eclipse.smarthome.core.items.GroupItem;
@@ -59,6 +62,17 @@ public class ItemRegistryImpl extends AbstractRegistry<Item, String, ItemProvide
             .synchronizedList(new ArrayList<StateDescriptionProvider>());
     private final List<RegistryHook<Item>> registryHooks = new CopyOnWriteArrayList<>();
 
+    // incremented by the items on every state change
+    private final AtomicLong stateVersion = new AtomicLong();
+
+    // the sum of the versions of the state description providers, guarded by stateDescriptionProviders
+    private long stateDescriptionVersion;
+
+    private final SecondaryIndex<String, Item, String> typeIndex = createSecondaryIndex(
+            item -> Collections.singleton(item.getType()));
+    private final SecondaryIndex<String, Item, String> tagIndex = createSecondaryIndex(Item::getTags);
+    private final SecondaryIndex<String, Item, String> groupIndex = createSecondaryIndex(Item::getGroupNames);
+
     public ItemRegistryImpl() {
         super(ItemProvider.class);
     }
@@ -101,24 +115,25 @@ public class ItemRegistryImpl extends AbstractRegistry<Item, String, ItemProvide
 
     @Override
     public Collection<Item> getItemsOfType(String type) {
-        Collection<Item> matchedItems = new ArrayList<Item>();
-
-        for (Item item : getItems()) {
-            if (item.getType().equals(type)) {
-                matchedItems.add(item);
-            }
-        }
-
-        return matchedItems;
+        return new ArrayList<Item>(typeIndex.get(type));
     }
 
     @Override
     public Collection<Item> getItems(String pattern) {
-        String regex = pattern.replace("?", ".?").replace("*", ".*?");
         Collection<Item> matchedItems = new ArrayList<Item>();
 
+        if (ItemUtil.isValidItemName(pattern)) {
+            // neither wildcards nor regular expression characters, so the name can be looked up directly
+            Item item = get(pattern);
+            if (item != null) {
+                matchedItems.add(item);
+            }
+            return matchedItems;
+        }
+
+        Pattern regex = Pattern.compile(pattern.replace("?", ".?").replace("*", ".*?"));
         for (Item item : getItems()) {
-            if (item.getName().matches(regex)) {
+            if (regex.matcher(item.getName()).matches()) {
                 matchedItems.add(item);
             }
         }
@@ -183,6 +198,7 @@ public class ItemRegistryImpl extends AbstractRegistry<Item, String, ItemProvide
             GenericItem genericItem = (GenericItem) item;
             genericItem.setEventPublisher(eventPublisher);
             genericItem.setStateDescriptionProviders(stateDescriptionProviders);
+            genericItem.setStateChangeCounter(stateVersion);
         }
     }
 
@@ -191,14 +207,13 @@ public class ItemRegistryImpl extends AbstractRegistry<Item, String, ItemProvide
             GenericItem genericItem = (GenericItem) item;
             genericItem.setEventPublisher(null);
             genericItem.setStateDescriptionProviders(null);
+            genericItem.setStateChangeCounter(null);
         }
     }
 
     private void addMembersToGroupItem(GroupItem groupItem) {
-        for (Item i : getItems()) {
-            if (i.getGroupNames().contains(groupItem.getName())) {
-                groupItem.addMember(i);
-            }
+        for (Item i : groupIndex.get(groupItem.getName())) {
+            groupItem.addMember(i);
         }
     }
 
@@ -265,7 +280,7 @@ public class ItemRegistryImpl extends AbstractRegistry<Item, String, ItemProvide
     @Override
     public Collection<Item> getItemsByTag(String... tags) {
         List<Item> filteredItems = new ArrayList<Item>();
-        for (Item item : getItems()) {
+        for (Item item : getCandidatesByTag(tags)) {
             if (itemHasTags(item, tags)) {
                 filteredItems.add(item);
             }
@@ -273,6 +288,20 @@ public class ItemRegistryImpl extends AbstractRegistry<Item, String, ItemProvide
         return filteredItems;
     }
 
+    /**
+     * Returns the items having the first of the given tags, or all items if no tag is given.
+     */
+    private Collection<Item> getCandidatesByTag(String... tags) {
+        if (tags == null || tags.length == 0) {
+            return getItems();
+        }
+        if (tags[0] == null) {
+            // no item has a null tag
+            return Collections.emptyList();
+        }
+        return tagIndex.get(tags[0]);
+    }
+
     private boolean itemHasTags(Item item, String... tags) {
         for (String tag : tags) {
             if (!item.hasTag(tag)) {
@@ -299,8 +328,8 @@ public class ItemRegistryImpl extends AbstractRegistry<Item, String, ItemProvide
     @Override
     public Collection<Item> getItemsByTagAndType(String type, String... tags) {
         List<Item> filteredItems = new ArrayList<Item>();
-        for (Item item : getItemsOfType(type)) {
-            if (itemHasTags(item, tags)) {
+        for (Item item : getCandidatesByTag(tags)) {
+            if (item.getType().equals(type) && itemHasTags(item, tags)) {
                 filteredItems.add(item);
             }
         }
@@ -405,6 +434,7 @@ public class ItemRegistryImpl extends AbstractRegistry<Item, String, ItemProvide
             for (Item item : getItems()) {
                 ((GenericItem) item).setStateDescriptionProviders(stateDescriptionProviders);
             }
+            stateVersion.incrementAndGet();
         }
     }
 
@@ -413,6 +443,27 @@ public class ItemRegistryImpl extends AbstractRegistry<Item, String, ItemProvide
         for (Item item : getItems()) {
             ((GenericItem) item).setStateDescriptionProviders(stateDescriptionProviders);
         }
+        stateVersion.incrementAndGet();
+    }
+
+    @Override
+    public long getStateVersion() {
+        synchronized (stateDescriptionProviders) {
+            long version = 0;
+            for (StateDescriptionProvider provider : stateDescriptionProviders) {
+                long providerVersion = provider.getVersion();
+                if (providerVersion < 0) {
+                    return -1;
+                }
+                version += providerVersion;
+            }
+            // the versions of the providers only increase, removed providers increment the state version themselves
+            if (version != stateDescriptionVersion) {
+                stateDescriptionVersion = version;
+                stateVersion.incrementAndGet();
+            }
+        }
+        return stateVersion.get();
     }
 
     @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
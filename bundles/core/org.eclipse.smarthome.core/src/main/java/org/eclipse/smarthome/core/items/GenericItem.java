@@ -23,6 +23,7 @@ import java.util.Set;
 import java.util.WeakHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.smarthome.core.common.ThreadPoolManager;
@@ -81,6 +82,8 @@ abstract public class GenericItem implements ActiveItem {
 
     private List<StateDescriptionProvider> stateDescriptionProviders;
 
+    private AtomicLong stateChangeCounter;
+
     public GenericItem(@NonNull String type, @NonNull String name) {
         this.name = name;
         this.type = type;
@@ -172,6 +175,28 @@ abstract public class GenericItem implements ActiveItem {
         this.stateDescriptionProviders = stateDescriptionProviders;
     }
 
+    /**
+     * Sets the counter which is incremented whenever the state of this item changes, before the listeners are notified.
+     *
+     * @param stateChangeCounter the counter or null
+     */
+    public void setStateChangeCounter(AtomicLong stateChangeCounter) {
+        this.stateChangeCounter = stateChangeCounter;
+    }
+
+    /**
+     * Increments the state change counter if the state has changed. Must be called after the new state is assigned.
+     *
+     * @param oldState the state before the change
+     * @param newState the state after the change
+     */
+    void countStateChange(State oldState, State newState) {
+        AtomicLong counter = stateChangeCounter;
+        if (counter != null && !oldState.equals(newState)) {
+            counter.incrementAndGet();
+        }
+    }
+
     protected void internalSend(Command command) {
         // try to send the command to the bus
         if (eventPublisher != null) {
@@ -203,6 +228,7 @@ abstract public class GenericItem implements ActiveItem {
     protected final void applyState(State state) {
         State oldState = this.state;
         this.state = state;
+        countStateChange(oldState, state);
         notifyListeners(oldState, state);
         if (!oldState.equals(state)) {
             sendStateChangedEvent(state, oldState);
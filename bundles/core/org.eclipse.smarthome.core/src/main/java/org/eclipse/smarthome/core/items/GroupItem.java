@@ -16,9 +16,11 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -49,6 +51,24 @@ public class GroupItem extends GenericItem implements StateChangeListener {
 
     protected GroupFunction function;
 
+    /**
+     * Incremented on every membership change of this group and of the groups it contains, as the latter changes the
+     * recursive members of this group. It is used to invalidate the cached member sets and the accumulator.
+     */
+    private final AtomicLong membershipVersion = new AtomicLong();
+
+    private volatile MembersSnapshot directMembers;
+
+    private volatile MembersSnapshot allMembers;
+
+    private final Object accumulatorLock = new Object();
+
+    // guarded by accumulatorLock
+    private IncrementalGroupFunction.Accumulator accumulator;
+
+    // guarded by accumulatorLock
+    private long accumulatorVersion = -1;
+
     /**
      * Creates a plain GroupItem
      *
@@ -112,7 +132,13 @@ public class GroupItem extends GenericItem implements StateChangeListener {
      * @return the direct members of this {@link GroupItem}
      */
     public Set<Item> getMembers() {
-        return ImmutableSet.copyOf(members);
+        MembersSnapshot snapshot = directMembers;
+        long version = membershipVersion.get();
+        if (snapshot == null || snapshot.version != version) {
+            snapshot = new MembersSnapshot(version, ImmutableSet.copyOf(members));
+            directMembers = snapshot;
+        }
+        return snapshot.items;
     }
 
     /**
@@ -123,7 +149,14 @@ public class GroupItem extends GenericItem implements StateChangeListener {
      * @return all members of this and all contained {@link GroupItem}s
      */
     public Set<Item> getAllMembers() {
-        return ImmutableSet.copyOf(getMembers((Item i) -> !(i instanceof GroupItem)));
+        MembersSnapshot snapshot = allMembers;
+        long version = membershipVersion.get();
+        if (snapshot == null || snapshot.version != version) {
+            snapshot = new MembersSnapshot(version,
+                    ImmutableSet.copyOf(getMembers((Item i) -> !(i instanceof GroupItem))));
+            allMembers = snapshot;
+        }
+        return snapshot.items;
     }
 
     private void collectMembers(Collection<Item> allMembers, Collection<Item> members) {
@@ -160,10 +193,30 @@ public class GroupItem extends GenericItem implements StateChangeListener {
         if (item == null) {
             throw new IllegalArgumentException("Item must not be null!");
         }
-        members.addIfAbsent(item);
+        if (members.addIfAbsent(item)) {
+            membershipChanged(Collections.newSetFromMap(new IdentityHashMap<>()));
+        }
         registerStateListener(item);
     }
 
+    /**
+     * Invalidates the cached members of this group and of all groups containing it. The parent groups are found by
+     * their state change listener registrations, as every group listens to the state changes of its members.
+     *
+     * @param visited the groups already invalidated, to stop on cyclic memberships
+     */
+    private void membershipChanged(Set<GroupItem> visited) {
+        if (!visited.add(this)) {
+            return;
+        }
+        membershipVersion.incrementAndGet();
+        for (StateChangeListener listener : listeners) {
+            if (listener instanceof GroupItem) {
+                ((GroupItem) listener).membershipChanged(visited);
+            }
+        }
+    }
+
     private void registerStateListener(Item item) {
         if (item instanceof GenericItem) {
             GenericItem genericItem = (GenericItem) item;
@@ -185,6 +238,7 @@ public class GroupItem extends GenericItem implements StateChangeListener {
         int index = members.indexOf(oldItem);
         if (index > -1) {
             Item old = members.set(index, newItem);
+            membershipChanged(Collections.newSetFromMap(new IdentityHashMap<>()));
             unregisterStateListener(old);
         }
         registerStateListener(newItem);
@@ -200,7 +254,9 @@ public class GroupItem extends GenericItem implements StateChangeListener {
         if (item == null) {
             throw new IllegalArgumentException("Item must not be null!");
         }
-        members.remove(item);
+        if (members.remove(item)) {
+            membershipChanged(Collections.newSetFromMap(new IdentityHashMap<>()));
+        }
         unregisterStateListener(item);
     }
 
@@ -344,7 +400,7 @@ public class GroupItem extends GenericItem implements StateChangeListener {
     public void stateUpdated(Item item, State state) {
         State oldState = this.state;
         if (function != null && baseItem != null) {
-            State calculatedState = function.calculate(getMembers());
+            State calculatedState = calculateState(item);
             calculatedState = ItemUtil.convertToAcceptedState(calculatedState, baseItem);
             setState(calculatedState);
         }
@@ -362,9 +418,40 @@ public class GroupItem extends GenericItem implements StateChangeListener {
         } else {
             this.state = state;
         }
+        countStateChange(oldState, this.state);
         notifyListeners(oldState, state);
     }
 
+    /**
+     * Calculates the group state after the state of the given member has been updated.
+     *
+     * If the function supports it and all members notify about their state updates, only the contribution of the
+     * updated member is replaced. Otherwise the state is calculated from the states of all members.
+     *
+     * @param item the updated member
+     * @return the calculated group state
+     */
+    private State calculateState(Item item) {
+        if (!(function instanceof IncrementalGroupFunction)) {
+            return function.calculate(getMembers());
+        }
+        synchronized (accumulatorLock) {
+            long version = membershipVersion.get();
+            Set<Item> currentMembers = getMembers();
+            if (accumulator == null || accumulatorVersion != version) {
+                accumulator = null;
+                if (currentMembers.stream().allMatch(member -> member instanceof GenericItem)) {
+                    accumulator = ((IncrementalGroupFunction) function).createAccumulator();
+                    currentMembers.forEach(accumulator::add);
+                }
+                accumulatorVersion = version;
+            } else if (accumulator != null && currentMembers.contains(item)) {
+                accumulator.add(item);
+            }
+            return accumulator != null ? accumulator.getState() : function.calculate(currentMembers);
+        }
+    }
+
     private void sendGroupStateChangedEvent(String memberName, State newState, State oldState) {
         if (eventPublisher != null) {
             eventPublisher.post(
@@ -372,4 +459,14 @@ public class GroupItem extends GenericItem implements StateChangeListener {
         }
     }
 
+    private static class MembersSnapshot {
+        private final long version;
+        private final Set<Item> items;
+
+        private MembersSnapshot(long version, Set<Item> items) {
+            this.version = version;
+            this.items = items;
+        }
+    }
+
 }
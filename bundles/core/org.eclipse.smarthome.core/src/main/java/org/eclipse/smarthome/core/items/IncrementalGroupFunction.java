@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) 2014,2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.smarthome.core.items;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.smarthome.core.types.State;
+
+/**
+ * A {@link GroupFunction} whose group state can be updated incrementally if the state of a single member changes,
+ * instead of being calculated from the states of all members again.
+ *
+ * The {@link GroupItem} creates an {@link Accumulator} holding the contribution of each member. On a state update of
+ * a member its old contribution is removed and the new one is added. The resulting state must be equal to the state
+ * returned by {@link #calculate(java.util.Set)} for the same member states.
+ */
+public interface IncrementalGroupFunction extends GroupFunction {
+
+    /**
+     * Creates a new, empty accumulator for this function.
+     *
+     * @return a new accumulator
+     */
+    Accumulator createAccumulator();
+
+    /**
+     * Holds the contribution of each member of a group to the group state.
+     *
+     * Implementations need not be thread-safe, the {@link GroupItem} synchronizes the access.
+     */
+    interface Accumulator {
+
+        /**
+         * Adds the contribution of the current state of the given member.
+         *
+         * @param item the member
+         */
+        void add(Item item);
+
+        /**
+         * Removes the contribution which has been added for the given member before.
+         *
+         * @param item the member
+         */
+        void remove(Item item);
+
+        /**
+         * Gets the group state for the currently added contributions.
+         *
+         * @return the group state
+         */
+        State getState();
+    }
+
+    /**
+     * Base class for accumulators remembering the contribution of each member.
+     *
+     * @param <C> the type of the contribution
+     */
+    abstract class AbstractAccumulator<C> implements Accumulator {
+
+        private final Map<Item, C> contributions = new HashMap<>();
+
+        @Override
+        public void add(Item item) {
+            remove(item);
+            C contribution = getContribution(item);
+            contributions.put(item, contribution);
+            onAdd(contribution);
+        }
+
+        @Override
+        public void remove(Item item) {
+            if (contributions.containsKey(item)) {
+                onRemove(contributions.remove(item));
+            }
+        }
+
+        /**
+         * Gets the number of members that have been added.
+         *
+         * @return the number of members
+         */
+        protected int size() {
+            return contributions.size();
+        }
+
+        /**
+         * Determines the contribution of the current state of the given member.
+         *
+         * @param item the member
+         * @return the contribution, may be null
+         */
+        protected abstract C getContribution(Item item);
+
+        protected abstract void onAdd(C contribution);
+
+        protected abstract void onRemove(C contribution);
+    }
+
+}
@@ -127,4 +127,17 @@ public interface ItemRegistry extends Registry<Item, String> {
      */
     void removeRegistryHook(RegistryHook<Item> hook);
 
+    /**
+     * Returns the version of the states of the items. The version changes whenever the state of an item changes, state
+     * description providers are added or removed or the state descriptions of a provider change.
+     *
+     * Together with {@link #getVersion()} it tells clients if anything they display about the items has changed.
+     *
+     * @return the version or -1 if the registry or one of the state description providers does not keep track of its
+     *         changes
+     */
+    default long getStateVersion() {
+        return -1;
+    }
+
 }
@@ -12,8 +12,6 @@
  */
 package org.eclipse.smarthome.core.items.events;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -28,6 +26,7 @@ import org.eclipse.smarthome.core.types.Command;
 import org.eclipse.smarthome.core.types.RefreshType;
 import org.eclipse.smarthome.core.types.State;
 import org.eclipse.smarthome.core.types.Type;
+import org.eclipse.smarthome.core.types.TypeParser;
 import org.eclipse.smarthome.core.types.UnDefType;
 import org.osgi.service.component.annotations.Component;
 
@@ -45,8 +44,6 @@ public class ItemEventFactory extends AbstractEventFactory {
 
     private static final String TYPE_POSTFIX = "Type";
 
-    private static final String CORE_LIBRARY_PACKAGE = "org.eclipse.smarthome.core.library.types.";
-
     private static final String ITEM_COMAND_EVENT_TOPIC = "smarthome/items/{itemName}/command";
 
     private static final String ITEM_STATE_EVENT_TOPIC = "smarthome/items/{itemName}/state";
@@ -164,21 +161,7 @@ public class ItemEventFactory extends AbstractEventFactory {
             return RefreshType.valueOf(valueToParse);
         }
 
-        try {
-            Class<?> stateClass = Class.forName(CORE_LIBRARY_PACKAGE + simpleClassName);
-            Method valueOfMethod = stateClass.getMethod("valueOf", String.class);
-            return valueOfMethod.invoke(null, valueToParse);
-        } catch (ClassNotFoundException e) {
-            throw new IllegalArgumentException("Error getting class for simple name: '" + simpleClassName
-                    + "' using package name '" + CORE_LIBRARY_PACKAGE + "'.", e);
-        } catch (NoSuchMethodException | SecurityException e) {
-            throw new IllegalStateException(
-                    "Error getting method #valueOf(String) of class '" + CORE_LIBRARY_PACKAGE + simpleClassName + "'.",
-                    e);
-        } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-            throw new IllegalStateException("Error invoking #valueOf(String) on class '" + CORE_LIBRARY_PACKAGE
-                    + simpleClassName + "' with value '" + valueToParse + "'.", e);
-        }
+        return TypeParser.parseType(simpleClassName, valueToParse);
     }
 
     private Event createAddedEvent(String topic, String payload) {
@@ -213,9 +196,9 @@ public class ItemEventFactory extends AbstractEventFactory {
     public static ItemCommandEvent createCommandEvent(String itemName, Command command, String source) {
         assertValidArguments(itemName, command, "command");
         String topic = buildTopic(ITEM_COMAND_EVENT_TOPIC, itemName);
-        ItemEventPayloadBean bean = new ItemEventPayloadBean(getCommandType(command), command.toString());
-        String payload = serializePayload(bean);
-        return new ItemCommandEvent(topic, payload, itemName, command, source);
+        return new ItemCommandEvent(topic,
+                () -> serializePayload(new ItemEventPayloadBean(getCommandType(command), command.toString())),
+                itemName, command, source);
     }
 
     /**
@@ -246,9 +229,9 @@ public class ItemEventFactory extends AbstractEventFactory {
     public static ItemStateEvent createStateEvent(String itemName, State state, String source) {
         assertValidArguments(itemName, state, "state");
         String topic = buildTopic(ITEM_STATE_EVENT_TOPIC, itemName);
-        ItemEventPayloadBean bean = new ItemEventPayloadBean(getStateType(state), state.toFullString());
-        String payload = serializePayload(bean);
-        return new ItemStateEvent(topic, payload, itemName, state, source);
+        return new ItemStateEvent(topic,
+                () -> serializePayload(new ItemEventPayloadBean(getStateType(state), state.toFullString())), itemName,
+                state, source);
     }
 
     /**
@@ -279,20 +262,21 @@ public class ItemEventFactory extends AbstractEventFactory {
     public static ItemStateChangedEvent createStateChangedEvent(String itemName, State newState, State oldState) {
         assertValidArguments(itemName, newState, "state");
         String topic = buildTopic(ITEM_STATE_CHANGED_EVENT_TOPIC, itemName);
-        ItemStateChangedEventPayloadBean bean = new ItemStateChangedEventPayloadBean(getStateType(newState),
-                newState.toFullString(), getStateType(oldState), oldState.toFullString());
-        String payload = serializePayload(bean);
-        return new ItemStateChangedEvent(topic, payload, itemName, newState, oldState);
+        return new ItemStateChangedEvent(topic, () -> serializeStateChangedPayload(newState, oldState), itemName,
+                newState, oldState);
     }
 
     public static GroupItemStateChangedEvent createGroupStateChangedEvent(String itemName, String memberName,
             State newState, State oldState) {
         assertValidArguments(itemName, memberName, newState, "state");
         String topic = buildGroupTopic(GROUPITEM_STATE_CHANGED_EVENT_TOPIC, itemName, memberName);
-        ItemStateChangedEventPayloadBean bean = new ItemStateChangedEventPayloadBean(getStateType(newState),
-                newState.toFullString(), getStateType(oldState), oldState.toFullString());
-        String payload = serializePayload(bean);
-        return new GroupItemStateChangedEvent(topic, payload, itemName, memberName, newState, oldState);
+        return new GroupItemStateChangedEvent(topic, () -> serializeStateChangedPayload(newState, oldState),
+                itemName, memberName, newState, oldState);
+    }
+
+    private static String serializeStateChangedPayload(State newState, State oldState) {
+        return serializePayload(new ItemStateChangedEventPayloadBean(getStateType(newState), newState.toFullString(),
+                getStateType(oldState), oldState.toFullString()));
     }
 
     /**
@@ -12,6 +12,8 @@
  */
 package org.eclipse.smarthome.core.items.events;
 
+import java.util.function.Supplier;
+
 import org.eclipse.smarthome.core.events.AbstractEvent;
 import org.eclipse.smarthome.core.types.State;
 
@@ -52,6 +54,23 @@ public class ItemStateChangedEvent extends AbstractEvent {
         this.oldItemState = oldItemState;
     }
 
+    /**
+     * Constructs a new item state changed event with a lazily serialized payload.
+     *
+     * @param topic the topic
+     * @param payloadSupplier the supplier creating the serialized payload on demand
+     * @param itemName the item name
+     * @param newItemState the new item state
+     * @param oldItemState the old item state
+     */
+    protected ItemStateChangedEvent(String topic, Supplier<String> payloadSupplier, String itemName,
+            State newItemState, State oldItemState) {
+        super(topic, payloadSupplier, null);
+        this.itemName = itemName;
+        this.itemState = newItemState;
+        this.oldItemState = oldItemState;
+    }
+
     @Override
     public String getType() {
         return TYPE;
@@ -18,7 +18,7 @@ import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import org.eclipse.smarthome.core.items.GroupFunction;
+import org.eclipse.smarthome.core.items.IncrementalGroupFunction;
 import org.eclipse.smarthome.core.items.Item;
 import org.eclipse.smarthome.core.types.State;
 import org.eclipse.smarthome.core.types.UnDefType;
@@ -32,7 +32,7 @@ import org.eclipse.smarthome.core.types.UnDefType;
  * @author Gaël L'hopital - Added count function
  *
  */
-public interface ArithmeticGroupFunction extends GroupFunction {
+public interface ArithmeticGroupFunction extends IncrementalGroupFunction {
 
     /**
      * This does a logical 'and' operation. Only if all items are of 'activeState' this
@@ -41,7 +41,7 @@ public interface ArithmeticGroupFunction extends GroupFunction {
      * Through the getStateAs() method, it can be determined, how many
      * items actually are not in the 'activeState'.
      */
-    static class And implements GroupFunction {
+    static class And implements IncrementalGroupFunction {
 
         protected final State activeState;
         protected final State passiveState;
@@ -100,6 +100,48 @@ public interface ArithmeticGroupFunction extends GroupFunction {
 
         }
 
+        @Override
+        public Accumulator createAccumulator() {
+            return new AbstractAccumulator<Boolean>() {
+                private int activeCount;
+
+                @Override
+                protected Boolean getContribution(Item item) {
+                    return activeState.equals(item.getStateAs(activeState.getClass()));
+                }
+
+                @Override
+                protected void onAdd(Boolean active) {
+                    if (active) {
+                        activeCount++;
+                    }
+                }
+
+                @Override
+                protected void onRemove(Boolean active) {
+                    if (active) {
+                        activeCount--;
+                    }
+                }
+
+                @Override
+                public State getState() {
+                    return calculate(activeCount, size());
+                }
+            };
+        }
+
+        /**
+         * Calculates the group state from the number of members in the active state.
+         *
+         * @param activeCount the number of members in the active state
+         * @param count the number of members
+         * @return the group state
+         */
+        protected State calculate(int activeCount, int count) {
+            return count > 0 && activeCount == count ? activeState : passiveState;
+        }
+
         @Override
         public State[] getParameters() {
             return new State[] { activeState, passiveState };
@@ -113,7 +155,7 @@ public interface ArithmeticGroupFunction extends GroupFunction {
      * Through the getStateAs() method, it can be determined, how many
      * items actually are in the 'activeState'.
      */
-    static class Or implements GroupFunction {
+    static class Or implements IncrementalGroupFunction {
 
         protected final State activeState;
         protected final State passiveState;
@@ -164,6 +206,48 @@ public interface ArithmeticGroupFunction extends GroupFunction {
             return count;
         }
 
+        @Override
+        public Accumulator createAccumulator() {
+            return new AbstractAccumulator<Boolean>() {
+                private int activeCount;
+
+                @Override
+                protected Boolean getContribution(Item item) {
+                    return activeState.equals(item.getStateAs(activeState.getClass()));
+                }
+
+                @Override
+                protected void onAdd(Boolean active) {
+                    if (active) {
+                        activeCount++;
+                    }
+                }
+
+                @Override
+                protected void onRemove(Boolean active) {
+                    if (active) {
+                        activeCount--;
+                    }
+                }
+
+                @Override
+                public State getState() {
+                    return calculate(activeCount, size());
+                }
+            };
+        }
+
+        /**
+         * Calculates the group state from the number of members in the active state.
+         *
+         * @param activeCount the number of members in the active state
+         * @param count the number of members
+         * @return the group state
+         */
+        protected State calculate(int activeCount, int count) {
+            return activeCount > 0 ? activeState : passiveState;
+        }
+
         @Override
         public State[] getParameters() {
             return new State[] { activeState, passiveState };
@@ -189,6 +273,13 @@ public interface ArithmeticGroupFunction extends GroupFunction {
             return notResult;
         }
 
+        @Override
+        protected State calculate(int activeCount, int count) {
+            State result = super.calculate(activeCount, count);
+            State notResult = result.equals(activeState) ? passiveState : activeState;
+            return notResult;
+        }
+
     }
 
     /**
@@ -210,12 +301,19 @@ public interface ArithmeticGroupFunction extends GroupFunction {
             return notResult;
         }
 
+        @Override
+        protected State calculate(int activeCount, int count) {
+            State result = super.calculate(activeCount, count);
+            State notResult = result.equals(activeState) ? passiveState : activeState;
+            return notResult;
+        }
+
     }
 
     /**
      * This calculates the numeric average over all item states of decimal type.
      */
-    static class Avg implements GroupFunction {
+    static class Avg implements IncrementalGroupFunction {
 
         public Avg() {
         }
@@ -250,6 +348,20 @@ public interface ArithmeticGroupFunction extends GroupFunction {
             }
         }
 
+        @Override
+        public Accumulator createAccumulator() {
+            return new DecimalAccumulator() {
+                @Override
+                public State getState() {
+                    if (getCount() > 0) {
+                        return new DecimalType(getSum().divide(BigDecimal.valueOf(getCount()), RoundingMode.HALF_UP));
+                    } else {
+                        return UnDefType.UNDEF;
+                    }
+                }
+            };
+        }
+
         @Override
         public State[] getParameters() {
             return new State[0];
@@ -259,7 +371,7 @@ public interface ArithmeticGroupFunction extends GroupFunction {
     /**
      * This calculates the numeric sum over all item states of decimal type.
      */
-    static class Sum implements GroupFunction {
+    static class Sum implements IncrementalGroupFunction {
 
         public Sum() {
         }
@@ -288,6 +400,16 @@ public interface ArithmeticGroupFunction extends GroupFunction {
             }
         }
 
+        @Override
+        public Accumulator createAccumulator() {
+            return new DecimalAccumulator() {
+                @Override
+                public State getState() {
+                    return new DecimalType(getSum());
+                }
+            };
+        }
+
         @Override
         public State[] getParameters() {
             return new State[0];
@@ -297,7 +419,7 @@ public interface ArithmeticGroupFunction extends GroupFunction {
     /**
      * This calculates the minimum value of all item states of decimal type.
      */
-    static class Min implements GroupFunction {
+    static class Min implements IncrementalGroupFunction {
 
         public Min() {
         }
@@ -309,8 +431,11 @@ public interface ArithmeticGroupFunction extends GroupFunction {
                 for (Item item : items) {
                     DecimalType itemState = (DecimalType) item.getStateAs(DecimalType.class);
                     if (itemState != null) {
-                        if (min == null || min.compareTo(itemState.toBigDecimal()) > 0) {
-                            min = itemState.toBigDecimal();
+                        BigDecimal value = itemState.toBigDecimal();
+                        int comparison = min == null ? 1 : min.compareTo(value);
+                        // of equal values, the one with the largest scale is used, like the incremental calculation
+                        if (comparison > 0 || (comparison == 0 && value.scale() > min.scale())) {
+                            min = value;
                         }
                     }
                 }
@@ -331,6 +456,17 @@ public interface ArithmeticGroupFunction extends GroupFunction {
             }
         }
 
+        @Override
+        public Accumulator createAccumulator() {
+            return new DecimalAccumulator() {
+                @Override
+                public State getState() {
+                    BigDecimal min = getMin();
+                    return min != null ? new DecimalType(min) : UnDefType.UNDEF;
+                }
+            };
+        }
+
         @Override
         public State[] getParameters() {
             return new State[0];
@@ -340,7 +476,7 @@ public interface ArithmeticGroupFunction extends GroupFunction {
     /**
      * This calculates the maximum value of all item states of decimal type.
      */
-    static class Max implements GroupFunction {
+    static class Max implements IncrementalGroupFunction {
 
         public Max() {
         }
@@ -352,8 +488,11 @@ public interface ArithmeticGroupFunction extends GroupFunction {
                 for (Item item : items) {
                     DecimalType itemState = (DecimalType) item.getStateAs(DecimalType.class);
                     if (itemState != null) {
-                        if (max == null || max.compareTo(itemState.toBigDecimal()) < 0) {
-                            max = itemState.toBigDecimal();
+                        BigDecimal value = itemState.toBigDecimal();
+                        int comparison = max == null ? -1 : max.compareTo(value);
+                        // of equal values, the one with the largest scale is used, like the incremental calculation
+                        if (comparison < 0 || (comparison == 0 && value.scale() > max.scale())) {
+                            max = value;
                         }
                     }
                 }
@@ -374,6 +513,17 @@ public interface ArithmeticGroupFunction extends GroupFunction {
             }
         }
 
+        @Override
+        public Accumulator createAccumulator() {
+            return new DecimalAccumulator() {
+                @Override
+                public State getState() {
+                    BigDecimal max = getMax();
+                    return max != null ? new DecimalType(max) : UnDefType.UNDEF;
+                }
+            };
+        }
+
         @Override
         public State[] getParameters() {
             return new State[0];
@@ -387,7 +537,7 @@ public interface ArithmeticGroupFunction extends GroupFunction {
      * Group:Number:COUNT("[5-9]") will count all items having a string state between 5 and 9
      * ...
      */
-    static class Count implements GroupFunction {
+    static class Count implements IncrementalGroupFunction {
 
         protected final Pattern pattern;
 
@@ -423,6 +573,37 @@ public interface ArithmeticGroupFunction extends GroupFunction {
             }
         }
 
+        @Override
+        public Accumulator createAccumulator() {
+            return new AbstractAccumulator<Boolean>() {
+                private int count;
+
+                @Override
+                protected Boolean getContribution(Item item) {
+                    return pattern.matcher(item.getState().toString()).matches();
+                }
+
+                @Override
+                protected void onAdd(Boolean matches) {
+                    if (matches) {
+                        count++;
+                    }
+                }
+
+                @Override
+                protected void onRemove(Boolean matches) {
+                    if (matches) {
+                        count--;
+                    }
+                }
+
+                @Override
+                public State getState() {
+                    return new DecimalType(count);
+                }
+            };
+        }
+
         @Override
         public State[] getParameters() {
             return new State[] { new StringType(pattern.pattern()) };
@@ -0,0 +1,115 @@
+/**
+ * Copyright (c) 2014,2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.smarthome.core.library.types;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.eclipse.smarthome.core.items.IncrementalGroupFunction.AbstractAccumulator;
+import org.eclipse.smarthome.core.items.Item;
+
+/**
+ * Accumulates the {@link DecimalType} states of group members for the numeric {@link ArithmeticGroupFunction}s.
+ *
+ * Besides the running sum it keeps the scales and the values of the members sorted, so that the sum has the same
+ * scale as if it was calculated from scratch and the minimum and maximum are still known after the member holding
+ * them has changed. Values which are equal but differ in their scale (like 1.0 and 1.00) are counted per scale, and
+ * the minimum and maximum are returned with the largest scale of the members holding them.
+ */
+abstract class DecimalAccumulator extends AbstractAccumulator<BigDecimal> {
+
+    private BigDecimal sum = BigDecimal.ZERO;
+    private int count;
+    private final TreeMap<Integer, Integer> scales = new TreeMap<>();
+    private final TreeMap<BigDecimal, TreeMap<Integer, Integer>> values = new TreeMap<>();
+
+    @Override
+    protected BigDecimal getContribution(Item item) {
+        DecimalType itemState = (DecimalType) item.getStateAs(DecimalType.class);
+        return itemState != null ? itemState.toBigDecimal() : null;
+    }
+
+    @Override
+    protected void onAdd(BigDecimal value) {
+        if (value != null) {
+            sum = sum.add(value);
+            count++;
+            scales.merge(value.scale(), 1, Integer::sum);
+            values.computeIfAbsent(value, v -> new TreeMap<>()).merge(value.scale(), 1, Integer::sum);
+        }
+    }
+
+    @Override
+    protected void onRemove(BigDecimal value) {
+        if (value != null) {
+            sum = sum.subtract(value);
+            count--;
+            decrement(scales, value.scale());
+            TreeMap<Integer, Integer> valueScales = values.get(value);
+            if (valueScales != null) {
+                decrement(valueScales, value.scale());
+                if (valueScales.isEmpty()) {
+                    values.remove(value);
+                }
+            }
+        }
+    }
+
+    private static <K> void decrement(Map<K, Integer> map, K key) {
+        map.computeIfPresent(key, (k, c) -> c > 1 ? c - 1 : null);
+    }
+
+    /**
+     * Gets the sum of all decimal values, scaled as if the values would have been added up from zero.
+     *
+     * @return the sum
+     */
+    protected BigDecimal getSum() {
+        int scale = scales.isEmpty() ? 0 : Math.max(0, scales.lastKey());
+        return sum.setScale(scale, RoundingMode.UNNECESSARY);
+    }
+
+    /**
+     * Gets the number of members having a decimal value.
+     *
+     * @return the number of decimal values
+     */
+    protected int getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the smallest decimal value.
+     *
+     * @return the minimum or null if there is no decimal value
+     */
+    protected BigDecimal getMin() {
+        return withLargestScale(values.firstEntry());
+    }
+
+    /**
+     * Gets the largest decimal value.
+     *
+     * @return the maximum or null if there is no decimal value
+     */
+    protected BigDecimal getMax() {
+        return withLargestScale(values.lastEntry());
+    }
+
+    private static BigDecimal withLargestScale(Map.Entry<BigDecimal, TreeMap<Integer, Integer>> entry) {
+        return entry == null ? null : entry.getKey().setScale(entry.getValue().lastKey(), RoundingMode.UNNECESSARY);
+    }
+
+}
@@ -221,44 +221,22 @@ public abstract class AbstractExpression<E extends AbstractExpressionPart> imple
     protected void pruneFarthest() {
         Collections.sort(getCandidates());
 
-        ArrayList<Date> beforeDates = new ArrayList<Date>();
-
-        for (Date candidate : getCandidates()) {
-            if (candidate.before(startDate)) {
-                beforeDates.add(candidate);
-            }
-        }
-
-        getCandidates().removeAll(beforeDates);
+        getCandidates().removeIf(candidate -> candidate.before(startDate));
 
         if (getCandidates().size() > maximumCandidates) {
             logger.trace("Pruning from {} to {} nearest candidates", getCandidates().size(), maximumCandidates);
-            int size = getCandidates().size();
-            for (int i = maximumCandidates; i < size; i++) {
-                getCandidates().remove(getCandidates().size() - 1);
-            }
+            getCandidates().subList(maximumCandidates, getCandidates().size()).clear();
         }
     }
 
     protected void pruneNearest() {
         Collections.sort(getCandidates());
 
-        ArrayList<Date> beforeDates = new ArrayList<Date>();
-
-        for (Date candidate : getCandidates()) {
-            if (candidate.before(startDate)) {
-                beforeDates.add(candidate);
-            }
-        }
-
-        getCandidates().removeAll(beforeDates);
+        getCandidates().removeIf(candidate -> candidate.before(startDate));
 
         if (getCandidates().size() > maximumCandidates) {
             logger.trace("Pruning from {} to {} farthest candidates", getCandidates().size(), maximumCandidates);
-            int size = getCandidates().size();
-            for (int i = 1; i <= size - maximumCandidates; i++) {
-                getCandidates().remove(0);
-            }
+            getCandidates().subList(0, getCandidates().size() - maximumCandidates).clear();
         }
     }
 
@@ -297,7 +275,7 @@ public abstract class AbstractExpression<E extends AbstractExpressionPart> imple
                         for (Date candidate : getCandidates()) {
                             newStartDate = candidate;
                             if (candidate.after(afterTime)) {
-                                setStartDate(currentStartDate);
+                                restoreStartDate(currentStartDate);
                                 return candidate;
                             }
                         }
@@ -314,6 +292,23 @@ public abstract class AbstractExpression<E extends AbstractExpressionPart> imple
         return null;
     }
 
+    /**
+     * Sets the start date back to the given one after the candidates have been searched.
+     *
+     * The expression only needs to be parsed again if the start date has actually changed and if the candidates are
+     * not calculated again on the next search anyway, as it is the case for a floating start date.
+     */
+    private void restoreStartDate(Date currentStartDate) throws ParseException {
+        if (currentStartDate.equals(startDate)) {
+            return;
+        }
+        if (hasFloatingStartDate()) {
+            startDate = currentStartDate;
+        } else {
+            setStartDate(currentStartDate);
+        }
+    }
+
     @Override
     public Date getFinalFireTime() {
 
@@ -18,7 +18,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.PriorityQueue;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
@@ -76,14 +76,25 @@ public class ExpressionThreadPoolManager extends ThreadPoolManager {
         }
     }
 
+    /**
+     * A {@link ScheduledThreadPoolExecutor} which schedules tasks by {@link Expression}s.
+     *
+     * The monitor thread keeps the scheduled expressions in a priority queue ordered by their next execution time. It
+     * only wakes up for the head of the queue, calculates the next execution time of that expression, schedules the
+     * task accordingly and puts the expression back into the queue. So the cost of a wake up does not depend on the
+     * number of scheduled expressions.
+     */
     public static class ExpressionThreadPoolExecutor extends ScheduledThreadPoolExecutor {
 
         private final Logger logger = LoggerFactory.getLogger(ExpressionThreadPoolExecutor.class);
 
-        private Map<Expression, RunnableWrapper> scheduled = new ConcurrentHashMap<>();
+        private Map<Expression, ScheduledExpression> scheduled = new ConcurrentHashMap<>();
         private Map<RunnableWrapper, List<ScheduledFuture<?>>> futures = Collections.synchronizedMap(new HashMap<>());
         private final Lock futuresLock = new ReentrantLock();
         private final Map<Future<?>, Date> timestamps = Collections.synchronizedMap(new HashMap<Future<?>, Date>());
+        private final Map<Future<?>, RunnableWrapper> futureTasks = Collections
+                .synchronizedMap(new HashMap<Future<?>, RunnableWrapper>());
+        private final PriorityQueue<ScheduledExpression> queue = new PriorityQueue<>();
         private volatile Thread monitor;
         private NamedThreadFactory monitorThreadFactory;
         private final Lock monitoringLock = new ReentrantLock();
@@ -119,8 +130,12 @@ public class ExpressionThreadPoolManager extends ThreadPoolManager {
                 Future<?> future = (Future<?>) runnable;
                 try {
                     futuresLock.lock();
-                    for (Runnable aRunnable : futures.keySet()) {
-                        futures.get(aRunnable).removeIf(entry -> entry == future);
+                    RunnableWrapper task = futureTasks.remove(future);
+                    if (task != null) {
+                        List<ScheduledFuture<?>> taskFutures = futures.get(task);
+                        if (taskFutures != null) {
+                            taskFutures.removeIf(entry -> entry == future);
+                        }
                     }
                 } finally {
                     futuresLock.unlock();
@@ -146,6 +161,7 @@ public class ExpressionThreadPoolManager extends ThreadPoolManager {
                         for (Future<?> future : obsoleteFutures) {
                             taskFutures.remove(future);
                             timestamps.remove(future);
+                            futureTasks.remove(future);
                         }
                     } else {
                         logger.debug("Runnable '{}' has no Futures scheduled", runnable);
@@ -172,125 +188,25 @@ public class ExpressionThreadPoolManager extends ThreadPoolManager {
                 logger.debug("Starting the monitor thread '{}'", Thread.currentThread().getName());
                 while (true) {
                     try {
-                        Date earliestExecution = null;
-                        final Date now = new Date();
-
-                        List<Expression> finishedExpressions = new ArrayList<Expression>();
-
-                        if (logger.isTraceEnabled()) {
-                            logger.trace("There are {} scheduled expressions", scheduled.keySet().size());
-                            for (Entry<Expression, RunnableWrapper> entry : scheduled.entrySet()) {
-                                logger.trace("  Runnable {} with {}", entry.getValue(), entry.getValue());
-                            }
-                        }
-                        for (Expression e : scheduled.keySet()) {
-                            Date time = e.getTimeAfter(now);
-
-                            if (time != null) {
-                                logger.trace("Expression's '{}' next execution time is {}", e, time);
-
-                                final RunnableWrapper task = scheduled.get(e);
-
-                                if (task != null) {
-                                    try {
-                                        futuresLock.lock();
-                                        List<ScheduledFuture<?>> taskFutures = futures.get(task);
-
-                                        if (taskFutures == null) {
-                                            taskFutures = new ArrayList<ScheduledFuture<?>>();
-                                            futures.put(task, taskFutures);
-                                        }
-
-                                        boolean schedule = false;
-
-                                        long delay = time.getTime() - now.getTime();
-                                        if (taskFutures.size() == 0) {
-                                            // if no futures are currently scheduled, we definitely have to schedule the
-                                            // task
-                                            schedule = true;
-                                        } else {
-                                            // check the time stamp of the last scheduled task if an additional task
-                                            // needs
-                                            // to be scheduled
-                                            Date timestamp = timestamps.get(taskFutures.get(taskFutures.size() - 1));
-
-                                            if (time.after(timestamp)) {
-                                                schedule = true;
-                                            } else {
-                                                logger.trace("The task '{}' is already scheduled to execute in {} ms",
-                                                        task, delay);
-                                            }
-                                        }
-
-                                        if (schedule) {
-                                            logger.debug("Scheduling the task '{}' to execute in {} ms", task, delay);
-                                            ScheduledFuture<?> newFuture = ExpressionThreadPoolExecutor.this
-                                                    .schedule(task, delay, TimeUnit.MILLISECONDS);
-                                            taskFutures.add(newFuture);
-                                            logger.trace("Task '{}' has now {} Futures", task, taskFutures.size());
-                                            timestamps.put(newFuture, time);
-                                        }
-                                        if (logger.isTraceEnabled()) {
-                                            for (ScheduledFuture<?> future : taskFutures) {
-                                                logger.trace("Task {} ({}) will run in {}", task,
-                                                        System.identityHashCode(task),
-                                                        future.getDelay(TimeUnit.MILLISECONDS));
-                                            }
-                                        }
-                                    } finally {
-                                        futuresLock.unlock();
-                                    }
-                                } else {
-                                    logger.trace("Expressions without tasks are not valid");
-                                }
-
-                                if (earliestExecution == null) {
-                                    earliestExecution = time;
-                                } else {
-                                    if (time.before(earliestExecution)) {
-                                        earliestExecution = time;
-                                    }
-                                }
-
-                            } else {
-                                logger.debug("Expression '{}' has no future executions anymore", e);
-                                finishedExpressions.add(e);
+                        ScheduledExpression next;
+                        try {
+                            monitoringLock.lock();
+                            next = queue.peek();
+                            long delay = next != null ? next.getNextCheck() - System.currentTimeMillis()
+                                    : THREAD_MONITOR_SLEEP;
+                            if (next == null || delay > 0) {
+                                logger.trace("Putting the monitor thread '{}' to sleep for {} ms",
+                                        Thread.currentThread().getName(), delay);
+                                boolean newExpression = newExpressionCondition.await(delay, TimeUnit.MILLISECONDS);
+                                logger.trace("Monitor thread woke again with {}", newExpression);
+                                continue;
                             }
+                            queue.poll();
+                        } finally {
+                            monitoringLock.unlock();
                         }
 
-                        for (Expression e : finishedExpressions) {
-                            scheduled.remove(e);
-                            logger.trace("Cleaning up finished expression '{}'", e);
-                        }
-
-                        if (earliestExecution != null) {
-                            boolean newExpression = false;
-                            while (!newExpression && new Date().before(earliestExecution)) {
-                                if (logger.isTraceEnabled()) {
-                                    logger.trace("Putting the monitor thread '{}' to sleep for {} ms",
-                                            Thread.currentThread().getName(),
-                                            earliestExecution.getTime() - new Date().getTime());
-                                }
-                                try {
-                                    monitoringLock.lock();
-                                    newExpression = newExpressionCondition.await(
-                                            earliestExecution.getTime() - new Date().getTime(), TimeUnit.MILLISECONDS);
-                                    logger.trace("Monitor thread woke again with {}", newExpression);
-                                } finally {
-                                    monitoringLock.unlock();
-                                }
-                            }
-
-                        } else {
-                            logger.trace("Putting the monitor thread '{}' to sleep for {} ms",
-                                    Thread.currentThread().getName(), THREAD_MONITOR_SLEEP);
-                            try {
-                                monitoringLock.lock();
-                                newExpressionCondition.await(THREAD_MONITOR_SLEEP, TimeUnit.MILLISECONDS);
-                            } finally {
-                                monitoringLock.unlock();
-                            }
-                        }
+                        scheduleNextExecution(next);
                     } catch (RejectedExecutionException ex) {
                         logger.error("The executor has already been shut down : '{}'", ex.getMessage());
                     } catch (CancellationException ex) {
@@ -302,6 +218,78 @@ public class ExpressionThreadPoolManager extends ThreadPoolManager {
             }
         };
 
+        /**
+         * Schedules the task of the given expression for the next execution time of the expression and puts the
+         * expression back into the queue, so it is checked again when the task is executed.
+         */
+        private void scheduleNextExecution(ScheduledExpression next) {
+            final Expression e = next.getExpression();
+            final RunnableWrapper task = next.getTask();
+            final Date now = new Date();
+            Date time = e.getTimeAfter(now);
+
+            if (time == null) {
+                logger.debug("Expression '{}' has no future executions anymore", e);
+                scheduled.remove(e, next);
+                logger.trace("Cleaning up finished expression '{}'", e);
+                return;
+            }
+            logger.trace("Expression's '{}' next execution time is {}", e, time);
+
+            try {
+                futuresLock.lock();
+                if (scheduled.get(e) != next) {
+                    // the expression has been removed or scheduled again meanwhile
+                    return;
+                }
+
+                List<ScheduledFuture<?>> taskFutures = futures.get(task);
+
+                if (taskFutures == null) {
+                    taskFutures = new ArrayList<ScheduledFuture<?>>();
+                    futures.put(task, taskFutures);
+                }
+
+                boolean schedule = false;
+
+                long delay = time.getTime() - now.getTime();
+                if (taskFutures.size() == 0) {
+                    // if no futures are currently scheduled, we definitely have to schedule the task
+                    schedule = true;
+                } else {
+                    // check the time stamp of the last scheduled task if an additional task needs to be scheduled
+                    Date timestamp = timestamps.get(taskFutures.get(taskFutures.size() - 1));
+
+                    if (timestamp == null || time.after(timestamp)) {
+                        schedule = true;
+                    } else {
+                        logger.trace("The task '{}' is already scheduled to execute in {} ms", task, delay);
+                    }
+                }
+
+                if (schedule) {
+                    logger.debug("Scheduling the task '{}' to execute in {} ms", task, delay);
+                    ScheduledFuture<?> newFuture = schedule(task, delay, TimeUnit.MILLISECONDS);
+                    taskFutures.add(newFuture);
+                    logger.trace("Task '{}' has now {} Futures", task, taskFutures.size());
+                    timestamps.put(newFuture, time);
+                    futureTasks.put(newFuture, task);
+                }
+            } finally {
+                futuresLock.unlock();
+            }
+
+            next.setNextCheck(time.getTime());
+            try {
+                monitoringLock.lock();
+                if (scheduled.get(e) == next) {
+                    queue.add(next);
+                }
+            } finally {
+                monitoringLock.unlock();
+            }
+        }
+
         public void schedule(final Runnable task, final Expression expression) {
             if (task == null || expression == null) {
                 throw new IllegalArgumentException("Task cannot be scheduled as task or expression is null.");
@@ -314,14 +302,19 @@ public class ExpressionThreadPoolManager extends ThreadPoolManager {
                 }
             }
             if (logger.isDebugEnabled()) {
-                if (scheduled.containsValue(wrapper)) {
+                if (scheduled.values().stream().anyMatch(e -> wrapper.equals(e.getTask()))) {
                     logger.debug("Task {} is already scheduled (potentially with a different expression).", wrapper);
                 }
             }
-            scheduled.put(expression, wrapper);
+            ScheduledExpression entry = new ScheduledExpression(expression, wrapper);
+            ScheduledExpression previous = scheduled.put(expression, entry);
             logger.debug("Scheduled task '{}' using expression '{}'", wrapper, expression);
             try {
                 monitoringLock.lock();
+                if (previous != null) {
+                    queue.remove(previous);
+                }
+                queue.add(entry);
                 newExpressionCondition.signalAll();
             } finally {
                 monitoringLock.unlock();
@@ -330,10 +323,16 @@ public class ExpressionThreadPoolManager extends ThreadPoolManager {
 
         public boolean remove(Expression expression) {
             logger.debug("Removing the expression '{}' from the scheduler", expression);
-            RunnableWrapper task = scheduled.remove(expression);
+            ScheduledExpression entry = scheduled.remove(expression);
 
-            if (task != null) {
-                return doRemoveFutures(task);
+            if (entry != null) {
+                try {
+                    monitoringLock.lock();
+                    queue.remove(entry);
+                } finally {
+                    monitoringLock.unlock();
+                }
+                return doRemoveFutures(entry.getTask());
             } else {
                 return false;
             }
@@ -343,9 +342,9 @@ public class ExpressionThreadPoolManager extends ThreadPoolManager {
         public boolean remove(Runnable task) {
             RunnableWrapper wrapper = new RunnableWrapper(task);
             Expression theExpression = null;
-            for (Expression anExpression : scheduled.keySet()) {
-                if (wrapper.equals(scheduled.get(anExpression))) {
-                    theExpression = anExpression;
+            for (ScheduledExpression entry : scheduled.values()) {
+                if (wrapper.equals(entry.getTask())) {
+                    theExpression = entry.getExpression();
                     break;
                 }
             }
@@ -376,6 +375,7 @@ public class ExpressionThreadPoolManager extends ThreadPoolManager {
                         for (Future<?> future : taskFutures) {
                             future.cancel(false);
                             timestamps.remove(future);
+                            futureTasks.remove(future);
                             obsoleteFutures.add(future);
                         }
                     }
@@ -397,4 +397,40 @@ public class ExpressionThreadPoolManager extends ThreadPoolManager {
             }
         }
     }
+
+    /**
+     * An {@link Expression} and its task, ordered by the time the monitor thread has to check the expression again.
+     */
+    private static class ScheduledExpression implements Comparable<ScheduledExpression> {
+
+        private final Expression expression;
+        private final RunnableWrapper task;
+        private long nextCheck;
+
+        ScheduledExpression(Expression expression, RunnableWrapper task) {
+            this.expression = expression;
+            this.task = task;
+        }
+
+        Expression getExpression() {
+            return expression;
+        }
+
+        RunnableWrapper getTask() {
+            return task;
+        }
+
+        long getNextCheck() {
+            return nextCheck;
+        }
+
+        void setNextCheck(long nextCheck) {
+            this.nextCheck = nextCheck;
+        }
+
+        @Override
+        public int compareTo(ScheduledExpression other) {
+            return Long.compare(nextCheck, other.nextCheck);
+        }
+    }
 }
@@ -42,4 +42,14 @@ public interface StateDescriptionProvider {
      */
     Integer getRank();
 
+    /**
+     * Returns the version of the state descriptions of this provider. The version changes whenever a state
+     * description provided for an item changes.
+     *
+     * @return the version or -1 if the provider does not keep track of its changes
+     */
+    default long getVersion() {
+        return -1;
+    }
+
 }
@@ -12,13 +12,34 @@
  */
 package org.eclipse.smarthome.core.types;
 
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.eclipse.smarthome.core.library.types.DateTimeType;
+import org.eclipse.smarthome.core.library.types.DecimalType;
+import org.eclipse.smarthome.core.library.types.HSBType;
+import org.eclipse.smarthome.core.library.types.PercentType;
+import org.eclipse.smarthome.core.library.types.PointType;
+import org.eclipse.smarthome.core.library.types.RawType;
+import org.eclipse.smarthome.core.library.types.StringListType;
+import org.eclipse.smarthome.core.library.types.StringType;
 
 /**
  * This is a helper class that helps parsing a string into an Eclipse SmartHome type (state or command).
  *
+ * The parsers of the types are determined once and cached by type, type name and list of types. The parsers are
+ * attached to the type classes, and lists are only cached if they consist of types of this bundle, so types of other
+ * bundles do not keep their class loaders alive. The core library types are parsed without reflection and inputs that
+ * can not be valid for a type are rejected before trying to parse them.
+ *
  * @author Kai Kreuzer - Initial contribution and API
  *
  */
@@ -32,6 +53,32 @@ public final class TypeParser {
 
     private static final String CORE_LIBRARY_PACKAGE = "org.eclipse.smarthome.core.library.types.";
 
+    private static final Function<String, Type> NO_PARSER = s -> null;
+
+    private static final Map<Class<?>, Function<String, Type>> LIBRARY_PARSERS = new HashMap<>();
+
+    private static final ClassValue<Function<String, Type>> PARSERS = new ClassValue<Function<String, Type>>() {
+        @Override
+        protected Function<String, Type> computeValue(Class<?> type) {
+            return createParser(type);
+        }
+    };
+
+    private static final Map<String, Optional<Class<?>>> TYPES_BY_NAME = new ConcurrentHashMap<>();
+
+    private static final Map<List<? extends Class<?>>, Function<String, Type>> PARSERS_BY_TYPES = new ConcurrentHashMap<>();
+
+    static {
+        LIBRARY_PARSERS.put(DecimalType.class, parser(TypeParser::isDecimal, DecimalType::valueOf));
+        LIBRARY_PARSERS.put(PercentType.class, parser(TypeParser::isDecimal, PercentType::valueOf));
+        LIBRARY_PARSERS.put(HSBType.class, parser(s -> count(s, ',') >= 2, HSBType::valueOf));
+        LIBRARY_PARSERS.put(PointType.class, parser(s -> s.isEmpty() || count(s, ',') > 0, PointType::valueOf));
+        LIBRARY_PARSERS.put(DateTimeType.class, parser(s -> !s.isEmpty(), DateTimeType::valueOf));
+        LIBRARY_PARSERS.put(RawType.class, parser(s -> s.startsWith("data:"), RawType::valueOf));
+        LIBRARY_PARSERS.put(StringListType.class, parser(s -> true, StringListType::valueOf));
+        LIBRARY_PARSERS.put(StringType.class, parser(s -> true, StringType::valueOf));
+    }
+
     /**
      * Parses a string into a type.
      *
@@ -40,16 +87,8 @@ public final class TypeParser {
      * @return Parsed type or null, if the type couldn't be parsed.
      */
     public static Type parseType(String typeName, String input) {
-        try {
-            Class<?> stateClass = Class.forName(CORE_LIBRARY_PACKAGE + typeName);
-            Method valueOfMethod = stateClass.getMethod("valueOf", String.class);
-            return (Type) valueOfMethod.invoke(stateClass, input);
-        } catch (ClassNotFoundException e) {
-        } catch (NoSuchMethodException e) {
-        } catch (IllegalAccessException e) {
-        } catch (InvocationTargetException e) {
-        }
-        return null;
+        Optional<Class<?>> type = TYPES_BY_NAME.computeIfAbsent(typeName, TypeParser::loadLibraryType);
+        return type.isPresent() ? getParser(type.get()).apply(input) : null;
     }
 
     /**
@@ -66,20 +105,7 @@ public final class TypeParser {
      * @return the corresponding State instance or <code>null</code>
      */
     public static State parseState(List<Class<? extends State>> types, String s) {
-        for (Class<? extends Type> type : types) {
-            try {
-                Method valueOf = type.getMethod("valueOf", String.class);
-                State state = (State) valueOf.invoke(type, s);
-                if (state != null) {
-                    return state;
-                }
-            } catch (NoSuchMethodException e) {
-            } catch (IllegalArgumentException e) {
-            } catch (IllegalAccessException e) {
-            } catch (InvocationTargetException e) {
-            }
-        }
-        return null;
+        return (State) getParser(types).apply(s);
     }
 
     /**
@@ -96,19 +122,120 @@ public final class TypeParser {
      * @return the corresponding Command instance or <code>null</code>
      */
     public static Command parseCommand(List<Class<? extends Command>> types, String s) {
-        for (Class<? extends Command> type : types) {
-            try {
-                Method valueOf = type.getMethod("valueOf", String.class);
-                Command value = (Command) valueOf.invoke(type, s);
-                if (value != null) {
-                    return value;
+        return (Command) getParser(types).apply(s);
+    }
+
+    private static Function<String, Type> getParser(List<? extends Class<?>> types) {
+        Function<String, Type> parser = PARSERS_BY_TYPES.get(types);
+        if (parser == null) {
+            List<? extends Class<?>> key = Collections.unmodifiableList(new ArrayList<>(types));
+            List<Function<String, Type>> parsers = new ArrayList<>(key.size());
+            for (Class<?> type : key) {
+                parsers.add(getParser(type));
+            }
+            parser = s -> {
+                for (Function<String, Type> typeParser : parsers) {
+                    Type value = typeParser.apply(s);
+                    if (value != null) {
+                        return value;
+                    }
+                }
+                return null;
+            };
+            if (key.stream().allMatch(TypeParser::isOwnType)) {
+                PARSERS_BY_TYPES.put(key, parser);
+            }
+        }
+        return parser;
+    }
+
+    private static Function<String, Type> getParser(Class<?> type) {
+        return PARSERS.get(type);
+    }
+
+    private static boolean isOwnType(Class<?> type) {
+        ClassLoader classLoader = type.getClassLoader();
+        return classLoader == null || classLoader == TypeParser.class.getClassLoader();
+    }
+
+    private static Optional<Class<?>> loadLibraryType(String typeName) {
+        try {
+            return Optional.of(Class.forName(CORE_LIBRARY_PACKAGE + typeName));
+        } catch (ClassNotFoundException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Function<String, Type> createParser(Class<?> type) {
+        Function<String, Type> parser = LIBRARY_PARSERS.get(type);
+        if (parser != null) {
+            return parser;
+        }
+        if (type.isEnum() && Type.class.isAssignableFrom(type)) {
+            Map<String, Type> constants = new HashMap<>();
+            for (Object constant : type.getEnumConstants()) {
+                constants.put(((Enum<?>) constant).name(), (Type) constant);
+            }
+            return constants::get;
+        }
+        try {
+            Method valueOf = type.getMethod("valueOf", String.class);
+            return parser(s -> true, s -> {
+                try {
+                    return (Type) valueOf.invoke(type, s);
+                } catch (ReflectiveOperationException e) {
+                    return null;
                 }
-            } catch (NoSuchMethodException e) {
-            } catch (IllegalArgumentException e) {
-            } catch (IllegalAccessException e) {
-            } catch (InvocationTargetException e) {
+            });
+        } catch (NoSuchMethodException e) {
+            return NO_PARSER;
+        }
+    }
+
+    /**
+     * Creates a parser that returns null instead of throwing an exception for invalid input. The check is done before
+     * parsing, it must accept all valid inputs but can reject invalid inputs cheaply.
+     */
+    private static Function<String, Type> parser(Predicate<String> check, Function<String, Type> valueOf) {
+        return s -> {
+            if (s != null && !check.test(s)) {
+                return null;
+            }
+            try {
+                return valueOf.apply(s);
+            } catch (RuntimeException e) {
+                return null;
+            }
+        };
+    }
+
+    private static int count(String s, char c) {
+        int count = 0;
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) == c) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Checks if the string consists of the characters of a decimal number, as accepted by
+     * {@link java.math.BigDecimal#BigDecimal(String)}.
+     */
+    private static boolean isDecimal(String s) {
+        if (s.isEmpty()) {
+            return false;
+        }
+        boolean digit = false;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digit = true;
+            } else if (c != '.' && c != '-' && c != '+' && c != 'e' && c != 'E') {
+                return false;
             }
         }
-        return null;
+        return digit;
     }
 }
@@ -0,0 +1,92 @@
+/**
+ * Copyright (c) 2014,2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.smarthome.io.console.internal.extension;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.smarthome.core.common.Statistics;
+import org.eclipse.smarthome.core.common.StatisticsProvider;
+import org.eclipse.smarthome.io.console.Console;
+import org.eclipse.smarthome.io.console.extensions.AbstractConsoleCommandExtension;
+
+/**
+ * Console command extension to show the statistics of all {@link StatisticsProvider}s, for example how the event
+ * subscribers, rules or persistence services keep up with their load.
+ */
+public class StatisticsConsoleCommandExtension extends AbstractConsoleCommandExtension {
+
+    private final Map<StatisticsProvider, String> statisticsProviders = new ConcurrentHashMap<>();
+
+    public StatisticsConsoleCommandExtension() {
+        super("stats", "Access the statistics of the event bus, rule engines and other queues.");
+    }
+
+    @Override
+    public List<String> getUsages() {
+        return Arrays.asList(buildCommandUsage("lists the available statistics categories"),
+                buildCommandUsage("<category> [<value>]",
+                        "lists the statistics of a category, sorted by the given value in descending order"));
+    }
+
+    @Override
+    public void execute(String[] args, Console console) {
+        if (args.length == 0) {
+            for (String category : categories().keySet()) {
+                console.println(category);
+            }
+        } else if (args.length <= 2) {
+            StatisticsProvider statisticsProvider = categories().get(args[0]);
+            if (statisticsProvider == null) {
+                console.println("Error: There are no statistics of category '" + args[0] + "'.");
+                return;
+            }
+            List<Statistics> statistics = statisticsProvider.getStatistics();
+            if (args.length == 2) {
+                String valueName = args[1];
+                if (statistics.stream().anyMatch(entry -> !entry.getValues().containsKey(valueName))) {
+                    console.println("Error: The statistics of category '" + args[0] + "' have no value '" + valueName
+                            + "'.");
+                    return;
+                }
+                statistics.sort(Comparator.comparingLong((Statistics entry) -> entry.get(valueName)).reversed());
+            }
+            for (Statistics entry : statistics) {
+                console.println(entry.toString());
+            }
+        } else {
+            printUsage(console);
+        }
+    }
+
+    private Map<String, StatisticsProvider> categories() {
+        Map<String, StatisticsProvider> categories = new TreeMap<>();
+        for (Map.Entry<StatisticsProvider, String> entry : statisticsProviders.entrySet()) {
+            categories.put(entry.getValue(), entry.getKey());
+        }
+        return categories;
+    }
+
+    protected void addStatisticsProvider(StatisticsProvider statisticsProvider) {
+        statisticsProviders.put(statisticsProvider, statisticsProvider.getStatisticsCategory());
+    }
+
+    protected void removeStatisticsProvider(StatisticsProvider statisticsProvider) {
+        statisticsProviders.remove(statisticsProvider);
+    }
+
+}
@@ -0,0 +1,139 @@
+/**
+ * Copyright (c) 2014,2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.smarthome.io.net.http;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.server.handler.AbstractHandler;
+import org.eclipse.smarthome.core.common.Statistics;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the asynchronous methods of {@link HttpUtil} against an embedded jetty server.
+ */
+public class HttpUtilAsyncTest {
+
+    private static final int TIMEOUT = 5000;
+
+    private final AtomicInteger requests = new AtomicInteger();
+
+    private Server server;
+    private String baseUrl;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new Server(new InetSocketAddress("127.0.0.1", 0));
+        server.setHandler(new AbstractHandler() {
+            @Override
+            public void handle(String target, Request baseRequest, HttpServletRequest request,
+                    HttpServletResponse response) throws IOException, ServletException {
+                requests.incrementAndGet();
+                try {
+                    // keep the request pending long enough for identical requests to join it
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                response.setContentType("text/plain;charset=UTF-8");
+                response.getWriter().print(target);
+                baseRequest.setHandled(true);
+            }
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + ((ServerConnector) server.getConnectors()[0]).getLocalPort();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.stop();
+    }
+
+    @Test
+    public void identicalPendingGetRequestsAreSentOnce() {
+        CompletableFuture<String> first = HttpUtil.executeUrlAsync("GET", baseUrl + "/coalesced", TIMEOUT);
+        CompletableFuture<String> second = HttpUtil.executeUrlAsync("GET", baseUrl + "/coalesced", TIMEOUT);
+
+        assertThat(first.join(), is("/coalesced"));
+        assertThat(second.join(), is("/coalesced"));
+        assertThat(requests.get(), is(1));
+    }
+
+    @Test
+    public void joinedRequestTimesOutAfterItsOwnTimeout() {
+        CompletableFuture<String> first = HttpUtil.executeUrlAsync("GET", baseUrl + "/joined", TIMEOUT);
+        CompletableFuture<String> second = HttpUtil.executeUrlAsync("GET", baseUrl + "/joined", 50);
+
+        try {
+            second.join();
+            fail("The joined request did not time out");
+        } catch (CompletionException e) {
+            assertThat(e.getCause(), is(instanceOf(IOException.class)));
+        }
+        assertThat(first.isDone(), is(false));
+        assertThat(first.join(), is("/joined"));
+        assertThat(requests.get(), is(1));
+    }
+
+    @Test
+    public void requestWithLongerTimeoutIsNotFailedByPendingRequest() {
+        CompletableFuture<String> first = HttpUtil.executeUrlAsync("GET", baseUrl + "/replaced", 50);
+        CompletableFuture<String> second = HttpUtil.executeUrlAsync("GET", baseUrl + "/replaced", TIMEOUT);
+
+        assertThat(second.join(), is("/replaced"));
+        assertThat(first.isCompletedExceptionally(), is(true));
+        assertThat(requests.get(), is(2));
+    }
+
+    @Test
+    public void responsesAreCachedForTheCacheTime() {
+        assertThat(HttpUtil.executeUrlAsync("GET", baseUrl + "/cached", null, null, null, TIMEOUT, 60000).join(),
+                is("/cached"));
+        assertThat(HttpUtil.executeUrlAsync("GET", baseUrl + "/cached", null, null, null, TIMEOUT, 60000).join(),
+                is("/cached"));
+        assertThat(requests.get(), is(1));
+
+        assertThat(HttpUtil.executeUrlAsync("GET", baseUrl + "/cached", TIMEOUT).join(), is("/cached"));
+        assertThat(requests.get(), is(2));
+    }
+
+    @Test
+    public void requestsAreCountedPerHost() {
+        HttpUtil.executeUrlAsync("GET", baseUrl + "/statistics", TIMEOUT).join();
+
+        Statistics statistics = null;
+        for (Statistics hostStatistics : HttpUtil.getHostStatistics()) {
+            if ("127.0.0.1".equals(hostStatistics.getName())) {
+                statistics = hostStatistics;
+            }
+        }
+        assertThat(statistics, is(notNullValue()));
+        assertThat(statistics.get("requests") > 0, is(true));
+    }
+
+}
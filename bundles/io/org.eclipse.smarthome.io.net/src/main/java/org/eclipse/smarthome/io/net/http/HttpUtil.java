@@ -21,9 +21,19 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Properties;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.lang.StringUtils;
 import org.eclipse.jetty.client.HttpClient;
@@ -34,7 +44,9 @@ import org.eclipse.jetty.client.api.Authentication;
 import org.eclipse.jetty.client.api.AuthenticationStore;
 import org.eclipse.jetty.client.api.ContentResponse;
 import org.eclipse.jetty.client.api.Request;
+import org.eclipse.jetty.client.api.Result;
 import org.eclipse.jetty.client.util.BasicAuthentication;
+import org.eclipse.jetty.client.util.BufferingResponseListener;
 import org.eclipse.jetty.client.util.InputStreamContentProvider;
 import org.eclipse.jetty.http.HttpHeader;
 import org.eclipse.jetty.http.HttpMethod;
@@ -42,6 +54,8 @@ import org.eclipse.jetty.http.HttpStatus;
 import org.eclipse.jetty.util.B64Code;
 import org.eclipse.jetty.util.StringUtil;
 import org.eclipse.jetty.util.ssl.SslContextFactory;
+import org.eclipse.jetty.util.thread.Scheduler;
+import org.eclipse.smarthome.core.common.Statistics;
 import org.eclipse.smarthome.core.library.types.RawType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -59,7 +73,21 @@ public class HttpUtil {
 
     private static final int DEFAULT_TIMEOUT_MS = 5000;
 
-    private static final HttpClient CLIENT = new HttpClient(new SslContextFactory());
+    /** The system property to configure the maximum number of connections per destination (scheme, host and port). */
+    public static final String MAX_CONNECTIONS_PROPERTY = "org.eclipse.smarthome.io.net.http.maxConnections";
+
+    /** The system property to configure the time in milliseconds after which idle connections are closed. */
+    public static final String IDLE_TIMEOUT_PROPERTY = "org.eclipse.smarthome.io.net.http.idleTimeout";
+
+    private static final int MAX_CACHED_RESPONSES = 256;
+
+    private static final HttpClient CLIENT = createHttpClient();
+
+    private static final Map<String, PendingRequest> PENDING_REQUESTS = new ConcurrentHashMap<>();
+
+    private static final Map<String, CachedResponse> CACHED_RESPONSES = new ConcurrentHashMap<>();
+
+    private static final Map<String, HostCounters> HOST_COUNTERS = new ConcurrentHashMap<>();
 
     private static class ProxyParams {
         public String proxyHost = null;
@@ -69,6 +97,51 @@ public class HttpUtil {
         public String nonProxyHosts = null;
     }
 
+    private static class HttpResponse {
+        private final int status;
+        private final String body;
+
+        private HttpResponse(int status, String body) {
+            this.status = status;
+            this.body = body;
+        }
+    }
+
+    private static class PendingRequest {
+        private final CompletableFuture<HttpResponse> response = new CompletableFuture<>();
+        private final int timeout;
+
+        private PendingRequest(int timeout) {
+            this.timeout = timeout;
+        }
+    }
+
+    private static class CachedResponse {
+        private final String body;
+        private final long expiry;
+
+        private CachedResponse(String body, long expiry) {
+            this.body = body;
+            this.expiry = expiry;
+        }
+    }
+
+    private static class HostCounters {
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong errors = new AtomicLong();
+        private final AtomicLong totalLatency = new AtomicLong();
+        private final AtomicLong maxLatency = new AtomicLong();
+    }
+
+    private static HttpClient createHttpClient() {
+        // connections are kept alive and pooled per destination by the client
+        HttpClient client = new HttpClient(new SslContextFactory());
+        client.setMaxConnectionsPerDestination(
+                Integer.getInteger(MAX_CONNECTIONS_PROPERTY, client.getMaxConnectionsPerDestination()));
+        client.setIdleTimeout(Long.getLong(IDLE_TIMEOUT_PROPERTY, client.getIdleTimeout()));
+        return client;
+    }
+
     /**
      * Executes the given <code>url</code> with the given <code>httpMethod</code>.
      * Furthermore the <code>http.proxyXXX</code> System variables are read and
@@ -156,14 +229,219 @@ public class HttpUtil {
 
         ContentResponse response = executeUrlAndGetReponse(httpMethod, url, httpHeaders, content, contentType, timeout,
                 proxyHost, proxyPort, proxyUser, proxyPassword, nonProxyHosts);
-        String encoding = response.getEncoding() != null ? response.getEncoding().replaceAll("\"", "").trim() : "UTF-8";
-        String responseBody;
+        return decodeContent(response.getContent(), response.getEncoding());
+    }
+
+    /**
+     * Executes the given <code>url</code> with the given <code>httpMethod</code> without blocking the calling thread.
+     * Furthermore the <code>http.proxyXXX</code> System variables are read and
+     * set into the {@link HttpClient}.
+     *
+     * @param httpMethod the HTTP method to use
+     * @param url the url to execute
+     * @param timeout the socket timeout in milliseconds to wait for data
+     *
+     * @return a future completed with the response body, <code>null</code> if it cannot be decoded, or completed
+     *         exceptionally with an {@link IOException} when the request execution failed or timed out
+     */
+    public static CompletableFuture<String> executeUrlAsync(String httpMethod, String url, int timeout) {
+        return executeUrlAsync(httpMethod, url, null, null, null, timeout);
+    }
+
+    /**
+     * Executes the given <code>url</code> with the given <code>httpMethod</code> without blocking the calling thread.
+     * Furthermore the <code>http.proxyXXX</code> System variables are read and
+     * set into the {@link HttpClient}.
+     *
+     * @param httpMethod the HTTP method to use
+     * @param url the url to execute
+     * @param httpHeaders optional http request headers which has to be sent within request
+     * @param content the content to be send to the given <code>url</code> or <code>null</code> if no content should be
+     *            send.
+     * @param contentType the content type of the given <code>content</code>
+     * @param timeout the socket timeout in milliseconds to wait for data
+     *
+     * @return a future completed with the response body, <code>null</code> if it cannot be decoded, or completed
+     *         exceptionally with an {@link IOException} when the request execution failed or timed out
+     */
+    public static CompletableFuture<String> executeUrlAsync(String httpMethod, String url, Properties httpHeaders,
+            InputStream content, String contentType, int timeout) {
+        return executeUrlAsync(httpMethod, url, httpHeaders, content, contentType, timeout, 0);
+    }
+
+    /**
+     * Executes the given <code>url</code> with the given <code>httpMethod</code> without blocking the calling thread.
+     * Furthermore the <code>http.proxyXXX</code> System variables are read and
+     * set into the {@link HttpClient}.
+     *
+     * GET requests without content share the response with identical GET requests which are still in progress, as
+     * long as these have been sent with at least the given <code>timeout</code>. The wait for a shared response is
+     * limited by the given <code>timeout</code> as well. Their successful responses can be cached for the given
+     * <code>cacheTime</code>.
+     *
+     * @param httpMethod the HTTP method to use
+     * @param url the url to execute
+     * @param httpHeaders optional http request headers which has to be sent within request
+     * @param content the content to be send to the given <code>url</code> or <code>null</code> if no content should be
+     *            send.
+     * @param contentType the content type of the given <code>content</code>
+     * @param timeout the socket timeout in milliseconds to wait for data
+     * @param cacheTime the time in milliseconds the response of a GET request is cached, 0 to not cache it
+     *
+     * @return a future completed with the response body, <code>null</code> if it cannot be decoded, or completed
+     *         exceptionally with an {@link IOException} when the request execution failed or timed out
+     */
+    public static CompletableFuture<String> executeUrlAsync(String httpMethod, String url, Properties httpHeaders,
+            InputStream content, String contentType, int timeout, int cacheTime) {
+        final ProxyParams proxyParams = prepareProxyParams();
+
+        if (content != null || !HttpMethod.GET.equals(createHttpMethod(httpMethod))) {
+            return sendAsync(httpMethod, url, httpHeaders, content, contentType, timeout, proxyParams)
+                    .thenApply(response -> response.body);
+        }
+
+        String key = createRequestKey(url, httpHeaders);
+        if (cacheTime > 0) {
+            CachedResponse cached = CACHED_RESPONSES.get(key);
+            if (cached != null && cached.expiry > System.currentTimeMillis()) {
+                return CompletableFuture.completedFuture(cached.body);
+            }
+        }
+
+        // a pending request with a shorter timeout is replaced, so it cannot fail this one early
+        PendingRequest request = new PendingRequest(timeout);
+        PendingRequest pending = PENDING_REQUESTS.compute(key,
+                (k, p) -> p != null && p.timeout >= timeout ? p : request);
+        CompletableFuture<HttpResponse> future;
+        if (pending == request) {
+            logger.trace("Sending GET request for {}", url);
+            sendAsync(httpMethod, url, httpHeaders, null, null, timeout, proxyParams).whenComplete((response, e) -> {
+                PENDING_REQUESTS.remove(key, request);
+                if (e != null) {
+                    request.response.completeExceptionally(e);
+                } else {
+                    request.response.complete(response);
+                }
+            });
+            future = request.response;
+        } else {
+            logger.trace("Joining pending GET request for {}", url);
+            future = withTimeout(pending.response, timeout);
+        }
+        return future.thenApply(response -> {
+            if (cacheTime > 0 && response.status < HttpStatus.BAD_REQUEST_400) {
+                cacheResponse(key, response.body, cacheTime);
+            }
+            return response.body;
+        });
+    }
+
+    /**
+     * Gets the statistics of the requests that have been executed per host.
+     *
+     * @return the statistics of all hosts
+     */
+    public static Collection<Statistics> getHostStatistics() {
+        Collection<Statistics> statistics = new ArrayList<>();
+        for (Entry<String, HostCounters> entry : HOST_COUNTERS.entrySet()) {
+            HostCounters counters = entry.getValue();
+            long requests = counters.requests.get();
+            statistics.add(Statistics.builder(entry.getKey()).count("requests", requests)
+                    .count("errors", counters.errors.get())
+                    .average("avgLatency", counters.totalLatency.get(), requests)
+                    .time("maxLatency", counters.maxLatency.get()).build());
+        }
+        return statistics;
+    }
+
+    private static CompletableFuture<HttpResponse> withTimeout(CompletableFuture<HttpResponse> response, int timeout) {
+        CompletableFuture<HttpResponse> future = new CompletableFuture<>();
+        Scheduler.Task task = CLIENT.getScheduler().schedule(() -> future.completeExceptionally(
+                new IOException(new TimeoutException("Total timeout " + timeout + " ms elapsed"))), timeout,
+                TimeUnit.MILLISECONDS);
+        response.whenComplete((r, e) -> {
+            task.cancel();
+            if (e != null) {
+                future.completeExceptionally(e);
+            } else {
+                future.complete(r);
+            }
+        });
+        return future;
+    }
+
+    private static CompletableFuture<HttpResponse> sendAsync(String httpMethod, String url, Properties httpHeaders,
+            InputStream content, String contentType, int timeout, ProxyParams proxyParams) {
+        CompletableFuture<HttpResponse> future = new CompletableFuture<>();
+        final Request request;
+        try {
+            request = createRequest(httpMethod, url, httpHeaders, content, contentType, timeout, proxyParams.proxyHost,
+                    proxyParams.proxyPort, proxyParams.proxyUser, proxyParams.proxyPassword,
+                    proxyParams.nonProxyHosts);
+        } catch (RuntimeException e) {
+            future.completeExceptionally(new IOException(e));
+            return future;
+        }
+
+        final long start = System.nanoTime();
+        request.send(new BufferingResponseListener() {
+            @Override
+            public void onComplete(Result result) {
+                long latency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                if (result.isFailed()) {
+                    recordRequest(request.getHost(), latency, true);
+                    future.completeExceptionally(new IOException(result.getFailure()));
+                    return;
+                }
+                int statusCode = result.getResponse().getStatus();
+                if (statusCode >= HttpStatus.BAD_REQUEST_400) {
+                    logger.debug("Method failed: {} {}", statusCode, result.getResponse().getReason());
+                }
+                recordRequest(request.getHost(), latency, statusCode >= HttpStatus.BAD_REQUEST_400);
+                future.complete(new HttpResponse(statusCode, decodeContent(getContent(), getEncoding())));
+            }
+        });
+        return future;
+    }
+
+    private static String createRequestKey(String url, Properties httpHeaders) {
+        StringBuilder key = new StringBuilder(url);
+        if (httpHeaders != null) {
+            for (String httpHeaderKey : new TreeSet<>(httpHeaders.stringPropertyNames())) {
+                key.append('\n').append(httpHeaderKey).append(':').append(httpHeaders.getProperty(httpHeaderKey));
+            }
+        }
+        return key.toString();
+    }
+
+    private static void cacheResponse(String key, String body, int cacheTime) {
+        long now = System.currentTimeMillis();
+        if (CACHED_RESPONSES.size() >= MAX_CACHED_RESPONSES) {
+            CACHED_RESPONSES.values().removeIf(cached -> cached.expiry <= now);
+            if (CACHED_RESPONSES.size() >= MAX_CACHED_RESPONSES) {
+                return;
+            }
+        }
+        CACHED_RESPONSES.put(key, new CachedResponse(body, now + cacheTime));
+    }
+
+    private static void recordRequest(String host, long latency, boolean failed) {
+        HostCounters counters = HOST_COUNTERS.computeIfAbsent(String.valueOf(host), h -> new HostCounters());
+        counters.requests.incrementAndGet();
+        if (failed) {
+            counters.errors.incrementAndGet();
+        }
+        counters.totalLatency.addAndGet(latency);
+        counters.maxLatency.accumulateAndGet(latency, Math::max);
+    }
+
+    private static String decodeContent(byte[] content, String encoding) {
         try {
-            responseBody = new String(response.getContent(), encoding);
+            return encoding != null ? new String(content, encoding.replaceAll("\"", "").trim())
+                    : new String(content, StandardCharsets.UTF_8);
         } catch (UnsupportedEncodingException e) {
-            responseBody = null;
+            return null;
         }
-        return responseBody;
     }
 
     /**
@@ -189,6 +467,31 @@ public class HttpUtil {
             InputStream content, String contentType, int timeout, String proxyHost, Integer proxyPort, String proxyUser,
             String proxyPassword, String nonProxyHosts) throws IOException {
 
+        Request request = createRequest(httpMethod, url, httpHeaders, content, contentType, timeout, proxyHost,
+                proxyPort, proxyUser, proxyPassword, nonProxyHosts);
+
+        long start = System.nanoTime();
+        try {
+            ContentResponse response = request.send();
+            int statusCode = response.getStatus();
+            if (statusCode >= HttpStatus.BAD_REQUEST_400) {
+                String statusLine = statusCode + " " + response.getReason();
+                logger.debug("Method failed: {}", statusLine);
+            }
+            recordRequest(request.getHost(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                    statusCode >= HttpStatus.BAD_REQUEST_400);
+
+            return response;
+        } catch (Exception e) {
+            recordRequest(request.getHost(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), true);
+            throw new IOException(e);
+        }
+    }
+
+    private static Request createRequest(String httpMethod, String url, Properties httpHeaders, InputStream content,
+            String contentType, int timeout, String proxyHost, Integer proxyPort, String proxyUser,
+            String proxyPassword, String nonProxyHosts) {
+
         startHttpClient(CLIENT);
 
         HttpProxy proxy = null;
@@ -236,27 +539,17 @@ public class HttpUtil {
             request.content(new InputStreamContentProvider(content), contentType);
         }
 
+        if (proxy != null) {
+            // Remove the proxy, that has been added for this request
+            final HttpProxy requestProxy = proxy;
+            request.onComplete(result -> CLIENT.getProxyConfiguration().getProxies().remove(requestProxy));
+        }
+
         if (logger.isDebugEnabled()) {
             logger.debug("About to execute {}", request.getURI());
         }
 
-        try {
-            ContentResponse response = request.send();
-            int statusCode = response.getStatus();
-            if (statusCode >= HttpStatus.BAD_REQUEST_400) {
-                String statusLine = statusCode + " " + response.getReason();
-                logger.debug("Method failed: {}", statusLine);
-            }
-
-            return response;
-        } catch (Exception e) {
-            throw new IOException(e);
-        } finally {
-            if (proxy != null) {
-                // Remove the proxy, that has been added for this request
-                CLIENT.getProxyConfiguration().getProxies().remove(proxy);
-            }
-        }
+        return request;
     }
 
     /**
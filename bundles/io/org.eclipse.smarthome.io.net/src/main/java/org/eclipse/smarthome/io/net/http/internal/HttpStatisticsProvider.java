@@ -0,0 +1,39 @@
+/**
+ * Copyright (c) 2014,2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.smarthome.io.net.http.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.smarthome.core.common.Statistics;
+import org.eclipse.smarthome.core.common.StatisticsProvider;
+import org.eclipse.smarthome.io.net.http.HttpUtil;
+import org.osgi.service.component.annotations.Component;
+
+/**
+ * Exposes the per host statistics of the requests executed by {@link HttpUtil}.
+ */
+@Component(service = StatisticsProvider.class)
+public class HttpStatisticsProvider implements StatisticsProvider {
+
+    @Override
+    public String getStatisticsCategory() {
+        return "http";
+    }
+
+    @Override
+    public List<Statistics> getStatistics() {
+        return new ArrayList<>(HttpUtil.getHostStatistics());
+    }
+
+}
@@ -12,30 +12,37 @@
  */
 package org.eclipse.smarthome.io.rest.core.internal.item;
 
-import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
 import static org.hamcrest.core.IsCollectionContaining.hasItems;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
 import static org.mockito.MockitoAnnotations.initMocks;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriInfo;
 
 import org.apache.commons.io.IOUtils;
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.smarthome.core.items.GenericItem;
+import org.eclipse.smarthome.core.items.GroupItem;
 import org.eclipse.smarthome.core.items.ItemProvider;
 import org.eclipse.smarthome.core.items.ManagedItemProvider;
 import org.eclipse.smarthome.core.items.dto.GroupItemDTO;
 import org.eclipse.smarthome.core.library.items.DimmerItem;
 import org.eclipse.smarthome.core.library.items.SwitchItem;
+import org.eclipse.smarthome.core.library.types.OnOffType;
 import org.eclipse.smarthome.test.java.JavaOSGiTest;
 import org.junit.Before;
 import org.junit.Test;
@@ -59,6 +66,9 @@ public class ItemResourceOSGiTest extends JavaOSGiTest {
     @Mock
     private ItemProvider itemProvider;
 
+    @Mock
+    private Request request;
+
     private ItemResource itemResource;
 
     private ManagedItemProvider managedItemProvider;
@@ -87,25 +97,25 @@ public class ItemResourceOSGiTest extends JavaOSGiTest {
         item2.addTag("Tag2");
         item3.addTag("Tag2");
 
-        Response response = itemResource.getItems(null, null, "Tag1", false, null);
+        Response response = itemResource.getItems(request, null, null, "Tag1", false, null);
         assertThat(readItemNamesFromResponse(response), hasItems(ITEM_NAME1, ITEM_NAME2));
 
-        response = itemResource.getItems(null, null, "Tag2", false, null);
+        response = itemResource.getItems(request, null, null, "Tag2", false, null);
         assertThat(readItemNamesFromResponse(response), hasItems(ITEM_NAME2, ITEM_NAME3));
 
-        response = itemResource.getItems(null, null, "NotExistingTag", false, null);
+        response = itemResource.getItems(request, null, null, "NotExistingTag", false, null);
         assertThat(readItemNamesFromResponse(response), hasSize(0));
     }
 
     @Test
     public void shouldFilterItemsByType() throws Exception {
-        Response response = itemResource.getItems(null, "Switch", null, false, null);
+        Response response = itemResource.getItems(request, null, "Switch", null, false, null);
         assertThat(readItemNamesFromResponse(response), hasItems(ITEM_NAME1, ITEM_NAME2));
 
-        response = itemResource.getItems(null, "Dimmer", null, false, null);
+        response = itemResource.getItems(request, null, "Dimmer", null, false, null);
         assertThat(readItemNamesFromResponse(response), hasItems(ITEM_NAME3));
 
-        response = itemResource.getItems(null, "Color", null, false, null);
+        response = itemResource.getItems(request, null, "Color", null, false, null);
         assertThat(readItemNamesFromResponse(response), hasSize(0));
     }
 
@@ -113,15 +123,15 @@ public class ItemResourceOSGiTest extends JavaOSGiTest {
     public void shouldAddAndRemoveTags() throws Exception {
         managedItemProvider.add(new SwitchItem("Switch"));
 
-        Response response = itemResource.getItems(null, null, "MyTag", false, null);
+        Response response = itemResource.getItems(request, null, null, "MyTag", false, null);
         assertThat(readItemNamesFromResponse(response), hasSize(0));
 
         itemResource.addTag("Switch", "MyTag");
-        response = itemResource.getItems(null, null, "MyTag", false, null);
+        response = itemResource.getItems(request, null, null, "MyTag", false, null);
         assertThat(readItemNamesFromResponse(response), hasSize(1));
 
         itemResource.removeTag("Switch", "MyTag");
-        response = itemResource.getItems(null, null, "MyTag", false, null);
+        response = itemResource.getItems(request, null, null, "MyTag", false, null);
         assertThat(readItemNamesFromResponse(response), hasSize(0));
     }
 
@@ -130,13 +140,58 @@ public class ItemResourceOSGiTest extends JavaOSGiTest {
         JsonParser parser = new JsonParser();
         managedItemProvider.add(new SwitchItem("Switch"));
         itemResource.addTag("Switch", "MyTag");
-        Response response = itemResource.getItems(null, null, "MyTag", false, "type,name");
+        Response response = itemResource.getItems(request, null, null, "MyTag", false, "type,name");
 
-        JsonElement result = parser.parse(IOUtils.toString((InputStream) response.getEntity()));
+        JsonElement result = parser.parse(readEntity(response));
         JsonElement expected = parser.parse("[{type: \"Switch\", name: \"Switch\"}]");
         assertEquals(expected, result);
     }
 
+    @Test
+    public void shouldAnswerConditionalRequests() throws Exception {
+        Response response = itemResource.getItems(request, null, "Switch", null, false, null);
+        EntityTag entityTag = response.getEntityTag();
+        assertThat(entityTag, is(notNullValue()));
+
+        Request conditionalRequest = mock(Request.class);
+        when(conditionalRequest.evaluatePreconditions(entityTag)).thenReturn(Response.notModified(entityTag));
+        response = itemResource.getItems(conditionalRequest, null, "Switch", null, false, null);
+        assertThat(response.getStatus(), is(Status.NOT_MODIFIED.getStatusCode()));
+
+        // other query parameters are other representations
+        response = itemResource.getItems(conditionalRequest, null, "Dimmer", null, false, null);
+        assertThat(response.getStatus(), is(Status.OK.getStatusCode()));
+    }
+
+    @Test
+    public void shouldNotReturnCachedResponseAfterStateChange() throws Exception {
+        Response response = itemResource.getItems(request, null, "Switch", null, false, "name,state");
+        EntityTag entityTag = response.getEntityTag();
+        assertThat(readEntity(response), not(containsString("ON")));
+
+        item1.setState(OnOffType.ON);
+        waitForAssert(() -> {
+            Response changedResponse = itemResource.getItems(request, null, "Switch", null, false, "name,state");
+            assertThat(changedResponse.getEntityTag(), is(not(entityTag)));
+            assertThat(new String((byte[]) changedResponse.getEntity(), StandardCharsets.UTF_8),
+                    containsString("ON"));
+        });
+    }
+
+    @Test
+    public void shouldNotReturnCachedResponseAfterGroupStateChange() throws Exception {
+        GroupItem group = new GroupItem("Group1");
+        managedItemProvider.add(group);
+        Response response = itemResource.getItems(request, null, "Group", null, false, "name,state");
+        EntityTag entityTag = response.getEntityTag();
+        assertThat(readEntity(response), not(containsString("ON")));
+
+        group.setState(OnOffType.ON);
+        Response changedResponse = itemResource.getItems(request, null, "Group", null, false, "name,state");
+        assertThat(changedResponse.getEntityTag(), is(not(entityTag)));
+        assertThat(new String((byte[]) changedResponse.getEntity(), StandardCharsets.UTF_8), containsString("ON"));
+    }
+
     @Test
     public void shouldProvideReturnCodesForTagHandling() {
         Response response = itemResource.addTag("Switch", "MyTag");
@@ -154,10 +209,19 @@ public class ItemResourceOSGiTest extends JavaOSGiTest {
     }
 
     private List<String> readItemNamesFromResponse(Response response) throws IOException {
-        String jsonResponse = IOUtils.toString((InputStream) response.getEntity());
+        String jsonResponse = readEntity(response);
         return JsonPath.read(jsonResponse, "$..name");
     }
 
+    private String readEntity(Response response) throws IOException {
+        if (response.getEntity() instanceof byte[]) {
+            return new String((byte[]) response.getEntity(), StandardCharsets.UTF_8);
+        }
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ((StreamingOutput) response.getEntity()).write(output);
+        return new String(output.toByteArray(), StandardCharsets.UTF_8);
+    }
+
     @Test
     public void addMultipleItems() throws IOException {
 
@@ -0,0 +1,139 @@
+/**
+ * Copyright (c) 2014,2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.smarthome.io.rest.core.item;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.assertThat;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.eclipse.smarthome.core.items.GroupItem;
+import org.eclipse.smarthome.core.library.items.NumberItem;
+import org.eclipse.smarthome.core.library.types.DecimalType;
+import org.junit.Before;
+import org.junit.Test;
+
+public class EnrichedItemDTOMapperTest {
+
+    private static final URI BASE_URI = URI.create("http://localhost/rest/");
+
+    private NumberItem item;
+    private GroupItem group;
+
+    @Before
+    public void setup() {
+        item = new NumberItem("Item1");
+        item.setLabel("Item 1");
+        item.setState(new DecimalType("12.34"));
+        item.addTag("tag");
+        group = new GroupItem("Group1", new NumberItem("Base"));
+        group.setLabel("Group 1");
+        group.setCategory("category");
+        group.addTag("tag");
+        group.addGroupName("Parent");
+        group.addMember(item);
+        item.addGroupName("Group1");
+    }
+
+    @Test
+    public void shouldMapAllFieldsIfNoFieldsAreGiven() {
+        EnrichedItemDTO dto = EnrichedItemDTOMapper.map(item, false, null, BASE_URI, null);
+
+        assertThat(dto.type, is("Number"));
+        assertThat(dto.name, is("Item1"));
+        assertThat(dto.label, is("Item 1"));
+        assertThat(dto.tags, hasItem("tag"));
+        assertThat(dto.groupNames, hasItem("Group1"));
+        assertThat(dto.state, is("12.34"));
+        assertThat(dto.link, is("http://localhost/rest/items/Item1"));
+    }
+
+    @Test
+    public void shouldMapOnlyGivenFields() {
+        EnrichedItemDTO dto = EnrichedItemDTOMapper.map(item, false, new HashSet<>(Arrays.asList("name", "state")),
+                BASE_URI, null);
+
+        assertThat(dto.name, is("Item1"));
+        assertThat(dto.state, is("12.34"));
+        assertThat(dto.type, is(nullValue()));
+        assertThat(dto.label, is(nullValue()));
+        assertThat(dto.tags, is(nullValue()));
+        assertThat(dto.groupNames, is(nullValue()));
+        assertThat(dto.link, is(nullValue()));
+        assertThat(dto.transformedState, is(nullValue()));
+        assertThat(dto.stateDescription, is(nullValue()));
+    }
+
+    @Test
+    public void shouldNotMapStateIfOnlyTransformedStateIsGiven() {
+        EnrichedItemDTO dto = EnrichedItemDTOMapper.map(item, false, new HashSet<>(Arrays.asList("transformedState")),
+                BASE_URI, null);
+
+        assertThat(dto.state, is(nullValue()));
+        assertThat(dto.transformedState, is(nullValue()));
+    }
+
+    @Test
+    public void shouldMapNoFieldIfNoFieldIsGiven() throws IllegalAccessException {
+        EnrichedItemDTO dto = EnrichedItemDTOMapper.map(group, true, Collections.emptySet(), BASE_URI, null);
+
+        for (Field field : dtoFields()) {
+            assertThat(field.getName(), field.get(dto), is(nullValue()));
+        }
+    }
+
+    @Test
+    public void shouldMapEveryFieldIfRequestedByItsName() throws IllegalAccessException {
+        EnrichedItemDTO allFields = EnrichedItemDTOMapper.map(group, true, null, BASE_URI, null);
+
+        for (Field field : dtoFields()) {
+            EnrichedItemDTO dto = EnrichedItemDTOMapper.map(group, true, Collections.singleton(field.getName()),
+                    BASE_URI, null);
+            assertThat(field.getName(), field.get(dto) == null, is(field.get(allFields) == null));
+        }
+    }
+
+    @Test
+    public void shouldMapMembersCompletelyIfRequested() {
+        EnrichedGroupItemDTO dto = (EnrichedGroupItemDTO) EnrichedItemDTOMapper.map(group, true,
+                new HashSet<>(Arrays.asList("name", "members")), BASE_URI, null);
+
+        assertThat(dto.name, is("Group1"));
+        assertThat(dto.groupType, is(nullValue()));
+        assertThat(dto.link, is(nullValue()));
+        assertThat(dto.members.length, is(1));
+        assertThat(dto.members[0].name, is("Item1"));
+        assertThat(dto.members[0].state, is("12.34"));
+        assertThat(dto.members[0].link, is("http://localhost/rest/items/Item1"));
+    }
+
+    @Test
+    public void shouldNotMapMembersIfNotRequested() {
+        EnrichedGroupItemDTO dto = (EnrichedGroupItemDTO) EnrichedItemDTOMapper.map(group, true,
+                new HashSet<>(Arrays.asList("name")), BASE_URI, null);
+
+        assertThat(dto.members, is(nullValue()));
+        assertThat(dto.groupType, is(nullValue()));
+    }
+
+    private Field[] dtoFields() {
+        return Arrays.stream(EnrichedGroupItemDTO.class.getFields())
+                .filter(field -> !Modifier.isStatic(field.getModifiers())).toArray(Field[]::new);
+    }
+
+}
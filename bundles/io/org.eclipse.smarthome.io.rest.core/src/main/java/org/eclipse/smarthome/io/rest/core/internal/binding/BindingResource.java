@@ -44,7 +44,7 @@ import org.eclipse.smarthome.core.binding.BindingInfoRegistry;
 import org.eclipse.smarthome.core.binding.dto.BindingInfoDTO;
 import org.eclipse.smarthome.io.rest.LocaleUtil;
 import org.eclipse.smarthome.io.rest.RESTResource;
-import org.eclipse.smarthome.io.rest.Stream2JSONInputStream;
+import org.eclipse.smarthome.io.rest.Stream2JSONOutput;
 import org.eclipse.smarthome.io.rest.core.config.ConfigurationService;
 import org.eclipse.smarthome.io.rest.core.internal.service.ConfigurableServiceResource;
 import org.osgi.service.component.annotations.Component;
@@ -106,7 +106,7 @@ public class BindingResource implements RESTResource {
         final Locale locale = LocaleUtil.getLocale(language);
         Set<BindingInfo> bindingInfos = bindingInfoRegistry.getBindingInfos(locale);
 
-        return Response.ok(new Stream2JSONInputStream(bindingInfos.stream().map(b -> map(b, locale)))).build();
+        return Response.ok(new Stream2JSONOutput(bindingInfos.stream().map(b -> map(b, locale)))).build();
     }
 
     @GET
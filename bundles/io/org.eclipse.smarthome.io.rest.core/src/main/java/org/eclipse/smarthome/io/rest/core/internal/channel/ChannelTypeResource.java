@@ -47,7 +47,7 @@ import org.eclipse.smarthome.core.thing.type.ChannelTypeRegistry;
 import org.eclipse.smarthome.core.thing.type.ChannelTypeUID;
 import org.eclipse.smarthome.io.rest.LocaleUtil;
 import org.eclipse.smarthome.io.rest.RESTResource;
-import org.eclipse.smarthome.io.rest.Stream2JSONInputStream;
+import org.eclipse.smarthome.io.rest.Stream2JSONOutput;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
@@ -116,7 +116,7 @@ public class ChannelTypeResource implements RESTResource {
 
         Stream<ChannelTypeDTO> channelStream = channelTypeRegistry.getChannelTypes(locale).stream()
                 .map(c -> convertToChannelTypeDTO(c, locale));
-        return Response.ok(new Stream2JSONInputStream(channelStream)).build();
+        return Response.ok(new Stream2JSONOutput(channelStream)).build();
     }
 
     @GET
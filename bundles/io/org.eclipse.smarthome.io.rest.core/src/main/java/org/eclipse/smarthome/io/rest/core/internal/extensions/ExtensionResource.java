@@ -47,7 +47,7 @@ import org.eclipse.smarthome.core.extension.ExtensionType;
 import org.eclipse.smarthome.io.rest.JSONResponse;
 import org.eclipse.smarthome.io.rest.LocaleUtil;
 import org.eclipse.smarthome.io.rest.RESTResource;
-import org.eclipse.smarthome.io.rest.Stream2JSONInputStream;
+import org.eclipse.smarthome.io.rest.Stream2JSONOutput;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
@@ -111,7 +111,7 @@ public class ExtensionResource implements RESTResource {
     public Response getExtensions(@HeaderParam("Accept-Language") @ApiParam(value = "language") String language) {
         logger.debug("Received HTTP GET request at '{}'", uriInfo.getPath());
         Locale locale = LocaleUtil.getLocale(language);
-        return Response.ok(new Stream2JSONInputStream(getAllExtensions(locale))).build();
+        return Response.ok(new Stream2JSONOutput(getAllExtensions(locale))).build();
     }
 
     @GET
@@ -123,7 +123,7 @@ public class ExtensionResource implements RESTResource {
         logger.debug("Received HTTP GET request at '{}'", uriInfo.getPath());
         Locale locale = LocaleUtil.getLocale(language);
         Stream<ExtensionType> extensionTypeStream = getAllExtensionTypes(locale).stream().distinct();
-        return Response.ok(new Stream2JSONInputStream(extensionTypeStream)).build();
+        return Response.ok(new Stream2JSONOutput(extensionTypeStream)).build();
     }
 
     @GET
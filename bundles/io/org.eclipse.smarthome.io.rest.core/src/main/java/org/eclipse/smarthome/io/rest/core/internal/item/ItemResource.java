@@ -18,7 +18,6 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Set;
-import java.util.stream.Stream;
 
 import javax.annotation.security.RolesAllowed;
 import javax.ws.rs.Consumes;
@@ -36,6 +35,7 @@ import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.ResponseBuilder;
 import javax.ws.rs.core.Response.Status;
@@ -66,7 +66,7 @@ import org.eclipse.smarthome.io.rest.DTOMapper;
 import org.eclipse.smarthome.io.rest.JSONResponse;
 import org.eclipse.smarthome.io.rest.LocaleUtil;
 import org.eclipse.smarthome.io.rest.RESTResource;
-import org.eclipse.smarthome.io.rest.Stream2JSONInputStream;
+import org.eclipse.smarthome.io.rest.ResponseCache;
 import org.eclipse.smarthome.io.rest.core.item.EnrichedItemDTO;
 import org.eclipse.smarthome.io.rest.core.item.EnrichedItemDTOMapper;
 import org.osgi.service.component.annotations.Component;
@@ -115,6 +115,9 @@ public class ItemResource implements RESTResource {
     /** The URI path to this resource */
     public static final String PATH_ITEMS = "items";
 
+    /** The maximum number of cached responses to requests for all items */
+    private static final int MAX_CACHED_RESPONSES = 16;
+
     @Context
     UriInfo uriInfo;
 
@@ -123,14 +126,18 @@ public class ItemResource implements RESTResource {
     private ManagedItemProvider managedItemProvider;
     private DTOMapper dtoMapper;
     private final Set<ItemFactory> itemFactories = new HashSet<>();
+    private final ResponseCache responseCache = new ResponseCache(MAX_CACHED_RESPONSES);
 
     @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
     protected void setItemRegistry(ItemRegistry itemRegistry) {
         this.itemRegistry = itemRegistry;
+        // the versions of another registry do not match the cached responses
+        responseCache.clear();
     }
 
     protected void unsetItemRegistry(ItemRegistry itemRegistry) {
         this.itemRegistry = null;
+        responseCache.clear();
     }
 
     @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
@@ -175,7 +182,8 @@ public class ItemResource implements RESTResource {
     @ApiOperation(value = "Get all available items.", response = EnrichedItemDTO.class, responseContainer = "List")
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "OK", response = EnrichedItemDTO.class, responseContainer = "List") })
-    public Response getItems(@HeaderParam(HttpHeaders.ACCEPT_LANGUAGE) @ApiParam(value = "language") String language,
+    public Response getItems(@Context Request request,
+            @HeaderParam(HttpHeaders.ACCEPT_LANGUAGE) @ApiParam(value = "language") String language,
             @QueryParam("type") @ApiParam(value = "item type filter", required = false) String type,
             @QueryParam("tags") @ApiParam(value = "item tag filter", required = false) String tags,
             @DefaultValue("false") @QueryParam("recursive") @ApiParam(value = "get member items recursivly", required = false) boolean recursive,
@@ -183,10 +191,25 @@ public class ItemResource implements RESTResource {
         final Locale locale = LocaleUtil.getLocale(language);
         logger.debug("Received HTTP GET request at '{}'", uriInfo.getPath());
 
-        Stream<EnrichedItemDTO> itemStream = getItems(type, tags).stream()
-                .map(item -> EnrichedItemDTOMapper.map(item, recursive, uriInfo.getBaseUri(), locale));
-        itemStream = dtoMapper.limitToFields(itemStream, fields);
-        return Response.ok(new Stream2JSONInputStream(itemStream)).build();
+        final Set<String> fieldNames = dtoMapper.getFieldNames(fields);
+        String key = uriInfo.getBaseUri() + "|" + locale + "|" + type + "|" + tags + "|" + recursive + "|"
+                + fieldNames;
+        return responseCache.get(request, key, getItemsVersion(), () -> getItems(type, tags).stream()
+                .map(item -> EnrichedItemDTOMapper.map(item, recursive, fieldNames, uriInfo.getBaseUri(), locale)));
+    }
+
+    /**
+     * Gets the version of the items and their states, which must be read before the items.
+     *
+     * @return the version or null if the item registry does not keep track of its changes
+     */
+    private String getItemsVersion() {
+        long version = itemRegistry.getVersion();
+        long stateVersion = itemRegistry.getStateVersion();
+        if (version < 0 || stateVersion < 0) {
+            return null;
+        }
+        return version + "." + stateVersion;
     }
 
     @GET
@@ -83,7 +83,7 @@ import org.eclipse.smarthome.core.thing.util.ThingHelper;
 import org.eclipse.smarthome.io.rest.JSONResponse;
 import org.eclipse.smarthome.io.rest.LocaleUtil;
 import org.eclipse.smarthome.io.rest.RESTResource;
-import org.eclipse.smarthome.io.rest.Stream2JSONInputStream;
+import org.eclipse.smarthome.io.rest.Stream2JSONOutput;
 import org.eclipse.smarthome.io.rest.core.thing.EnrichedThingDTO;
 import org.eclipse.smarthome.io.rest.core.thing.EnrichedThingDTOMapper;
 import org.osgi.service.component.annotations.Component;
@@ -225,7 +225,7 @@ public class ThingResource implements RESTResource {
 
         Stream<EnrichedThingDTO> thingStream = thingRegistry.stream().map(t -> convertToEnrichedThingDTO(t, locale))
                 .distinct();
-        return Response.ok(new Stream2JSONInputStream(thingStream)).build();
+        return Response.ok(new Stream2JSONOutput(thingStream)).build();
     }
 
     @GET
@@ -55,7 +55,7 @@ import org.eclipse.smarthome.core.thing.type.ThingType;
 import org.eclipse.smarthome.core.thing.type.ThingTypeRegistry;
 import org.eclipse.smarthome.io.rest.LocaleUtil;
 import org.eclipse.smarthome.io.rest.RESTResource;
-import org.eclipse.smarthome.io.rest.Stream2JSONInputStream;
+import org.eclipse.smarthome.io.rest.Stream2JSONOutput;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
@@ -142,7 +142,7 @@ public class ThingTypeResource implements RESTResource {
         Locale locale = LocaleUtil.getLocale(language);
         Stream<StrippedThingTypeDTO> typeStream = thingTypeRegistry.getThingTypes(locale).stream()
                 .map(t -> convertToStrippedThingTypeDTO(t, locale));
-        return Response.ok(new Stream2JSONInputStream(typeStream)).build();
+        return Response.ok(new Stream2JSONOutput(typeStream)).build();
     }
 
     @GET
@@ -180,7 +180,7 @@ public class ThingTypeResource implements RESTResource {
         }
 
         Stream<FirmwareDTO> firmwareStream = firmwares.stream().map(this::convertToFirmwareDTO);
-        return Response.ok().entity(new Stream2JSONInputStream(firmwareStream)).build();
+        return Response.ok().entity(new Stream2JSONOutput(firmwareStream)).build();
     }
 
     private ThingTypeDTO convertToThingTypeDTO(ThingType thingType, Locale locale) {
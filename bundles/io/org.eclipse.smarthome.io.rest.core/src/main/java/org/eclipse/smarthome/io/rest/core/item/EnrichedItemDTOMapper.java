@@ -16,6 +16,7 @@ import java.net.URI;
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.Locale;
+import java.util.Set;
 
 import org.eclipse.smarthome.core.items.GroupItem;
 import org.eclipse.smarthome.core.items.Item;
@@ -43,43 +44,110 @@ public class EnrichedItemDTOMapper {
      * @return item DTO object
      */
     public static EnrichedItemDTO map(Item item, boolean drillDown, URI uri, Locale locale) {
+        return map(item, drillDown, null, uri, locale);
+    }
+
+    /**
+     * Maps item into enriched item DTO object, computing only the given fields. The other fields are null.
+     *
+     * @param item the item
+     * @param drillDown the drill down
+     * @param fields the names of the fields to compute or null for all fields, members are always mapped completely
+     * @param uri the uri
+     * @return item DTO object
+     */
+    public static EnrichedItemDTO map(Item item, boolean drillDown, Set<String> fields, URI uri, Locale locale) {
         ItemDTO itemDTO = ItemDTOMapper.map(item);
-        return map(item, itemDTO, uri, drillDown, locale);
+        return map(item, itemDTO, uri, drillDown, fields, locale);
     }
 
-    private static EnrichedItemDTO map(Item item, ItemDTO itemDTO, URI uri, boolean drillDown, Locale locale) {
+    private static EnrichedItemDTO map(Item item, ItemDTO itemDTO, URI uri, boolean drillDown, Set<String> fields,
+            Locale locale) {
 
-        String state = item.getState().toFullString();
-        String transformedState = considerTransformation(state, item.getStateDescription(locale));
-        if (transformedState != null && transformedState.equals(state)) {
-            transformedState = null;
+        String state = null;
+        if (isRequested(fields, "state") || isRequested(fields, "transformedState")) {
+            state = item.getState().toFullString();
         }
-        StateDescription stateDescription = considerTransformation(item.getStateDescription(locale));
-        String link = null != uri ? uri.toASCIIString() + ItemResource.PATH_ITEMS + "/" + itemDTO.name : null;
+        String transformedState = null;
+        StateDescription stateDescription = null;
+        if (isRequested(fields, "transformedState") || isRequested(fields, "stateDescription")) {
+            StateDescription itemStateDescription = item.getStateDescription(locale);
+            if (isRequested(fields, "transformedState")) {
+                transformedState = considerTransformation(state, itemStateDescription);
+                if (transformedState != null && transformedState.equals(state)) {
+                    transformedState = null;
+                }
+            }
+            if (isRequested(fields, "stateDescription")) {
+                stateDescription = considerTransformation(itemStateDescription);
+            }
+        }
+        String link = null != uri && isRequested(fields, "link")
+                ? uri.toASCIIString() + ItemResource.PATH_ITEMS + "/" + itemDTO.name
+                : null;
 
         EnrichedItemDTO enrichedItemDTO = null;
 
         if (item instanceof GroupItem) {
             GroupItem groupItem = (GroupItem) item;
-            EnrichedItemDTO[] memberDTOs;
-            if (drillDown) {
+            EnrichedItemDTO[] memberDTOs = null;
+            if (drillDown && isRequested(fields, "members")) {
                 Collection<EnrichedItemDTO> members = new LinkedHashSet<>();
                 for (Item member : groupItem.getMembers()) {
                     members.add(map(member, drillDown, uri, locale));
                 }
                 memberDTOs = members.toArray(new EnrichedItemDTO[members.size()]);
-            } else {
+            } else if (isRequested(fields, "members")) {
                 memberDTOs = new EnrichedItemDTO[0];
             }
-            enrichedItemDTO = new EnrichedGroupItemDTO(itemDTO, memberDTOs, link, state, transformedState,
-                    stateDescription);
+            EnrichedGroupItemDTO enrichedGroupItemDTO = new EnrichedGroupItemDTO(itemDTO, memberDTOs, link, state,
+                    transformedState, stateDescription);
+            if (!isRequested(fields, "groupType")) {
+                enrichedGroupItemDTO.groupType = null;
+            }
+            if (!isRequested(fields, "function")) {
+                enrichedGroupItemDTO.function = null;
+            }
+            enrichedItemDTO = enrichedGroupItemDTO;
         } else {
             enrichedItemDTO = new EnrichedItemDTO(itemDTO, link, state, transformedState, stateDescription);
         }
 
+        if (fields != null) {
+            limitToFields(enrichedItemDTO, fields);
+        }
         return enrichedItemDTO;
     }
 
+    private static boolean isRequested(Set<String> fields, String field) {
+        return fields == null || fields.contains(field);
+    }
+
+    private static void limitToFields(EnrichedItemDTO dto, Set<String> fields) {
+        if (!fields.contains("type")) {
+            dto.type = null;
+        }
+        if (!fields.contains("name")) {
+            dto.name = null;
+        }
+        if (!fields.contains("label")) {
+            dto.label = null;
+        }
+        if (!fields.contains("category")) {
+            dto.category = null;
+        }
+        if (!fields.contains("tags")) {
+            dto.tags = null;
+        }
+        if (!fields.contains("groupNames")) {
+            dto.groupNames = null;
+        }
+        if (!fields.contains("state")) {
+            // the state may have been computed for the transformed state only
+            dto.state = null;
+        }
+    }
+
     private static StateDescription considerTransformation(StateDescription desc) {
         if (desc == null || desc.getPattern() == null) {
             return desc;
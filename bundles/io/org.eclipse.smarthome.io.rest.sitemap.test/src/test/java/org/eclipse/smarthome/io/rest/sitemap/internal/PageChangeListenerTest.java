@@ -0,0 +1,203 @@
+/**
+ * Copyright (c) 2014,2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.smarthome.io.rest.sitemap.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.emf.common.util.BasicEList;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.smarthome.core.items.GenericItem;
+import org.eclipse.smarthome.core.items.ItemNotFoundException;
+import org.eclipse.smarthome.core.library.items.SwitchItem;
+import org.eclipse.smarthome.core.library.types.OnOffType;
+import org.eclipse.smarthome.core.types.UnDefType;
+import org.eclipse.smarthome.io.rest.sitemap.SitemapSubscriptionService.SitemapSubscriptionCallback;
+import org.eclipse.smarthome.model.sitemap.Frame;
+import org.eclipse.smarthome.model.sitemap.VisibilityRule;
+import org.eclipse.smarthome.model.sitemap.Widget;
+import org.eclipse.smarthome.ui.items.ItemUIRegistry;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that the {@link PageChangeListener} only creates events for the widgets that depend on the changed item.
+ */
+public class PageChangeListenerTest {
+
+    private ItemUIRegistry itemUIRegistry;
+    private final List<SitemapEvent> events = new ArrayList<>();
+    private final SitemapSubscriptionCallback callback = events::add;
+
+    @Before
+    public void setup() {
+        itemUIRegistry = mock(ItemUIRegistry.class);
+        when(itemUIRegistry.getState(any(Widget.class))).thenReturn(UnDefType.NULL);
+        when(itemUIRegistry.getVisiblity(any(Widget.class))).thenReturn(true);
+    }
+
+    @Test
+    public void stateChangeCreatesEventsOnlyForTheWidgetsOfTheItem() throws ItemNotFoundException {
+        SwitchItem item1 = item("item1");
+        item("item2");
+        PageChangeListener listener = new PageChangeListener("sitemap", "page", itemUIRegistry,
+                widgets(widget("w1", "item1"), widget("w2", "item2"), widget("w3", "item1")));
+        listener.addCallback(callback);
+
+        listener.stateChanged(item1, UnDefType.NULL, OnOffType.ON);
+
+        assertThat(widgetIds(), is(asSet("w1", "w3")));
+        for (SitemapEvent event : events) {
+            assertThat(event.sitemapName, is("sitemap"));
+            assertThat(event.pageId, is("page"));
+            assertThat(((SitemapWidgetEvent) event).item.name, is("item1"));
+        }
+    }
+
+    @Test
+    public void stateChangeOfAnUnrelatedItemCreatesNoEvents() {
+        PageChangeListener listener = new PageChangeListener("sitemap", "page", itemUIRegistry,
+                widgets(widget("w1", "item1")));
+        listener.addCallback(callback);
+
+        listener.stateChanged(new SwitchItem("other"), UnDefType.NULL, OnOffType.ON);
+
+        assertThat(events.isEmpty(), is(true));
+    }
+
+    @Test
+    public void childrenOfFramesAndVisibilityRulesAreIndexed() throws ItemNotFoundException {
+        SwitchItem child = item("child");
+        SwitchItem visibility = item("visibility");
+        Widget childWidget = widget("w1", "child");
+        Frame frame = mock(Frame.class);
+        when(frame.getVisibility()).thenReturn(new BasicEList<VisibilityRule>());
+        when(frame.getChildren()).thenReturn(widgets(childWidget));
+        when(itemUIRegistry.getChildren(frame)).thenReturn(widgets(childWidget));
+        Widget hidden = widget("w2", null);
+        VisibilityRule rule = mock(VisibilityRule.class);
+        when(rule.getItem()).thenReturn("visibility");
+        hidden.getVisibility().add(rule);
+        PageChangeListener listener = new PageChangeListener("sitemap", "page", itemUIRegistry,
+                widgets(frame, hidden));
+        listener.addCallback(callback);
+
+        listener.stateChanged(child, UnDefType.NULL, OnOffType.ON);
+        assertThat(widgetIds(), is(asSet("w1")));
+
+        events.clear();
+        listener.stateChanged(visibility, UnDefType.NULL, OnOffType.ON);
+        assertThat(widgetIds(), is(asSet("w2")));
+    }
+
+    @Test
+    public void sitemapContentChangeRebuildsTheIndex() throws ItemNotFoundException {
+        SwitchItem item1 = item("item1");
+        SwitchItem item2 = item("item2");
+        PageChangeListener listener = new PageChangeListener("sitemap", "page", itemUIRegistry,
+                widgets(widget("w1", "item1")));
+        listener.addCallback(callback);
+
+        listener.sitemapContentChanged(widgets(widget("w2", "item2")));
+        assertThat(events.size(), is(1));
+        assertThat(events.get(0), is(instanceOf(SitemapChangedEvent.class)));
+
+        events.clear();
+        listener.stateChanged(item1, UnDefType.NULL, OnOffType.ON);
+        assertThat(events.isEmpty(), is(true));
+
+        listener.stateChanged(item2, UnDefType.NULL, OnOffType.ON);
+        assertThat(widgetIds(), is(asSet("w2")));
+    }
+
+    @Test
+    public void listenerIsRegisteredAtTheItemsOfTheWidgets() throws ItemNotFoundException {
+        GenericItem item1 = mock(GenericItem.class);
+        GenericItem item2 = mock(GenericItem.class);
+        when(itemUIRegistry.getItem("item1")).thenReturn(item1);
+        when(itemUIRegistry.getItem("item2")).thenReturn(item2);
+        PageChangeListener listener = new PageChangeListener("sitemap", "page", itemUIRegistry,
+                widgets(widget("w1", "item1")));
+        verify(item1).addStateChangeListener(listener);
+
+        listener.sitemapContentChanged(widgets(widget("w2", "item2")));
+        verify(item1).removeStateChangeListener(listener);
+        verify(item2).addStateChangeListener(listener);
+
+        listener.dispose();
+        verify(item2).removeStateChangeListener(listener);
+    }
+
+    @Test
+    public void duplicateCallbacksAreNotifiedOnce() throws ItemNotFoundException {
+        SwitchItem item1 = item("item1");
+        PageChangeListener listener = new PageChangeListener("sitemap", "page", itemUIRegistry,
+                widgets(widget("w1", "item1")));
+        listener.addCallback(callback);
+        listener.addCallback(callback);
+
+        listener.stateChanged(item1, UnDefType.NULL, OnOffType.ON);
+        assertThat(events.size(), is(1));
+
+        listener.removeCallback(callback);
+        listener.stateChanged(item1, UnDefType.NULL, OnOffType.OFF);
+        assertThat(events.size(), is(2));
+
+        listener.removeCallback(callback);
+        listener.stateChanged(item1, UnDefType.NULL, OnOffType.ON);
+        assertThat(events.size(), is(2));
+    }
+
+    private SwitchItem item(String name) throws ItemNotFoundException {
+        SwitchItem item = new SwitchItem(name);
+        when(itemUIRegistry.getItem(name)).thenReturn(item);
+        return item;
+    }
+
+    private Widget widget(String id, String itemName) {
+        Widget widget = mock(Widget.class);
+        when(widget.getItem()).thenReturn(itemName);
+        when(widget.getVisibility()).thenReturn(new BasicEList<VisibilityRule>());
+        when(itemUIRegistry.getWidgetId(widget)).thenReturn(id);
+        return widget;
+    }
+
+    private EList<Widget> widgets(Widget... widgets) {
+        EList<Widget> list = new BasicEList<>();
+        for (Widget widget : widgets) {
+            list.add(widget);
+        }
+        return list;
+    }
+
+    private Set<String> widgetIds() {
+        Set<String> ids = new HashSet<>();
+        for (SitemapEvent event : events) {
+            ids.add(((SitemapWidgetEvent) event).widgetId);
+        }
+        return ids;
+    }
+
+    private Set<String> asSet(String... values) {
+        return new HashSet<>(Arrays.asList(values));
+    }
+
+}
@@ -274,7 +274,8 @@ public class SitemapSubscriptionService implements ModelRepositoryChangeListener
             String sitemapName = extractSitemapName(sitemapWithPage);
 
             if (sitemapName.equals(changedSitemapName)) {
-                listenerEntry.getValue().sitemapContentChanged();
+                String pageId = extractPageId(sitemapWithPage);
+                listenerEntry.getValue().sitemapContentChanged(collectWidgets(sitemapName, pageId));
             }
         }
     }
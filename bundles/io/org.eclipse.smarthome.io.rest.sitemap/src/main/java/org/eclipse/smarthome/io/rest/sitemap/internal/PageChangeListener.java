@@ -14,8 +14,11 @@ package org.eclipse.smarthome.io.rest.sitemap.internal;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.emf.common.util.EList;
@@ -35,6 +38,9 @@ import org.eclipse.smarthome.ui.items.ItemUIRegistry;
 /**
  * This is a class that listens on item state change events and creates sitemap events for a dedicated sitemap page.
  *
+ * The widgets of the page, including the children of frames, are indexed by the names of the items they show or
+ * their visibility depends on. So on a state change only the widgets of the changed item are looked up.
+ *
  * @author Kai Kreuzer - Initial contribution and API
  *
  */
@@ -45,6 +51,7 @@ public class PageChangeListener implements StateChangeListener {
     private final ItemUIRegistry itemUIRegistry;
     private EList<Widget> widgets;
     private Set<Item> items;
+    private volatile Map<String, Set<Widget>> widgetsByItemName = Collections.emptyMap();
     private final List<SitemapSubscriptionCallback> callbacks = Collections
             .synchronizedList(new ArrayList<SitemapSubscriptionCallback>());
     private Set<SitemapSubscriptionCallback> distinctCallbacks = Collections.emptySet();
@@ -77,6 +84,9 @@ public class PageChangeListener implements StateChangeListener {
         }
 
         this.widgets = widgets;
+        Map<String, Set<Widget>> index = new HashMap<>();
+        indexWidgets(index, widgets);
+        widgetsByItemName = index;
         items = getAllItems(widgets);
         for (Item item : items) {
             if (item instanceof GenericItem) {
@@ -141,6 +151,28 @@ public class PageChangeListener implements StateChangeListener {
         return items;
     }
 
+    /**
+     * Adds the given widgets and the children of frames to the index by the names of the items they show or their
+     * visibility depends on.
+     */
+    private void indexWidgets(Map<String, Set<Widget>> index, List<Widget> widgets) {
+        for (Widget widget : widgets) {
+            if (widget instanceof Frame) {
+                indexWidgets(index, itemUIRegistry.getChildren((Frame) widget));
+            }
+            addToIndex(index, widget.getItem(), widget);
+            for (VisibilityRule vr : widget.getVisibility()) {
+                addToIndex(index, vr.getItem(), widget);
+            }
+        }
+    }
+
+    private void addToIndex(Map<String, Set<Widget>> index, String itemName, Widget widget) {
+        if (itemName != null) {
+            index.computeIfAbsent(itemName, name -> new LinkedHashSet<>()).add(widget);
+        }
+    }
+
     private void addItemWithName(Set<Item> items, String itemName) {
         if (itemName != null) {
             try {
@@ -158,7 +190,7 @@ public class PageChangeListener implements StateChangeListener {
         if (item instanceof GroupItem) {
             return;
         }
-        Set<SitemapEvent> events = constructSitemapEvents(item, widgets);
+        Set<SitemapEvent> events = constructSitemapEvents(item);
         for (SitemapEvent event : events) {
             for (SitemapSubscriptionCallback callback : distinctCallbacks) {
                 callback.onEvent(event);
@@ -174,7 +206,7 @@ public class PageChangeListener implements StateChangeListener {
         if (!(item instanceof GroupItem)) {
             return;
         }
-        Set<SitemapEvent> events = constructSitemapEvents(item, widgets);
+        Set<SitemapEvent> events = constructSitemapEvents(item);
         for (SitemapEvent event : events) {
             for (SitemapSubscriptionCallback callback : distinctCallbacks) {
                 callback.onEvent(event);
@@ -182,43 +214,39 @@ public class PageChangeListener implements StateChangeListener {
         }
     }
 
-    private Set<SitemapEvent> constructSitemapEvents(Item item, List<Widget> widgets) {
+    private Set<SitemapEvent> constructSitemapEvents(Item item) {
+        Set<Widget> widgets = widgetsByItemName.get(item.getName());
+        if (widgets == null || distinctCallbacks.isEmpty()) {
+            return Collections.emptySet();
+        }
         Set<SitemapEvent> events = new HashSet<>();
         for (Widget w : widgets) {
-            if (w instanceof Frame) {
-                events.addAll(constructSitemapEvents(item, itemUIRegistry.getChildren((Frame) w)));
-            }
+            SitemapWidgetEvent event = new SitemapWidgetEvent();
+            event.sitemapName = sitemapName;
+            event.pageId = pageId;
+            event.label = itemUIRegistry.getLabel(w);
+            event.labelcolor = itemUIRegistry.getLabelColor(w);
+            event.valuecolor = itemUIRegistry.getValueColor(w);
+            event.widgetId = itemUIRegistry.getWidgetId(w);
+            event.visibility = itemUIRegistry.getVisiblity(w);
+            event.item = EnrichedItemDTOMapper.map(item, false, null, null);
 
-            if ((w.getItem() != null && w.getItem().equals(item.getName())) || definesVisibility(w, item.getName())) {
-                SitemapWidgetEvent event = new SitemapWidgetEvent();
-                event.sitemapName = sitemapName;
-                event.pageId = pageId;
-                event.label = itemUIRegistry.getLabel(w);
-                event.labelcolor = itemUIRegistry.getLabelColor(w);
-                event.valuecolor = itemUIRegistry.getValueColor(w);
-                event.widgetId = itemUIRegistry.getWidgetId(w);
-                event.visibility = itemUIRegistry.getVisiblity(w);
-                event.item = EnrichedItemDTOMapper.map(item, false, null, null);
-
-                // adjust the state according to the widget type
-                event.item.state = itemUIRegistry.getState(w).toFullString();
-
-                events.add(event);
-            }
+            // adjust the state according to the widget type
+            event.item.state = itemUIRegistry.getState(w).toFullString();
+
+            events.add(event);
         }
         return events;
     }
 
-    private boolean definesVisibility(Widget w, String name) {
-        for (VisibilityRule vr : w.getVisibility()) {
-            if (name.equals(vr.getItem())) {
-                return true;
-            }
-        }
-        return false;
-    }
+    /**
+     * Updates the widgets of the page after the sitemap has been changed and notifies the subscribers.
+     *
+     * @param widgets the new list of widgets that are part of the page
+     */
+    public void sitemapContentChanged(EList<Widget> widgets) {
+        updateItemsAndWidgets(widgets);
 
-    public void sitemapContentChanged() {
         SitemapChangedEvent changeEvent = new SitemapChangedEvent();
         changeEvent.pageId = pageId;
         changeEvent.sitemapName = sitemapName;
@@ -0,0 +1,190 @@
+/**
+ * Copyright (c) 2014,2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.smarthome.io.rest.sse.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.core.MediaType;
+
+import org.eclipse.smarthome.io.rest.sse.internal.util.SseUtil;
+import org.glassfish.jersey.media.sse.OutboundEvent;
+import org.junit.Test;
+
+/**
+ * Tests for the buffering of the {@link SseEventOutput}.
+ */
+public class SseEventOutputTest {
+
+    private static final String STATE_TOPIC = "smarthome/items/switch/state";
+    private static final String COMMAND_TOPIC = "smarthome/items/switch/command";
+
+    private final List<Runnable> tasks = new ArrayList<>();
+
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+
+    private static OutboundEvent event(String data) {
+        return new OutboundEvent.Builder().name("message").mediaType(MediaType.TEXT_PLAIN_TYPE)
+                .data(String.class, data).build();
+    }
+
+    @Test
+    public void testEventsAreWrittenInTheirOrder() {
+        RecordingEventOutput output = new RecordingEventOutput(tasks::add, 1000);
+        OutboundEvent first = event("first");
+        OutboundEvent second = event("second");
+        OutboundEvent third = event("third");
+
+        output.offer(COMMAND_TOPIC, false, first);
+        output.offer(STATE_TOPIC, true, second);
+        output.offer(COMMAND_TOPIC, false, third);
+        runTasks();
+
+        assertThat(output.written, is(Arrays.asList(first, second, third)));
+        assertThat(output.getStatistics().get("sent"), is(3L));
+    }
+
+    @Test
+    public void testStateReplacesPendingStateAndIsWrittenAfterTheEventsBefore() {
+        RecordingEventOutput output = new RecordingEventOutput(tasks::add, 1000);
+        OutboundEvent oldState = event("old state");
+        OutboundEvent command = event("command");
+        OutboundEvent newState = event("new state");
+
+        output.offer(STATE_TOPIC, true, oldState);
+        output.offer(COMMAND_TOPIC, false, command);
+        output.offer(STATE_TOPIC, true, newState);
+        runTasks();
+
+        assertThat(output.written, is(Arrays.asList(command, newState)));
+        assertThat(output.getStatistics().get("coalesced"), is(1L));
+    }
+
+    @Test
+    public void testClientIsClosedIfItsBufferIsFull() {
+        RecordingEventOutput output = new RecordingEventOutput(tasks::add, 1000);
+
+        for (int i = 0; i <= 1000; i++) {
+            output.offer(COMMAND_TOPIC, false, event("command " + i));
+        }
+        assertTrue(output.isClosed());
+
+        runTasks();
+        assertTrue(output.written.isEmpty());
+        assertThat(output.getStatistics().get("dropped"), is(1000L));
+    }
+
+    @Test
+    public void testClientIsClosedIfAWriteIsBlocked() throws InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            RecordingEventOutput output = new RecordingEventOutput(executor, 50);
+            output.block();
+            OutboundEvent first = event("first");
+
+            output.offer(COMMAND_TOPIC, false, first);
+            assertTrue(output.writing.await(5, TimeUnit.SECONDS));
+            Thread.sleep(100);
+            output.offer(COMMAND_TOPIC, false, event("second"));
+            assertTrue(output.isClosed());
+
+            output.release.countDown();
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+            assertThat(output.written, is(Collections.singletonList(first)));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testStalledClientsDoNotBlockOtherClients() throws InterruptedException {
+        ExecutorService executor = SseUtil.createWriterPool("sse-test");
+        List<RecordingEventOutput> stalledOutputs = new ArrayList<>();
+        try {
+            // more stalled clients than the former fixed size pool had threads, each blocked for 5 seconds
+            for (int i = 0; i < 10; i++) {
+                RecordingEventOutput stalledOutput = new RecordingEventOutput(executor, 1000);
+                stalledOutput.block();
+                stalledOutputs.add(stalledOutput);
+                stalledOutput.offer(COMMAND_TOPIC, false, event("command"));
+            }
+            for (RecordingEventOutput stalledOutput : stalledOutputs) {
+                assertTrue(stalledOutput.writing.await(2, TimeUnit.SECONDS));
+            }
+
+            RecordingEventOutput output = new RecordingEventOutput(executor, 1000);
+            output.offer(COMMAND_TOPIC, false, event("command"));
+
+            assertTrue(output.writing.await(2, TimeUnit.SECONDS));
+        } finally {
+            stalledOutputs.forEach(stalledOutput -> stalledOutput.release.countDown());
+            executor.shutdownNow();
+        }
+    }
+
+    private static class RecordingEventOutput extends SseEventOutput {
+
+        private final List<OutboundEvent> written = Collections.synchronizedList(new ArrayList<>());
+
+        private final CountDownLatch writing = new CountDownLatch(1);
+
+        private CountDownLatch release = new CountDownLatch(0);
+
+        private volatile boolean closed = false;
+
+        RecordingEventOutput(Executor executor, long writeTimeout) {
+            super("smarthome/items", executor, writeTimeout);
+        }
+
+        void block() {
+            release = new CountDownLatch(1);
+        }
+
+        @Override
+        public void write(OutboundEvent event) {
+            written.add(event);
+            writing.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        @Override
+        public boolean isClosed() {
+            return closed;
+        }
+    }
+
+}
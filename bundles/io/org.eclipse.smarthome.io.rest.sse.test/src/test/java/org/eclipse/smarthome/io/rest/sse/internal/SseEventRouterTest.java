@@ -0,0 +1,68 @@
+/**
+ * Copyright (c) 2014,2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.smarthome.io.rest.sse.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.assertThat;
+
+import java.util.Collections;
+
+import org.junit.Test;
+
+/**
+ * Tests for the {@link SseEventRouter}.
+ */
+public class SseEventRouterTest {
+
+    private final SseEventRouter router = new SseEventRouter();
+
+    private static SseEventOutput output(String topicFilter) {
+        return new SseEventOutput(topicFilter, Runnable::run);
+    }
+
+    @Test
+    public void testEventsAreRoutedToTheOutputsWithAMatchingFilter() {
+        SseEventOutput states = output("smarthome/items/*/state");
+        SseEventOutput things = output("smarthome/things");
+        SseEventOutput all = output("");
+        SseEventOutput statesAndThings = output("smarthome/items/*/state, smarthome/things");
+        router.add(states);
+        router.add(things);
+        router.add(all);
+        router.add(statesAndThings);
+
+        assertThat(router.route("smarthome/items/switch/state"), hasItems(states, all, statesAndThings));
+        assertThat(router.route("smarthome/items/switch/state"), not(hasItem(things)));
+        assertThat(router.route("smarthome/items/switch/state").size(), is(3));
+        assertThat(router.route("smarthome/things/thing/status"), hasItems(things, all, statesAndThings));
+        assertThat(router.route("smarthome/things/thing/status"), not(hasItem(states)));
+        assertThat(router.route("smarthome/inbox/thing/added"), is(Collections.singletonList(all)));
+    }
+
+    @Test
+    public void testRoutesAreUpdatedWhenOutputsAreAddedOrRemoved() {
+        SseEventOutput first = output("smarthome/items");
+        SseEventOutput second = output("smarthome/items/*/command");
+        router.add(first);
+        assertThat(router.route("smarthome/items/switch/command").size(), is(1));
+
+        router.add(second);
+        assertThat(router.route("smarthome/items/switch/command"), hasItems(first, second));
+
+        router.remove(first);
+        assertThat(router.route("smarthome/items/switch/command"), hasItem(second));
+        assertThat(router.route("smarthome/items/switch/command").size(), is(1));
+        assertThat(router.getOutputs().size(), is(1));
+    }
+
+}
@@ -13,8 +13,9 @@
 package org.eclipse.smarthome.io.rest.sse;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
 
 import javax.annotation.security.RolesAllowed;
 import javax.inject.Singleton;
@@ -31,11 +32,15 @@ import javax.ws.rs.core.Response.Status;
 import javax.ws.rs.core.UriInfo;
 
 import org.eclipse.smarthome.core.auth.Role;
+import org.eclipse.smarthome.core.common.Statistics;
+import org.eclipse.smarthome.core.common.StatisticsProvider;
 import org.eclipse.smarthome.core.events.Event;
+import org.eclipse.smarthome.core.items.events.ItemStateEvent;
 import org.eclipse.smarthome.io.rest.sse.internal.SseEventOutput;
+import org.eclipse.smarthome.io.rest.sse.internal.SseEventRouter;
 import org.eclipse.smarthome.io.rest.sse.internal.util.SseUtil;
 import org.glassfish.jersey.media.sse.EventOutput;
-import org.glassfish.jersey.media.sse.SseBroadcaster;
+import org.glassfish.jersey.media.sse.OutboundEvent;
 import org.glassfish.jersey.media.sse.SseFeature;
 
 import io.swagger.annotations.Api;
@@ -55,13 +60,15 @@ import io.swagger.annotations.ApiResponses;
 @RolesAllowed({ Role.USER })
 @Singleton
 @Api(value = SseResource.PATH_EVENTS, hidden = true)
-public class SseResource {
+public class SseResource implements StatisticsProvider {
 
     public final static String PATH_EVENTS = "events";
 
     private static final String X_ACCEL_BUFFERING_HEADER = "X-Accel-Buffering";
 
-    private final SseBroadcaster broadcaster;
+    private static final String THREAD_POOL_NAME = "sse";
+
+    private final SseEventRouter eventRouter = new SseEventRouter();
 
     private final ExecutorService executorService;
 
@@ -75,8 +82,7 @@ public class SseResource {
     private HttpServletRequest request;
 
     public SseResource() {
-        this.executorService = Executors.newSingleThreadExecutor();
-        this.broadcaster = new SseBroadcaster();
+        this.executorService = SseUtil.createWriterPool(THREAD_POOL_NAME);
     }
 
     /**
@@ -103,8 +109,9 @@ public class SseResource {
 
         // construct an EventOutput that will only write out events that match
         // the given filter
-        final EventOutput eventOutput = new SseEventOutput(eventFilter);
-        broadcaster.add(eventOutput);
+        final SseEventOutput eventOutput = new SseEventOutput(eventFilter, executorService);
+        eventRouter.removeClosed();
+        eventRouter.add(eventOutput);
 
         // Disables proxy buffering when using an nginx http server proxy for this response.
         // This allows you to not disable proxy buffering in nginx and still have working sse
@@ -131,19 +138,41 @@ public class SseResource {
 
     /**
      * Broadcasts an event described by the given parameter to all currently
-     * listening clients.
+     * listening clients whose topic filter matches the event.
+     *
+     * The event is serialized only once and is written to each client asynchronously.
      *
-     * @param sseEventType
-     *            the SSE event type
      * @param event
      *            the event
      */
     public void broadcastEvent(final Event event) {
-        executorService.execute(new Runnable() {
-            @Override
-            public void run() {
-                broadcaster.broadcast(SseUtil.buildEvent(event));
+        final String topic = event.getTopic();
+        final boolean coalesce = ItemStateEvent.TYPE.equals(event.getType());
+        OutboundEvent outboundEvent = null;
+        for (SseEventOutput eventOutput : eventRouter.route(topic)) {
+            if (eventOutput.isClosed()) {
+                eventRouter.remove(eventOutput);
+            } else {
+                if (outboundEvent == null) {
+                    outboundEvent = SseUtil.buildEvent(event);
+                }
+                eventOutput.offer(topic, coalesce, outboundEvent);
             }
-        });
+        }
+    }
+
+    @Override
+    public String getStatisticsCategory() {
+        return "sse";
+    }
+
+    /**
+     * Gets the statistics of all currently listening clients.
+     *
+     * @return the client statistics
+     */
+    @Override
+    public List<Statistics> getStatistics() {
+        return eventRouter.getOutputs().stream().map(SseEventOutput::getStatistics).collect(Collectors.toList());
     }
 }
@@ -13,39 +13,209 @@
 package org.eclipse.smarthome.io.rest.sse.internal;
 
 import java.io.IOException;
-import java.util.List;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
-import org.eclipse.smarthome.io.rest.sse.beans.EventBean;
-import org.eclipse.smarthome.io.rest.sse.internal.util.SseUtil;
+import org.eclipse.smarthome.core.common.Statistics;
 import org.glassfish.jersey.media.sse.EventOutput;
 import org.glassfish.jersey.media.sse.OutboundEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
- * {@link EventOutput} implementation that takes a filter parameter and only writes out events that match this filter.
- * Should only be used when the {@link OutboundEvent}s sent through this {@link EventOutput} contain a data object of
- * type {@link EventBean}
- * 
+ * {@link EventOutput} implementation for a client which has subscribed to the events matching a topic filter.
+ *
+ * Events are buffered and written in their order by a task of the given executor, so a slow client does not delay
+ * the others. An item state event replaces a pending state of the same item and is moved to the end of the buffer, so
+ * the client never receives an older state after a newer event.
+ *
+ * A client which does not keep up is closed, it has to reconnect and load the current states again. This is the case
+ * if its buffer is full or if a write has been blocked for longer than the write timeout. Closing the output does not
+ * interrupt the blocked write, but no further events are written to the client, so it occupies at most one thread of
+ * the executor until the connection times out.
+ *
  * @author Ivan Iliev - Initial contribution and API
- * 
+ *
  */
 public class SseEventOutput extends EventOutput {
 
-    private List<String> regexFilters;
+    /** Maximum number of events which are buffered for a client. */
+    private static final int MAX_PENDING_EVENTS = 1000;
+
+    /** Maximum number of events which are written before the thread is handed to the next client. */
+    private static final int MAX_EVENTS_PER_RUN = 100;
+
+    /** Time in milliseconds after which a blocked write causes the client to be closed. */
+    private static final long WRITE_TIMEOUT = TimeUnit.SECONDS.toMillis(10);
+
+    private final Logger logger = LoggerFactory.getLogger(SseEventOutput.class);
+
+    private final String topicFilter;
+
+    private final Executor executor;
+
+    private final long writeTimeout;
+
+    // guarded by itself
+    private final Map<Object, PendingEvent> pendingEvents = new LinkedHashMap<>();
+
+    // guarded by pendingEvents
+    private boolean scheduled = false;
+
+    // guarded by pendingEvents
+    private boolean disconnected = false;
 
-    public SseEventOutput(String topicFilter) {
+    private volatile long writeStarted = 0;
+
+    private long sentEvents;
+
+    private long coalescedEvents;
+
+    private long droppedEvents;
+
+    public SseEventOutput(String topicFilter, Executor executor) {
+        this(topicFilter, executor, WRITE_TIMEOUT);
+    }
+
+    SseEventOutput(String topicFilter, Executor executor, long writeTimeout) {
         super();
-        this.regexFilters = SseUtil.convertToRegex(topicFilter);
+        this.topicFilter = topicFilter;
+        this.executor = executor;
+        this.writeTimeout = writeTimeout;
     }
 
-    @Override
-    public void write(OutboundEvent chunk) throws IOException {
-        EventBean event = (EventBean) chunk.getData();
+    /**
+     * Gets the topic filter of this output.
+     *
+     * @return the topic filter, may be empty or null if all events are accepted
+     */
+    public String getTopicFilter() {
+        return topicFilter;
+    }
 
-        for (String filter : regexFilters) {
-            if (event.topic.matches(filter)) {
-                super.write(chunk);
+    /**
+     * Adds an event to the buffer of this output, it will be written asynchronously.
+     *
+     * @param topic the topic of the event
+     * @param coalesce true if the event replaces a pending event with the same topic
+     * @param event the event to write
+     */
+    public void offer(String topic, boolean coalesce, OutboundEvent event) {
+        long started = writeStarted;
+        if (started != 0 && System.currentTimeMillis() - started > writeTimeout) {
+            disconnect("a write is blocked for more than " + writeTimeout + "ms");
+            return;
+        }
+        synchronized (pendingEvents) {
+            if (disconnected) {
+                return;
+            }
+            if (coalesce && pendingEvents.remove(topic) != null) {
+                coalescedEvents++;
+            } else if (pendingEvents.size() >= MAX_PENDING_EVENTS) {
+                disconnect("more than " + MAX_PENDING_EVENTS + " events are pending");
                 return;
             }
+            PendingEvent pending = new PendingEvent(event);
+            pendingEvents.put(coalesce ? topic : pending, pending);
+            if (scheduled) {
+                return;
+            }
+            scheduled = true;
+        }
+        schedule();
+    }
+
+    /**
+     * Gets a snapshot of the statistics of this output.
+     *
+     * @return the statistics
+     */
+    public Statistics getStatistics() {
+        synchronized (pendingEvents) {
+            Iterator<PendingEvent> iterator = pendingEvents.values().iterator();
+            long lag = iterator.hasNext() ? System.currentTimeMillis() - iterator.next().timestamp : 0;
+            return Statistics.builder(topicFilter == null || topicFilter.isEmpty() ? "*" : topicFilter)
+                    .count("pending", pendingEvents.size()).count("sent", sentEvents)
+                    .count("coalesced", coalescedEvents).count("dropped", droppedEvents).time("lag", lag).build();
+        }
+    }
+
+    private void disconnect(String reason) {
+        synchronized (pendingEvents) {
+            if (disconnected) {
+                return;
+            }
+            disconnected = true;
+            droppedEvents += pendingEvents.size();
+            pendingEvents.clear();
+        }
+        logger.warn("Closing SSE client with topic filter '{}' as it does not keep up: {}.", topicFilter, reason);
+        closeQuietly();
+    }
+
+    private void closeQuietly() {
+        try {
+            close();
+        } catch (IOException e) {
+            // the connection is broken anyway
+        }
+    }
+
+    private void schedule() {
+        try {
+            executor.execute(this::writePendingEvents);
+        } catch (RejectedExecutionException e) {
+            synchronized (pendingEvents) {
+                scheduled = false;
+            }
+            logger.debug("Cannot write events to SSE client: {}", e.getMessage());
+        }
+    }
+
+    private void writePendingEvents() {
+        for (int i = 0; i < MAX_EVENTS_PER_RUN; i++) {
+            OutboundEvent event;
+            synchronized (pendingEvents) {
+                if (isClosed()) {
+                    pendingEvents.clear();
+                }
+                Iterator<PendingEvent> iterator = pendingEvents.values().iterator();
+                if (!iterator.hasNext()) {
+                    scheduled = false;
+                    return;
+                }
+                event = iterator.next().event;
+                iterator.remove();
+            }
+            writeStarted = System.currentTimeMillis();
+            try {
+                write(event);
+                synchronized (pendingEvents) {
+                    sentEvents++;
+                }
+            } catch (IOException e) {
+                logger.debug("Closing SSE client after a write failed: {}", e.getMessage());
+                closeQuietly();
+            } finally {
+                writeStarted = 0;
+            }
+        }
+        schedule();
+    }
+
+    private static class PendingEvent {
+
+        private final long timestamp = System.currentTimeMillis();
+
+        private final OutboundEvent event;
+
+        PendingEvent(OutboundEvent event) {
+            this.event = event;
         }
     }
 
@@ -0,0 +1,146 @@
+/**
+ * Copyright (c) 2014,2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.smarthome.io.rest.sse.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import org.eclipse.smarthome.io.rest.sse.internal.util.SseUtil;
+
+/**
+ * The {@link SseEventRouter} keeps the {@link SseEventOutput}s of the connected clients and finds the outputs whose
+ * topic filter matches the topic of an event.
+ *
+ * The outputs are indexed by the regular expressions of their topic filters, so an expression shared by many clients
+ * is evaluated only once. The outputs found for a topic are cached until an output is added or removed, so the
+ * expressions are not evaluated at all for the recurring topics of item and thing events.
+ */
+public class SseEventRouter {
+
+    /** Maximum number of topics whose outputs are cached. */
+    private static final int MAX_CACHED_TOPICS = 1000;
+
+    private static final String MATCH_ALL = ".*";
+
+    private volatile Index index = new Index(Collections.emptySet());
+
+    /**
+     * Adds the output of a client.
+     *
+     * @param output the output
+     */
+    public synchronized void add(SseEventOutput output) {
+        Set<SseEventOutput> outputs = new HashSet<>(index.outputs);
+        if (outputs.add(output)) {
+            index = new Index(outputs);
+        }
+    }
+
+    /**
+     * Removes the output of a client.
+     *
+     * @param output the output
+     */
+    public synchronized void remove(SseEventOutput output) {
+        Set<SseEventOutput> outputs = new HashSet<>(index.outputs);
+        if (outputs.remove(output)) {
+            index = new Index(outputs);
+        }
+    }
+
+    /**
+     * Removes the outputs which have been closed.
+     */
+    public synchronized void removeClosed() {
+        Set<SseEventOutput> outputs = new HashSet<>(index.outputs);
+        if (outputs.removeIf(SseEventOutput::isClosed)) {
+            index = new Index(outputs);
+        }
+    }
+
+    /**
+     * Gets the outputs of all clients.
+     *
+     * @return an unmodifiable collection of the outputs
+     */
+    public Collection<SseEventOutput> getOutputs() {
+        return index.outputs;
+    }
+
+    /**
+     * Gets the outputs whose topic filter matches the given topic.
+     *
+     * @param topic the topic of an event
+     * @return an unmodifiable list of the matching outputs
+     */
+    public List<SseEventOutput> route(String topic) {
+        return index.route(topic);
+    }
+
+    private static class Index {
+
+        private final Set<SseEventOutput> outputs;
+
+        private final Set<SseEventOutput> unfilteredOutputs = new HashSet<>();
+
+        private final Map<Pattern, Set<SseEventOutput>> filteredOutputs = new LinkedHashMap<>();
+
+        private final Map<String, List<SseEventOutput>> routes = new ConcurrentHashMap<>();
+
+        Index(Set<SseEventOutput> outputs) {
+            this.outputs = Collections.unmodifiableSet(outputs);
+            Map<String, Set<SseEventOutput>> outputsByRegex = new LinkedHashMap<>();
+            for (SseEventOutput output : outputs) {
+                for (String regex : SseUtil.convertToRegex(output.getTopicFilter())) {
+                    outputsByRegex.computeIfAbsent(regex, r -> new HashSet<>()).add(output);
+                }
+            }
+            for (Entry<String, Set<SseEventOutput>> entry : outputsByRegex.entrySet()) {
+                if (MATCH_ALL.equals(entry.getKey())) {
+                    unfilteredOutputs.addAll(entry.getValue());
+                } else {
+                    filteredOutputs.put(Pattern.compile(entry.getKey()), entry.getValue());
+                }
+            }
+        }
+
+        List<SseEventOutput> route(String topic) {
+            List<SseEventOutput> route = routes.get(topic);
+            if (route == null) {
+                Set<SseEventOutput> matchingOutputs = new LinkedHashSet<>(unfilteredOutputs);
+                for (Entry<Pattern, Set<SseEventOutput>> entry : filteredOutputs.entrySet()) {
+                    if (entry.getKey().matcher(topic).matches()) {
+                        matchingOutputs.addAll(entry.getValue());
+                    }
+                }
+                route = Collections.unmodifiableList(new ArrayList<>(matchingOutputs));
+                if (routes.size() >= MAX_CACHED_TOPICS) {
+                    routes.clear();
+                }
+                routes.put(topic, route);
+            }
+            return route;
+        }
+    }
+
+}
@@ -15,6 +15,11 @@ package org.eclipse.smarthome.io.rest.sse.internal.util;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.StringTokenizer;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.servlet.ServletRequest;
 import javax.ws.rs.core.MediaType;
@@ -24,6 +29,8 @@ import org.eclipse.smarthome.core.events.Event;
 import org.eclipse.smarthome.io.rest.sse.beans.EventBean;
 import org.glassfish.jersey.media.sse.OutboundEvent;
 
+import com.google.gson.Gson;
+
 /**
  * Utility class containing helper methods for the SSE implementation.
  * 
@@ -33,6 +40,11 @@ import org.glassfish.jersey.media.sse.OutboundEvent;
 public class SseUtil {
     static final String TOPIC_VALIDATE_PATTERN = "(\\w*\\*?\\/?,?\\s*)*";
 
+    private static final Gson GSON = new Gson();
+
+    /** Time in seconds after which an idle thread of the writer pool is terminated. */
+    private static final long THREAD_TIMEOUT = 65L;
+
     static {
         boolean servlet3 = false;
         try {
@@ -50,8 +62,11 @@ public class SseUtil {
     public static final boolean SERVLET3_SUPPORT;
 
     /**
-     * Creates a new {@link OutboundEvent} object containing an {@link EventBean} created for the given Eclipse
-     * SmartHome {@link Event}.
+     * Creates a new {@link OutboundEvent} object containing the JSON representation of an {@link EventBean} created
+     * for the given Eclipse SmartHome {@link Event}.
+     * 
+     * The event is serialized here once and written as plain text to all clients, instead of being serialized for
+     * every client.
      * 
      * @param event the event
      * 
@@ -64,12 +79,33 @@ public class SseUtil {
         eventBean.payload = event.getPayload();
 
         OutboundEvent.Builder eventBuilder = new OutboundEvent.Builder();
-        OutboundEvent outboundEvent = eventBuilder.name("message").mediaType(MediaType.APPLICATION_JSON_TYPE)
-                .data(eventBean).build();
+        OutboundEvent outboundEvent = eventBuilder.name("message").mediaType(MediaType.TEXT_PLAIN_TYPE)
+                .data(String.class, GSON.toJson(eventBean)).build();
 
         return outboundEvent;
     }
 
+    /**
+     * Creates the thread pool which writes the events to the clients.
+     * 
+     * A write to a client which does not read its events blocks until the connection times out. The pool therefore
+     * starts a new thread whenever all of its threads are busy, so stalled clients cannot hold up the other ones. As the
+     * events of a client are written by one task at a time, the number of threads grows with the number of clients
+     * which are written to at the same time. Idle threads are terminated.
+     * 
+     * @param name the name of the pool, used as a prefix for the names of its threads
+     * @return a new thread pool
+     */
+    public static ExecutorService createWriterPool(String name) {
+        final AtomicInteger threadNumber = new AtomicInteger(1);
+        return new ThreadPoolExecutor(0, Integer.MAX_VALUE, THREAD_TIMEOUT, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "ESH-" + name + "-" + threadNumber.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
     /**
      * Used to mark our current thread(request processing) that SSE blocking
      * should be enabled.
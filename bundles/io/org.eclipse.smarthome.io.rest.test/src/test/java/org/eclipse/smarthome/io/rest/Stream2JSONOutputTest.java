@@ -0,0 +1,88 @@
+/**
+ * Copyright (c) 2014,2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.smarthome.io.rest;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+public class Stream2JSONOutputTest {
+
+    private Gson GSON = new GsonBuilder().create();
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldFailForNullSource() {
+        new Stream2JSONOutput(null);
+    }
+
+    @Test
+    public void shouldWriteEmptyStream() throws Exception {
+        List<Object> emptyList = Collections.emptyList();
+
+        assertThat(write(emptyList.stream()), is(GSON.toJson(emptyList)));
+    }
+
+    @Test
+    public void shouldWriteCollectionStreamToJSON() throws Exception {
+        DummyObject dummyObject1 = new DummyObject("demoKey1", "demoValue1");
+        DummyObject dummyObject2 = new DummyObject("demoKey2", "<demoäValue2>");
+        ArrayList<DummyObject> dummyCollection = Lists.newArrayList(dummyObject1, null, dummyObject2);
+
+        assertThat(write(dummyCollection.stream()), is(GSON.toJson(dummyCollection)));
+    }
+
+    @SuppressWarnings("deprecation")
+    @Test
+    public void shouldWriteTheSameJSONAsTheInputStream() throws Exception {
+        List<DummyObject> dummyCollection = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            dummyCollection.add(new DummyObject("key" + i, Arrays.asList("value", i).toString()));
+        }
+
+        String expected = IOUtils.toString(new Stream2JSONInputStream(dummyCollection.stream()),
+                StandardCharsets.UTF_8.name());
+        assertThat(write(dummyCollection.stream()), is(expected));
+    }
+
+    private String write(Stream<?> stream) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        new Stream2JSONOutput(stream).write(output);
+        return new String(output.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    @SuppressWarnings("unused")
+    private class DummyObject {
+        private String key;
+        private String value;
+
+        DummyObject(String key, String value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+}
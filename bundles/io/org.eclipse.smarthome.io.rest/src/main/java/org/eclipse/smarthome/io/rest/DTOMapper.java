@@ -12,6 +12,9 @@
  */
 package org.eclipse.smarthome.io.rest;
 
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -24,4 +27,21 @@ public interface DTOMapper {
 
     <T> Stream<T> limitToFields(Stream<T> itemStream, String fields);
 
+    /**
+     * Parses the comma separated list of field names of a request.
+     *
+     * Mappers can use the result to compute only the requested fields of a DTO instead of limiting the completely
+     * mapped DTO by {@link #limitToFields(Stream, String)} afterwards.
+     *
+     * @param fields the comma separated list of field names, may be null
+     * @return the requested field names or null if all fields are requested
+     */
+    default Set<String> getFieldNames(String fields) {
+        if (fields == null || fields.trim().isEmpty()) {
+            return null;
+        }
+        return Stream.of(fields.split(",")).map(field -> field.trim())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
 }
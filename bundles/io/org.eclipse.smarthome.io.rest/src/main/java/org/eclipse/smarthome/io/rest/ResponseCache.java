@@ -0,0 +1,133 @@
+/**
+ * Copyright (c) 2014,2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.smarthome.io.rest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.ResponseBuilder;
+
+/**
+ * Caches the serialized JSON bodies of responses to collection requests and answers conditional requests.
+ *
+ * Each response is cached under a key which identifies the request (e.g. the endpoint, the locale and the query
+ * parameters) together with the version of the data it was created from. The version is sent as entity tag, so clients
+ * sending it back in an {@code If-None-Match} header get a {@code 304 Not Modified} as long as the version does not
+ * change. Other clients get the cached body without serializing the collection again.
+ *
+ * The version must be read before the data is read, so a cached body is never older than its version. Use the
+ * versions of the registries (see {@link org.eclipse.smarthome.core.common.registry.Registry#getVersion()}).
+ */
+public class ResponseCache {
+
+    /**
+     * Distinguishes the entity tags of this instance from those of an earlier one, because the versions start again
+     * after a restart.
+     */
+    private final String epoch = Long.toHexString(ThreadLocalRandom.current().nextLong());
+
+    private final Map<String, CachedResponse> cachedResponses;
+
+    /**
+     * Creates a new {@link ResponseCache}.
+     *
+     * @param maxEntries the maximum number of cached bodies, the least recently used ones are removed first
+     */
+    public ResponseCache(int maxEntries) {
+        this.cachedResponses = new LinkedHashMap<String, CachedResponse>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Entry<String, CachedResponse> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Gets the response to a request for a collection.
+     *
+     * @param request the request, used to evaluate its preconditions
+     * @param key identifies the request, must contain everything the body depends on except the version
+     * @param version the version of the data, null if the data is not versioned and the response must not be cached
+     * @param elements supplies the elements of the collection, only called if the body has to be created
+     * @return a {@code 304 Not Modified} response if the client has the current version, else a {@code 200 OK} response
+     *         containing the elements as JSON array
+     */
+    public Response get(Request request, String key, String version, Supplier<Stream<?>> elements) {
+        if (version == null) {
+            return Response.ok(new Stream2JSONOutput(elements.get())).build();
+        }
+
+        // the same resource is represented differently e.g. for other locales, so the key is part of the entity tag
+        EntityTag entityTag = new EntityTag(epoch + "-" + version + "-" + Integer.toHexString(key.hashCode()));
+        ResponseBuilder notModified = request.evaluatePreconditions(entityTag);
+        if (notModified != null) {
+            return notModified.build();
+        }
+
+        CachedResponse cachedResponse;
+        synchronized (cachedResponses) {
+            cachedResponse = cachedResponses.get(key);
+        }
+        if (cachedResponse == null || !cachedResponse.version.equals(version)) {
+            cachedResponse = new CachedResponse(version, serialize(elements.get()));
+            synchronized (cachedResponses) {
+                cachedResponses.put(key, cachedResponse);
+            }
+        }
+        return Response.ok(cachedResponse.body).tag(entityTag).build();
+    }
+
+    /**
+     * Removes all cached bodies.
+     */
+    public void clear() {
+        synchronized (cachedResponses) {
+            cachedResponses.clear();
+        }
+    }
+
+    private byte[] serialize(Stream<?> elements) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try {
+            new Stream2JSONOutput(elements).write(output);
+        } catch (IOException e) {
+            // cannot happen when writing to memory
+            throw new UncheckedIOException(e);
+        }
+        return output.toByteArray();
+    }
+
+    private static class CachedResponse {
+
+        private final String version;
+        private final byte[] body;
+
+        CachedResponse(String version, byte[] body) {
+            this.version = version;
+            this.body = body;
+        }
+    }
+
+}
@@ -31,7 +31,10 @@ import com.google.gson.GsonBuilder;
  *
  * @author Henning Treu - initial contribution
  *
+ * @deprecated the JAX-RS runtime reads this stream byte by byte and every element is copied into a string first, use
+ *             {@link Stream2JSONOutput} which writes the JSON directly to the response instead
  */
+@Deprecated
 public class Stream2JSONInputStream extends InputStream {
 
     private final Iterator<String> iterator;
@@ -0,0 +1,80 @@
+/**
+ * Copyright (c) 2014,2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.smarthome.io.rest;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import javax.ws.rs.core.StreamingOutput;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonIOException;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * This {@link StreamingOutput} writes {@link Stream}s as a JSON array directly to the output stream of the response,
+ * one element at a time. No JSON representation of an element is created in memory, so large collections can be
+ * streamed through the REST interface with little memory and CPU usage.
+ *
+ * Use it as the entity of a {@link javax.ws.rs.core.Response}. The stream is consumed when the response is written.
+ */
+public class Stream2JSONOutput implements StreamingOutput {
+
+    private static final Gson GSON = new GsonBuilder().create();
+
+    private final Stream<?> source;
+
+    /**
+     * Creates a new {@link Stream2JSONOutput} backed by the given {@link Stream} source.
+     *
+     * @param source the {@link Stream} backing this output. Must not be null.
+     *
+     * @throws IllegalArgumentException in case the source is null.
+     */
+    public Stream2JSONOutput(Stream<?> source) {
+        if (source == null) {
+            throw new IllegalArgumentException("The source must not be null!");
+        }
+        this.source = source;
+    }
+
+    @Override
+    public void write(OutputStream output) throws IOException {
+        // the output stream is closed by the JAX-RS runtime, so the writer is only flushed
+        JsonWriter jsonWriter = new JsonWriter(
+                new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8)));
+        try {
+            jsonWriter.beginArray();
+            Iterator<?> iterator = source.iterator();
+            while (iterator.hasNext()) {
+                Object element = iterator.next();
+                if (element == null) {
+                    jsonWriter.nullValue();
+                } else {
+                    GSON.toJson(element, element.getClass(), jsonWriter);
+                }
+            }
+            jsonWriter.endArray();
+            jsonWriter.flush();
+        } catch (JsonIOException e) {
+            throw new IOException(e);
+        }
+    }
+
+}
@@ -14,6 +14,9 @@ package org.eclipse.smarthome.io.rest.internal;
 
 import java.lang.reflect.Field;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -36,22 +39,28 @@ public class DTOMapperImpl implements DTOMapper {
 
     @Override
     public <T> Stream<T> limitToFields(Stream<T> itemStream, String fields) {
-        if (fields == null || fields.trim().isEmpty()) {
+        Set<String> fieldNames = getFieldNames(fields);
+        if (fieldNames == null) {
             return itemStream;
         }
-        List<String> fieldList = Stream.of(fields.split(",")).map(field -> field.trim()).collect(Collectors.toList());
+        // the fields to eliminate are determined once per DTO class and request
+        Map<Class<?>, List<Field>> eliminatedFields = new ConcurrentHashMap<>();
         return itemStream.map(dto -> {
-            for (Field field : dto.getClass().getFields()) {
-                if (!fieldList.contains(field.getName())) {
-                    try {
-                        field.set(dto, null);
-                    } catch (IllegalArgumentException | IllegalAccessException e) {
-                        logger.warn("Field '{}' could not be eliminated: {}", field.getName(), e.getMessage());
-                    }
+            for (Field field : eliminatedFields.computeIfAbsent(dto.getClass(),
+                    dtoClass -> getEliminatedFields(dtoClass, fieldNames))) {
+                try {
+                    field.set(dto, null);
+                } catch (IllegalArgumentException | IllegalAccessException e) {
+                    logger.warn("Field '{}' could not be eliminated: {}", field.getName(), e.getMessage());
                 }
             }
             return dto;
         });
     }
 
+    private List<Field> getEliminatedFields(Class<?> dtoClass, Set<String> fieldNames) {
+        return Stream.of(dtoClass.getFields()).filter(field -> !fieldNames.contains(field.getName()))
+                .collect(Collectors.toList());
+    }
+
 }
@@ -0,0 +1,67 @@
+/**
+ * Copyright (c) 2014,2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.smarthome.io.transport.mqtt.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Tests the matching of MQTT topic filters by the {@link TopicTree}.
+ */
+public class TopicTreeTests {
+
+    private final TopicTree<String> tree = new TopicTree<>();
+
+    private List<String> match(String topic) {
+        List<String> result = new ArrayList<>();
+        tree.forEachMatch(topic, result::add);
+        return result;
+    }
+
+    @Test
+    public void testWildcards() {
+        tree.add("home/livingroom/temperature", "exact");
+        tree.add("home/+/temperature", "single");
+        tree.add("home/#", "multi");
+        tree.add("#", "all");
+
+        assertEquals(4, match("home/livingroom/temperature").size());
+        assertTrue(match("home/kitchen/temperature").containsAll(Arrays.asList("single", "multi", "all")));
+        assertEquals(3, match("home/kitchen/temperature").size());
+        assertEquals(2, match("home").size());
+        assertEquals(1, match("garden/temperature").size());
+        assertTrue(match("home/kitchen/humidity").containsAll(Arrays.asList("multi", "all")));
+        assertFalse(match("home/kitchen/temperature/raw").contains("single"));
+    }
+
+    @Test
+    public void testRemove() {
+        tree.add("home/+/temperature", "a");
+        tree.add("home/+/temperature", "b");
+        assertFalse(tree.isEmpty());
+
+        assertTrue(tree.remove("home/+/temperature", "a"));
+        assertFalse(tree.remove("home/+/temperature", "a"));
+        assertEquals(1, match("home/kitchen/temperature").size());
+
+        assertTrue(tree.remove("home/+/temperature", "b"));
+        assertTrue(tree.isEmpty());
+        assertTrue(match("home/kitchen/temperature").isEmpty());
+    }
+
+}
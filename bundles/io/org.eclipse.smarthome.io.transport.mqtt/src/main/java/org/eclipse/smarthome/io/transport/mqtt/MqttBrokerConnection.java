@@ -12,10 +12,7 @@
  */
 package org.eclipse.smarthome.io.transport.mqtt;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import javax.naming.ConfigurationException;
@@ -32,6 +29,7 @@ import org.eclipse.paho.client.mqttv3.MqttConnectOptions;
 import org.eclipse.paho.client.mqttv3.MqttMessage;
 import org.eclipse.paho.client.mqttv3.persist.MqttDefaultFilePersistence;
 import org.eclipse.smarthome.io.transport.mqtt.internal.MqttSenderChannelImpl;
+import org.eclipse.smarthome.io.transport.mqtt.internal.TopicTree;
 import org.eclipse.smarthome.io.transport.mqtt.reconnect.AbstractReconnectStrategy;
 import org.eclipse.smarthome.io.transport.mqtt.reconnect.PeriodicReconnectStrategy;
 import org.eclipse.smarthome.io.transport.mqtt.sslcontext.AcceptAllCertificatesSSLContext;
@@ -74,7 +72,7 @@ public class MqttBrokerConnection {
     private boolean isConnecting = false;
 
     private final List<MqttConnectionObserver> connectionObservers = new CopyOnWriteArrayList<>();
-    private final Map<String, List<MqttMessageSubscriber>> consumers = new HashMap<>();
+    private final TopicTree<MqttMessageSubscriber> consumers = new TopicTree<>();
     // This should be removed by 2018 and before ESH 1.0
     @Deprecated
     private final List<MqttMessageProducer> producers = new CopyOnWriteArrayList<MqttMessageProducer>();
@@ -110,20 +108,11 @@ public class MqttBrokerConnection {
 
         @Override
         public void messageArrived(String topic, MqttMessage message) {
-            logger.trace("Received message on topic '{}' : {}", topic, new String(message.getPayload()));
-            for (Map.Entry<String, List<MqttMessageSubscriber>> entry : consumers.entrySet()) {
-                final String target = entry.getKey();
-                final List<MqttMessageSubscriber> consumerList = entry.getValue();
-
-                if (topic.matches(target)) {
-                    logger.trace("Topic match for '{}' and '{}' using regex {}", topic, target);
-                    for (MqttMessageSubscriber consumer : consumerList) {
-                        consumer.processMessage(topic, message.getPayload());
-                    }
-                } else {
-                    logger.trace("No topic match for '{}' and '{}' using regex {}", topic, target);
-                }
+            final byte[] payload = message.getPayload();
+            if (logger.isTraceEnabled()) {
+                logger.trace("Received message on topic '{}' : {}", topic, new String(payload));
             }
+            consumers.forEachMatch(topic, consumer -> consumer.processMessage(topic, payload));
         }
     }
 
@@ -352,16 +341,7 @@ public class MqttBrokerConnection {
      * @throws MqttException If connected and the subscribe fails, this exception is thrown.
      */
     public boolean addConsumer(MqttMessageSubscriber subscriber) throws MqttException {
-        // Prepare topic for regex pattern matching taking place in messageArrived.
-        String topic = prepareTopic(subscriber.getTopic());
-        synchronized (consumers) {
-            List<MqttMessageSubscriber> subscriberList = consumers.get(topic);
-            if (subscriberList == null) {
-                subscriberList = new ArrayList<>();
-                consumers.put(topic, subscriberList);
-            }
-            subscriberList.add(subscriber);
-        }
+        consumers.add(subscriber.getTopic(), subscriber);
         if (isConnected()) {
             try {
                 client.subscribe(subscriber.getTopic(), qos);
@@ -372,10 +352,6 @@ public class MqttBrokerConnection {
         return true;
     }
 
-    private String prepareTopic(String topic) {
-        return StringUtils.replace(StringUtils.replace(topic, "+", "[^/]*"), "#", ".*");
-    }
-
     /**
      * Remove a previously registered consumer from this connection.
      *
@@ -393,16 +369,7 @@ public class MqttBrokerConnection {
             logger.info("Error unsubscribing topic from broker", e);
         }
 
-        synchronized (consumers) {
-            String topic = prepareTopic(subscriber.getTopic());
-            List<MqttMessageSubscriber> list = consumers.get(topic);
-            if (list != null) {
-                list.remove(subscriber);
-                if (list.isEmpty()) {
-                    consumers.remove(topic);
-                }
-            }
-        }
+        consumers.remove(subscriber.getTopic(), subscriber);
     }
 
     /**
@@ -497,15 +464,13 @@ public class MqttBrokerConnection {
                 reconnectStrategy.connectionEstablished();
 
                 // start all consumers
-                for (List<MqttMessageSubscriber> consumerList : consumers.values()) {
-                    for (MqttMessageSubscriber c : consumerList) {
-                        try {
-                            client.subscribe(c.getTopic(), qos);
-                        } catch (org.eclipse.paho.client.mqttv3.MqttException e) {
-                            logger.debug("Couldn't start subscriber", e);
-                        }
+                consumers.forEach(c -> {
+                    try {
+                        client.subscribe(c.getTopic(), qos);
+                    } catch (org.eclipse.paho.client.mqttv3.MqttException e) {
+                        logger.debug("Couldn't start subscriber", e);
                     }
-                }
+                });
 
                 // start all producers
                 for (MqttMessageProducer p : producers) {
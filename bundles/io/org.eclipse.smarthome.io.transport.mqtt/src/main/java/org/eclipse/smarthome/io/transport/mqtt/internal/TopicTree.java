@@ -0,0 +1,163 @@
+/**
+ * Copyright (c) 2014,2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.smarthome.io.transport.mqtt.internal;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * A tree of MQTT topic filters, which finds the values added for all filters matching a topic.
+ *
+ * The levels of a topic filter are the nodes of the tree. The single level wildcard <code>+</code> and the multi level
+ * wildcard <code>#</code> are nodes of their own, so a topic is matched by walking down its levels instead of testing
+ * every filter. Changes copy the children of the affected nodes, so the matching does not need any lock.
+ *
+ * @param <T> the type of the values
+ */
+public class TopicTree<T> {
+
+    private static final String SINGLE_LEVEL_WILDCARD = "+";
+    private static final String MULTI_LEVEL_WILDCARD = "#";
+
+    private final Node<T> root = new Node<>();
+
+    /**
+     * Adds a value for the given topic filter.
+     *
+     * @param topicFilter the topic filter, may contain wildcards
+     * @param value the value
+     */
+    public synchronized void add(String topicFilter, T value) {
+        Node<T> node = root;
+        for (String level : topicFilter.split("/", -1)) {
+            Node<T> child = node.children.get(level);
+            if (child == null) {
+                child = new Node<>();
+                Map<String, Node<T>> children = new HashMap<>(node.children);
+                children.put(level, child);
+                node.children = children;
+            }
+            node = child;
+        }
+        node.values.add(value);
+    }
+
+    /**
+     * Removes a value which has been added for the given topic filter.
+     *
+     * @param topicFilter the topic filter
+     * @param value the value
+     * @return true if the value has been removed
+     */
+    public synchronized boolean remove(String topicFilter, T value) {
+        return remove(root, topicFilter.split("/", -1), 0, value);
+    }
+
+    private boolean remove(Node<T> node, String[] levels, int index, T value) {
+        if (index == levels.length) {
+            return node.values.remove(value);
+        }
+        Node<T> child = node.children.get(levels[index]);
+        if (child == null || !remove(child, levels, index + 1, value)) {
+            return false;
+        }
+        if (child.isEmpty()) {
+            Map<String, Node<T>> children = new HashMap<>(node.children);
+            children.remove(levels[index]);
+            node.children = children.isEmpty() ? Collections.emptyMap() : children;
+        }
+        return true;
+    }
+
+    /**
+     * Checks if no values have been added.
+     *
+     * @return true if the tree is empty
+     */
+    public boolean isEmpty() {
+        return root.isEmpty();
+    }
+
+    /**
+     * Passes all values to the given consumer.
+     *
+     * @param consumer the consumer
+     */
+    public void forEach(Consumer<? super T> consumer) {
+        forEach(root, consumer);
+    }
+
+    private void forEach(Node<T> node, Consumer<? super T> consumer) {
+        node.values.forEach(consumer);
+        for (Node<T> child : node.children.values()) {
+            forEach(child, consumer);
+        }
+    }
+
+    /**
+     * Passes the values of all topic filters matching the given topic to the given consumer.
+     *
+     * @param topic the topic of a message, must not contain wildcards
+     * @param consumer the consumer
+     */
+    public void forEachMatch(String topic, Consumer<? super T> consumer) {
+        match(root, topic, 0, consumer);
+    }
+
+    private void match(Node<T> node, String topic, int start, Consumer<? super T> consumer) {
+        Map<String, Node<T>> children = node.children;
+        if (children.isEmpty()) {
+            return;
+        }
+        Node<T> multiLevel = children.get(MULTI_LEVEL_WILDCARD);
+        if (multiLevel != null) {
+            multiLevel.values.forEach(consumer);
+        }
+        int end = topic.indexOf('/', start);
+        Node<T> exact = children.get(end < 0 ? topic.substring(start) : topic.substring(start, end));
+        if (exact != null) {
+            matchChild(exact, topic, end, consumer);
+        }
+        Node<T> singleLevel = children.get(SINGLE_LEVEL_WILDCARD);
+        if (singleLevel != null) {
+            matchChild(singleLevel, topic, end, consumer);
+        }
+    }
+
+    private void matchChild(Node<T> child, String topic, int end, Consumer<? super T> consumer) {
+        if (end < 0) {
+            child.values.forEach(consumer);
+            // the multi level wildcard also matches the parent level
+            Node<T> multiLevel = child.children.get(MULTI_LEVEL_WILDCARD);
+            if (multiLevel != null) {
+                multiLevel.values.forEach(consumer);
+            }
+        } else {
+            match(child, topic, end + 1, consumer);
+        }
+    }
+
+    private static class Node<T> {
+        private volatile Map<String, Node<T>> children = Collections.emptyMap();
+        private final List<T> values = new CopyOnWriteArrayList<>();
+
+        private boolean isEmpty() {
+            return children.isEmpty() && values.isEmpty();
+        }
+    }
+
+}
@@ -22,6 +22,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.lang.StringUtils;
 import org.eclipse.emf.common.util.EList;
@@ -74,6 +75,8 @@ public class GenericItemProvider extends AbstractProvider<Item>
 
     private final Map<String, StateDescription> stateDescriptions = new ConcurrentHashMap<>();
 
+    private final AtomicLong stateDescriptionVersion = new AtomicLong();
+
     private Integer rank;
 
     protected void activate(Map<String, Object> properties) {
@@ -90,6 +93,11 @@ public class GenericItemProvider extends AbstractProvider<Item>
         return rank;
     }
 
+    @Override
+    public long getVersion() {
+        return stateDescriptionVersion.get();
+    }
+
     public void setModelRepository(ModelRepository modelRepository) {
         this.modelRepository = modelRepository;
 
@@ -144,7 +152,10 @@ public class GenericItemProvider extends AbstractProvider<Item>
     @Override
     public Collection<Item> getAll() {
         List<Item> items = new ArrayList<Item>();
-        stateDescriptions.clear();
+        if (!stateDescriptions.isEmpty()) {
+            stateDescriptions.clear();
+            stateDescriptionVersion.incrementAndGet();
+        }
         for (String name : modelRepository.getAllModelNamesOfType("items")) {
             items.addAll(getItemsFromModel(name));
         }
@@ -227,7 +238,11 @@ public class GenericItemProvider extends AbstractProvider<Item>
             String format = StringUtils.substringBetween(label, "[", "]");
             if (format != null) {
                 label = StringUtils.substringBefore(label, "[").trim();
-                stateDescriptions.put(modelItem.getName(), new StateDescription(null, null, null, format, false, null));
+                StateDescription previous = stateDescriptions.put(modelItem.getName(),
+                        new StateDescription(null, null, null, format, false, null));
+                if (previous == null || !format.equals(previous.getPattern())) {
+                    stateDescriptionVersion.incrementAndGet();
+                }
             }
             item.setLabel(label);
             item.setCategory(modelItem.getIcon());
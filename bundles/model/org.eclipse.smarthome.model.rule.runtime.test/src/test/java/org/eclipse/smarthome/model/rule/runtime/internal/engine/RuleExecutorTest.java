@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) 2014,2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.smarthome.model.rule.runtime.internal.engine;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link RuleExecutor} class.
+ */
+public class RuleExecutorTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testSerializedExecutionsDoNotOverlapAndKeepTheirOrder() throws Exception {
+        int count = 200;
+        RuleExecutor ruleExecutor = new RuleExecutor("rule");
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch finished = new CountDownLatch(count);
+
+        for (int i = 0; i < count; i++) {
+            int execution = i;
+            ruleExecutor.submit(executor, () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                order.add(execution);
+                running.decrementAndGet();
+                finished.countDown();
+            }, true);
+        }
+
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+        assertThat(maxRunning.get(), is(1));
+        for (int i = 0; i < count; i++) {
+            assertThat(order.get(i), is(i));
+        }
+    }
+
+    @Test
+    public void testUnserializedExecutionsRunConcurrently() throws Exception {
+        RuleExecutor ruleExecutor = new RuleExecutor("rule");
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+
+        for (int i = 0; i < 2; i++) {
+            ruleExecutor.submit(executor, () -> {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }, false);
+        }
+
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        release.countDown();
+    }
+
+    @Test
+    public void testFailingExecutionDoesNotBlockTheQueue() throws Exception {
+        RuleExecutor ruleExecutor = new RuleExecutor("rule");
+        CountDownLatch finished = new CountDownLatch(1);
+
+        ruleExecutor.submit(executor, () -> {
+            throw new IllegalStateException("test");
+        }, true);
+        ruleExecutor.submit(executor, finished::countDown, true);
+
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+    }
+
+}
@@ -0,0 +1,103 @@
+/**
+ * Copyright (c) 2014,2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.smarthome.model.rule.runtime.internal.engine;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.Executor;
+
+import org.eclipse.emf.common.util.BasicEList;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.smarthome.model.rule.rules.Rule;
+import org.eclipse.smarthome.model.rule.rules.RuleModel;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link RuleExecutors} class.
+ */
+public class RuleExecutorsTest {
+
+    private final RuleExecutors ruleExecutors = new RuleExecutors();
+
+    private static Rule rule(String modelName, String ruleName) {
+        Resource resource = mock(Resource.class);
+        when(resource.getURI()).thenReturn(URI.createURI(modelName));
+        Rule rule = mock(Rule.class);
+        when(rule.getName()).thenReturn(ruleName);
+        when(rule.eResource()).thenReturn(resource);
+        return rule;
+    }
+
+    private static RuleModel model(Rule... rules) {
+        BasicEList<Rule> list = new BasicEList<>();
+        for (Rule rule : rules) {
+            list.add(rule);
+        }
+        RuleModel model = mock(RuleModel.class);
+        when(model.getRules()).thenReturn(list);
+        return model;
+    }
+
+    @Test
+    public void testRulesWithTheSameNameInDifferentModelsHaveDifferentExecutors() {
+        RuleExecutor first = ruleExecutors.get(rule("a.rules", "rule"));
+        RuleExecutor second = ruleExecutors.get(rule("b.rules", "rule"));
+
+        assertThat(first, is(not(sameInstance(second))));
+        assertThat(ruleExecutors.getStatistics().size(), is(2));
+    }
+
+    @Test
+    public void testReloadedRuleKeepsItsExecutor() {
+        RuleExecutor executor = ruleExecutors.get(rule("a.rules", "rule"));
+
+        Rule reloaded = rule("a.rules", "rule");
+        ruleExecutors.modelChanged("a.rules", model(reloaded));
+
+        assertThat(ruleExecutors.get(reloaded), is(sameInstance(executor)));
+    }
+
+    @Test
+    public void testExecutorsOfRemovedRulesAreDropped() {
+        Rule kept = rule("a.rules", "kept");
+        RuleExecutor keptExecutor = ruleExecutors.get(kept);
+        RuleExecutor removedExecutor = ruleExecutors.get(rule("a.rules", "removed"));
+        ruleExecutors.get(rule("b.rules", "other"));
+
+        ruleExecutors.modelChanged("a.rules", model(kept));
+        assertThat(ruleExecutors.getStatistics().size(), is(2));
+        assertThat(ruleExecutors.get(kept), is(sameInstance(keptExecutor)));
+        assertThat(ruleExecutors.get(rule("a.rules", "removed")), is(not(sameInstance(removedExecutor))));
+
+        ruleExecutors.modelChanged("a.rules", null);
+        assertThat(ruleExecutors.getStatistics().size(), is(1));
+        assertThat(ruleExecutors.getStatistics().get(0).getName(), is("b.rules:other"));
+    }
+
+    @Test
+    public void testStatisticsCountTheExecutions() {
+        Executor executor = Runnable::run;
+        RuleExecutor ruleExecutor = ruleExecutors.get(rule("a.rules", "rule"));
+        ruleExecutor.submit(executor, () -> {
+        }, true);
+        ruleExecutor.submit(executor, () -> {
+        }, false);
+
+        assertThat(ruleExecutors.getStatistics().get(0).get("executions"), is(2L));
+        assertThat(ruleExecutors.getStatistics().get(0).get("queued"), is(0L));
+    }
+
+}
@@ -0,0 +1,194 @@
+/**
+ * Copyright (c) 2014,2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.smarthome.model.rule.runtime.internal.engine;
+
+import static java.util.Collections.singletonList;
+import static org.eclipse.smarthome.model.rule.runtime.internal.engine.RuleTriggerManager.TriggerTypes.*;
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.common.util.BasicEList;
+import org.eclipse.smarthome.core.library.items.NumberItem;
+import org.eclipse.smarthome.core.library.items.SwitchItem;
+import org.eclipse.smarthome.core.library.types.DecimalType;
+import org.eclipse.smarthome.core.library.types.OnOffType;
+import org.eclipse.smarthome.core.types.Command;
+import org.eclipse.smarthome.core.types.State;
+import org.eclipse.smarthome.model.rule.rules.ChangedEventTrigger;
+import org.eclipse.smarthome.model.rule.rules.CommandEventTrigger;
+import org.eclipse.smarthome.model.rule.rules.EventTrigger;
+import org.eclipse.smarthome.model.rule.rules.Rule;
+import org.eclipse.smarthome.model.rule.rules.UpdateEventTrigger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.inject.Injector;
+
+/**
+ * Tests for the item triggers of the {@link RuleTriggerManager}.
+ */
+public class RuleTriggerManagerTest {
+
+    private static final State ON = OnOffType.ON;
+    private static final State OFF = OnOffType.OFF;
+    private static final Command ON_COMMAND = OnOffType.ON;
+    private static final Command OFF_COMMAND = OnOffType.OFF;
+
+    private final SwitchItem switchItem = new SwitchItem("Switch");
+    private final NumberItem numberItem = new NumberItem("Number");
+
+    private RuleTriggerManager triggerManager;
+
+    @Before
+    public void setup() {
+        Injector injector = mock(Injector.class);
+        when(injector.getInstance(GuiceAwareJobFactory.class)).thenReturn(new GuiceAwareJobFactory());
+        triggerManager = new RuleTriggerManager(injector);
+    }
+
+    @After
+    public void tearDown() {
+        triggerManager.clearAll();
+    }
+
+    private static Rule rule(String name, EventTrigger... triggers) {
+        Rule rule = mock(Rule.class);
+        when(rule.getName()).thenReturn(name);
+        BasicEList<EventTrigger> eventTriggers = new BasicEList<>();
+        for (EventTrigger trigger : triggers) {
+            eventTriggers.add(trigger);
+        }
+        when(rule.getEventtrigger()).thenReturn(eventTriggers);
+        return rule;
+    }
+
+    private static UpdateEventTrigger updateTrigger(String item, String state) {
+        UpdateEventTrigger trigger = mock(UpdateEventTrigger.class);
+        when(trigger.getItem()).thenReturn(item);
+        when(trigger.getState()).thenReturn(state);
+        return trigger;
+    }
+
+    private static ChangedEventTrigger changedTrigger(String item, String oldState, String newState) {
+        ChangedEventTrigger trigger = mock(ChangedEventTrigger.class);
+        when(trigger.getItem()).thenReturn(item);
+        when(trigger.getOldState()).thenReturn(oldState);
+        when(trigger.getNewState()).thenReturn(newState);
+        return trigger;
+    }
+
+    private static CommandEventTrigger commandTrigger(String item, String command) {
+        CommandEventTrigger trigger = mock(CommandEventTrigger.class);
+        when(trigger.getItem()).thenReturn(item);
+        when(trigger.getCommand()).thenReturn(command);
+        return trigger;
+    }
+
+    private static State number(int value) {
+        return new DecimalType(value);
+    }
+
+    private static List<Rule> list(Iterable<Rule> rules) {
+        List<Rule> list = new ArrayList<>();
+        rules.forEach(list::add);
+        return list;
+    }
+
+    @Test
+    public void testUpdateTriggersMatchByValue() {
+        Rule anyUpdate = rule("anyUpdate", updateTrigger("Switch", null));
+        Rule onUpdate = rule("onUpdate", updateTrigger("Switch", "ON"));
+        Rule numberUpdate = rule("numberUpdate", updateTrigger("Number", "5"));
+        triggerManager.addRule(anyUpdate);
+        triggerManager.addRule(onUpdate);
+        triggerManager.addRule(numberUpdate);
+
+        List<Rule> rules = list(triggerManager.getRules(UPDATE, switchItem, ON));
+        assertThat(rules.size(), is(2));
+        assertThat(rules, hasItems(anyUpdate, onUpdate));
+        assertThat(list(triggerManager.getRules(UPDATE, switchItem, OFF)), is(singletonList(anyUpdate)));
+
+        assertThat(list(triggerManager.getRules(UPDATE, numberItem, number(5))), is(singletonList(numberUpdate)));
+        assertThat(list(triggerManager.getRules(UPDATE, numberItem, number(6))).isEmpty(), is(true));
+    }
+
+    @Test
+    public void testChangedTriggersMatchOldAndNewValue() {
+        Rule anyChange = rule("anyChange", changedTrigger("Switch", null, null));
+        Rule toOn = rule("toOn", changedTrigger("Switch", null, "ON"));
+        Rule fromOffToOn = rule("fromOffToOn", changedTrigger("Switch", "OFF", "ON"));
+        Rule fromOn = rule("fromOn", changedTrigger("Switch", "ON", null));
+        triggerManager.addRule(anyChange);
+        triggerManager.addRule(toOn);
+        triggerManager.addRule(fromOffToOn);
+        triggerManager.addRule(fromOn);
+
+        List<Rule> rules = list(triggerManager.getRules(CHANGE, switchItem, OFF, ON));
+        assertThat(rules.size(), is(3));
+        assertThat(rules, hasItems(anyChange, toOn, fromOffToOn));
+
+        rules = list(triggerManager.getRules(CHANGE, switchItem, ON, OFF));
+        assertThat(rules.size(), is(2));
+        assertThat(rules, hasItems(anyChange, fromOn));
+    }
+
+    @Test
+    public void testCommandTriggersMatchByCommand() {
+        Rule onCommand = rule("onCommand", commandTrigger("Switch", "ON"));
+        Rule anyCommand = rule("anyCommand", commandTrigger("Switch", null));
+        triggerManager.addRule(onCommand);
+        triggerManager.addRule(anyCommand);
+
+        List<Rule> rules = list(triggerManager.getRules(COMMAND, switchItem, ON_COMMAND));
+        assertThat(rules.size(), is(2));
+        assertThat(list(triggerManager.getRules(COMMAND, switchItem, OFF_COMMAND)), is(singletonList(anyCommand)));
+    }
+
+    @Test
+    public void testRuleWithSeveralMatchingTriggersIsReturnedOnce() {
+        Rule rule = rule("twice", updateTrigger("Switch", null), updateTrigger("Switch", "ON"));
+        triggerManager.addRule(rule);
+
+        assertThat(list(triggerManager.getRules(UPDATE, switchItem, ON)), is(singletonList(rule)));
+    }
+
+    @Test
+    public void testInvalidLiteralsDoNotMatch() {
+        triggerManager.addRule(rule("invalid", updateTrigger("Number", "ON")));
+
+        assertThat(list(triggerManager.getRules(UPDATE, numberItem, number(1))).isEmpty(), is(true));
+    }
+
+    @Test
+    public void testIndexesAreUpdatedWhenRulesChange() {
+        Rule onUpdate = rule("onUpdate", updateTrigger("Switch", "ON"));
+        triggerManager.addRule(onUpdate);
+        assertThat(list(triggerManager.getRules(UPDATE, switchItem, ON)), is(singletonList(onUpdate)));
+
+        Rule offUpdate = rule("offUpdate", updateTrigger("Switch", "OFF"));
+        triggerManager.addRule(offUpdate);
+        assertThat(list(triggerManager.getRules(UPDATE, switchItem, OFF)), is(singletonList(offUpdate)));
+
+        triggerManager.removeRule(UPDATE, onUpdate);
+        assertThat(list(triggerManager.getRules(UPDATE, switchItem, ON)).isEmpty(), is(true));
+
+        triggerManager.clear(UPDATE);
+        assertThat(list(triggerManager.getRules(UPDATE, switchItem, OFF)).isEmpty(), is(true));
+    }
+
+}
@@ -0,0 +1,137 @@
+/**
+ * Copyright (c) 2014,2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.smarthome.model.rule.runtime.internal.engine;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.smarthome.core.types.Type;
+import org.eclipse.smarthome.model.rule.rules.Rule;
+
+/**
+ * Holds the item event triggers of a single item and trigger type, with their state or command literals parsed for
+ * the accepted types of the item.
+ *
+ * Rules without conditions on the values are kept in a precomputed set. Triggers on enum values (like ON or OPEN) are
+ * looked up by the value, as an enum is only equal to itself. All other triggers are matched by comparing the values.
+ */
+class ItemTriggerIndex {
+
+    private final List<? extends Class<?>> acceptedTypes;
+
+    private final Set<Rule> unconditionalRules = new LinkedHashSet<>();
+
+    private final Map<Type, List<Entry>> enumEntries = new HashMap<>();
+
+    private final List<Entry> valueEntries = new ArrayList<>();
+
+    private final List<Entry> oldValueEntries = new ArrayList<>();
+
+    /**
+     * Creates an index for the given accepted types of the item.
+     *
+     * @param acceptedTypes the types the literals have been parsed for
+     */
+    ItemTriggerIndex(List<? extends Class<?>> acceptedTypes) {
+        this.acceptedTypes = acceptedTypes;
+    }
+
+    /**
+     * Adds a trigger of a rule.
+     *
+     * @param rule the rule
+     * @param oldValue the parsed old value of the trigger or null, if it does not have one
+     * @param newValue the parsed (new) value of the trigger or null, if it does not have one
+     */
+    void add(Rule rule, Type oldValue, Type newValue) {
+        Entry entry = new Entry(rule, oldValue, newValue);
+        if (newValue == null) {
+            if (oldValue == null) {
+                unconditionalRules.add(rule);
+            } else {
+                oldValueEntries.add(entry);
+            }
+        } else if (newValue instanceof Enum) {
+            enumEntries.computeIfAbsent(newValue, v -> new ArrayList<>()).add(entry);
+        } else {
+            valueEntries.add(entry);
+        }
+    }
+
+    /**
+     * Checks if the index has been created for the given accepted types of the item.
+     *
+     * @param acceptedTypes the accepted types of the item
+     * @return true, if the index can be used for the item
+     */
+    boolean isValidFor(List<? extends Class<?>> acceptedTypes) {
+        return this.acceptedTypes == acceptedTypes || this.acceptedTypes.equals(acceptedTypes);
+    }
+
+    /**
+     * Returns the rules whose triggers match the given values.
+     *
+     * @param oldValue the old value, may be null if there is none
+     * @param newValue the (new) value
+     * @return the matching rules
+     */
+    Set<Rule> getRules(Type oldValue, Type newValue) {
+        Set<Rule> result = null;
+        if (newValue instanceof Enum) {
+            result = addMatches(result, enumEntries.getOrDefault(newValue, Collections.emptyList()), oldValue,
+                    newValue);
+        } else {
+            for (List<Entry> entries : enumEntries.values()) {
+                result = addMatches(result, entries, oldValue, newValue);
+            }
+            result = addMatches(result, valueEntries, oldValue, newValue);
+        }
+        result = addMatches(result, oldValueEntries, oldValue, newValue);
+        return result != null ? result : Collections.unmodifiableSet(unconditionalRules);
+    }
+
+    private Set<Rule> addMatches(Set<Rule> result, List<Entry> entries, Type oldValue, Type newValue) {
+        for (Entry entry : entries) {
+            if (entry.matches(oldValue, newValue)) {
+                if (result == null) {
+                    result = new LinkedHashSet<>(unconditionalRules);
+                }
+                result.add(entry.rule);
+            }
+        }
+        return result;
+    }
+
+    private static class Entry {
+        private final Rule rule;
+        private final Type oldValue;
+        private final Type newValue;
+
+        private Entry(Rule rule, Type oldValue, Type newValue) {
+            this.rule = rule;
+            this.oldValue = oldValue;
+            this.newValue = newValue;
+        }
+
+        private boolean matches(Type oldValue, Type newValue) {
+            return (this.newValue == null || newValue.equals(this.newValue))
+                    && (this.oldValue == null || (oldValue != null && oldValue.equals(this.oldValue)));
+        }
+    }
+
+}
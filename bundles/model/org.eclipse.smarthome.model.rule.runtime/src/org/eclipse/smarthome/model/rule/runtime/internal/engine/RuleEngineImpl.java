@@ -16,12 +16,17 @@ import static org.eclipse.smarthome.model.rule.runtime.internal.engine.RuleTrigg
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.smarthome.core.common.Statistics;
+import org.eclipse.smarthome.core.common.StatisticsProvider;
 import org.eclipse.smarthome.core.common.ThreadPoolManager;
 import org.eclipse.smarthome.core.events.Event;
 import org.eclipse.smarthome.core.events.EventFilter;
@@ -53,7 +58,9 @@ import org.eclipse.smarthome.model.script.engine.ScriptExecutionException;
 import org.eclipse.xtext.naming.QualifiedName;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.ConfigurationPolicy;
 import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -72,9 +79,12 @@ import com.google.inject.Injector;
  *
  */
 @SuppressWarnings("restriction")
-@Component(immediate = true, service = { EventSubscriber.class, RuleEngine.class })
+@Component(immediate = true, configurationPid = "org.eclipse.smarthome.ruleengine", service = { EventSubscriber.class,
+        RuleEngine.class, StatisticsProvider.class }, configurationPolicy = ConfigurationPolicy.OPTIONAL)
 public class RuleEngineImpl implements ItemRegistryChangeListener, StateChangeListener, ModelRepositoryChangeListener,
-        RuleEngine, EventSubscriber {
+        RuleEngine, EventSubscriber, StatisticsProvider {
+
+    private static final String CONFIG_SERIALIZE_RULE_EXECUTION = "serializeRuleExecution";
 
     private final Logger logger = LoggerFactory.getLogger(RuleEngineImpl.class);
 
@@ -91,12 +101,23 @@ public class RuleEngineImpl implements ItemRegistryChangeListener, StateChangeLi
 
     private ScheduledFuture<?> startupJob;
 
+    // the scripts of the rules, created on first execution and dropped whenever the rule models change
+    private final Map<Rule, Script> scripts = new ConcurrentHashMap<>();
+
+    // the executors keeping track of the executions of the rules
+    private final RuleExecutors ruleExecutors = new RuleExecutors();
+
+    // if set, the executions of a rule never overlap, otherwise a rule can be executed concurrently to itself
+    private volatile boolean serializeRuleExecution = false;
+
     // this flag is used to signal that items are still being added and that we hence do not consider the rule engine
     // ready to be operational
     private boolean starting = true;
 
     @Activate
-    public void activate() {
+    public void activate(Map<String, Object> config) {
+        modified(config);
+
         injector = RulesStandaloneSetup.getInjector();
         triggerManager = injector.getInstance(RuleTriggerManager.class);
 
@@ -129,6 +150,12 @@ public class RuleEngineImpl implements ItemRegistryChangeListener, StateChangeLi
         scheduleStartupRules();
     }
 
+    @Modified
+    protected void modified(Map<String, Object> config) {
+        Object serialize = config != null ? config.get(CONFIG_SERIALIZE_RULE_EXECUTION) : null;
+        serializeRuleExecution = serialize != null && Boolean.parseBoolean(serialize.toString());
+    }
+
     @Deactivate
     public void deactivate() {
         // unregister listeners
@@ -142,6 +169,7 @@ public class RuleEngineImpl implements ItemRegistryChangeListener, StateChangeLi
         executeRules(triggerManager.getRules(SHUTDOWN));
         triggerManager.clearAll();
         triggerManager = null;
+        scripts.clear();
     }
 
     @Reference
@@ -169,6 +197,7 @@ public class RuleEngineImpl implements ItemRegistryChangeListener, StateChangeLi
 
     public void unsetScriptEngine(ScriptEngine scriptEngine) {
         this.scriptEngine = null;
+        scripts.clear();
     }
 
     @Reference
@@ -274,10 +303,14 @@ public class RuleEngineImpl implements ItemRegistryChangeListener, StateChangeLi
             if (isEnabled() && modelName.endsWith("rules")) {
                 RuleModel model = (RuleModel) modelRepository.getModel(modelName);
 
+                // the scripts of changed or removed rules must not be executed anymore
+                scripts.clear();
+
                 // remove the rules from the trigger sets
                 if (type == org.eclipse.smarthome.model.core.EventType.REMOVED
                         || type == org.eclipse.smarthome.model.core.EventType.MODIFIED) {
                     triggerManager.removeRuleModel(model);
+                    ruleExecutors.modelChanged(modelName, model);
                 }
 
                 // add new and modified rules to the trigger sets
@@ -307,7 +340,7 @@ public class RuleEngineImpl implements ItemRegistryChangeListener, StateChangeLi
             for (Rule rule : startupRules) {
                 scheduler.execute(() -> {
                     try {
-                        Script script = scriptEngine.newScriptFromXExpression(rule.getScript());
+                        Script script = getScript(rule);
                         logger.debug("Executing startup rule '{}'", rule.getName());
                         RuleEvaluationContext context = new RuleEvaluationContext();
                         context.setGlobalContext(RuleContextHelper.getContext(rule, injector));
@@ -332,10 +365,10 @@ public class RuleEngineImpl implements ItemRegistryChangeListener, StateChangeLi
         }
     }
 
-    protected synchronized void executeRule(Rule rule, RuleEvaluationContext context) {
-
-        scheduler.execute(() -> {
-            Script script = scriptEngine.newScriptFromXExpression(rule.getScript());
+    protected void executeRule(Rule rule, RuleEvaluationContext context) {
+        RuleExecutor ruleExecutor = ruleExecutors.get(rule);
+        ruleExecutor.submit(scheduler, () -> {
+            Script script = getScript(rule);
 
             logger.debug("Executing rule '{}'", rule.getName());
             context.setGlobalContext(RuleContextHelper.getContext(rule, injector));
@@ -349,17 +382,31 @@ public class RuleEngineImpl implements ItemRegistryChangeListener, StateChangeLi
                     logger.error("Rule '{}': {}", rule.getName(), msg);
                 }
             }
-        });
+        }, serializeRuleExecution);
+    }
+
+    private Script getScript(Rule rule) {
+        return scripts.computeIfAbsent(rule, r -> scriptEngine.newScriptFromXExpression(r.getScript()));
+    }
+
+    @Override
+    public String getStatisticsCategory() {
+        return "rules";
+    }
+
+    @Override
+    public List<Statistics> getStatistics() {
+        return ruleExecutors.getStatistics();
     }
 
-    protected synchronized void executeRules(Iterable<Rule> rules) {
+    protected void executeRules(Iterable<Rule> rules) {
         for (Rule rule : rules) {
             RuleEvaluationContext context = new RuleEvaluationContext();
             executeRule(rule, context);
         }
     }
 
-    protected synchronized void executeRules(Iterable<Rule> rules, ChannelTriggeredEvent event) {
+    protected void executeRules(Iterable<Rule> rules, ChannelTriggeredEvent event) {
         for (Rule rule : rules) {
             RuleEvaluationContext context = new RuleEvaluationContext();
             context.newValue(QualifiedName.create(RulesJvmModelInferrer.VAR_RECEIVED_EVENT), event);
@@ -367,7 +414,7 @@ public class RuleEngineImpl implements ItemRegistryChangeListener, StateChangeLi
         }
     }
 
-    protected synchronized void executeRules(Iterable<Rule> rules, Item item) {
+    protected void executeRules(Iterable<Rule> rules, Item item) {
         for (Rule rule : rules) {
             RuleEvaluationContext context = new RuleEvaluationContext();
             context.newValue(QualifiedName.create(RulesJvmModelInferrer.VAR_TRIGGERING_ITEM), item);
@@ -375,7 +422,7 @@ public class RuleEngineImpl implements ItemRegistryChangeListener, StateChangeLi
         }
     }
 
-    protected synchronized void executeRules(Iterable<Rule> rules, Item item, Command command) {
+    protected void executeRules(Iterable<Rule> rules, Item item, Command command) {
         for (Rule rule : rules) {
             RuleEvaluationContext context = new RuleEvaluationContext();
             context.newValue(QualifiedName.create(RulesJvmModelInferrer.VAR_TRIGGERING_ITEM), item);
@@ -384,7 +431,7 @@ public class RuleEngineImpl implements ItemRegistryChangeListener, StateChangeLi
         }
     }
 
-    protected synchronized void executeRules(Iterable<Rule> rules, Item item, State oldState) {
+    protected void executeRules(Iterable<Rule> rules, Item item, State oldState) {
         for (Rule rule : rules) {
             RuleEvaluationContext context = new RuleEvaluationContext();
             context.newValue(QualifiedName.create(RulesJvmModelInferrer.VAR_TRIGGERING_ITEM), item);
@@ -393,7 +440,7 @@ public class RuleEngineImpl implements ItemRegistryChangeListener, StateChangeLi
         }
     }
 
-    protected synchronized void executeRules(Iterable<Rule> rules, ThingStatus oldThingStatus) {
+    protected void executeRules(Iterable<Rule> rules, ThingStatus oldThingStatus) {
         for (Rule rule : rules) {
             RuleEvaluationContext context = new RuleEvaluationContext();
             context.newValue(QualifiedName.create(RulesJvmModelInferrer.VAR_PREVIOUS_STATE), oldThingStatus.toString());
@@ -0,0 +1,121 @@
+/**
+ * Copyright (c) 2014,2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.smarthome.model.rule.runtime.internal.engine;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.smarthome.core.common.Statistics;
+
+/**
+ * Submits the executions of a single rule to an executor and keeps track of their execution and wait times.
+ *
+ * If the executions are serialized, a new execution is queued until the previous executions of the rule have been
+ * finished, so that a rule never runs concurrently to itself. Otherwise all executions are handed to the executor
+ * directly.
+ */
+class RuleExecutor {
+
+    private final String ruleName;
+
+    private final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private final AtomicLong executions = new AtomicLong();
+
+    private final AtomicLong totalExecutionTime = new AtomicLong();
+
+    private final AtomicLong maxExecutionTime = new AtomicLong();
+
+    private final AtomicLong totalWaitTime = new AtomicLong();
+
+    private final AtomicLong maxWaitTime = new AtomicLong();
+
+    RuleExecutor(String ruleName) {
+        this.ruleName = ruleName;
+    }
+
+    /**
+     * Submits an execution of the rule.
+     *
+     * @param executor the executor to run the execution
+     * @param execution the execution of the rule
+     * @param serialize true, if the execution must not overlap other executions of the rule
+     */
+    void submit(Executor executor, Runnable execution, boolean serialize) {
+        long submitted = System.nanoTime();
+        Runnable timedExecution = () -> {
+            long started = System.nanoTime();
+            try {
+                execution.run();
+            } finally {
+                long finished = System.nanoTime();
+                executions.incrementAndGet();
+                record(totalWaitTime, maxWaitTime, started - submitted);
+                record(totalExecutionTime, maxExecutionTime, finished - started);
+            }
+        };
+        if (serialize) {
+            pending.add(timedExecution);
+            scheduleDrain(executor);
+        } else {
+            executor.execute(timedExecution);
+        }
+    }
+
+    private void scheduleDrain(Executor executor) {
+        if (running.compareAndSet(false, true)) {
+            executor.execute(() -> drain(executor));
+        }
+    }
+
+    private void drain(Executor executor) {
+        try {
+            Runnable execution;
+            while ((execution = pending.poll()) != null) {
+                execution.run();
+            }
+        } finally {
+            running.set(false);
+            // an execution might have been queued after the queue was found empty but before the flag was reset
+            if (!pending.isEmpty()) {
+                scheduleDrain(executor);
+            }
+        }
+    }
+
+    private static void record(AtomicLong total, AtomicLong max, long nanos) {
+        total.addAndGet(nanos);
+        max.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * Creates a snapshot of the execution statistics of the rule.
+     *
+     * @return the statistics
+     */
+    Statistics getStatistics() {
+        long count = executions.get();
+        return Statistics.builder(ruleName).count("queued", pending.size()).count("executions", count)
+                .average("avgTime", TimeUnit.NANOSECONDS.toMillis(totalExecutionTime.get()), count)
+                .time("maxTime", TimeUnit.NANOSECONDS.toMillis(maxExecutionTime.get()))
+                .average("avgWait", TimeUnit.NANOSECONDS.toMillis(totalWaitTime.get()), count)
+                .time("maxWait", TimeUnit.NANOSECONDS.toMillis(maxWaitTime.get())).build();
+    }
+
+}
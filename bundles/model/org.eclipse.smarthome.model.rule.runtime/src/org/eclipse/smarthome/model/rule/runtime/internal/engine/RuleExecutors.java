@@ -0,0 +1,84 @@
+/**
+ * Copyright (c) 2014,2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.smarthome.model.rule.runtime.internal.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.smarthome.core.common.Statistics;
+import org.eclipse.smarthome.model.rule.rules.Rule;
+import org.eclipse.smarthome.model.rule.rules.RuleModel;
+
+/**
+ * Keeps the {@link RuleExecutor}s of the rules.
+ *
+ * Rule names are only unique within a rule model, so the executors are identified by the name of the model and the
+ * name of the rule. They are kept while a model is modified, so the executions of the old and the new version of a
+ * rule are serialized as well, and dropped if the rule or its model is removed.
+ */
+class RuleExecutors {
+
+    // model name -> rule name -> executor
+    private final Map<String, Map<String, RuleExecutor>> executors = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the executor of a rule, creating it if there is none yet.
+     *
+     * @param rule the rule
+     * @return the executor of the rule
+     */
+    RuleExecutor get(Rule rule) {
+        String modelName = getModelName(rule);
+        return executors.computeIfAbsent(modelName, name -> new ConcurrentHashMap<>())
+                .computeIfAbsent(rule.getName(), ruleName -> new RuleExecutor(modelName + ":" + ruleName));
+    }
+
+    /**
+     * Drops the executors of the rules which are no longer part of a model.
+     *
+     * @param modelName the name of the changed model
+     * @param model the current model or null, if it has been removed
+     */
+    void modelChanged(String modelName, RuleModel model) {
+        if (model == null) {
+            executors.remove(modelName);
+            return;
+        }
+        Map<String, RuleExecutor> modelExecutors = executors.get(modelName);
+        if (modelExecutors != null) {
+            Set<String> ruleNames = model.getRules().stream().map(Rule::getName).collect(Collectors.toSet());
+            modelExecutors.keySet().retainAll(ruleNames);
+        }
+    }
+
+    List<Statistics> getStatistics() {
+        List<Statistics> statistics = new ArrayList<>();
+        for (Map<String, RuleExecutor> modelExecutors : executors.values()) {
+            for (RuleExecutor ruleExecutor : modelExecutors.values()) {
+                statistics.add(ruleExecutor.getStatistics());
+            }
+        }
+        return statistics;
+    }
+
+    private static String getModelName(Rule rule) {
+        Resource resource = rule.eResource();
+        return resource != null ? resource.getURI().path() : "";
+    }
+
+}
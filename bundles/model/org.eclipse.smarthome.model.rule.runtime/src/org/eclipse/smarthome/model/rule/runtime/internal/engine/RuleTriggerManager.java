@@ -23,6 +23,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 
 import org.eclipse.emf.ecore.util.EcoreUtil;
@@ -99,6 +100,12 @@ public class RuleTriggerManager {
     private Set<Rule> systemShutdownTriggeredRules = new CopyOnWriteArraySet<>();
     private Set<Rule> timerEventTriggeredRules = new CopyOnWriteArraySet<>();
 
+    // item name -> triggers with their literals parsed for the accepted types of the item, created on first use
+    private final Map<String, ItemTriggerIndex> updateTriggerIndexes = new ConcurrentHashMap<>();
+    private final Map<String, ItemTriggerIndex> changedTriggerIndexes = new ConcurrentHashMap<>();
+    private final Map<String, ItemTriggerIndex> commandTriggerIndexes = new ConcurrentHashMap<>();
+    private volatile int triggerIndexGeneration;
+
     // the scheduler used for timer events
     private Scheduler scheduler;
 
@@ -270,11 +277,6 @@ public class RuleTriggerManager {
     }
 
     private Iterable<Rule> internalGetRules(TriggerTypes triggerType, Item item, Type oldType, Type newType) {
-        List<Rule> result = Lists.newArrayList();
-        Iterable<Rule> rules = getAllRules(triggerType, item.getName());
-        if (rules == null) {
-            rules = Lists.newArrayList();
-        }
         switch (triggerType) {
             case STARTUP:
                 return systemStartupTriggeredRules;
@@ -284,82 +286,103 @@ public class RuleTriggerManager {
                 return timerEventTriggeredRules;
             case UPDATE:
                 if (newType instanceof State) {
-                    State state = (State) newType;
-                    for (Rule rule : rules) {
-                        for (EventTrigger t : rule.getEventtrigger()) {
-                            if (t instanceof UpdateEventTrigger) {
-                                UpdateEventTrigger ut = (UpdateEventTrigger) t;
-                                if (ut.getItem().equals(item.getName())) {
-                                    if (ut.getState() != null) {
-                                        State triggerState = TypeParser.parseState(item.getAcceptedDataTypes(),
-                                                ut.getState());
-                                        if (!state.equals(triggerState)) {
-                                            continue;
-                                        }
-                                    }
-                                    result.add(rule);
-                                }
-                            }
-                        }
-                    }
+                    return getTriggerIndex(updateTriggerIndexes, UPDATE, item, item.getAcceptedDataTypes())
+                            .getRules(null, newType);
                 }
                 break;
             case CHANGE:
                 if (newType instanceof State && oldType instanceof State) {
-                    State newState = (State) newType;
-                    State oldState = (State) oldType;
-                    for (Rule rule : rules) {
-                        for (EventTrigger t : rule.getEventtrigger()) {
-                            if (t instanceof ChangedEventTrigger) {
-                                ChangedEventTrigger ct = (ChangedEventTrigger) t;
-                                if (ct.getItem().equals(item.getName())) {
-                                    if (ct.getOldState() != null) {
-                                        State triggerOldState = TypeParser.parseState(item.getAcceptedDataTypes(),
-                                                ct.getOldState());
-                                        if (!oldState.equals(triggerOldState)) {
-                                            continue;
-                                        }
-                                    }
-                                    if (ct.getNewState() != null) {
-                                        State triggerNewState = TypeParser.parseState(item.getAcceptedDataTypes(),
-                                                ct.getNewState());
-                                        if (!newState.equals(triggerNewState)) {
-                                            continue;
-                                        }
-                                    }
-                                    result.add(rule);
-                                }
-                            }
-                        }
-                    }
+                    return getTriggerIndex(changedTriggerIndexes, CHANGE, item, item.getAcceptedDataTypes())
+                            .getRules(oldType, newType);
                 }
                 break;
             case COMMAND:
                 if (newType instanceof Command) {
-                    final Command command = (Command) newType;
-                    for (Rule rule : rules) {
-                        for (final EventTrigger t : rule.getEventtrigger()) {
-                            if (t instanceof CommandEventTrigger) {
-                                final CommandEventTrigger ct = (CommandEventTrigger) t;
-                                if (ct.getItem().equals(item.getName())) {
-                                    if (ct.getCommand() != null) {
-                                        final Command triggerCommand = TypeParser
-                                                .parseCommand(item.getAcceptedCommandTypes(), ct.getCommand());
-                                        if (!command.equals(triggerCommand)) {
-                                            continue;
-                                        }
-                                    }
-                                    result.add(rule);
-                                }
-                            }
-                        }
-                    }
+                    return getTriggerIndex(commandTriggerIndexes, COMMAND, item, item.getAcceptedCommandTypes())
+                            .getRules(null, newType);
                 }
                 break;
             default:
                 break;
         }
-        return result;
+        return Collections.emptyList();
+    }
+
+    /**
+     * Returns the index of the triggers of the given type for an item. The index is created on first use and whenever
+     * the accepted types of the item have changed, as the literals of the triggers are parsed for these types.
+     */
+    private ItemTriggerIndex getTriggerIndex(Map<String, ItemTriggerIndex> indexes, TriggerTypes triggerType,
+            Item item, List<? extends Class<? extends Type>> acceptedTypes) {
+        ItemTriggerIndex index = indexes.get(item.getName());
+        if (index == null || !index.isValidFor(acceptedTypes)) {
+            int generation = triggerIndexGeneration;
+            index = createTriggerIndex(triggerType, item, acceptedTypes);
+            indexes.put(item.getName(), index);
+            if (generation != triggerIndexGeneration) {
+                // the rules have changed meanwhile, do not keep a possibly outdated index
+                indexes.remove(item.getName(), index);
+            }
+        }
+        return index;
+    }
+
+    @SuppressWarnings("unchecked")
+    private ItemTriggerIndex createTriggerIndex(TriggerTypes triggerType, Item item,
+            List<? extends Class<? extends Type>> acceptedTypes) {
+        ItemTriggerIndex index = new ItemTriggerIndex(acceptedTypes);
+        Iterable<Rule> rules = getAllRules(triggerType, item.getName());
+        if (rules == null) {
+            return index;
+        }
+        for (Rule rule : rules) {
+            for (EventTrigger t : rule.getEventtrigger()) {
+                if (triggerType == UPDATE && t instanceof UpdateEventTrigger) {
+                    UpdateEventTrigger ut = (UpdateEventTrigger) t;
+                    if (ut.getItem().equals(item.getName())) {
+                        List<Class<? extends State>> types = (List<Class<? extends State>>) acceptedTypes;
+                        State state = ut.getState() != null ? TypeParser.parseState(types, ut.getState()) : null;
+                        if (ut.getState() == null || state != null) {
+                            index.add(rule, null, state);
+                        }
+                    }
+                } else if (triggerType == CHANGE && t instanceof ChangedEventTrigger) {
+                    ChangedEventTrigger ct = (ChangedEventTrigger) t;
+                    if (ct.getItem().equals(item.getName())) {
+                        List<Class<? extends State>> types = (List<Class<? extends State>>) acceptedTypes;
+                        State oldState = ct.getOldState() != null ? TypeParser.parseState(types, ct.getOldState())
+                                : null;
+                        State newState = ct.getNewState() != null ? TypeParser.parseState(types, ct.getNewState())
+                                : null;
+                        if ((ct.getOldState() == null || oldState != null)
+                                && (ct.getNewState() == null || newState != null)) {
+                            index.add(rule, oldState, newState);
+                        }
+                    }
+                } else if (triggerType == COMMAND && t instanceof CommandEventTrigger) {
+                    CommandEventTrigger ct = (CommandEventTrigger) t;
+                    if (ct.getItem().equals(item.getName())) {
+                        List<Class<? extends Command>> types = (List<Class<? extends Command>>) acceptedTypes;
+                        Command command = ct.getCommand() != null ? TypeParser.parseCommand(types, ct.getCommand())
+                                : null;
+                        if (ct.getCommand() == null || command != null) {
+                            index.add(rule, null, command);
+                        }
+                    }
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Drops the trigger indexes, they are recreated on next use.
+     */
+    private void invalidateTriggerIndexes() {
+        triggerIndexGeneration++;
+        updateTriggerIndexes.clear();
+        changedTriggerIndexes.clear();
+        commandTriggerIndexes.clear();
     }
 
     private Iterable<Rule> internalGetThingRules(TriggerTypes triggerType, String thingUid, ThingStatus oldStatus,
@@ -461,6 +484,7 @@ public class RuleTriggerManager {
                 thingChangedEventTriggeredRules.clear();
                 break;
         }
+        invalidateTriggerIndexes();
     }
 
     /**
@@ -547,6 +571,7 @@ public class RuleTriggerManager {
                 rules.add(rule);
             }
         }
+        invalidateTriggerIndexes();
     }
 
     /**
@@ -598,6 +623,7 @@ public class RuleTriggerManager {
                 }
                 break;
         }
+        invalidateTriggerIndexes();
     }
 
     /**
@@ -626,6 +652,7 @@ public class RuleTriggerManager {
         removeRules(TIMER, Collections.singletonList(timerEventTriggeredRules), ruleModel);
         removeRules(THINGUPDATE, thingUpdateEventTriggeredRules.values(), ruleModel);
         removeRules(THINGCHANGE, thingChangedEventTriggeredRules.values(), ruleModel);
+        invalidateTriggerIndexes();
     }
 
     private void removeRules(TriggerTypes type, Collection<? extends Collection<Rule>> ruleSets, RuleModel model) {
@@ -126,6 +126,134 @@ public class JSonStorageTest extends JavaTest {
         assertEquals(storageString1, storageString2);
     }
 
+    @Test
+    public void testChangesAreAppendedToLogAndCompacted() {
+        File logFile = new File(tmpFile.getPath() + ".log");
+        logFile.deleteOnExit();
+        // commit explicitly, not by the timer
+        int delay = Integer.MAX_VALUE;
+        objectStorage = new JsonStorage<>(tmpFile, this.getClass().getClassLoader(), 0, delay, delay, 3);
+        objectStorage.put("DummyObject", new DummyObject());
+        objectStorage.commitDatabase();
+        assertFalse(logFile.exists());
+
+        objectStorage.put("AnotherObject", new DummyObject());
+        objectStorage.remove("DummyObject");
+        assertFalse(objectStorage.commitChanges());
+        assertTrue(logFile.exists());
+
+        objectStorage = new JsonStorage<>(tmpFile, this.getClass().getClassLoader(), 0, delay, delay, 3);
+        assertNull(objectStorage.get("DummyObject"));
+        DummyObject dummy = objectStorage.get("AnotherObject");
+        assertTrue(dummy.configuration.get("testInt") instanceof BigDecimal);
+
+        objectStorage.put("DummyObject", new DummyObject());
+        assertTrue(objectStorage.commitChanges());
+        assertFalse(logFile.exists());
+
+        objectStorage = new JsonStorage<>(tmpFile, this.getClass().getClassLoader(), 0, delay, delay, 3);
+        assertNotNull(objectStorage.get("DummyObject"));
+        assertNotNull(objectStorage.get("AnotherObject"));
+    }
+
+    @Test
+    public void testLogIsCompactedAfterPartiallyWrittenEntry() throws IOException {
+        File logFile = new File(tmpFile.getPath() + ".log");
+        logFile.deleteOnExit();
+        int delay = Integer.MAX_VALUE;
+        objectStorage = new JsonStorage<>(tmpFile, this.getClass().getClassLoader(), 0, delay, delay, 10);
+        objectStorage.put("DummyObject", new DummyObject());
+        objectStorage.commitDatabase();
+        objectStorage.put("AnotherObject", new DummyObject());
+        assertFalse(objectStorage.commitChanges());
+
+        // simulate a crash while writing the next entry
+        FileUtils.writeStringToFile(logFile, "{\"key\":\"ThirdObject\",\"cla", true);
+
+        objectStorage = new JsonStorage<>(tmpFile, this.getClass().getClassLoader(), 0, delay, delay, 10);
+        assertFalse(logFile.exists());
+        assertNotNull(objectStorage.get("AnotherObject"));
+        assertNull(objectStorage.get("ThirdObject"));
+
+        objectStorage.put("ThirdObject", new DummyObject());
+        assertFalse(objectStorage.commitChanges());
+
+        objectStorage = new JsonStorage<>(tmpFile, this.getClass().getClassLoader(), 0, delay, delay, 10);
+        assertNotNull(objectStorage.get("DummyObject"));
+        assertNotNull(objectStorage.get("AnotherObject"));
+        assertNotNull(objectStorage.get("ThirdObject"));
+    }
+
+    @Test
+    public void testDatabaseIsWrittenIfLogCannotBeWritten() {
+        File logFile = new File(tmpFile.getPath() + ".log");
+        logFile.deleteOnExit();
+        int delay = Integer.MAX_VALUE;
+        objectStorage = new JsonStorage<>(tmpFile, this.getClass().getClassLoader(), 0, delay, delay, 10);
+        objectStorage.put("DummyObject", new DummyObject());
+        assertFalse(objectStorage.commitChanges());
+
+        // a directory cannot be appended to, regardless of the permissions of the user
+        assertTrue(logFile.delete());
+        assertTrue(logFile.mkdir());
+        objectStorage.put("AnotherObject", new DummyObject());
+        assertTrue(objectStorage.commitChanges());
+        assertFalse(logFile.exists());
+
+        objectStorage = new JsonStorage<>(tmpFile, this.getClass().getClassLoader(), 0, delay, delay, 10);
+        assertNotNull(objectStorage.get("DummyObject"));
+        assertNotNull(objectStorage.get("AnotherObject"));
+
+        // the log is used again once it can be written
+        objectStorage.put("ThirdObject", new DummyObject());
+        assertFalse(objectStorage.commitChanges());
+        assertTrue(logFile.isFile());
+    }
+
+    @Test
+    public void testLogEntriesWithoutKeyAreIgnored() throws IOException {
+        File logFile = new File(tmpFile.getPath() + ".log");
+        logFile.deleteOnExit();
+        int delay = Integer.MAX_VALUE;
+        objectStorage = new JsonStorage<>(tmpFile, this.getClass().getClassLoader(), 0, delay, delay, 10);
+        objectStorage.put("DummyObject", new DummyObject());
+        objectStorage.commitDatabase();
+
+        FileUtils.writeStringToFile(logFile, "{\"value\":{}}\n{\"key\":\"DummyObject\"}\n");
+
+        objectStorage = new JsonStorage<>(tmpFile, this.getClass().getClassLoader(), 0, delay, delay, 10);
+        assertFalse(logFile.exists());
+        assertNotNull(objectStorage.get("DummyObject"));
+    }
+
+    @Test
+    public void testLogIsCompactedIfNotUsedAnymore() {
+        File logFile = new File(tmpFile.getPath() + ".log");
+        logFile.deleteOnExit();
+        int delay = Integer.MAX_VALUE;
+        objectStorage = new JsonStorage<>(tmpFile, this.getClass().getClassLoader(), 0, delay, delay, 10);
+        objectStorage.put("DummyObject", new DummyObject());
+        assertFalse(objectStorage.commitChanges());
+
+        objectStorage = new JsonStorage<>(tmpFile, this.getClass().getClassLoader(), 0, delay, delay);
+        assertFalse(logFile.exists());
+        objectStorage.remove("DummyObject");
+        objectStorage.commitDatabase();
+
+        objectStorage = new JsonStorage<>(tmpFile, this.getClass().getClassLoader(), 0, delay, delay);
+        assertNull(objectStorage.get("DummyObject"));
+    }
+
+    @Test
+    public void testModifyingAReadValueDoesNotChangeTheStorage() {
+        objectStorage.put("DummyObject", new DummyObject());
+
+        DummyObject dummy = objectStorage.get("DummyObject");
+        dummy.configuration.put("testString", "modified");
+        assertNotSame(dummy, objectStorage.get("DummyObject"));
+        assertEquals("hello world", objectStorage.get("DummyObject").configuration.get("testString"));
+    }
+
     private static class DummyObject {
 
         private Configuration configuration = new Configuration();
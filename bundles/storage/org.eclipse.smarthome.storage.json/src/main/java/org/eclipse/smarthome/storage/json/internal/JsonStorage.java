@@ -12,15 +12,20 @@
  */
 package org.eclipse.smarthome.storage.json.internal;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.FileReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.Timer;
 import java.util.TimerTask;
 import java.util.concurrent.ConcurrentHashMap;
@@ -36,6 +41,9 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonIOException;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
 import com.google.gson.JsonSyntaxException;
 
 /**
@@ -45,6 +53,14 @@ import com.google.gson.JsonSyntaxException;
  * A deferred write mechanism of WRITE_DELAY milliseconds is used to improve performance.
  * The service keeps backups in a /backup folder, and maintains a maximum of MAX_FILES
  * at any time
+ * <p>
+ * If a maximum number of log entries is set, a commit only appends the changed entries to a log file next to the
+ * database file, one JSON object per line. Once the log holds that many entries, it is compacted by writing the
+ * database file and its backup as usual and deleting the log. On startup the log is replayed on top of the database
+ * file.
+ * <p>
+ * The entries are kept as parsed JSON trees, so every read creates a new instance of the value which the caller may
+ * modify.
  *
  * @author Chris Jackson - Initial Contribution
  * @author Stefan Triller - Removed dependency to internal GSon packages
@@ -58,11 +74,14 @@ public class JsonStorage<T> implements Storage<T> {
     private final int maxBackupFiles;
     private final int writeDelay;
     private final int maxDeferredPeriod;
+    private final int maxLogEntries;
 
     static final String CLASS = "class";
     static final String VALUE = "value";
+    static final String KEY = "key";
     private final String BACKUP_EXTENSION = "backup";
     private final String SEPARATOR = "--";
+    private final String LOG_EXTENSION = ".log";
 
     private final Timer commitTimer;
     private @Nullable TimerTask commitTimerTask = null;
@@ -70,24 +89,50 @@ public class JsonStorage<T> implements Storage<T> {
     private long deferredSince = 0;
 
     private final File file;
+    private final File logFile;
     private final ClassLoader classLoader;
     private final Map<String, StorageEntry> map = new ConcurrentHashMap<String, StorageEntry>();
 
+    // keys which have been changed since the last commit, only tracked if the log is used
+    private final Set<String> changedKeys = ConcurrentHashMap.newKeySet();
+    private int logEntries = 0;
+    // set if the database file must be written by the next commit, because the log or the database file could not be
+    // written
+    private boolean databaseCommitPending = false;
+
+    private final Map<String, Class<?>> loadedClasses = new ConcurrentHashMap<>();
+
     private transient Gson internalMapper;
     private transient Gson entityMapper;
+    private transient Gson logMapper;
 
     public JsonStorage(File file, ClassLoader classLoader, int maxBackupFiles, int writeDelay, int maxDeferredPeriod) {
+        this(file, classLoader, maxBackupFiles, writeDelay, maxDeferredPeriod, 0);
+    }
+
+    /**
+     * Creates a storage which appends changes to a log file and compacts them into the database file after the given
+     * number of log entries.
+     *
+     * @param maxLogEntries the number of log entries which causes the log to be compacted, 0 to always write the
+     *            database file
+     */
+    public JsonStorage(File file, ClassLoader classLoader, int maxBackupFiles, int writeDelay, int maxDeferredPeriod,
+            int maxLogEntries) {
         this.file = file;
+        this.logFile = new File(file.getPath() + LOG_EXTENSION);
         this.classLoader = classLoader;
         this.maxBackupFiles = maxBackupFiles;
         this.writeDelay = writeDelay;
         this.maxDeferredPeriod = maxDeferredPeriod;
+        this.maxLogEntries = maxLogEntries;
 
         this.internalMapper = new GsonBuilder()
                 .registerTypeHierarchyAdapter(Map.class, new StorageEntryMapDeserializer()).setPrettyPrinting()
                 .create();
         this.entityMapper = new GsonBuilder().registerTypeAdapter(Configuration.class, new ConfigurationDeserializer())
                 .setPrettyPrinting().create();
+        this.logMapper = new Gson();
 
         commitTimer = new Timer();
 
@@ -126,6 +171,15 @@ public class JsonStorage<T> implements Storage<T> {
             logger.debug("Opened Json storage file at '{}'.", file.getAbsolutePath());
         }
 
+        // Apply the changes which have not been compacted into the database file yet
+        if (logFile.exists()) {
+            boolean complete = replayLog();
+            if (!complete || maxLogEntries <= 0) {
+                // further entries must not be appended after a partial line, nor may a log which is no longer
+                // extended be replayed over a database file written later on
+                commitDatabase();
+            }
+        }
     }
 
     @Override
@@ -136,6 +190,7 @@ public class JsonStorage<T> implements Storage<T> {
 
         StorageEntry val = new StorageEntry(value.getClass().getName(), entityMapper.toJsonTree(value));
         StorageEntry previousValue = map.put(key, val);
+        markChanged(key);
         deferredCommit();
 
         if (previousValue == null) {
@@ -148,6 +203,7 @@ public class JsonStorage<T> implements Storage<T> {
     @Override
     public @Nullable T remove(String key) {
         StorageEntry removedElement = map.remove(key);
+        markChanged(key);
         deferredCommit();
         if (removedElement == null) {
             return null;
@@ -200,11 +256,14 @@ public class JsonStorage<T> implements Storage<T> {
         T value = null;
         try {
             // load required class within the given bundle context
-            Class<T> loadedValueType = null;
-            if (classLoader == null) {
-                loadedValueType = (Class<T>) Class.forName(entry.getEntityClassName());
-            } else {
-                loadedValueType = (Class<T>) classLoader.loadClass(entry.getEntityClassName());
+            Class<T> loadedValueType = (Class<T>) loadedClasses.get(entry.getEntityClassName());
+            if (loadedValueType == null) {
+                if (classLoader == null) {
+                    loadedValueType = (Class<T>) Class.forName(entry.getEntityClassName());
+                } else {
+                    loadedValueType = (Class<T>) classLoader.loadClass(entry.getEntityClassName());
+                }
+                loadedClasses.put(entry.getEntityClassName(), loadedValueType);
             }
 
             value = entityMapper.fromJson((JsonElement) entry.getValue(), loadedValueType);
@@ -268,12 +327,119 @@ public class JsonStorage<T> implements Storage<T> {
         return fileTimes;
     }
 
-    private void writeDatabaseFile(File dataFile, String data) {
+    private void markChanged(String key) {
+        if (maxLogEntries > 0) {
+            changedKeys.add(key);
+        }
+    }
+
+    /**
+     * Applies the entries of the log file to the map.
+     *
+     * @return true, if the whole log could be applied, false if it ended with an invalid or partially written entry
+     */
+    private boolean replayLog() {
+        int count = 0;
+        boolean complete = true;
+        try (BufferedReader reader = new BufferedReader(new FileReader(logFile))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                if (!applyLogEntry(new JsonParser().parse(line))) {
+                    complete = false;
+                    break;
+                }
+                count++;
+            }
+        } catch (JsonParseException e) {
+            complete = false;
+        } catch (IOException e) {
+            logger.error("Error reading Json storage log from {}. Cause {}.", logFile.getPath(), e.getMessage());
+            complete = false;
+        }
+        if (!complete) {
+            // a partially written last line if the system crashed during a commit
+            logger.warn("Ignoring the rest of the Json storage log at '{}' after {} entries.", logFile.getPath(),
+                    count);
+        }
+        logEntries = count;
+        logger.debug("Applied {} entries of Json storage log at '{}'.", count, logFile.getAbsolutePath());
+        return complete;
+    }
+
+    private boolean applyLogEntry(JsonElement element) {
+        if (!element.isJsonObject()) {
+            return false;
+        }
+        JsonObject logEntry = element.getAsJsonObject();
+        JsonElement key = logEntry.get(KEY);
+        if (key == null || !key.isJsonPrimitive()) {
+            return false;
+        }
+        JsonElement entityClass = logEntry.get(CLASS);
+        if (entityClass == null) {
+            map.remove(key.getAsString());
+            return true;
+        }
+        JsonElement value = logEntry.get(VALUE);
+        if (!entityClass.isJsonPrimitive() || value == null) {
+            return false;
+        }
+        map.put(key.getAsString(), new StorageEntry(entityClass.getAsString(), value));
+        return true;
+    }
+
+    /**
+     * Appends the entries changed since the last commit to the log file.
+     *
+     * @return false, if the log file could not be written
+     */
+    private boolean appendLog() {
+        synchronized (map) {
+            deferredSince = 0;
+            if (changedKeys.isEmpty()) {
+                return true;
+            }
+            StringBuilder data = new StringBuilder();
+            List<String> keys = new ArrayList<>();
+            for (Iterator<String> it = changedKeys.iterator(); it.hasNext();) {
+                // keys changed again while the log is written are marked again and written by the next commit
+                String key = it.next();
+                it.remove();
+                keys.add(key);
+                JsonObject logEntry = new JsonObject();
+                logEntry.addProperty(KEY, key);
+                StorageEntry entry = map.get(key);
+                if (entry != null) {
+                    logEntry.addProperty(CLASS, entry.getEntityClassName());
+                    logEntry.add(VALUE, (JsonElement) entry.getValue());
+                }
+                data.append(logMapper.toJson(logEntry)).append('\n');
+            }
+            try (FileOutputStream outputStream = new FileOutputStream(logFile, true)) {
+                outputStream.write(data.toString().getBytes(StandardCharsets.UTF_8));
+                outputStream.flush();
+            } catch (Exception e) {
+                logger.error("Error writing JsonDB log to {}. Cause {}.", logFile.getPath(), e.getMessage());
+                // the changes are neither in the log nor in the database file yet
+                changedKeys.addAll(keys);
+                return false;
+            }
+            logEntries += keys.size();
+            return true;
+        }
+    }
+
+    private boolean writeDatabaseFile(File dataFile, String data) {
         try (FileOutputStream outputStream = new FileOutputStream(dataFile, false)) {
             outputStream.write(data.getBytes());
             outputStream.flush();
+            return true;
         } catch (Exception e) {
             logger.error("Error writing JsonDB to {}. Cause {}.", dataFile.getPath(), e.getMessage());
+            return false;
         }
     }
 
@@ -284,27 +450,80 @@ public class JsonStorage<T> implements Storage<T> {
      * having to either rename the file later (which may leave a small window for there to
      * be no file if the system crashes during the write process), or to copy the file when
      * writing the backup copy (which would require a read and write, and is thus slower).
+     * <p>
+     * An existing log is completed with the pending changes before the database file is written. So if the system
+     * crashes before the log has been deleted, replaying the log on top of the new database file only writes the
+     * values it already contains. If the log cannot be completed, it is deleted before, as it may end with a partially
+     * written entry or lack the latest changes.
      */
     public void commitDatabase() {
-        String json = internalMapper.toJson(map);
+        writeDatabase();
+    }
 
+    private boolean writeDatabase() {
         synchronized (map) {
+            if (logFile.exists() && !appendLog() && !logFile.delete()) {
+                logger.error("Error deleting JsonDB log {}.", logFile.getPath());
+            }
+            // All changes are contained in the database file, which replaces the log
+            List<String> keys = new ArrayList<>();
+            for (Iterator<String> it = changedKeys.iterator(); it.hasNext();) {
+                keys.add(it.next());
+                it.remove();
+            }
+            String json = internalMapper.toJson(map);
+
             // Write the database file
-            writeDatabaseFile(file, json);
+            if (!writeDatabaseFile(file, json)) {
+                // keep the changes, so they are written by the next commit
+                changedKeys.addAll(keys);
+                databaseCommitPending = true;
+                deferredSince = 0;
+                return false;
+            }
 
             // And also write the backup
             writeDatabaseFile(new File(file.getParent() + File.separator + BACKUP_EXTENSION,
                     System.currentTimeMillis() + SEPARATOR + file.getName()), json);
 
+            if (logFile.exists() && !logFile.delete()) {
+                logger.error("Error deleting JsonDB log {}.", logFile.getPath());
+            }
+            logEntries = 0;
             deferredSince = 0;
+            databaseCommitPending = false;
+            return true;
+        }
+    }
+
+    /**
+     * Write out any outstanding changes.
+     * <p>
+     * If the log is used and has not reached its maximum size, only the changed entries are appended to the log.
+     * Otherwise, or if the log cannot be written, the whole database file is written.
+     *
+     * @return true, if the database file has been written
+     */
+    public boolean commitChanges() {
+        synchronized (map) {
+            if (maxLogEntries > 0 && !databaseCommitPending && logEntries + changedKeys.size() < maxLogEntries) {
+                if (appendLog()) {
+                    return false;
+                }
+                // the changes must not get lost until the next compaction
+                logger.warn("Writing the whole JsonDB to {} as its log could not be written.", file.getPath());
+            }
+            return writeDatabase();
         }
     }
 
     private class CommitTimerTask extends TimerTask {
         @Override
         public void run() {
-            // Save the database
-            commitDatabase();
+            // Save the changes, only remove old backups if a new one has been written
+            if (!commitChanges()) {
+                return;
+            }
             List<Long> fileTimes = calculateFileTimes();
 
             // delete the oldest
@@ -322,7 +541,7 @@ public class JsonStorage<T> implements Storage<T> {
         // Handle a maximum time for deferring the commit.
         // This stops a pathological loop preventing saving
         if (deferredSince != 0 && deferredSince < System.nanoTime() - maxDeferredPeriod) {
-            commitDatabase();
+            commitChanges();
         }
         if (deferredSince == 0) {
             deferredSince = System.nanoTime();
@@ -39,10 +39,12 @@ public class JsonStorageService implements StorageService {
     private final String CFG_MAX_BACKUP_FILES = "backup_files";
     private final String CFG_WRITE_DELAY = "write_delay";
     private final String CFG_MAX_DEFER_DELAY = "max_defer_delay";
+    private final String CFG_MAX_LOG_ENTRIES = "max_log_entries";
 
     private int maxBackupFiles = 5;
     private int writeDelay = 500;
     private int maxDeferredPeriod = 60000;
+    private int maxLogEntries = 0;
 
     private final Map<String, JsonStorage<Object>> storageList = new HashMap<String, JsonStorage<Object>>();
 
@@ -86,6 +88,14 @@ public class JsonStorageService implements StorageService {
             logger.error("Value {} for {} is invalid. Using {}.", properties.get(CFG_MAX_DEFER_DELAY),
                     CFG_MAX_DEFER_DELAY, maxDeferredPeriod);
         }
+        try {
+            if (properties.get(CFG_MAX_LOG_ENTRIES) != null) {
+                maxLogEntries = Integer.parseInt((String) properties.get(CFG_MAX_LOG_ENTRIES));
+            }
+        } catch (NumberFormatException nfe) {
+            logger.error("Value {} for {} is invalid. Using {}.", properties.get(CFG_MAX_LOG_ENTRIES),
+                    CFG_MAX_LOG_ENTRIES, maxLogEntries);
+        }
     }
 
     protected void deactivate() {
@@ -102,7 +112,7 @@ public class JsonStorageService implements StorageService {
 
         if (!storageList.containsKey(name)) {
             storageList.put(name, (JsonStorage<Object>) new JsonStorage<T>(file, classLoader, maxBackupFiles,
-                    writeDelay, maxDeferredPeriod));
+                    writeDelay, maxDeferredPeriod, maxLogEntries));
         }
         return (Storage<T>) storageList.get(name);
     }
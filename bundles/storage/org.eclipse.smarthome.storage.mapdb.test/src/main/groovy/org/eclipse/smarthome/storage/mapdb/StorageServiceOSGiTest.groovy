@@ -28,6 +28,7 @@ import org.eclipse.smarthome.test.OSGiTest
 import org.junit.After
 import org.junit.Before
 import org.junit.Test
+import org.mapdb.DBMaker
 
 /**
  * @author Thomas Eichstaedt-Engelen - Initial contribution
@@ -112,6 +113,24 @@ class StorageServiceOSGiTest extends OSGiTest {
         assertThat bigDecimal instanceof BigDecimal, is(true)
     }
     
+    @Test
+    void 'assert cached values are not shared between reads'() {
+        def cachedStorage = new MapDbStorage(DBMaker.newMemoryDB().make(), 'CachedStorage', this.getClass().getClassLoader(), 10)
+        cachedStorage.put 'Key1', new PersistedItem('String', ['LIGHT'])
+
+        PersistedItem pItem = cachedStorage.get 'Key1'
+        pItem.itemType = 'Number'
+        pItem.groupNames.add 'GROUND_FLOOR'
+
+        PersistedItem cachedItem = cachedStorage.get 'Key1'
+        assertThat cachedItem, is(not(sameInstance(pItem)))
+        assertThat cachedItem.itemType, is('String')
+        assertThat cachedItem.groupNames, is(['LIGHT'])
+
+        cachedStorage.put 'Key1', new PersistedItem('Switch', ['LIGHT'])
+        assertThat cachedStorage.get('Key1').itemType, is('Switch')
+    }
+
     private class MockConfiguration {
         private Map<String, Object> configuration = new HashMap<String, Object>();
         
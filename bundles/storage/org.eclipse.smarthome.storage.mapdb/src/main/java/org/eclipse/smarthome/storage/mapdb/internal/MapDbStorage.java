@@ -17,9 +17,11 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.smarthome.core.cache.LRUCache;
 import org.eclipse.smarthome.core.storage.DeletableStorage;
 import org.eclipse.smarthome.core.storage.Storage;
 import org.mapdb.DB;
@@ -28,6 +30,9 @@ import org.slf4j.LoggerFactory;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
 
 /**
  * The MapDbStorage is concrete implementation of the {@link Storage} interface.
@@ -35,6 +40,9 @@ import com.google.gson.GsonBuilder;
  * the given values using their JSON representation (generated by {@code Gson}.
  * This transformation should help maintaining version compatibility of the stored
  * data.
+ * <p>
+ * If a cache size is set, the parsed JSON trees of the most recently read entries are cached. Every read still
+ * creates a new instance of the value, so callers may modify it.
  *
  * @author Thomas.Eichstaedt-Engelen - Initial Contribution and API
  * @author Alex Tugarev - Loading with Class.forName() if classLoader is null
@@ -54,10 +62,23 @@ public class MapDbStorage<T> implements DeletableStorage<T> {
 
     private transient Gson mapper;
 
+    private final Map<String, Class<?>> loadedClasses = new ConcurrentHashMap<>();
+    private final @Nullable LRUCache<String, ParsedValue> parsedValues;
+
     public MapDbStorage(DB db, String name, ClassLoader classLoader) {
+        this(db, name, classLoader, 0);
+    }
+
+    /**
+     * Creates a storage which additionally caches the given number of parsed values.
+     *
+     * @param cacheSize the maximum number of cached values, 0 to parse the value on every access
+     */
+    public MapDbStorage(DB db, String name, ClassLoader classLoader, int cacheSize) {
         this.name = name;
         this.db = db;
         this.classLoader = classLoader;
+        this.parsedValues = cacheSize > 0 ? new LRUCache<>(cacheSize) : null;
         this.map = db.createTreeMap(name).makeOrGet();
         this.mapper = new GsonBuilder().registerTypeAdapterFactory(new PropertiesTypeAdapterFactory()).create();
     }
@@ -66,6 +87,7 @@ public class MapDbStorage<T> implements DeletableStorage<T> {
     public void delete() {
         // Use an unmodifiable map. After deletion no operation / modification should be called anymore.
         map = Collections.emptyMap();
+        invalidateCache(null);
         db.delete(name);
     }
 
@@ -75,6 +97,7 @@ public class MapDbStorage<T> implements DeletableStorage<T> {
             return remove(key);
         }
         String previousValue = map.put(key, serialize(value));
+        invalidateCache(key);
         db.commit();
         return deserialize(previousValue);
     }
@@ -82,6 +105,7 @@ public class MapDbStorage<T> implements DeletableStorage<T> {
     @Override
     public @Nullable T remove(String key) {
         String removedElement = map.remove(key);
+        invalidateCache(key);
         db.commit();
         return deserialize(removedElement);
     }
@@ -93,7 +117,25 @@ public class MapDbStorage<T> implements DeletableStorage<T> {
 
     @Override
     public @Nullable T get(String key) {
-        return deserialize(map.get(key));
+        return get(key, map.get(key));
+    }
+
+    private @Nullable T get(String key, @Nullable String json) {
+        LRUCache<String, ParsedValue> cache = parsedValues;
+        if (json == null || cache == null) {
+            return deserialize(json);
+        }
+
+        // the cached tree is only valid if it has been parsed from the current JSON document
+        ParsedValue parsedValue = cache.get(key);
+        if (parsedValue == null || !parsedValue.json.equals(json)) {
+            parsedValue = parse(json);
+            if (parsedValue == null) {
+                return null;
+            }
+            cache.put(key, parsedValue);
+        }
+        return deserialize(parsedValue);
     }
 
     @Override
@@ -104,8 +146,8 @@ public class MapDbStorage<T> implements DeletableStorage<T> {
     @Override
     public Collection<@Nullable T> getValues() {
         Collection<@Nullable T> values = new ArrayList<>();
-        for (String key : getKeys()) {
-            values.add(get(key));
+        for (Map.Entry<String, String> entry : new ArrayList<>(map.entrySet())) {
+            values.add(get(entry.getKey(), entry.getValue()));
         }
         return values;
     }
@@ -142,7 +184,6 @@ public class MapDbStorage<T> implements DeletableStorage<T> {
      * @param json
      * @return
      */
-    @SuppressWarnings("unchecked")
     public @Nullable T deserialize(@Nullable String json) {
 
         if (json == null) {
@@ -150,28 +191,69 @@ public class MapDbStorage<T> implements DeletableStorage<T> {
             return null;
         }
 
+        ParsedValue parsedValue = parse(json);
+        return parsedValue != null ? deserialize(parsedValue) : null;
+    }
+
+    private @Nullable ParsedValue parse(String json) {
         String[] concatValue = json.split(TYPE_SEPARATOR);
-        String valueTypeName = concatValue[0];
-        String valueAsString = concatValue[1];
+        try {
+            return new ParsedValue(json, concatValue[0], new JsonParser().parse(concatValue[1]));
+        } catch (JsonParseException | ArrayIndexOutOfBoundsException e) {
+            logger.warn("Couldn't deserialize value '{}'. Root cause is: {}", json, e.getMessage());
+            return null;
+        }
+    }
 
+    /**
+     * Creates a new instance of the value out of the parsed JSON tree.
+     */
+    @SuppressWarnings("unchecked")
+    private @Nullable T deserialize(ParsedValue parsedValue) {
         @Nullable
         T value = null;
         try {
             // load required class within the given bundle context
-            Class<T> loadedValueType = null;
-            if (classLoader == null) {
-                loadedValueType = (Class<T>) Class.forName(valueTypeName);
-            } else {
-                loadedValueType = (Class<T>) classLoader.loadClass(valueTypeName);
+            Class<T> loadedValueType = (Class<T>) loadedClasses.get(parsedValue.valueTypeName);
+            if (loadedValueType == null) {
+                if (classLoader == null) {
+                    loadedValueType = (Class<T>) Class.forName(parsedValue.valueTypeName);
+                } else {
+                    loadedValueType = (Class<T>) classLoader.loadClass(parsedValue.valueTypeName);
+                }
+                loadedClasses.put(parsedValue.valueTypeName, loadedValueType);
             }
 
-            value = mapper.fromJson(valueAsString, loadedValueType);
+            value = mapper.fromJson(parsedValue.value, loadedValueType);
             logger.trace("deserialized value '{}' from MapDB", value);
         } catch (Exception e) {
-            logger.warn("Couldn't deserialize value '{}'. Root cause is: {}", json, e.getMessage());
+            logger.warn("Couldn't deserialize value '{}'. Root cause is: {}", parsedValue.json, e.getMessage());
         }
 
         return value;
     }
 
+    private void invalidateCache(@Nullable String key) {
+        LRUCache<String, ParsedValue> cache = parsedValues;
+        if (cache != null) {
+            if (key == null) {
+                cache.clear();
+            } else {
+                cache.remove(key);
+            }
+        }
+    }
+
+    private static class ParsedValue {
+        private final String json;
+        private final String valueTypeName;
+        private final JsonElement value;
+
+        ParsedValue(String json, String valueTypeName, JsonElement value) {
+            this.json = json;
+            this.valueTypeName = valueTypeName;
+            this.value = value;
+        }
+    }
+
 }
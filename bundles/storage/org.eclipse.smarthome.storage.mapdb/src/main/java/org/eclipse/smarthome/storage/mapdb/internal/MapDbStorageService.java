@@ -13,6 +13,7 @@
 package org.eclipse.smarthome.storage.mapdb.internal;
 
 import java.io.File;
+import java.util.Map;
 
 import org.eclipse.smarthome.config.core.ConfigConstants;
 import org.eclipse.smarthome.core.storage.DeletableStorage;
@@ -44,7 +45,12 @@ public class MapDbStorageService implements DeletableStorageService {
     /** the folder name to store mapdb databases ({@code mapdb} by default) */
     private String dbFolderName = "mapdb";
 
-    public void activate() {
+    private static final String CFG_CACHE_SIZE = "cache_size";
+
+    /** the number of deserialized values cached by each storage, 0 to disable the cache */
+    private int cacheSize = 0;
+
+    public void activate(Map<String, Object> properties) {
         dbFolderName = ConfigConstants.getUserDataFolder() + File.separator + dbFolderName;
         File folder = new File(dbFolderName);
         if (!folder.exists()) {
@@ -55,6 +61,15 @@ public class MapDbStorageService implements DeletableStorageService {
         db = DBMaker.newFileDB(dbFile).closeOnJvmShutdown().make();
 
         logger.debug("Opened MapDB file at '{}'.", dbFile.getAbsolutePath());
+
+        Object cacheSizeProperty = properties != null ? properties.get(CFG_CACHE_SIZE) : null;
+        if (cacheSizeProperty != null) {
+            try {
+                cacheSize = Integer.parseInt(cacheSizeProperty.toString());
+            } catch (NumberFormatException nfe) {
+                logger.error("Value {} for {} is invalid. Using {}.", cacheSizeProperty, CFG_CACHE_SIZE, cacheSize);
+            }
+        }
     }
 
     public void deactivate() {
@@ -64,7 +79,7 @@ public class MapDbStorageService implements DeletableStorageService {
 
     @Override
     public <T> DeletableStorage<T> getStorage(String name, ClassLoader classLoader) {
-        return new MapDbStorage<T>(db, name, classLoader);
+        return new MapDbStorage<T>(db, name, classLoader, cacheSize);
     }
 
     @Override